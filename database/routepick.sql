@@ -152,6 +152,7 @@ CREATE TABLE `routes` (
   KEY `idx_routes_level_id` (`level_id`),
   KEY `idx_routes_setter_id` (`setter_id`),
   KEY `idx_routes_branch_level` (`branch_id`,`level_id`),
+  KEY `idx_routes_updated_at` (`updated_at`),
   CONSTRAINT `routes_ibfk_1` FOREIGN KEY (`branch_id`) REFERENCES `gym_branches` (`branch_id`),
   CONSTRAINT `routes_ibfk_2` FOREIGN KEY (`wall_id`) REFERENCES `walls` (`wall_id`),
   CONSTRAINT `routes_ibfk_3` FOREIGN KEY (`setter_id`) REFERENCES `route_setters` (`setter_id`),
@@ -186,11 +187,13 @@ CREATE TABLE `route_tags` (
   `relevance_score` decimal(3,2) DEFAULT '1.00',
   `created_by` int DEFAULT NULL,
   `created_at` timestamp NULL DEFAULT CURRENT_TIMESTAMP,
+  `updated_at` timestamp NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
   PRIMARY KEY (`route_tag_id`),
   UNIQUE KEY `uk_route_tag` (`route_id`, `tag_id`),
   KEY `idx_route_tags_route_id` (`route_id`),
   KEY `idx_route_tags_tag_id` (`tag_id`),
   KEY `idx_relevance_score` (`relevance_score`),
+  KEY `idx_route_tags_updated_at` (`updated_at`),
   CONSTRAINT `route_tags_ibfk_1` FOREIGN KEY (`route_id`) REFERENCES `routes` (`route_id`) ON DELETE CASCADE,
   CONSTRAINT `route_tags_ibfk_2` FOREIGN KEY (`tag_id`) REFERENCES `tags` (`tag_id`) ON DELETE CASCADE,
   CONSTRAINT `route_tags_ibfk_3` FOREIGN KEY (`created_by`) REFERENCES `users` (`user_id`) ON DELETE SET NULL
@@ -216,7 +219,7 @@ CREATE TABLE `user_profile` (
   `updated_at` timestamp NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
   PRIMARY KEY (`detail_id`),
   KEY `user_id` (`user_id`),
-  KEY `level_id` (`level_id`),
+  KEY `idx_user_profile_level_user` (`level_id`, `user_id`),
   KEY `branch_id` (`branch_id`),
   CONSTRAINT `user_profile_ibfk_1` FOREIGN KEY (`user_id`) REFERENCES `users` (`user_id`),
   CONSTRAINT `user_profile_ibfk_2` FOREIGN KEY (`level_id`) REFERENCES `climbing_levels` (`level_id`),
@@ -419,6 +422,21 @@ CREATE TABLE `route_difficulty_votes` (
   CONSTRAINT `route_difficulty_votes_ibfk_2` FOREIGN KEY (`user_id`) REFERENCES `users` (`user_id`) ON DELETE CASCADE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
+-- 루트 체감 난이도 집계 (route_difficulty_votes 누적값, 점수 EASY=-1 / MEDIUM=0 / HARD=1)
+CREATE TABLE `route_difficulty_stats` (
+  `route_id` int NOT NULL,
+  `vote_count` int NOT NULL DEFAULT '0',
+  `vote_sum` int NOT NULL DEFAULT '0',
+  `vote_sum_sq` int NOT NULL DEFAULT '0',
+  `easy_count` int NOT NULL DEFAULT '0',
+  `medium_count` int NOT NULL DEFAULT '0',
+  `hard_count` int NOT NULL DEFAULT '0',
+  `updated_at` timestamp NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+  PRIMARY KEY (`route_id`),
+  KEY `idx_route_difficulty_stats_updated_at` (`updated_at`),
+  CONSTRAINT `route_difficulty_stats_ibfk_1` FOREIGN KEY (`route_id`) REFERENCES `routes` (`route_id`) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
 -- 루트 스크랩
 CREATE TABLE `route_scraps` (
   `scrap_id` int NOT NULL AUTO_INCREMENT,
@@ -845,13 +863,84 @@ CREATE TABLE `webhook_logs` (
   `received_at` timestamp NULL DEFAULT CURRENT_TIMESTAMP,
   `processed` tinyint(1) DEFAULT '0',
   `related_payment_id` int DEFAULT NULL,
+  `provider_event_id` varchar(100) CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci NOT NULL,
+  `attempts` int NOT NULL DEFAULT '0',
+  `claimed_until` timestamp NULL DEFAULT NULL,
+  `last_error` varchar(500) CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci DEFAULT NULL,
+  `processed_at` timestamp NULL DEFAULT NULL,
   PRIMARY KEY (`log_id`),
+  UNIQUE KEY `uk_webhook_logs_provider_event` (`provider`, `provider_event_id`),
   KEY `related_payment_id` (`related_payment_id`),
   KEY `idx_webhook_logs_provider` (`provider`),
   KEY `idx_webhook_logs_processed` (`processed`),
   CONSTRAINT `webhook_logs_ibfk_1` FOREIGN KEY (`related_payment_id`) REFERENCES `payment_records` (`payment_id`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
+-- 루트별 유사 루트 (user_climbs / route_scraps 동시 출현 기반 상위 N개, RouteNeighborJob이 재계산)
+-- neighbors: varint(개수) + [varint(route_id) + varint(유사도 * 10000)] * 개수, 유사도 내림차순
+CREATE TABLE `route_neighbors` (
+  `route_id` int NOT NULL,
+  `neighbor_count` smallint NOT NULL,
+  `neighbors` blob NOT NULL,
+  `generation` bigint NOT NULL,
+  `computed_at` timestamp NOT NULL,
+  PRIMARY KEY (`route_id`),
+  -- 재계산마다 1씩 증가, 이번 세대가 아닌 행은 계산에서 빠진 루트의 이전 결과
+  KEY `idx_route_neighbors_generation` (`generation`),
+  CONSTRAINT `route_neighbors_ibfk_1` FOREIGN KEY (`route_id`) REFERENCES `routes` (`route_id`) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 여러 노드 중 한 곳에서만 실행하는 작업의 임대 (RouteNeighborJob 등, 만료되면 다른 노드가 가져감)
+CREATE TABLE `job_leases` (
+  `job_name` varchar(50) CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci NOT NULL,
+  `leased_by` varchar(36) CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci NOT NULL,
+  `leased_until` timestamp NOT NULL,
+  PRIMARY KEY (`job_name`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 추천 배치 작업
+CREATE TABLE `recommendation_batch_jobs` (
+  `job_id` int NOT NULL AUTO_INCREMENT,
+  `job_status` enum('RUNNING','COMPLETED','FAILED') CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci NOT NULL DEFAULT 'RUNNING',
+  `total_chunks` int NOT NULL DEFAULT '0',
+  `started_at` timestamp NULL DEFAULT CURRENT_TIMESTAMP,
+  `finished_at` timestamp NULL DEFAULT NULL,
+  -- 미완료(RUNNING/FAILED) 작업은 하나만 존재 (여러 노드가 동시에 새 작업을 만들지 않도록)
+  `unfinished_guard` tinyint GENERATED ALWAYS AS (IF(`job_status` IN ('RUNNING','FAILED'), 1, NULL)) STORED,
+  PRIMARY KEY (`job_id`),
+  UNIQUE KEY `uk_recommendation_batch_jobs_unfinished` (`unfinished_guard`),
+  KEY `idx_recommendation_batch_jobs_status` (`job_status`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 추천 배치 청크 (재시작 체크포인트)
+CREATE TABLE `recommendation_batch_chunks` (
+  `job_id` int NOT NULL,
+  `chunk_no` int NOT NULL,
+  `from_user_id` int NOT NULL,
+  `to_user_id` int NOT NULL,
+  `chunk_status` enum('PENDING','COMPLETED') CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci NOT NULL DEFAULT 'PENDING',
+  `claimed_by` varchar(36) CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci DEFAULT NULL,
+  `claimed_until` timestamp NULL DEFAULT NULL,
+  `completed_at` timestamp NULL DEFAULT NULL,
+  PRIMARY KEY (`job_id`,`chunk_no`),
+  KEY `idx_recommendation_batch_chunks_status` (`job_id`,`chunk_status`),
+  CONSTRAINT `recommendation_batch_chunks_ibfk_1` FOREIGN KEY (`job_id`) REFERENCES `recommendation_batch_jobs` (`job_id`) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 푸시 기기 토큰 (FCM)
+CREATE TABLE `user_device_tokens` (
+  `device_token_id` int NOT NULL AUTO_INCREMENT,
+  `user_id` int NOT NULL,
+  `fcm_token` varchar(255) CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci NOT NULL,
+  `platform` enum('ANDROID','IOS','WEB') CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci NOT NULL,
+  `created_at` timestamp NULL DEFAULT CURRENT_TIMESTAMP,
+  `updated_at` timestamp NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+  PRIMARY KEY (`device_token_id`),
+  UNIQUE KEY `uk_user_device_tokens_token` (`fcm_token`),
+  KEY `idx_user_device_tokens_user_id` (`user_id`),
+  CONSTRAINT `user_device_tokens_ibfk_1` FOREIGN KEY (`user_id`) REFERENCES `users` (`user_id`) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
 -- 기본 태그 데이터 삽입
 INSERT INTO tags (tag_name, tag_type, tag_category, description, is_user_selectable, is_route_taggable, display_order) VALUES
 -- 스타일 (사용자 선호도 + 루트 태깅 모두 가능)
@@ -1001,7 +1090,7 @@ FROM tags
 WHERE is_route_taggable = 1
 ORDER BY tag_type, display_order, tag_name;
 
--- 사용자별 추천 루트
+-- 사용자별 추천 루트 (관리/분석용, 홈 화면은 Redis user:recommendation_cards: 카드 사용)
 CREATE VIEW v_user_recommended_routes AS
 SELECT 
     urr.user_id,
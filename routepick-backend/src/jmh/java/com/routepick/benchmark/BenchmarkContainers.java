@@ -0,0 +1,57 @@
+package com.routepick.benchmark;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.utility.DockerImageName;
+import org.testcontainers.utility.MountableFile;
+
+/**
+ * DB/Redis를 거치는 벤치마크용 컨테이너 (Docker 필요)
+ * MySQL은 docker-compose와 같이 database/routepick.sql로 초기화
+ * JMH fork는 routepick-backend 디렉터리에서 실행되므로 스키마 경로는 그 기준
+ */
+public final class BenchmarkContainers {
+
+    private static final String SCHEMA = "../database/routepick.sql";
+
+    private BenchmarkContainers() {
+    }
+
+    public static MySQLContainer<?> startMySql() {
+        MySQLContainer<?> mysql = new MySQLContainer<>(DockerImageName.parse("mysql:8.0"))
+            .withDatabaseName("routepick")
+            .withCopyFileToContainer(MountableFile.forHostPath(SCHEMA), "/docker-entrypoint-initdb.d/routepick.sql");
+        mysql.start();
+        return mysql;
+    }
+
+    /**
+     * 배치 INSERT를 다중 행 INSERT로 묶도록 rewriteBatchedStatements 사용 (시드 적재 속도)
+     */
+    public static HikariDataSource dataSource(MySQLContainer<?> mysql, int maximumPoolSize) {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(mysql.getJdbcUrl() + "?rewriteBatchedStatements=true&useSSL=false&allowPublicKeyRetrieval=true");
+        config.setUsername(mysql.getUsername());
+        config.setPassword(mysql.getPassword());
+        config.setMaximumPoolSize(maximumPoolSize);
+        return new HikariDataSource(config);
+    }
+
+    public static GenericContainer<?> startRedis() {
+        GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+        redis.start();
+        return redis;
+    }
+
+    public static LettuceConnectionFactory redisConnectionFactory(GenericContainer<?> redis) {
+        LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(
+            new RedisStandaloneConfiguration(redis.getHost(), redis.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        return connectionFactory;
+    }
+}
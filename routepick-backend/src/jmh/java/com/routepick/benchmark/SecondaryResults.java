@@ -0,0 +1,48 @@
+package com.routepick.benchmark;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.profile.InternalProfiler;
+import org.openjdk.jmh.results.AggregationPolicy;
+import org.openjdk.jmh.results.IterationResult;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.ScalarResult;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 벤치마크의 보조 지표(항목 크기, 백분위, 밀린 작업 처리 시간 등)를 JMH secondary result로 내보내는 프로파일러
+ * - 벤치마크는 @Setup/@TearDown에서 record로 값을 남기고, iteration이 끝날 때마다 마지막 값을 결과에 붙임
+ * - iteration 간 집계는 평균 (@AuxCounters EVENTS는 합으로 집계되어 백분위나 비율에는 맞지 않음)
+ * build.gradle의 jmh.profilers로 켜져 있고, 직접 실행할 때는 -prof com.routepick.benchmark.SecondaryResults
+ */
+public class SecondaryResults implements InternalProfiler {
+
+    private static final Map<String, ScalarResult> RESULTS = new LinkedHashMap<>();
+
+    public static void record(String label, double value, String unit) {
+        synchronized (RESULTS) {
+            RESULTS.put(label, new ScalarResult(label, value, unit, AggregationPolicy.AVG));
+        }
+    }
+
+    @Override
+    public String getDescription() {
+        return "Secondary results recorded by the benchmark";
+    }
+
+    @Override
+    public void beforeIteration(BenchmarkParams benchmarkParams, IterationParams iterationParams) {
+    }
+
+    @Override
+    public Collection<? extends Result> afterIteration(BenchmarkParams benchmarkParams, IterationParams iterationParams,
+                                                       IterationResult result) {
+        synchronized (RESULTS) {
+            return new ArrayList<>(RESULTS.values());
+        }
+    }
+}
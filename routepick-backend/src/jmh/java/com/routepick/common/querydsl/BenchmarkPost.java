@@ -0,0 +1,49 @@
+package com.routepick.common.querydsl;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * KeysetPaginationBenchmark용 posts 매핑 (이 트리에는 posts 엔티티가 없어 필요한 컬럼만 매핑)
+ * KeysetPaginator가 BeanWrapper로 마지막 행의 값을 읽으므로 getter 필요
+ */
+@Entity
+@Table(name = "posts")
+public class BenchmarkPost {
+
+    @Id
+    @Column(name = "post_id")
+    private Integer postId;
+
+    @Column(name = "user_id")
+    private Integer userId;
+
+    @Column(name = "title")
+    private String title;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    protected BenchmarkPost() {
+    }
+
+    public Integer getPostId() {
+        return postId;
+    }
+
+    public Integer getUserId() {
+        return userId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -0,0 +1,178 @@
+package com.routepick.common.querydsl;
+
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.routepick.benchmark.BenchmarkContainers;
+import com.routepick.common.KeysetSlice;
+import com.routepick.common.PageRequest;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.persistenceunit.PersistenceManagedTypes;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.testcontainers.containers.MySQLContainer;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 같은 페이지를 OFFSET과 keyset(KeysetPaginator)으로 읽는 비용 비교 (MySQL 컨테이너, posts postCount건)
+ * page=1과 page=1000의 keyset 결과가 비슷하고 offset은 page에 비례해 늘어나는지가 확인 대상
+ * 정렬은 기본값 createdAt,desc (created_at은 초 단위라 동률이 있어 id 보조 정렬도 함께 탐)
+ * 조회마다 영속성 컨텍스트를 비워 두 방식 모두 행 매핑 비용을 같게 유지
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class KeysetPaginationBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int USERS = 100;
+    private static final int SEED_BATCH = 10_000;
+    private static final Set<String> SORTABLE = Set.of("createdAt");
+
+    @Param({"200000"})
+    private int postCount;
+
+    // 1부터 시작하는 페이지 번호
+    @Param({"1", "100", "1000"})
+    private int page;
+
+    private MySQLContainer<?> mysql;
+    private HikariDataSource dataSource;
+    private EntityManagerFactory entityManagerFactory;
+    private EntityManager entityManager;
+    private JPAQueryFactory jpaQueryFactory;
+    private KeysetPaginator keysetPaginator;
+    private PathBuilder<BenchmarkPost> root;
+    private PageRequest keysetRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mysql = BenchmarkContainers.startMySql();
+        dataSource = BenchmarkContainers.dataSource(mysql, 4);
+        seed(new JdbcTemplate(dataSource), new Random(42));
+
+        LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setManagedTypes(PersistenceManagedTypes.of(BenchmarkPost.class.getName()));
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.afterPropertiesSet();
+        entityManagerFactory = factoryBean.getObject();
+        entityManager = entityManagerFactory.createEntityManager();
+        jpaQueryFactory = new JPAQueryFactory(entityManager);
+        keysetPaginator = new KeysetPaginator(jpaQueryFactory);
+        root = new PathBuilder<>(BenchmarkPost.class, "benchmarkPost");
+
+        // 앞 페이지를 커서로 따라가 page번째 페이지의 커서를 만듦
+        String cursor = null;
+        for (int i = 1; i < page; i++) {
+            cursor = keysetPaginator.fetch(BenchmarkPost.class, "postId", SORTABLE, null, request(cursor)).getNextCursor();
+            entityManager.clear();
+        }
+        keysetRequest = request(cursor);
+
+        List<Integer> keysetIds = ids(keyset().getContent());
+        List<Integer> offsetIds = ids(offset());
+        if (!keysetIds.equals(offsetIds)) {
+            throw new IllegalStateException("keyset and offset pages differ at page " + page);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        entityManager.close();
+        entityManagerFactory.close();
+        dataSource.close();
+        mysql.stop();
+    }
+
+    @Benchmark
+    public KeysetSlice<BenchmarkPost> keyset() {
+        KeysetSlice<BenchmarkPost> slice = keysetPaginator.fetch(BenchmarkPost.class, "postId", SORTABLE, null, keysetRequest);
+        entityManager.clear();
+        return slice;
+    }
+
+    /**
+     * toPageable()과 같은 OFFSET 조회 (같은 정렬 + id 보조 정렬)
+     */
+    @Benchmark
+    public List<BenchmarkPost> offset() {
+        List<BenchmarkPost> rows = jpaQueryFactory.selectFrom(root)
+            .orderBy(new OrderSpecifier<>(Order.DESC, root.getDateTime("createdAt", LocalDateTime.class)),
+                new OrderSpecifier<>(Order.DESC, root.getNumber("postId", Integer.class)))
+            .offset((long) (page - 1) * PAGE_SIZE)
+            .limit(PAGE_SIZE)
+            .fetch();
+        entityManager.clear();
+        return rows;
+    }
+
+    private static PageRequest request(String cursor) {
+        PageRequest request = new PageRequest();
+        request.setSize(PAGE_SIZE);
+        request.setCursor(cursor);
+        return request;
+    }
+
+    private static List<Integer> ids(List<BenchmarkPost> posts) {
+        List<Integer> ids = new ArrayList<>(posts.size());
+        for (BenchmarkPost post : posts) {
+            ids.add(post.getPostId());
+        }
+        return ids;
+    }
+
+    private void seed(JdbcTemplate jdbcTemplate, Random random) {
+        jdbcTemplate.update("INSERT INTO board_categories (category_id, category_name) VALUES (1, 'benchmark')");
+
+        List<Object[]> rows = new ArrayList<>(USERS);
+        for (int userId = 1; userId <= USERS; userId++) {
+            rows.add(new Object[]{userId, "user" + userId + "@benchmark.routepick.com", "-", "user" + userId});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (user_id, email, password_hash, nick_name) VALUES (?, ?, ?, ?)", rows);
+
+        // 최근 1년에 흩어진 게시글
+        String insertPost = "INSERT INTO posts (category_id, user_id, title, content, created_at) VALUES (1, ?, 't', 'c', ?)";
+        long now = System.currentTimeMillis();
+        rows = new ArrayList<>(SEED_BATCH);
+        for (int i = 0; i < postCount; i++) {
+            long createdAt = now - (long) (random.nextDouble() * TimeUnit.DAYS.toMillis(365));
+            rows.add(new Object[]{1 + random.nextInt(USERS), new Timestamp(createdAt / 1000 * 1000)});
+            if (rows.size() == SEED_BATCH) {
+                jdbcTemplate.batchUpdate(insertPost, rows);
+                rows = new ArrayList<>(SEED_BATCH);
+            }
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(insertPost, rows);
+        }
+        jdbcTemplate.execute("ANALYZE TABLE posts");
+    }
+}
@@ -0,0 +1,149 @@
+package com.routepick.config;
+
+import com.routepick.benchmark.BenchmarkContainers;
+import com.routepick.benchmark.SecondaryResults;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.MySQLContainer;
+
+import javax.sql.DataSource;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 요청 실행 방식별 처리량과 지연 (MySQL 컨테이너, Hikari 풀 10개)
+ * 요청 하나 = 외부 호출 대기 externalMillis(Redis/S3/FCM 대신 sleep) + DB 쿼리 한 번(SELECT SLEEP(dbMillis))
+ * - platform: Tomcat 기본값과 같은 플랫폼 스레드 200개, DataSource는 Hikari 그대로
+ * - virtual: 요청마다 가상 스레드, DataSource는 운영 설정처럼 AdmissionControlledDataSource(permit = 풀 크기와 carrier 수 중 작은 값)
+ * 한 번의 연산은 concurrency건을 동시에 넣고 모두 끝날 때까지 (처리량 = ops/s * concurrency)
+ * 요청별 지연(제출부터 완료까지, 스레드 대기 포함)의 p0.99(latency.p99), 요청 수(requests), 실패 건수(failed)는 iteration마다 보조 지표로 기록
+ * virtual은 JDK 21 이상 필요: ./gradlew jmh -PjavaVersion=21 -PjmhIncludes=RequestExecutionModeBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 20)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RequestExecutionModeBenchmark {
+
+    private static final int POOL_SIZE = 10;
+    private static final int PLATFORM_THREADS = 200;
+    private static final long ACQUIRE_TIMEOUT_MILLIS = 30_000;
+
+    private static final String DB_CALL = "SELECT SLEEP(?)";
+
+    @Param({"platform", "virtual"})
+    private String mode;
+
+    @Param({"2000"})
+    private int concurrency;
+
+    @Param({"50"})
+    private int externalMillis;
+
+    @Param({"1"})
+    private int dbMillis;
+
+    private MySQLContainer<?> mysql;
+    private HikariDataSource hikari;
+    private JdbcTemplate jdbcTemplate;
+    private ExecutorService executor;
+    private Timer latency;
+    private final AtomicInteger failures = new AtomicInteger();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mysql = BenchmarkContainers.startMySql();
+        hikari = BenchmarkContainers.dataSource(mysql, POOL_SIZE);
+        DataSource dataSource = hikari;
+        if ("virtual".equals(mode)) {
+            dataSource = new AdmissionControlledDataSource(hikari,
+                Math.min(POOL_SIZE, DataSourceAdmissionConfig.carrierParallelism()), ACQUIRE_TIMEOUT_MILLIS,
+                new SimpleMeterRegistry());
+            executor = newVirtualThreadPerTaskExecutor();
+        } else {
+            executor = Executors.newFixedThreadPool(PLATFORM_THREADS);
+        }
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+        hikari.close();
+        mysql.stop();
+    }
+
+    @Setup(Level.Iteration)
+    public void resetLatency() {
+        latency = Timer.builder("request.latency")
+            .publishPercentiles(0.99)
+            .register(new SimpleMeterRegistry());
+        failures.set(0);
+    }
+
+    @TearDown(Level.Iteration)
+    public void recordLatency() {
+        double p99 = 0;
+        for (ValueAtPercentile percentile : latency.takeSnapshot().percentileValues()) {
+            p99 = percentile.value(TimeUnit.MILLISECONDS);
+        }
+        SecondaryResults.record("latency.p99", p99, "ms");
+        SecondaryResults.record("requests", latency.count(), "#");
+        SecondaryResults.record("failed", failures.get(), "#");
+    }
+
+    @Benchmark
+    public void requests() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            long submittedAt = System.nanoTime();
+            executor.execute(() -> {
+                try {
+                    handle();
+                } catch (RuntimeException | InterruptedException e) {
+                    failures.incrementAndGet();
+                } finally {
+                    latency.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+    }
+
+    private void handle() throws InterruptedException {
+        Thread.sleep(externalMillis);
+        jdbcTemplate.queryForObject(DB_CALL, Integer.class, dbMillis / 1000.0);
+    }
+
+    // 기본 빌드는 Java 17이므로 컴파일 시점에 JDK 21 API를 참조하지 않음
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Virtual threads need JDK 21+; run with -PjavaVersion=21", e);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.routepick.monitoring;
+
+import com.routepick.security.VerifiedToken;
+import com.routepick.security.VerifiedTokenCache;
+import com.routepick.security.token.TokenRevocationStore;
+import com.routepick.util.JwtTokenProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * hotpath 기록 비용 (enabled=false와 true의 차이가 계측 오버헤드, 4스레드가 같은 타이머에 동시 기록)
+ * - record: start + record 한 번의 비용 그 자체
+ * - authVerify: JwtAuthenticationFilter와 같은 auth.verify 구간 (캐시된 토큰, 계측 구간 중 가장 짧아 비율이 가장 큰 경우)
+ * - jwtParse: 서명 검증 한 번 (auth.jwt.parse 기록 포함)
+ * 목표는 authVerify/jwtParse에서 (true - false) / false < 1%
+ * redis/recommendation 구간은 기록 비용이 같고 구간 자체가 훨씬 길어 비율이 더 작음
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@Threads(4)
+@State(Scope.Benchmark)
+public class HotPathMetricsBenchmark {
+
+    @Param({"false", "true"})
+    private boolean enabled;
+
+    @Param({"1000"})
+    private int tokenCount;
+
+    private HotPathMetrics hotPathMetrics;
+    private JwtTokenProvider jwtTokenProvider;
+    private VerifiedTokenCache verifiedTokenCache;
+    private String[] tokens;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // 운영 기본값 (slowest-samples 10, window 60s)
+        hotPathMetrics = new HotPathMetrics(new SimpleMeterRegistry(), enabled, 10, 60_000);
+        jwtTokenProvider = new JwtTokenProvider("benchmark-secret-key-0123456789-abcdefghijklmnop",
+            3_600_000, 1_209_600_000, hotPathMetrics);
+        TokenRevocationStore notRevoked = new TokenRevocationStore(null, null, null, new RedisMessageListenerContainer()) {
+            @Override
+            public boolean isRevoked(String tokenHash) {
+                return false;
+            }
+        };
+        verifiedTokenCache = new VerifiedTokenCache(jwtTokenProvider, notRevoked, 100_000);
+
+        tokens = new String[tokenCount];
+        for (int i = 0; i < tokenCount; i++) {
+            tokens[i] = jwtTokenProvider.generateAccessToken((long) i + 1, "user" + i + "@routepick.com", "NORMAL");
+            verifiedTokenCache.verify(tokens[i]);
+        }
+    }
+
+    @Benchmark
+    public long record() {
+        long start = hotPathMetrics.start();
+        hotPathMetrics.record(HotPathStage.AUTH_VERIFY, start);
+        return start;
+    }
+
+    @Benchmark
+    public VerifiedToken authVerify() {
+        String token = randomToken();
+        long start = hotPathMetrics.start();
+        VerifiedToken verified = verifiedTokenCache.verify(token);
+        hotPathMetrics.record(HotPathStage.AUTH_VERIFY, start);
+        return verified;
+    }
+
+    @Benchmark
+    public VerifiedToken jwtParse() {
+        return jwtTokenProvider.parseVerifiedToken(randomToken());
+    }
+
+    private String randomToken() {
+        return tokens[ThreadLocalRandom.current().nextInt(tokens.length)];
+    }
+}
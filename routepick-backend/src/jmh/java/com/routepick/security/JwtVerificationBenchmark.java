@@ -0,0 +1,90 @@
+package com.routepick.security;
+
+import com.routepick.monitoring.HotPathMetrics;
+import com.routepick.security.token.TokenRevocationStore;
+import com.routepick.util.JwtTokenProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.security.core.Authentication;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthenticationFilter의 토큰 검증 구간 (요청 한 건 기준)
+ * - parseTwice: 이전 필터 (validateToken + getAuthentication, 서명 검증 두 번)
+ * - parseOnce: 캐시에 없는 토큰의 첫 요청 (서명 검증 한 번)
+ * - cachedVerify: 이후 요청 (SHA-256 키 + 캐시 조회)
+ * 폐기 확인은 항상 "폐기 안 됨"으로 대체 (bloom filter / Redis 비용 제외)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtVerificationBenchmark {
+
+    // 동시에 사용 중인 access token 수 (모두 캐시 크기 안)
+    @Param({"1000"})
+    private int tokenCount;
+
+    private JwtTokenProvider jwtTokenProvider;
+    private VerifiedTokenCache verifiedTokenCache;
+    private String[] tokens;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        HotPathMetrics hotPathMetrics = new HotPathMetrics(new SimpleMeterRegistry(), false, 10, 60_000);
+        jwtTokenProvider = new JwtTokenProvider("benchmark-secret-key-0123456789-abcdefghijklmnop",
+            3_600_000, 1_209_600_000, hotPathMetrics);
+        TokenRevocationStore notRevoked = new TokenRevocationStore(null, null, null, new RedisMessageListenerContainer()) {
+            @Override
+            public boolean isRevoked(String tokenHash) {
+                return false;
+            }
+        };
+        verifiedTokenCache = new VerifiedTokenCache(jwtTokenProvider, notRevoked, 100_000);
+
+        tokens = new String[tokenCount];
+        for (int i = 0; i < tokenCount; i++) {
+            tokens[i] = jwtTokenProvider.generateAccessToken((long) i + 1, "user" + i + "@routepick.com", "NORMAL");
+            verifiedTokenCache.verify(tokens[i]);
+        }
+    }
+
+    @Benchmark
+    public Authentication parseTwice() {
+        String token = nextToken();
+        return jwtTokenProvider.validateToken(token) ? jwtTokenProvider.getAuthentication(token) : null;
+    }
+
+    @Benchmark
+    public Authentication parseOnce() {
+        return jwtTokenProvider.parseVerifiedToken(nextToken()).toAuthentication();
+    }
+
+    @Benchmark
+    public Authentication cachedVerify() {
+        return verifiedTokenCache.verify(nextToken()).toAuthentication();
+    }
+
+    // 단일 스레드 측정이라 경합 없음
+    private String nextToken() {
+        String token = tokens[next];
+        next = (next + 1) % tokens.length;
+        return token;
+    }
+}
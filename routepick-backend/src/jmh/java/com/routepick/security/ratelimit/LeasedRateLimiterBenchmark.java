@@ -0,0 +1,81 @@
+package com.routepick.security.ratelimit;
+
+import com.routepick.benchmark.BenchmarkContainers;
+import io.github.bucket4j.distributed.ExpirationAfterWriteStrategy;
+import io.github.bucket4j.redis.lettuce.cas.LettuceBasedProxyManager;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.codec.ByteArrayCodec;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.testcontainers.containers.GenericContainer;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 요청 제한기 한 번의 판정 지연 (Redis 컨테이너, RateLimitConfig와 같은 Lettuce 프록시 매니저, 8스레드)
+ * - hotKeys: 소수 키에 몰린 요청, 임대분 또는 로컬에 캐시된 거부로 처리되는 경로 (p0.99 50µs 목표 대상)
+ * - newKeys: 매번 처음 보는 키, 요청마다 Redis CAS 왕복이 한 번 필요한 경로 (Redis 왕복 시간이 하한)
+ * 운영 값과 같은 lease-size 5, lease-ttl 1000ms, lease-min-rate 2
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class LeasedRateLimiterBenchmark {
+
+    private static final int HOT_KEYS = 64;
+
+    private GenericContainer<?> redis;
+    private RedisClient redisClient;
+    private StatefulRedisConnection<byte[], byte[]> connection;
+    private LeasedRateLimiter limiter;
+    private final AtomicLong newKeySequence = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        redis = BenchmarkContainers.startRedis();
+        redisClient = RedisClient.create(RedisURI.create(redis.getHost(), redis.getMappedPort(6379)));
+        connection = redisClient.connect(ByteArrayCodec.INSTANCE);
+        LettuceBasedProxyManager proxyManager = LettuceBasedProxyManager.builderFor(connection)
+            .withExpirationStrategy(ExpirationAfterWriteStrategy.basedOnTimeForRefillingBucketUpToMax(Duration.ofMinutes(1)))
+            .build();
+        limiter = new LeasedRateLimiter(proxyManager, new SimpleMeterRegistry(), 5, 1000, 2, 100_000);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        connection.close();
+        redisClient.shutdown();
+        redis.stop();
+    }
+
+    @Benchmark
+    public long hotKeys() {
+        return limiter.tryAcquire(RateLimitPolicy.API, "user:" + ThreadLocalRandom.current().nextInt(HOT_KEYS));
+    }
+
+    @Benchmark
+    public long newKeys() {
+        return limiter.tryAcquire(RateLimitPolicy.API, "user:new:" + newKeySequence.incrementAndGet());
+    }
+}
@@ -0,0 +1,102 @@
+package com.routepick.service.catalog;
+
+import com.routepick.common.enums.TagType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기동 시 스냅샷 복원 비용 (합성 카탈로그 routeCount건, 루트당 태그 평균 4개, 태그 300)
+ * - read: RouteCatalogSnapshotStore.read 한 번 (mmap, 열 단위 복사, posting list 재구성까지 = warmUp의 snapshot_read 단계)
+ * - write: sync/종료 때의 스냅샷 기록 (임시 파일 + fsync + 원자적 교체)
+ * 기동 목표(트래픽 수신까지 2초 미만) 중 나머지는 워터마크 이후 변경분 catch-up 쿼리로, route_catalog.startup{phase=catch_up}로 확인
+ * 파일은 측정 내내 페이지 캐시에 있으므로 디스크에서 처음 읽는 경우는 파일 크기 / 디스크 읽기 속도만큼 더 걸림
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RouteCatalogSnapshotBenchmark {
+
+    private static final int TAGS = 300;
+
+    @Param({"200000"})
+    private int routeCount;
+
+    private Path directory;
+    private RouteCatalogSnapshotStore store;
+    private RouteCatalog catalog;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("route-catalog-benchmark");
+        store = new RouteCatalogSnapshotStore(directory.resolve("route-catalog.snap").toString());
+        catalog = generateCatalog(new Random(42), routeCount);
+        store.write(catalog, System.currentTimeMillis(), System.currentTimeMillis());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(directory.resolve("route-catalog.snap"));
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public RouteCatalogSnapshot read() {
+        return store.read();
+    }
+
+    @Benchmark
+    public RouteCatalog write() throws IOException {
+        store.write(catalog, System.currentTimeMillis(), System.currentTimeMillis());
+        return catalog;
+    }
+
+    // 루트당 태그 1~7개, 레벨 1~20
+    private static RouteCatalog generateCatalog(Random random, int routeCount) {
+        int[] routeIds = new int[routeCount];
+        int[] levelIds = new int[routeCount];
+        int[] tagOffsets = new int[routeCount + 1];
+        int[] tagIds = new int[routeCount * 7];
+        float[] relevance = new float[routeCount * 7];
+        int position = 0;
+        for (int i = 0; i < routeCount; i++) {
+            routeIds[i] = i + 1;
+            levelIds[i] = 1 + random.nextInt(20);
+            tagOffsets[i] = position;
+            int first = 1 + random.nextInt(TAGS);
+            for (int t = 0, tags = 1 + random.nextInt(7); t < tags; t++) {
+                tagIds[position] = 1 + (first + t * 7) % TAGS;
+                relevance[position] = random.nextFloat();
+                position++;
+            }
+        }
+        tagOffsets[routeCount] = position;
+
+        TagType[] tagTypes = new TagType[TAGS + 1];
+        for (int tagId = 1; tagId <= TAGS; tagId++) {
+            tagTypes[tagId] = TagType.values()[tagId % TagType.values().length];
+        }
+        return new RouteCatalog(routeIds, levelIds, tagOffsets,
+            Arrays.copyOf(tagIds, position), Arrays.copyOf(relevance, position), tagTypes);
+    }
+}
@@ -0,0 +1,203 @@
+package com.routepick.service.feed;
+
+import com.routepick.benchmark.BenchmarkContainers;
+import com.routepick.domain.feed.repository.FeedJdbcRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.MySQLContainer;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 팔로잉 피드 조회 지연 (MySQL + Redis 컨테이너, 팔로우 관계 userCount * followsPerUser건)
+ * 기본값은 사용자 2만 명 * 50 = 팔로우 100만 건, 그중 5건은 인기 사용자(outbox pull) 팔로우
+ * - firstPage / nextPage: inbox가 이미 있는 사용자 (설정 시 activeUsers명 적재)
+ * - coldFirstPage: inbox를 지운 뒤 조회 (MySQL에서 다시 적재, 삭제 왕복 포함)
+ * 결과의 p0.99가 목표 지표, 8스레드 동시 조회
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 20)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class FeedBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int CELEBRITIES = 10;
+    private static final int CELEBRITY_FOLLOWS = 5;
+    private static final int SEED_BATCH = 10_000;
+
+    @Param({"20000"})
+    private int userCount;
+
+    @Param({"50"})
+    private int followsPerUser;
+
+    @Param({"10"})
+    private int postsPerUser;
+
+    @Param({"2000"})
+    private int activeUsers;
+
+    private MySQLContainer<?> mysql;
+    private GenericContainer<?> redis;
+    private HikariDataSource dataSource;
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate stringRedisTemplate;
+    private FeedService feedService;
+    private String[] secondPageCursors;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mysql = BenchmarkContainers.startMySql();
+        redis = BenchmarkContainers.startRedis();
+        dataSource = BenchmarkContainers.dataSource(mysql, 16);
+        connectionFactory = BenchmarkContainers.redisConnectionFactory(redis);
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        seed(jdbcTemplate, new Random(42));
+
+        // 인기 사용자 기준을 팔로워 수 평균(약 userCount / 2)보다 낮춰 CELEBRITIES명은 항상 pull 대상
+        feedService = new FeedService(stringRedisTemplate,
+            new FeedJdbcRepository(jdbcTemplate, new NamedParameterJdbcTemplate(jdbcTemplate)),
+            new SimpleMeterRegistry(), 800, userCount * CELEBRITY_FOLLOWS / CELEBRITIES / 2, 1000, 14);
+
+        secondPageCursors = new String[activeUsers];
+        for (int i = 0; i < activeUsers; i++) {
+            secondPageCursors[i] = feedService.getFeed(activeUserId(i), null, PAGE_SIZE).getNextCursor();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        connectionFactory.destroy();
+        dataSource.close();
+        redis.stop();
+        mysql.stop();
+    }
+
+    @Benchmark
+    public FeedPage firstPage() {
+        return feedService.getFeed(activeUserId(ThreadLocalRandom.current().nextInt(activeUsers)), null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public FeedPage nextPage() {
+        int i = ThreadLocalRandom.current().nextInt(activeUsers);
+        return feedService.getFeed(activeUserId(i), secondPageCursors[i], PAGE_SIZE);
+    }
+
+    @Benchmark
+    public FeedPage coldFirstPage() {
+        int userId = CELEBRITIES + 1 + ThreadLocalRandom.current().nextInt(userCount - CELEBRITIES);
+        stringRedisTemplate.delete("feed:inbox:" + userId);
+        return feedService.getFeed(userId, null, PAGE_SIZE);
+    }
+
+    // 인기 사용자를 제외한 앞쪽 사용자
+    private int activeUserId(int i) {
+        return CELEBRITIES + 1 + i;
+    }
+
+    private void seed(JdbcTemplate jdbcTemplate, Random random) {
+        jdbcTemplate.update("INSERT INTO board_categories (category_id, category_name) VALUES (1, 'benchmark')");
+
+        List<Object[]> rows = new ArrayList<>(SEED_BATCH);
+        for (int userId = 1; userId <= userCount; userId++) {
+            rows.add(new Object[]{userId, "user" + userId + "@benchmark.routepick.com", "-", "user" + userId});
+            rows = flushIfFull(jdbcTemplate,
+                "INSERT INTO users (user_id, email, password_hash, nick_name) VALUES (?, ?, ?, ?)", rows);
+        }
+        flush(jdbcTemplate, "INSERT INTO users (user_id, email, password_hash, nick_name) VALUES (?, ?, ?, ?)", rows);
+
+        // 인기 사용자 CELEBRITY_FOLLOWS명 + 일반 사용자 나머지를 팔로우
+        int[] followerCounts = new int[userCount + 1];
+        String insertFollow = "INSERT INTO user_follows (follower_id, following_id) VALUES (?, ?)";
+        rows = new ArrayList<>(SEED_BATCH);
+        for (int followerId = 1; followerId <= userCount; followerId++) {
+            Set<Integer> followings = new HashSet<>();
+            while (followings.size() < CELEBRITY_FOLLOWS) {
+                int celebrity = 1 + random.nextInt(CELEBRITIES);
+                if (celebrity != followerId) {
+                    followings.add(celebrity);
+                }
+            }
+            while (followings.size() < followsPerUser) {
+                int followingId = CELEBRITIES + 1 + random.nextInt(userCount - CELEBRITIES);
+                if (followingId != followerId) {
+                    followings.add(followingId);
+                }
+            }
+            for (int followingId : followings) {
+                followerCounts[followingId]++;
+                rows.add(new Object[]{followerId, followingId});
+                rows = flushIfFull(jdbcTemplate, insertFollow, rows);
+            }
+        }
+        flush(jdbcTemplate, insertFollow, rows);
+
+        String insertProfile = "INSERT INTO user_profile (user_id, follower_count, following_count) VALUES (?, ?, ?)";
+        rows = new ArrayList<>(SEED_BATCH);
+        for (int userId = 1; userId <= userCount; userId++) {
+            rows.add(new Object[]{userId, followerCounts[userId], followsPerUser});
+            rows = flushIfFull(jdbcTemplate, insertProfile, rows);
+        }
+        flush(jdbcTemplate, insertProfile, rows);
+
+        // 최근 30일에 흩어진 게시글
+        String insertPost = "INSERT INTO posts (category_id, user_id, title, content, created_at) VALUES (1, ?, 't', 'c', ?)";
+        long now = System.currentTimeMillis();
+        rows = new ArrayList<>(SEED_BATCH);
+        for (int userId = 1; userId <= userCount; userId++) {
+            for (int p = 0; p < postsPerUser; p++) {
+                long createdAt = now - (long) (random.nextDouble() * TimeUnit.DAYS.toMillis(30));
+                rows.add(new Object[]{userId, new Timestamp(createdAt / 1000 * 1000)});
+                rows = flushIfFull(jdbcTemplate, insertPost, rows);
+            }
+        }
+        flush(jdbcTemplate, insertPost, rows);
+    }
+
+    private static List<Object[]> flushIfFull(JdbcTemplate jdbcTemplate, String sql, List<Object[]> rows) {
+        if (rows.size() < SEED_BATCH) {
+            return rows;
+        }
+        flush(jdbcTemplate, sql, rows);
+        return new ArrayList<>(SEED_BATCH);
+    }
+
+    private static void flush(JdbcTemplate jdbcTemplate, String sql, List<Object[]> rows) {
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, rows);
+        }
+    }
+}
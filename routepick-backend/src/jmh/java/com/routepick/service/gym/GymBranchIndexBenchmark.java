@@ -0,0 +1,168 @@
+package com.routepick.service.gym;
+
+import com.routepick.common.Constants;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주변 암장 검색 (합성 지점, 70%는 대도시 주변에 밀집)
+ * - withinRadius / nearest: GymBranchIndex 격자 색인
+ * - latitudeRangeScan / nearestFullScan: idx_gym_branches_location (latitude, longitude) 접근 방식을 메모리에서 재현
+ *   (위도 범위를 이분 탐색한 뒤 경도 조건과 거리 계산, k개는 전체 거리 계산 후 상위 k)
+ * SQL 실행 비용(파싱, 버퍼 풀, 네트워크)은 포함하지 않으므로 DB 쪽 측정이 아닌 접근 방식 비교
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GymBranchIndexBenchmark {
+
+    // 서울, 부산, 대구, 인천, 광주, 대전
+    private static final double[][] CITIES = {
+        {37.5665, 126.9780}, {35.1796, 129.0756}, {35.8714, 128.6014},
+        {37.4563, 126.7052}, {35.1595, 126.8526}, {36.3504, 127.3845}
+    };
+    private static final int QUERIES = 1024;
+
+    @Param({"10000"})
+    private int branchCount;
+
+    @Param({"5000"})
+    private double radiusMeters;
+
+    @Param({"20"})
+    private int k;
+
+    private GymBranchIndex index;
+    private int[] sortedIds;
+    private double[] sortedLatitudes;
+    private double[] sortedLongitudes;
+    private double[][] queries;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        int[] branchIds = new int[branchCount];
+        double[] latitudes = new double[branchCount];
+        double[] longitudes = new double[branchCount];
+        for (int i = 0; i < branchCount; i++) {
+            double[] point = randomPoint(random);
+            branchIds[i] = i + 1;
+            latitudes[i] = point[0];
+            longitudes[i] = point[1];
+        }
+        index = new GymBranchIndex(branchIds, latitudes, longitudes);
+
+        // (latitude, longitude) 순 정렬 사본
+        Integer[] order = new Integer[branchCount];
+        for (int i = 0; i < branchCount; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> latitudes[a] != latitudes[b]
+            ? Double.compare(latitudes[a], latitudes[b]) : Double.compare(longitudes[a], longitudes[b]));
+        sortedIds = new int[branchCount];
+        sortedLatitudes = new double[branchCount];
+        sortedLongitudes = new double[branchCount];
+        for (int i = 0; i < branchCount; i++) {
+            sortedIds[i] = branchIds[order[i]];
+            sortedLatitudes[i] = latitudes[order[i]];
+            sortedLongitudes[i] = longitudes[order[i]];
+        }
+
+        queries = new double[QUERIES][];
+        for (int i = 0; i < QUERIES; i++) {
+            queries[i] = randomPoint(random);
+        }
+    }
+
+    @Benchmark
+    public NearbyBranches withinRadius() {
+        double[] query = nextQuery();
+        return index.withinRadius(query[0], query[1], radiusMeters);
+    }
+
+    @Benchmark
+    public NearbyBranches nearest() {
+        double[] query = nextQuery();
+        return index.nearest(query[0], query[1], k);
+    }
+
+    @Benchmark
+    public NearbyBranches latitudeRangeScan() {
+        double[] query = nextQuery();
+        double latDelta = Math.toDegrees(radiusMeters / GymBranchIndex.EARTH_RADIUS_METERS);
+        double lonDelta = latDelta / Math.cos(Math.toRadians(query[0] + latDelta));
+        NearbyBranches result = new NearbyBranches(16);
+        for (int i = lowerBound(query[0] - latDelta); i < branchCount && sortedLatitudes[i] <= query[0] + latDelta; i++) {
+            if (Math.abs(sortedLongitudes[i] - query[1]) <= lonDelta) {
+                double distance = GymBranchIndex.haversine(query[0], query[1], sortedLatitudes[i], sortedLongitudes[i]);
+                if (distance <= radiusMeters) {
+                    result.add(sortedIds[i], distance);
+                }
+            }
+        }
+        result.sortByDistance();
+        return result;
+    }
+
+    @Benchmark
+    public NearbyBranches nearestFullScan() {
+        double[] query = nextQuery();
+        NearbyBranches best = new NearbyBranches(k + 1);
+        for (int i = 0; i < branchCount; i++) {
+            best.offerNearest(sortedIds[i],
+                GymBranchIndex.haversine(query[0], query[1], sortedLatitudes[i], sortedLongitudes[i]), k);
+        }
+        return best;
+    }
+
+    private int lowerBound(double latitude) {
+        int low = 0;
+        int high = branchCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sortedLatitudes[mid] < latitude) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // 단일 스레드 측정이라 경합 없음
+    private double[] nextQuery() {
+        double[] query = queries[next];
+        next = (next + 1) % QUERIES;
+        return query;
+    }
+
+    // 70%는 대도시 중심 반경 약 20km 안, 나머지는 경계 상자 안 균등 분포
+    private static double[] randomPoint(Random random) {
+        if (random.nextInt(10) < 7) {
+            double[] city = CITIES[random.nextInt(CITIES.length)];
+            return new double[]{city[0] + random.nextGaussian() * 0.1, city[1] + random.nextGaussian() * 0.12};
+        }
+        return new double[]{
+            Constants.KOREA_MIN_LATITUDE + random.nextDouble() * (Constants.KOREA_MAX_LATITUDE - Constants.KOREA_MIN_LATITUDE),
+            Constants.KOREA_MIN_LONGITUDE + random.nextDouble() * (Constants.KOREA_MAX_LONGITUDE - Constants.KOREA_MIN_LONGITUDE)
+        };
+    }
+}
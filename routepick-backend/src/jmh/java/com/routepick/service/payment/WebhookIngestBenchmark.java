@@ -0,0 +1,181 @@
+package com.routepick.service.payment;
+
+import com.routepick.benchmark.BenchmarkContainers;
+import com.routepick.benchmark.SecondaryResults;
+import com.routepick.domain.payment.repository.WebhookJdbcRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.testcontainers.containers.MySQLContainer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 결제 웹훅 수신 처리량 (MySQL 컨테이너, 결제 paymentCount건, 32스레드가 provider 역할로 동시 전송)
+ * - receive: WebhookIngestService.receive 한 번 (webhook_logs INSERT 후 응답), 초당 처리 건수가 목표 지표 (5000/s)
+ * 전송의 5%는 최근 이벤트 재전송(중복), 결제 상태 변경 이벤트만 사용
+ * 수신과 동시에 운영 설정과 같은 WebhookDispatcher lane과 1초 주기 poller가 돌고,
+ * iteration이 끝날 때마다 미처리 행이 0이 될 때까지 기다려 처리 건수(processed), 밀린 행을 비우는 데 걸린 시간(drain),
+ * 남은 행(unprocessed), webhook.lag p0.99(lag.p99)를 보조 지표로 기록
+ * (수신만 빠르고 처리가 따라가지 못하면 이 시간이 iteration마다 늘어남)
+ * 연결 풀은 운영과 같은 10개
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1, time = 10)
+@Measurement(iterations = 3, time = 20)
+@Fork(1)
+@Threads(32)
+@State(Scope.Benchmark)
+public class WebhookIngestBenchmark {
+
+    private static final String PROVIDER = "benchmark-pg";
+    private static final String[] EVENT_TYPES = {"payment.completed", "payment.cancelled", "payment.refunded"};
+    private static final int USERS = 1000;
+    private static final int REDELIVERY_PERCENT = 5;
+    private static final int REDELIVERY_WINDOW = 1000;
+    private static final long DRAIN_TIMEOUT_MILLIS = 120_000;
+    private static final int SEED_BATCH = 10_000;
+
+    private static final String COUNT_UNPROCESSED = "SELECT COUNT(*) FROM webhook_logs WHERE processed = 0";
+
+    @Param({"10000"})
+    private int paymentCount;
+
+    @Param({"10"})
+    private int poolSize;
+
+    private MySQLContainer<?> mysql;
+    private HikariDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private WebhookDispatcher webhookDispatcher;
+    private WebhookIngestService webhookIngestService;
+    private ScheduledExecutorService poller;
+    private final AtomicLong eventSequence = new AtomicLong();
+    private long processedBefore;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mysql = BenchmarkContainers.startMySql();
+        dataSource = BenchmarkContainers.dataSource(mysql, poolSize);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        seed();
+
+        meterRegistry = new SimpleMeterRegistry();
+        WebhookJdbcRepository webhookJdbcRepository =
+            new WebhookJdbcRepository(jdbcTemplate, new NamedParameterJdbcTemplate(jdbcTemplate));
+        // application.yml의 app.webhook 기본값
+        webhookDispatcher = new WebhookDispatcher(webhookJdbcRepository, new DataSourceTransactionManager(dataSource),
+            meterRegistry, 16, 2000, 100, 500, 60, 10, 5);
+        webhookDispatcher.start();
+        webhookIngestService = new WebhookIngestService(webhookJdbcRepository, webhookDispatcher, meterRegistry);
+
+        poller = Executors.newSingleThreadScheduledExecutor();
+        poller.scheduleWithFixedDelay(webhookDispatcher::claimPending, 1, 1, TimeUnit.SECONDS);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        poller.shutdownNow();
+        webhookDispatcher.stop();
+        dataSource.close();
+        mysql.stop();
+    }
+
+    @Setup(Level.Iteration)
+    public void markIteration() {
+        processedBefore = (long) meterRegistry.counter("webhook.processed").count();
+    }
+
+    @TearDown(Level.Iteration)
+    public void drain() throws InterruptedException {
+        long start = System.nanoTime();
+        long deadline = System.currentTimeMillis() + DRAIN_TIMEOUT_MILLIS;
+        long unprocessed;
+        while ((unprocessed = jdbcTemplate.queryForObject(COUNT_UNPROCESSED, Long.class)) > 0
+            && System.currentTimeMillis() < deadline) {
+            Thread.sleep(100);
+        }
+        long processed = (long) meterRegistry.counter("webhook.processed").count() - processedBefore;
+        SecondaryResults.record("processed", processed, "#");
+        SecondaryResults.record("drain", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), "ms");
+        SecondaryResults.record("unprocessed", unprocessed, "#");
+        SecondaryResults.record("lag.p99", lagP99(), "ms");
+    }
+
+    @Benchmark
+    public boolean receive() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long eventId = eventSequence.incrementAndGet();
+        if (random.nextInt(100) < REDELIVERY_PERCENT && eventId > REDELIVERY_WINDOW) {
+            eventId -= 1 + random.nextInt(REDELIVERY_WINDOW);
+        }
+        // 같은 이벤트 번호는 재전송에도 같은 결제와 유형
+        int paymentId = 1 + (int) (eventId % paymentCount);
+        String eventType = EVENT_TYPES[(int) (eventId % EVENT_TYPES.length)];
+        String providerEventId = "evt_" + eventId;
+        String payload = "{\"id\":\"" + providerEventId + "\",\"type\":\"" + eventType + "\",\"payment_id\":" + paymentId + "}";
+        return webhookIngestService.receive(PROVIDER, providerEventId, eventType, payload, paymentId);
+    }
+
+    private double lagP99() {
+        Timer lag = meterRegistry.find("webhook.lag").timer();
+        if (lag == null) {
+            return 0;
+        }
+        for (ValueAtPercentile percentile : lag.takeSnapshot().percentileValues()) {
+            if (percentile.percentile() == 0.99) {
+                return percentile.value(TimeUnit.MILLISECONDS);
+            }
+        }
+        return 0;
+    }
+
+    private void seed() {
+        List<Object[]> rows = new ArrayList<>(SEED_BATCH);
+        for (int userId = 1; userId <= USERS; userId++) {
+            rows.add(new Object[]{userId, "user" + userId + "@benchmark.routepick.com", "-"});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (user_id, email, password_hash) VALUES (?, ?, ?)", rows);
+
+        rows = new ArrayList<>(SEED_BATCH);
+        for (int paymentId = 1; paymentId <= paymentCount; paymentId++) {
+            rows.add(new Object[]{paymentId, 1 + paymentId % USERS});
+            if (rows.size() == SEED_BATCH) {
+                insertPayments(rows);
+                rows.clear();
+            }
+        }
+        insertPayments(rows);
+    }
+
+    private void insertPayments(List<Object[]> rows) {
+        jdbcTemplate.batchUpdate("INSERT INTO payment_records (payment_id, user_id, payment_type, amount, pg_provider) " +
+            "VALUES (?, ?, 'PASS', 10000.00, '" + PROVIDER + "')", rows);
+    }
+}
@@ -0,0 +1,246 @@
+package com.routepick.service.recommendation;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.routepick.benchmark.BenchmarkContainers;
+import com.routepick.common.cache.TwoTierCache;
+import com.routepick.common.redis.CodecRedisSerializer;
+import com.routepick.domain.recommendation.repository.RecommendationCardJdbcRepository;
+import com.routepick.domain.recommendation.repository.RecommendationJdbcRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.MySQLContainer;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 홈 화면 추천 조회 지연 (MySQL + Redis 컨테이너, 사용자 userCount명 * 추천 recommendationsPerUser건, 8스레드)
+ * - view: 이전 방식, v_user_recommended_routes에서 상위 card-size건 (GROUP_CONCAT / GROUP BY)
+ * - cards: RecommendationCardService.getCards, 미리 만든 카드 Redis GET 한 번
+ * - rebuild: 카드가 지워진 사용자의 MySQL 재구성 (RecommendationCardJdbcRepository.findCards)
+ * 결과의 p0.95가 목표 지표
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 20)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class RecommendationCardsBenchmark {
+
+    private static final int CARD_SIZE = 30;
+    private static final int BRANCHES = 30;
+    private static final int WALLS_PER_BRANCH = 10;
+    private static final int LEVELS = 20;
+    private static final int TAGS = 200;
+    private static final int TAGS_PER_ROUTE = 3;
+    private static final int SEED_BATCH = 10_000;
+
+    private static final String SELECT_VIEW =
+        "SELECT * FROM v_user_recommended_routes WHERE user_id = ? ORDER BY recommendation_score DESC LIMIT ?";
+
+    @Param({"1000"})
+    private int userCount;
+
+    @Param({"10000"})
+    private int routeCount;
+
+    @Param({"100"})
+    private int recommendationsPerUser;
+
+    private MySQLContainer<?> mysql;
+    private GenericContainer<?> redis;
+    private HikariDataSource dataSource;
+    private LettuceConnectionFactory connectionFactory;
+    private JdbcTemplate jdbcTemplate;
+    private RecommendationCardJdbcRepository recommendationCardJdbcRepository;
+    private RecommendationCardService recommendationCardService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mysql = BenchmarkContainers.startMySql();
+        redis = BenchmarkContainers.startRedis();
+        dataSource = BenchmarkContainers.dataSource(mysql, 16);
+        connectionFactory = BenchmarkContainers.redisConnectionFactory(redis);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        seed(new Random(42));
+
+        recommendationCardJdbcRepository = new RecommendationCardJdbcRepository(jdbcTemplate,
+            new NamedParameterJdbcTemplate(jdbcTemplate));
+        RedisTemplate<String, Object> redisTemplate = redisTemplate(connectionFactory);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        recommendationCardService = new RecommendationCardService(redisTemplate,
+            recommendationCardJdbcRepository,
+            new RecommendationJdbcRepository(jdbcTemplate, new NamedParameterJdbcTemplate(jdbcTemplate)),
+            new TwoTierCache(redisTemplate, new StringRedisTemplate(connectionFactory),
+                new RedisMessageListenerContainer(), meterRegistry),
+            meterRegistry, CARD_SIZE);
+        for (long userId = 1; userId <= userCount; userId++) {
+            recommendationCardService.refresh(userId);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        connectionFactory.destroy();
+        dataSource.close();
+        redis.stop();
+        mysql.stop();
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> view() {
+        return jdbcTemplate.queryForList(SELECT_VIEW, randomUserId(), CARD_SIZE);
+    }
+
+    @Benchmark
+    public List<RecommendationCard> cards() {
+        return recommendationCardService.getCards(randomUserId());
+    }
+
+    @Benchmark
+    public List<RecommendationCard> rebuild() {
+        return recommendationCardJdbcRepository.findCards(randomUserId(), CARD_SIZE);
+    }
+
+    private long randomUserId() {
+        return 1 + ThreadLocalRandom.current().nextInt(userCount);
+    }
+
+    // RedisConfig와 같은 직렬화 (hotpath 기록용 TimedRedisTemplate만 제외)
+    private static RedisTemplate<String, Object> redisTemplate(LettuceConnectionFactory connectionFactory) {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.ANY);
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.activateDefaultTyping(
+            objectMapper.getPolymorphicTypeValidator(),
+            ObjectMapper.DefaultTyping.NON_FINAL
+        );
+        CodecRedisSerializer serializer = new CodecRedisSerializer(List.of(new RecommendationCardsCodec(), new RouteTagNamesCodec()),
+            new GenericJackson2JsonRedisSerializer(objectMapper));
+
+        RedisTemplate<String, Object> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(serializer);
+        template.setDefaultSerializer(serializer);
+        template.afterPropertiesSet();
+        return template;
+    }
+
+    private void seed(Random random) {
+        jdbcTemplate.update("INSERT INTO gyms (gym_id, name) VALUES (1, 'benchmark')");
+
+        List<Object[]> rows = new ArrayList<>();
+        for (int levelId = 1; levelId <= LEVELS; levelId++) {
+            rows.add(new Object[]{levelId, "V" + (levelId - 1)});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO climbing_levels (level_id, level_name) VALUES (?, ?)", rows);
+
+        rows = new ArrayList<>();
+        for (int branchId = 1; branchId <= BRANCHES; branchId++) {
+            rows.add(new Object[]{branchId, "지점 " + branchId});
+        }
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO gym_branches (branch_id, gym_id, branch_name, address) VALUES (?, 1, ?, '-')", rows);
+
+        rows = new ArrayList<>();
+        for (int wallId = 1; wallId <= BRANCHES * WALLS_PER_BRANCH; wallId++) {
+            rows.add(new Object[]{wallId, 1 + (wallId - 1) / WALLS_PER_BRANCH, "벽 " + wallId});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO walls (wall_id, branch_id, wall_name) VALUES (?, ?, ?)", rows);
+
+        // 스키마의 기본 태그와 겹치지 않도록 번호를 붙인 이름
+        rows = new ArrayList<>();
+        for (int i = 1; i <= TAGS; i++) {
+            rows.add(new Object[]{"benchmark-tag-" + i, i});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO tags (tag_name, display_order) VALUES (?, ?)", rows);
+        List<Integer> tagIds = jdbcTemplate.queryForList(
+            "SELECT tag_id FROM tags WHERE tag_name LIKE 'benchmark-tag-%'", Integer.class);
+
+        String[] angles = {"VERTICAL", "SLIGHT_OVERHANG", "OVERHANG", "ROOF"};
+        rows = new ArrayList<>(SEED_BATCH);
+        List<Object[]> routeTags = new ArrayList<>(SEED_BATCH);
+        for (int routeId = 1; routeId <= routeCount; routeId++) {
+            int wallId = 1 + random.nextInt(BRANCHES * WALLS_PER_BRANCH);
+            rows.add(new Object[]{routeId, 1 + (wallId - 1) / WALLS_PER_BRANCH, wallId, "루트 " + routeId,
+                angles[random.nextInt(angles.length)], 1 + random.nextInt(LEVELS), "red"});
+            Set<Integer> tags = new HashSet<>();
+            while (tags.size() < TAGS_PER_ROUTE) {
+                tags.add(tagIds.get(random.nextInt(tagIds.size())));
+            }
+            for (int tagId : tags) {
+                routeTags.add(new Object[]{routeId, tagId});
+            }
+        }
+        batchInsert("INSERT INTO routes (route_id, branch_id, wall_id, name, angle, level_id, color) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)", rows);
+        batchInsert("INSERT INTO route_tags (route_id, tag_id) VALUES (?, ?)", routeTags);
+
+        rows = new ArrayList<>(SEED_BATCH);
+        for (int userId = 1; userId <= userCount; userId++) {
+            rows.add(new Object[]{userId, "user" + userId + "@benchmark.routepick.com", "-"});
+        }
+        batchInsert("INSERT INTO users (user_id, email, password_hash) VALUES (?, ?, ?)", rows);
+
+        rows = new ArrayList<>(SEED_BATCH);
+        for (int userId = 1; userId <= userCount; userId++) {
+            Set<Integer> routeIds = new HashSet<>();
+            while (routeIds.size() < recommendationsPerUser) {
+                routeIds.add(1 + random.nextInt(routeCount));
+            }
+            for (int routeId : routeIds) {
+                BigDecimal tagScore = BigDecimal.valueOf(random.nextInt(10_000), 2);
+                BigDecimal levelScore = BigDecimal.valueOf(random.nextInt(10_000), 2);
+                BigDecimal score = tagScore.multiply(BigDecimal.valueOf(0.7))
+                    .add(levelScore.multiply(BigDecimal.valueOf(0.3))).setScale(2, RoundingMode.HALF_UP);
+                rows.add(new Object[]{userId, routeId, score, tagScore, levelScore});
+            }
+        }
+        batchInsert("INSERT INTO user_route_recommendations " +
+            "(user_id, route_id, recommendation_score, tag_match_score, level_match_score) VALUES (?, ?, ?, ?, ?)", rows);
+    }
+
+    private void batchInsert(String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += SEED_BATCH) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(from + SEED_BATCH, rows.size())));
+        }
+    }
+}
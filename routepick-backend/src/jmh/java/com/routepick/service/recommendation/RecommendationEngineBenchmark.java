@@ -0,0 +1,147 @@
+package com.routepick.service.recommendation;
+
+import com.routepick.benchmark.SecondaryResults;
+import com.routepick.common.enums.TagType;
+import com.routepick.monitoring.HotPathMetrics;
+import com.routepick.service.catalog.RouteCatalog;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자 한 명 추천 계산 (합성 카탈로그)
+ * - score: posting list 병합 + 상위 MAX_RECOMMENDATIONS_PER_USER 힙 (현재 경로)
+ * - scoreEveryRoute: 루트마다 점수를 따로 계산 (프로시저의 루트별 커서와 같은 순회, DB 왕복 제외)
+ * 사용자당 user_route_recommendations 저장 행 수를 보조 지표로 기록 (rowsPerUser.heap: 힙 적용, rowsPerUser.all: 기준 이상 전부)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RecommendationEngineBenchmark {
+
+    private static final int USERS = 256;
+
+    @Param({"10000"})
+    private int routeCount;
+
+    @Param({"200"})
+    private int tagCount;
+
+    private RecommendationEngine engine;
+    private RouteCatalog catalog;
+    private UserPreference[] users;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        catalog = generateCatalog(random, routeCount, tagCount);
+        users = new UserPreference[USERS];
+        for (int i = 0; i < USERS; i++) {
+            users[i] = generateUser(random, i + 1, tagCount, routeCount);
+        }
+        engine = new RecommendationEngine(new HotPathMetrics(new SimpleMeterRegistry(), false, 10, 60_000), 0.2);
+
+        long bounded = 0;
+        long unbounded = 0;
+        for (UserPreference user : users) {
+            bounded += engine.score(catalog, user).size();
+            unbounded += scoreEveryRoute(user);
+        }
+        SecondaryResults.record("rowsPerUser.heap", (double) bounded / USERS, "rows");
+        SecondaryResults.record("rowsPerUser.all", (double) unbounded / USERS, "rows");
+    }
+
+    @Benchmark
+    public RecommendationResult score() {
+        return engine.score(catalog, nextUser());
+    }
+
+    @Benchmark
+    public int scoreEveryRoute() {
+        return scoreEveryRoute(nextUser());
+    }
+
+    private int scoreEveryRoute(UserPreference user) {
+        int qualified = 0;
+        for (int i = 0; i < catalog.size(); i++) {
+            qualified += engine.scoreRoute(catalog, user, i).size();
+        }
+        return qualified;
+    }
+
+    // 단일 스레드 측정이라 경합 없음
+    private UserPreference nextUser() {
+        UserPreference user = users[next];
+        next = (next + 1) % USERS;
+        return user;
+    }
+
+    // 루트당 태그 1~6개, 레벨 1~20
+    static RouteCatalog generateCatalog(Random random, int routeCount, int tagCount) {
+        int[] routeIds = new int[routeCount];
+        int[] levelIds = new int[routeCount];
+        int[] tagOffsets = new int[routeCount + 1];
+        int[] tagIds = new int[routeCount * 6];
+        float[] relevance = new float[routeCount * 6];
+        int position = 0;
+        for (int i = 0; i < routeCount; i++) {
+            routeIds[i] = i + 1;
+            levelIds[i] = 1 + random.nextInt(20);
+            tagOffsets[i] = position;
+            int tags = 1 + random.nextInt(6);
+            int first = 1 + random.nextInt(tagCount);
+            for (int t = 0; t < tags; t++) {
+                tagIds[position] = 1 + (first + t * 7) % tagCount;
+                relevance[position] = 0.1f + random.nextInt(10) / 10f;
+                position++;
+            }
+        }
+        tagOffsets[routeCount] = position;
+
+        TagType[] tagTypes = new TagType[tagCount + 1];
+        TagType[] values = TagType.values();
+        for (int tagId = 1; tagId <= tagCount; tagId++) {
+            tagTypes[tagId] = values[tagId % values.length];
+        }
+        return new RouteCatalog(routeIds, levelIds, tagOffsets,
+            Arrays.copyOf(tagIds, position), Arrays.copyOf(relevance, position), tagTypes);
+    }
+
+    // 선호 태그 3~8개, 10명 중 1명은 레벨 미설정, 협업 점수 루트 최대 500개 (seed 50 * 유사 루트 상위 일부)
+    static UserPreference generateUser(Random random, long userId, int tagCount, int routeCount) {
+        int tags = 3 + random.nextInt(6);
+        int[] tagIds = new int[tags];
+        float[] weights = new float[tags];
+        String[] levels = {"HIGH", "MEDIUM", "LOW"};
+        for (int t = 0; t < tags; t++) {
+            tagIds[t] = 1 + random.nextInt(tagCount);
+            weights[t] = UserPreference.preferenceWeight(levels[random.nextInt(levels.length)]);
+        }
+        int levelId = random.nextInt(10) == 0 ? UserPreference.NO_LEVEL : 1 + random.nextInt(20);
+        Map<Integer, Double> collaborativeScores = new HashMap<>();
+        for (int i = 0; i < 500; i++) {
+            collaborativeScores.put(1 + random.nextInt(routeCount), 1 + random.nextInt(10_000) / 100.0);
+        }
+        return new UserPreference(userId, tagIds, weights, levelId).withCollaborativeScores(collaborativeScores);
+    }
+}
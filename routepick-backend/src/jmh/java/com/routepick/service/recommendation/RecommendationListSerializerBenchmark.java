@@ -0,0 +1,114 @@
+package com.routepick.service.recommendation;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.routepick.benchmark.SecondaryResults;
+import com.routepick.common.redis.CodecRedisSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * user:recommendations: 값 직렬화 (100건 RecommendationList)
+ * codec: RedisConfig의 CodecRedisSerializer, json: 이전 GenericJackson2JsonRedisSerializer
+ * 항목 크기를 보조 지표로 기록 (bytes.codec, bytes.json)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RecommendationListSerializerBenchmark {
+
+    // 최대 route_id (자릿수가 JSON 크기와 route_id 증감분 varint 길이를 좌우)
+    @Param({"10000", "200000"})
+    private int maxRouteId;
+
+    private RedisSerializer<Object> codec;
+    private RedisSerializer<Object> json;
+    private RecommendationList list;
+    private byte[] codecBytes;
+    private byte[] jsonBytes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        json = new GenericJackson2JsonRedisSerializer(redisObjectMapper());
+        codec = new CodecRedisSerializer(List.of(new RecommendationListCodec()), json);
+        list = generateList(new Random(42), maxRouteId);
+        codecBytes = codec.serialize(list);
+        jsonBytes = json.serialize(list);
+        SecondaryResults.record("bytes.codec", codecBytes.length, "bytes");
+        SecondaryResults.record("bytes.json", jsonBytes.length, "bytes");
+    }
+
+    @Benchmark
+    public byte[] serializeCodec() {
+        return codec.serialize(list);
+    }
+
+    @Benchmark
+    public byte[] serializeJson() {
+        return json.serialize(list);
+    }
+
+    @Benchmark
+    public Object deserializeCodec() {
+        return codec.deserialize(codecBytes);
+    }
+
+    @Benchmark
+    public Object deserializeJson() {
+        return json.deserialize(jsonBytes);
+    }
+
+    // RedisConfig와 같은 설정
+    private static ObjectMapper redisObjectMapper() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.ANY);
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.activateDefaultTyping(
+            objectMapper.getPolymorphicTypeValidator(),
+            ObjectMapper.DefaultTyping.NON_FINAL
+        );
+        return objectMapper;
+    }
+
+    // 점수 내림차순, 소수 둘째 자리 (user_route_recommendations.recommendation_score와 같은 정밀도)
+    private static RecommendationList generateList(Random random, int maxRouteId) {
+        int size = 100;
+        int[] routeIds = new int[size];
+        float[] scores = new float[size];
+        Set<Integer> used = new HashSet<>();
+        double score = 95 + random.nextDouble() * 5;
+        for (int i = 0; i < size; i++) {
+            int routeId;
+            do {
+                routeId = 1 + random.nextInt(maxRouteId);
+            } while (!used.add(routeId));
+            routeIds[i] = routeId;
+            score -= random.nextDouble() * 0.7;
+            scores[i] = (float) (Math.round(score * 100) / 100.0);
+        }
+        return new RecommendationList(123456, routeIds, scores);
+    }
+}
@@ -0,0 +1,136 @@
+package com.routepick.service.search;
+
+import com.routepick.common.enums.TagType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 루트 facet 검색 지연 (합성 루트 routeCount건, 지점 300, 태그 200, 루트당 태그 1~5개)
+ * - mixed: 필드 조합을 무작위로 섞은 질의 QUERIES개를 돌아가며 실행
+ * - activeOnly: 기본 조건(ACTIVE)만, 거의 모든 루트가 결과에 들어 facet 집계가 가장 큰 경우
+ * - upsert: 루트 한 건 변경 반영 (태그 교체 포함)
+ * 결과의 p0.99가 목표 지표 (1ms 미만)
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RouteSearchIndexBenchmark {
+
+    static final int BRANCHES = 300;
+    static final int LEVELS = 25;
+    static final int TAGS = 200;
+    static final String[] ANGLES = {"VERTICAL", "SLIGHT_OVERHANG", "OVERHANG", "ROOF"};
+    static final String[] COLORS = {"red", "orange", "yellow", "green", "blue", "navy", "purple", "black", "white", "pink"};
+    private static final int QUERIES = 1024;
+
+    @Param({"100000"})
+    private int routeCount;
+
+    private RouteSearchIndex index;
+    private RouteSearchQuery[] queries;
+    private RouteSearchQuery activeOnly;
+    private Random updateRandom;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        index = generateIndex(random, routeCount);
+        queries = new RouteSearchQuery[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            queries[i] = generateQuery(random);
+        }
+        activeOnly = new RouteSearchQuery();
+        updateRandom = new Random(7);
+    }
+
+    @Benchmark
+    public RouteSearchResult mixed() {
+        return index.search(queries[ThreadLocalRandom.current().nextInt(QUERIES)]);
+    }
+
+    @Benchmark
+    public RouteSearchResult activeOnly() {
+        return index.search(activeOnly);
+    }
+
+    @Benchmark
+    public void upsert() {
+        index.upsert(generateRoute(updateRandom, 1 + updateRandom.nextInt(routeCount)));
+    }
+
+    static RouteSearchIndex generateIndex(Random random, int routeCount) {
+        TagType[] types = TagType.values();
+        TagType[] tagTypeById = new TagType[TAGS + 1];
+        for (int tagId = 1; tagId <= TAGS; tagId++) {
+            tagTypeById[tagId] = types[tagId % types.length];
+        }
+        RouteSearchIndex index = new RouteSearchIndex(tagTypeById);
+        for (int routeId = 1; routeId <= routeCount; routeId++) {
+            index.upsert(generateRoute(random, routeId));
+        }
+        return index;
+    }
+
+    // 90%는 ACTIVE, 태그는 1~5개
+    static RouteDocument generateRoute(Random random, int routeId) {
+        int tagCount = 1 + random.nextInt(5);
+        Set<Integer> tags = new HashSet<>();
+        while (tags.size() < tagCount) {
+            tags.add(1 + random.nextInt(TAGS));
+        }
+        int roll = random.nextInt(10);
+        String status = roll < 9 ? "ACTIVE" : (roll == 9 && random.nextBoolean() ? "EXPIRED" : "REMOVED");
+        return new RouteDocument(routeId, 1 + random.nextInt(BRANCHES), 1 + random.nextInt(LEVELS),
+            ANGLES[random.nextInt(ANGLES.length)], COLORS[random.nextInt(COLORS.length)], status,
+            tags.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    // 필드마다 독립적으로 조건을 걸지 정함 (조건 없는 필드가 많을수록 결과와 facet 집계가 커짐)
+    static RouteSearchQuery generateQuery(Random random) {
+        RouteSearchQuery query = new RouteSearchQuery();
+        if (random.nextInt(2) == 0) {
+            int count = 1 + random.nextInt(3);
+            while (query.getBranchIds().size() < count) {
+                query.getBranchIds().add(1 + random.nextInt(BRANCHES));
+            }
+        }
+        if (random.nextInt(2) == 0) {
+            int min = 1 + random.nextInt(LEVELS);
+            query.setMinLevelId(min);
+            query.setMaxLevelId(Math.min(LEVELS, min + random.nextInt(6)));
+        }
+        if (random.nextInt(3) == 0) {
+            query.getAngles().add(ANGLES[random.nextInt(ANGLES.length)]);
+        }
+        if (random.nextInt(4) == 0) {
+            query.getColors().add(COLORS[random.nextInt(COLORS.length)]);
+        }
+        if (random.nextInt(4) == 0) {
+            query.getTagTypes().add(TagType.values()[random.nextInt(TagType.values().length)]);
+        }
+        if (random.nextInt(4) == 0) {
+            query.getTagIds().add(1 + random.nextInt(TAGS));
+        }
+        query.setPage(random.nextInt(3));
+        return query;
+    }
+}
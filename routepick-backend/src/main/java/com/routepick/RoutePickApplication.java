@@ -2,17 +2,23 @@ package com.routepick;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableJpaAuditing
 @EnableCaching
 @EnableAsync
+@EnableScheduling
 public class RoutePickApplication {
 
     public static void main(String[] args) {
-        SpringApplication.run(RoutePickApplication.class, args);
+        SpringApplication application = new SpringApplication(RoutePickApplication.class);
+        // 기동 단계별 소요 시간을 /actuator/startup 으로 확인
+        application.setApplicationStartup(new BufferingApplicationStartup(2048));
+        application.run(args);
     }
 }
\ No newline at end of file
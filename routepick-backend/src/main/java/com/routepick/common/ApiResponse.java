@@ -7,6 +7,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
@@ -19,28 +20,33 @@ public class ApiResponse<T> {
     private T data;
     private String errorCode;
     private LocalDateTime timestamp;
+    private String nextCursor;
 
     public static <T> ApiResponse<T> success(T data) {
-        return new ApiResponse<>(true, "Success", data, null, LocalDateTime.now());
+        return new ApiResponse<>(true, "Success", data, null, LocalDateTime.now(), null);
     }
 
     public static <T> ApiResponse<T> success(String message, T data) {
-        return new ApiResponse<>(true, message, data, null, LocalDateTime.now());
+        return new ApiResponse<>(true, message, data, null, LocalDateTime.now(), null);
     }
 
     public static <T> ApiResponse<T> success(String message) {
-        return new ApiResponse<>(true, message, null, null, LocalDateTime.now());
+        return new ApiResponse<>(true, message, null, null, LocalDateTime.now(), null);
+    }
+
+    public static <T> ApiResponse<List<T>> success(KeysetSlice<T> slice) {
+        return new ApiResponse<>(true, "Success", slice.getContent(), null, LocalDateTime.now(), slice.getNextCursor());
     }
 
     public static <T> ApiResponse<T> error(String message) {
-        return new ApiResponse<>(false, message, null, null, LocalDateTime.now());
+        return new ApiResponse<>(false, message, null, null, LocalDateTime.now(), null);
     }
 
     public static <T> ApiResponse<T> error(String message, String errorCode) {
-        return new ApiResponse<>(false, message, null, errorCode, LocalDateTime.now());
+        return new ApiResponse<>(false, message, null, errorCode, LocalDateTime.now(), null);
     }
 
     public static <T> ApiResponse<T> error(String message, String errorCode, T data) {
-        return new ApiResponse<>(false, message, data, errorCode, LocalDateTime.now());
+        return new ApiResponse<>(false, message, data, errorCode, LocalDateTime.now(), null);
     }
 }
\ No newline at end of file
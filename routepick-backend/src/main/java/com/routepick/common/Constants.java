@@ -13,13 +13,41 @@ public final class Constants {
 
     // Cache Keys
     public static final String CACHE_USER_RECOMMENDATIONS = "user:recommendations:";
+    public static final String CACHE_USER_RECOMMENDATION_CARDS = "user:recommendation_cards:";
     public static final String CACHE_ROUTE_TAGS = "route:tags:";
+    public static final String CACHE_ROUTE_TAG_NAMES = "route:tag_names:";
     public static final String CACHE_USER_PROFILE = "user:profile:";
     public static final String CACHE_GYM_BRANCHES = "gym:branches:";
+    public static final String CACHE_TAG_STATISTICS = "tag:statistics:";
+
+    // Token Store
+    public static final String AUTH_REFRESH_TOKEN = "auth:refresh:";
+    public static final String AUTH_REVOKED_TOKEN = "auth:revoked:";
+
+    // Feed
+    public static final String FEED_INBOX = "feed:inbox:";
+    public static final String FEED_OUTBOX = "feed:outbox:";
+
+    // Inbox
+    public static final String INBOX_UNREAD = "inbox:unread:";
+    public static final String INBOX_RECENT = "inbox:recent:";
+
+    // Cache TTL (seconds)
+    public static final long CACHE_TTL_USER_RECOMMENDATIONS = 86400; // 24 hours
+    public static final long CACHE_TTL_USER_RECOMMENDATION_CARDS = 86400; // 24 hours
+    public static final long CACHE_TTL_ROUTE_TAGS = 3600; // 1 hour
+    public static final long CACHE_TTL_ROUTE_TAG_NAMES = 3600; // 1 hour
+    public static final long CACHE_TTL_USER_PROFILE = 1800; // 30 minutes
+    public static final long CACHE_TTL_GYM_BRANCHES = 21600; // 6 hours
+    public static final long CACHE_TTL_TAG_STATISTICS = 7200; // 2 hours
 
     // Rate Limiting
     public static final String RATE_LIMIT_API = "api_rate_limit:";
     public static final String RATE_LIMIT_RECOMMENDATION = "recommendation_rate_limit:";
+    public static final String RATE_LIMIT_AUTH = "auth_rate_limit:";
+    public static final int RATE_LIMIT_REQUESTS_PER_MINUTE = 60;
+    public static final int RATE_LIMIT_REQUESTS_PER_HOUR = 1000;
+    public static final int RATE_LIMIT_LOGIN_ATTEMPTS = 5;
 
     // File Upload
     public static final long MAX_FILE_SIZE = 50 * 1024 * 1024; // 50MB
@@ -34,6 +62,7 @@ public final class Constants {
     public static final double TAG_WEIGHT = 0.7;
     public static final double LEVEL_WEIGHT = 0.3;
     public static final int MIN_RECOMMENDATION_SCORE = 20;
+    public static final int MAX_RECOMMENDATIONS_PER_USER = 100;
 
     // Korean Coordinates (latitude, longitude)
     public static final double KOREA_MIN_LATITUDE = 33.0;
@@ -84,4 +113,9 @@ public final class Constants {
     public static final String WALL_STATUS_ACTIVE = "ACTIVE";
     public static final String WALL_STATUS_INACTIVE = "INACTIVE";
     public static final String WALL_STATUS_MAINTENANCE = "MAINTENANCE";
+
+    // Branch Status
+    public static final String BRANCH_STATUS_ACTIVE = "ACTIVE";
+    public static final String BRANCH_STATUS_INACTIVE = "INACTIVE";
+    public static final String BRANCH_STATUS_CLOSED = "CLOSED";
 }
\ No newline at end of file
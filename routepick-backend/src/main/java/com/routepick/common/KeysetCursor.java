@@ -0,0 +1,83 @@
+package com.routepick.common;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * keyset 페이지 커서 (마지막 행의 정렬 키 + id)
+ * 클라이언트에는 "{정렬 필드}|{방향}|{id 타입}|{id}|{타입}|{값}"를 base64url로 감싼 불투명 문자열로 전달
+ */
+@Getter
+@RequiredArgsConstructor
+public class KeysetCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final String sortProperty;
+    private final boolean descending;
+    private final Comparable<?> sortValue;
+    private final Comparable<?> id;
+
+    public String encode() {
+        // 문자열 정렬 값에 구분자가 있어도 되도록 값을 마지막에 둠
+        String raw = sortProperty + SEPARATOR + (descending ? "D" : "A")
+            + SEPARATOR + typeOf(id) + SEPARATOR + id
+            + SEPARATOR + typeOf(sortValue) + SEPARATOR + sortValue;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 6);
+            if (parts.length != 6) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new KeysetCursor(parts[0], "D".equals(parts[1]),
+                parse(parts[4], parts[5]), parse(parts[2], parts[3]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+
+    private static String typeOf(Comparable<?> value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Cursor values must not be null");
+        }
+        if (value instanceof LocalDateTime) {
+            return "T";
+        }
+        if (value instanceof Long) {
+            return "L";
+        }
+        if (value instanceof Integer) {
+            return "I";
+        }
+        if (value instanceof String) {
+            return "S";
+        }
+        throw new IllegalArgumentException("Unsupported cursor value type: " + value.getClass().getName());
+    }
+
+    private static Comparable<?> parse(String type, String value) {
+        switch (type) {
+            case "T":
+                return LocalDateTime.parse(value);
+            case "L":
+                return Long.valueOf(value);
+            case "I":
+                return Integer.valueOf(value);
+            case "S":
+                return value;
+            default:
+                throw new IllegalArgumentException("Unsupported cursor value type: " + type);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.routepick.common;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * keyset 페이지 결과 (nextCursor가 null이면 마지막 페이지)
+ */
+@Getter
+@RequiredArgsConstructor
+public class KeysetSlice<T> {
+
+    private final List<T> content;
+    private final String nextCursor;
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
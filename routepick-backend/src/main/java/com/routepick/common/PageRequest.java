@@ -9,6 +9,8 @@ import lombok.Setter;
 @Schema(description = "페이지 요청 정보")
 public class PageRequest {
 
+    private static final String DEFAULT_SORT_PROPERTY = "createdAt";
+
     @Schema(description = "페이지 번호 (0부터 시작)", example = "0", defaultValue = "0")
     private int page = 0;
 
@@ -18,6 +20,9 @@ public class PageRequest {
     @Schema(description = "정렬 기준", example = "createdAt,desc")
     private String sort;
 
+    @Schema(description = "keyset 커서 (이전 응답의 nextCursor, 첫 페이지는 비움)")
+    private String cursor;
+
     public org.springframework.data.domain.PageRequest toPageable() {
         if (size > Constants.MAX_PAGE_SIZE) {
             size = Constants.MAX_PAGE_SIZE;
@@ -40,4 +45,29 @@ public class PageRequest {
             org.springframework.data.domain.Sort.by(direction, property)
         );
     }
+
+    /**
+     * keyset 모드 정렬 필드 (기본 createdAt)
+     */
+    public String getSortProperty() {
+        if (sort == null || sort.isEmpty()) {
+            return DEFAULT_SORT_PROPERTY;
+        }
+        return sort.split(",")[0];
+    }
+
+    /**
+     * keyset 모드 정렬 방향 (정렬 미지정 시 기본 createdAt,desc)
+     */
+    public boolean isDescending() {
+        if (sort == null || sort.isEmpty()) {
+            return true;
+        }
+        String[] sortParams = sort.split(",");
+        return sortParams.length > 1 && "desc".equalsIgnoreCase(sortParams[1]);
+    }
+
+    public int getLimitedSize() {
+        return Math.min(Math.max(size, 1), Constants.MAX_PAGE_SIZE);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,59 @@
+package com.routepick.common.cache;
+
+import com.routepick.common.Constants;
+
+/**
+ * 2단계 캐시 네임스페이스 (Redis 키 접두사 / TTL / 로컬 최대 항목 수)
+ * 로컬 TTL은 Redis TTL의 1/6 (pub/sub 메시지 유실 시 오래된 값이 남는 상한)
+ */
+public enum CacheNamespace {
+    USER_PROFILE(Constants.CACHE_USER_PROFILE, Constants.CACHE_TTL_USER_PROFILE, 10_000),
+    ROUTE_TAGS(Constants.CACHE_ROUTE_TAGS, Constants.CACHE_TTL_ROUTE_TAGS, 20_000),
+    ROUTE_TAG_NAMES(Constants.CACHE_ROUTE_TAG_NAMES, Constants.CACHE_TTL_ROUTE_TAG_NAMES, 20_000),
+    GYM_BRANCHES(Constants.CACHE_GYM_BRANCHES, Constants.CACHE_TTL_GYM_BRANCHES, 2_000),
+    TAG_STATISTICS(Constants.CACHE_TAG_STATISTICS, Constants.CACHE_TTL_TAG_STATISTICS, 100);
+
+    private static final int NEAR_TTL_DIVISOR = 6;
+
+    private final String prefix;
+    private final long ttlSeconds;
+    private final long nearMaximumSize;
+
+    CacheNamespace(String prefix, long ttlSeconds, long nearMaximumSize) {
+        this.prefix = prefix;
+        this.ttlSeconds = ttlSeconds;
+        this.nearMaximumSize = nearMaximumSize;
+    }
+
+    public String key(String id) {
+        return prefix + id;
+    }
+
+    public String getPrefix() {
+        return prefix;
+    }
+
+    public long getTtlSeconds() {
+        return ttlSeconds;
+    }
+
+    public long getNearTtlSeconds() {
+        return Math.max(1, ttlSeconds / NEAR_TTL_DIVISOR);
+    }
+
+    public long getNearMaximumSize() {
+        return nearMaximumSize;
+    }
+
+    /**
+     * Redis 키로 네임스페이스 조회 (해당 없으면 null)
+     */
+    public static CacheNamespace ofKey(String key) {
+        for (CacheNamespace namespace : values()) {
+            if (key.startsWith(namespace.prefix)) {
+                return namespace;
+            }
+        }
+        return null;
+    }
+}
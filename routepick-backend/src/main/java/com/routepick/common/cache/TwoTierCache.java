@@ -0,0 +1,290 @@
+package com.routepick.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * JVM 로컬(Caffeine) + Redis 2단계 캐시
+ * 값 변경/삭제 시 Redis pub/sub으로 다른 노드의 로컬 캐시를 무효화
+ * 로컬 캐시는 객체를 그대로 보관하므로 캐시 값은 변경하지 않는 객체만 사용
+ * 조회/적재 중 무효화가 들어오면 그 결과는 로컬 캐시에 남기지 않음 (키 해시별 무효화 세대 비교)
+ */
+@Slf4j
+@Component
+public class TwoTierCache implements MessageListener {
+
+    private static final String INVALIDATION_CHANNEL = "cache:invalidate";
+    private static final char MESSAGE_SEPARATOR = '|';
+    private static final int EPOCH_STRIPES = 1024;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    // 자신이 보낸 무효화 메시지는 무시
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final Map<CacheNamespace, Cache<String, Object>> nearCaches = new EnumMap<>(CacheNamespace.class);
+    private final Map<CacheNamespace, TierCounters> nearCounters = new EnumMap<>(CacheNamespace.class);
+    private final Map<CacheNamespace, TierCounters> redisCounters = new EnumMap<>(CacheNamespace.class);
+
+    // 무효화마다 키가 속한 칸의 세대 증가 (다른 키와 칸을 공유하면 로컬 저장을 한 번 더 건너뛸 뿐)
+    private final AtomicLongArray invalidationEpochs = new AtomicLongArray(EPOCH_STRIPES);
+
+    public TwoTierCache(RedisTemplate<String, Object> redisTemplate,
+                        StringRedisTemplate stringRedisTemplate,
+                        RedisMessageListenerContainer listenerContainer,
+                        MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+
+        for (CacheNamespace namespace : CacheNamespace.values()) {
+            nearCaches.put(namespace, Caffeine.newBuilder()
+                .maximumSize(namespace.getNearMaximumSize())
+                .expireAfterWrite(Duration.ofSeconds(namespace.getNearTtlSeconds()))
+                .build());
+            nearCounters.put(namespace, new TierCounters(meterRegistry, namespace, "near"));
+            redisCounters.put(namespace, new TierCounters(meterRegistry, namespace, "redis"));
+            meterRegistry.gaugeMapSize("cache.two_tier.near.size",
+                Tags.of("cache", namespace.name()),
+                nearCaches.get(namespace).asMap());
+        }
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    public <T> T get(CacheNamespace namespace, String id, Class<T> type) {
+        String key = namespace.key(id);
+        return get(namespace, key, type, invalidationEpochs.get(stripe(key)));
+    }
+
+    private <T> T get(CacheNamespace namespace, String key, Class<T> type, long epoch) {
+        Cache<String, Object> nearCache = nearCaches.get(namespace);
+
+        Object value = nearCache.getIfPresent(key);
+        if (value != null) {
+            nearCounters.get(namespace).hit.increment();
+            return type.cast(value);
+        }
+        nearCounters.get(namespace).miss.increment();
+
+        value = redisTemplate.opsForValue().get(key);
+        if (value == null) {
+            redisCounters.get(namespace).miss.increment();
+            return null;
+        }
+        redisCounters.get(namespace).hit.increment();
+        if (!type.isInstance(value)) {
+            log.warn("Unexpected cached type for {}: {}", key, value.getClass().getName());
+            return null;
+        }
+        putNear(namespace, key, value, epoch);
+        return type.cast(value);
+    }
+
+    /**
+     * 두 단계 모두 없으면 loader로 적재 후 저장 (loader가 null이면 저장하지 않음)
+     */
+    public <T> T get(CacheNamespace namespace, String id, Class<T> type, Supplier<T> loader) {
+        String key = namespace.key(id);
+        long epoch = invalidationEpochs.get(stripe(key));
+        T value = get(namespace, key, type, epoch);
+        if (value != null) {
+            return value;
+        }
+        value = loader.get();
+        // 적재 중 무효화됐으면 적재 값이 이미 오래됐을 수 있으므로 어느 단계에도 저장하지 않음
+        if (value != null && invalidationEpochs.get(stripe(key)) == epoch) {
+            redisTemplate.opsForValue().setIfAbsent(key, value, namespace.getTtlSeconds(), TimeUnit.SECONDS);
+            putNear(namespace, key, value, epoch);
+        }
+        return value;
+    }
+
+    /**
+     * 여러 id 한 번에 조회: 로컬에 없는 키는 Redis MGET 한 번, 그래도 없는 id만 loader로 한 번에 적재 후 저장
+     * 결과에는 값이 있는 id만 담김 (loader가 돌려주지 않은 id는 저장하지 않음)
+     */
+    public <T> Map<String, T> getAll(CacheNamespace namespace, Collection<String> ids, Class<T> type,
+                                     Function<List<String>, Map<String, T>> loader) {
+        Cache<String, Object> nearCache = nearCaches.get(namespace);
+        Map<String, T> result = new HashMap<>();
+        List<String> missedIds = new ArrayList<>();
+        List<String> missedKeys = new ArrayList<>();
+        long[] epochs = new long[ids.size()];
+        for (String id : ids) {
+            String key = namespace.key(id);
+            long epoch = invalidationEpochs.get(stripe(key));
+            Object value = nearCache.getIfPresent(key);
+            if (value != null) {
+                nearCounters.get(namespace).hit.increment();
+                result.put(id, type.cast(value));
+                continue;
+            }
+            nearCounters.get(namespace).miss.increment();
+            epochs[missedIds.size()] = epoch;
+            missedIds.add(id);
+            missedKeys.add(key);
+        }
+        if (missedIds.isEmpty()) {
+            return result;
+        }
+
+        List<Object> values = redisTemplate.opsForValue().multiGet(missedKeys);
+        List<Integer> unloaded = new ArrayList<>();
+        for (int i = 0; i < missedIds.size(); i++) {
+            Object value = values == null ? null : values.get(i);
+            if (value == null) {
+                redisCounters.get(namespace).miss.increment();
+                unloaded.add(i);
+                continue;
+            }
+            redisCounters.get(namespace).hit.increment();
+            if (!type.isInstance(value)) {
+                log.warn("Unexpected cached type for {}: {}", missedKeys.get(i), value.getClass().getName());
+                unloaded.add(i);
+                continue;
+            }
+            putNear(namespace, missedKeys.get(i), value, epochs[i]);
+            result.put(missedIds.get(i), type.cast(value));
+        }
+        if (unloaded.isEmpty()) {
+            return result;
+        }
+
+        List<String> loadIds = new ArrayList<>(unloaded.size());
+        for (int i : unloaded) {
+            loadIds.add(missedIds.get(i));
+        }
+        Map<String, T> loaded = loader.apply(loadIds);
+        Map<String, Object> fills = new HashMap<>();
+        for (int i : unloaded) {
+            T value = loaded.get(missedIds.get(i));
+            if (value == null) {
+                continue;
+            }
+            result.put(missedIds.get(i), value);
+            // 적재 중 무효화된 키는 get과 같이 어느 단계에도 저장하지 않음
+            if (invalidationEpochs.get(stripe(missedKeys.get(i))) == epochs[i]) {
+                fills.put(missedKeys.get(i), value);
+                putNear(namespace, missedKeys.get(i), value, epochs[i]);
+            }
+        }
+        if (!fills.isEmpty()) {
+            fillRedis(fills, namespace.getTtlSeconds());
+        }
+        return result;
+    }
+
+    // SET NX를 파이프라인으로 (왕복 한 번)
+    private void fillRedis(Map<String, Object> values, long ttlSeconds) {
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> redis = (RedisOperations<String, Object>) operations;
+                for (Map.Entry<String, Object> entry : values.entrySet()) {
+                    redis.opsForValue().setIfAbsent(entry.getKey(), entry.getValue(), ttlSeconds, TimeUnit.SECONDS);
+                }
+                return null;
+            }
+        });
+    }
+
+    public void put(CacheNamespace namespace, String id, Object value) {
+        String key = namespace.key(id);
+        redisTemplate.opsForValue().set(key, value, namespace.getTtlSeconds(), TimeUnit.SECONDS);
+        // 이 노드에서 진행 중인 이전 값 적재가 새 값을 덮지 않도록 세대를 먼저 올림
+        long epoch = invalidationEpochs.incrementAndGet(stripe(key));
+        putNear(namespace, key, value, epoch);
+        publishInvalidation(key);
+    }
+
+    public void evict(CacheNamespace namespace, String id) {
+        String key = namespace.key(id);
+        redisTemplate.delete(key);
+        invalidateNear(namespace, key);
+        publishInvalidation(key);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(MESSAGE_SEPARATOR);
+        if (separator < 0 || body.startsWith(nodeId + MESSAGE_SEPARATOR)) {
+            return;
+        }
+        String key = body.substring(separator + 1);
+        CacheNamespace namespace = CacheNamespace.ofKey(key);
+        if (namespace != null) {
+            invalidateNear(namespace, key);
+        }
+    }
+
+    // 세대를 먼저 올려야 이후 putNear의 재확인에서 무효화가 보임
+    private void invalidateNear(CacheNamespace namespace, String key) {
+        invalidationEpochs.incrementAndGet(stripe(key));
+        nearCaches.get(namespace).invalidate(key);
+    }
+
+    // 넣은 뒤 세대를 다시 확인해 그 사이 무효화됐으면 지움 (확인과 저장 사이의 경합 포함)
+    private void putNear(CacheNamespace namespace, String key, Object value, long epoch) {
+        Cache<String, Object> nearCache = nearCaches.get(namespace);
+        nearCache.put(key, value);
+        if (invalidationEpochs.get(stripe(key)) != epoch) {
+            nearCache.invalidate(key);
+        }
+    }
+
+    private static int stripe(String key) {
+        int h = key.hashCode();
+        return (h ^ (h >>> 16)) & (EPOCH_STRIPES - 1);
+    }
+
+    private void publishInvalidation(String key) {
+        try {
+            stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, nodeId + MESSAGE_SEPARATOR + key);
+        } catch (RuntimeException e) {
+            // 전파 실패 시 다른 노드는 로컬 TTL 만료까지 이전 값을 볼 수 있음
+            log.warn("Failed to publish cache invalidation for {}", key, e);
+        }
+    }
+
+    private static final class TierCounters {
+
+        private final Counter hit;
+        private final Counter miss;
+
+        TierCounters(MeterRegistry meterRegistry, CacheNamespace namespace, String tier) {
+            this.hit = meterRegistry.counter("cache.two_tier.gets",
+                "cache", namespace.name(), "tier", tier, "result", "hit");
+            this.miss = meterRegistry.counter("cache.two_tier.gets",
+                "cache", namespace.name(), "tier", tier, "result", "miss");
+        }
+    }
+}
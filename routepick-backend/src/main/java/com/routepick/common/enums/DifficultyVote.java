@@ -0,0 +1,40 @@
+package com.routepick.common.enums;
+
+/**
+ * 체감 난이도 투표 (route_difficulty_votes.difficulty_level)
+ * score는 세터 레벨 대비 체감 정도 (집계 평균/분산 계산용)
+ */
+public enum DifficultyVote {
+    EASY(-1, "쉬움"),
+    MEDIUM(0, "적정"),
+    HARD(1, "어려움");
+
+    private final int score;
+    private final String displayName;
+
+    DifficultyVote(int score, String displayName) {
+        this.score = score;
+        this.displayName = displayName;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * 평균 점수에 가장 가까운 투표 값
+     */
+    public static DifficultyVote nearest(double score) {
+        DifficultyVote nearest = MEDIUM;
+        for (DifficultyVote vote : values()) {
+            if (Math.abs(vote.score - score) < Math.abs(nearest.score - score)) {
+                nearest = vote;
+            }
+        }
+        return nearest;
+    }
+}
@@ -0,0 +1,24 @@
+package com.routepick.common.enums;
+
+/**
+ * 알림 유형 (notifications.type)
+ */
+public enum NotificationType {
+    SYSTEM("시스템"),
+    COMMENT("댓글"),
+    LIKE("좋아요"),
+    FOLLOW("팔로우"),
+    CLIMB("완등"),
+    ROUTE_UPDATE("루트 업데이트"),
+    PAYMENT("결제");
+
+    private final String displayName;
+
+    NotificationType(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
@@ -0,0 +1,46 @@
+package com.routepick.common.enums;
+
+import java.util.Locale;
+
+/**
+ * 결제 상태 (payment_records.payment_status)
+ */
+public enum PaymentStatus {
+    PENDING("대기"),
+    COMPLETED("완료"),
+    FAILED("실패"),
+    CANCELLED("취소"),
+    REFUNDED("환불");
+
+    private static final String WEBHOOK_EVENT_PREFIX = "PAYMENT_";
+
+    private final String displayName;
+
+    PaymentStatus(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * 웹훅 이벤트 유형에 대응하는 상태 ("payment.completed", "PAYMENT_COMPLETED" 등, 상태 변경이 아니면 null)
+     */
+    public static PaymentStatus fromWebhookEventType(String eventType) {
+        if (eventType == null) {
+            return null;
+        }
+        String normalized = eventType.trim().toUpperCase(Locale.ROOT).replace('.', '_');
+        if (!normalized.startsWith(WEBHOOK_EVENT_PREFIX)) {
+            return null;
+        }
+        String status = normalized.substring(WEBHOOK_EVENT_PREFIX.length());
+        for (PaymentStatus value : values()) {
+            if (value.name().equals(status)) {
+                return value;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,114 @@
+package com.routepick.common.querydsl;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpression;
+import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.routepick.common.KeysetCursor;
+import com.routepick.common.KeysetSlice;
+import com.routepick.common.PageRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * keyset(seek) 페이지 조회
+ * OFFSET 대신 "(정렬 키, id) < 커서" 조건으로 이어서 읽으므로 깊은 페이지도 첫 페이지와 같은 비용
+ * InnoDB 보조 인덱스에는 PK가 붙어 있어 (created_at) 인덱스만으로 (created_at, id) 순서를 만족
+ * NULL은 seek 조건에서 비교되지 않으므로 정렬 필드는 NOT NULL + 인덱스가 있는 필드로 호출자가 제한
+ */
+@Component
+@RequiredArgsConstructor
+public class KeysetPaginator {
+
+    private final JPAQueryFactory jpaQueryFactory;
+
+    /**
+     * @param entityType 조회할 엔티티
+     * @param idProperty         동률 정렬용 식별자 필드 (예: postId)
+     * @param sortableProperties 허용할 정렬 필드 (NOT NULL + 인덱스, 그 외 정렬 요청은 400)
+     * @param filter             추가 조건 (없으면 null)
+     * @param request            size / sort / cursor (정렬 미지정 시 createdAt,desc)
+     */
+    @SuppressWarnings("rawtypes")
+    public <T> KeysetSlice<T> fetch(Class<T> entityType, String idProperty, Set<String> sortableProperties,
+                                    Predicate filter, PageRequest request) {
+        String sortProperty = request.getSortProperty();
+        boolean descending = request.isDescending();
+        if (!sortableProperties.contains(sortProperty)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unsupported sort: " + request.getSort());
+        }
+        KeysetCursor cursor = decodeCursor(request.getCursor());
+        if (cursor != null && (!cursor.getSortProperty().equals(sortProperty) || cursor.isDescending() != descending)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Cursor does not match sort: " + request.getSort());
+        }
+
+        PathBuilder<T> root = new PathBuilder<>(entityType, StringUtils.uncapitalize(entityType.getSimpleName()));
+        ComparableExpression<Comparable> sortPath = root.getComparable(sortProperty, Comparable.class);
+        ComparableExpression<Comparable> idPath = root.getComparable(idProperty, Comparable.class);
+
+        BooleanBuilder where = new BooleanBuilder(filter);
+        if (cursor != null) {
+            where.and(seek(sortPath, idPath, cursor, descending));
+        }
+        Order order = descending ? Order.DESC : Order.ASC;
+        int size = request.getLimitedSize();
+
+        // 다음 페이지 유무 확인용으로 한 건 더 조회
+        List<T> rows = jpaQueryFactory.selectFrom(root)
+            .where(where)
+            .orderBy(new OrderSpecifier<>(order, sortPath), new OrderSpecifier<>(order, idPath))
+            .limit(size + 1L)
+            .fetch();
+        if (rows.size() <= size) {
+            return new KeysetSlice<>(rows, null);
+        }
+
+        List<T> content = rows.subList(0, size);
+        BeanWrapper last = PropertyAccessorFactory.forBeanPropertyAccess(content.get(size - 1));
+        Object sortValue = last.getPropertyValue(sortProperty);
+        if (sortValue == null) {
+            // 허용 목록에 NULL 가능 필드가 들어간 설정 오류
+            throw new IllegalStateException(entityType.getSimpleName() + "." + sortProperty
+                + " is null and cannot be used as a keyset sort property");
+        }
+        KeysetCursor next = new KeysetCursor(sortProperty, descending,
+            (Comparable<?>) sortValue, (Comparable<?>) last.getPropertyValue(idProperty));
+        return new KeysetSlice<>(content, next.encode());
+    }
+
+    private static KeysetCursor decodeCursor(String cursor) {
+        try {
+            return KeysetCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor", e);
+        }
+    }
+
+    /**
+     * 내림차순: sort < v OR (sort = v AND id < lastId), 오름차순은 부등호 반대
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static BooleanExpression seek(ComparableExpression<Comparable> sortPath,
+                                          ComparableExpression<Comparable> idPath,
+                                          KeysetCursor cursor,
+                                          boolean descending) {
+        Comparable sortValue = cursor.getSortValue();
+        Comparable id = cursor.getId();
+        if (descending) {
+            return sortPath.lt(sortValue).or(sortPath.eq(sortValue).and(idPath.lt(id)));
+        }
+        return sortPath.gt(sortValue).or(sortPath.eq(sortValue).and(idPath.gt(id)));
+    }
+}
@@ -0,0 +1,79 @@
+package com.routepick.common.redis;
+
+import com.routepick.util.ByteArrayReader;
+import com.routepick.util.ByteArrayWriter;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 코덱이 등록된 타입은 [MAGIC][typeId][version] 헤더 + 바이너리로, 나머지는 기존 JSON 직렬화로 저장
+ * MAGIC(0xB1)은 UTF-8 JSON의 첫 바이트가 될 수 없으므로 기존 JSON 항목도 그대로 읽힘
+ */
+public class CodecRedisSerializer implements RedisSerializer<Object> {
+
+    static final int MAGIC = 0xB1;
+    private static final int HEADER_SIZE = 3;
+
+    private final Map<Class<?>, RedisValueCodec<?>> codecsByType = new HashMap<>();
+    private final RedisValueCodec<?>[] codecsById = new RedisValueCodec<?>[256];
+    private final RedisSerializer<Object> fallback;
+
+    public CodecRedisSerializer(List<RedisValueCodec<?>> codecs, RedisSerializer<Object> fallback) {
+        for (RedisValueCodec<?> codec : codecs) {
+            if (codec.typeId() < 0 || codec.typeId() > 255 || codecsById[codec.typeId()] != null) {
+                throw new IllegalArgumentException("Duplicate or invalid codec type id: " + codec.typeId());
+            }
+            codecsById[codec.typeId()] = codec;
+            codecsByType.put(codec.type(), codec);
+        }
+        this.fallback = fallback;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+        RedisValueCodec<Object> codec = (RedisValueCodec<Object>) codecsByType.get(value.getClass());
+        if (codec == null) {
+            return fallback.serialize(value);
+        }
+        ByteArrayWriter writer = new ByteArrayWriter(64)
+            .writeByte(MAGIC)
+            .writeByte(codec.typeId())
+            .writeByte(codec.version());
+        codec.encode(value, writer);
+        return writer.toByteArray();
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if ((bytes[0] & 0xFF) != MAGIC) {
+            return fallback.deserialize(bytes);
+        }
+        if (bytes.length < HEADER_SIZE) {
+            throw new SerializationException("Truncated codec header");
+        }
+        RedisValueCodec<?> codec = codecsById[bytes[1] & 0xFF];
+        if (codec == null) {
+            throw new SerializationException("No codec registered for type id " + (bytes[1] & 0xFF));
+        }
+        int version = bytes[2] & 0xFF;
+        if (version > codec.version()) {
+            throw new SerializationException("Unsupported " + codec.type().getSimpleName() + " version " + version);
+        }
+        try {
+            return codec.decode(new ByteArrayReader(bytes, HEADER_SIZE), version);
+        } catch (RuntimeException e) {
+            throw new SerializationException("Failed to decode " + codec.type().getSimpleName(), e);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.routepick.common.redis;
+
+import com.routepick.monitoring.HotPathMetrics;
+import com.routepick.monitoring.HotPathStage;
+
+import java.util.function.Supplier;
+
+/**
+ * Timed*RedisTemplate 공용 hotpath redis 구간 기록
+ * SessionCallback/executePipelined 안의 opsForXxx는 같은 스레드에서 execute를 다시 거치므로 가장 바깥 호출만 기록
+ */
+final class RedisCallTimer {
+
+    // 두 템플릿이 공유 (StringRedisTemplate 호출이 RedisTemplate 세션 안에 있어도 한 번만 기록)
+    private static final ThreadLocal<int[]> DEPTH = ThreadLocal.withInitial(() -> new int[1]);
+
+    private final HotPathMetrics hotPathMetrics;
+
+    RedisCallTimer(HotPathMetrics hotPathMetrics) {
+        this.hotPathMetrics = hotPathMetrics;
+    }
+
+    <T> T time(Supplier<T> call) {
+        int[] depth = DEPTH.get();
+        if (depth[0] > 0) {
+            depth[0]++;
+            try {
+                return call.get();
+            } finally {
+                depth[0]--;
+            }
+        }
+        depth[0] = 1;
+        long start = hotPathMetrics.start();
+        try {
+            return call.get();
+        } finally {
+            depth[0] = 0;
+            hotPathMetrics.record(HotPathStage.REDIS, start);
+        }
+    }
+}
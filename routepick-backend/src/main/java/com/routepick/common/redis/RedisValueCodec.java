@@ -0,0 +1,21 @@
+package com.routepick.common.redis;
+
+import com.routepick.util.ByteArrayReader;
+import com.routepick.util.ByteArrayWriter;
+
+/**
+ * Redis 캐시 값 타입별 바이너리 코덱
+ * typeId는 코덱마다 고유해야 하며, 형식이 바뀌면 version을 올리고 이전 버전 decode를 유지
+ */
+public interface RedisValueCodec<T> {
+
+    Class<T> type();
+
+    int typeId();
+
+    int version();
+
+    void encode(T value, ByteArrayWriter writer);
+
+    T decode(ByteArrayReader reader, int version);
+}
@@ -0,0 +1,33 @@
+package com.routepick.common.redis;
+
+import com.routepick.monitoring.HotPathMetrics;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.lang.Nullable;
+
+/**
+ * 호출 단위로 hotpath redis 구간을 기록하는 RedisTemplate
+ * opsForXxx/스크립트/executePipelined 모두 이 execute를 거치고, 세션/파이프라인 안의 호출은 중복 기록하지 않으므로 파이프라인은 왕복 한 번으로 기록
+ */
+public class TimedRedisTemplate<K, V> extends RedisTemplate<K, V> {
+
+    private final RedisCallTimer redisCallTimer;
+
+    public TimedRedisTemplate(HotPathMetrics hotPathMetrics) {
+        this.redisCallTimer = new RedisCallTimer(hotPathMetrics);
+    }
+
+    @Override
+    @Nullable
+    public <T> T execute(RedisCallback<T> action, boolean exposeConnection, boolean pipeline) {
+        return redisCallTimer.time(() -> super.execute(action, exposeConnection, pipeline));
+    }
+
+    // MULTI/EXEC 등 세션 단위 호출도 한 번으로 기록 (안의 opsForXxx는 중첩으로 건너뜀)
+    @Override
+    @Nullable
+    public <T> T execute(SessionCallback<T> session) {
+        return redisCallTimer.time(() -> super.execute(session));
+    }
+}
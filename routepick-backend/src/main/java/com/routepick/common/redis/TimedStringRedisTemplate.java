@@ -0,0 +1,32 @@
+package com.routepick.common.redis;
+
+import com.routepick.monitoring.HotPathMetrics;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.lang.Nullable;
+
+/**
+ * TimedRedisTemplate의 StringRedisTemplate 버전 (StringRedisTemplate 타입으로 주입받는 곳용)
+ */
+public class TimedStringRedisTemplate extends StringRedisTemplate {
+
+    private final RedisCallTimer redisCallTimer;
+
+    public TimedStringRedisTemplate(HotPathMetrics hotPathMetrics) {
+        this.redisCallTimer = new RedisCallTimer(hotPathMetrics);
+    }
+
+    @Override
+    @Nullable
+    public <T> T execute(RedisCallback<T> action, boolean exposeConnection, boolean pipeline) {
+        return redisCallTimer.time(() -> super.execute(action, exposeConnection, pipeline));
+    }
+
+    // MULTI/EXEC 등 세션 단위 호출도 한 번으로 기록 (안의 opsForXxx는 중첩으로 건너뜀)
+    @Override
+    @Nullable
+    public <T> T execute(SessionCallback<T> session) {
+        return redisCallTimer.time(() -> super.execute(session));
+    }
+}
@@ -0,0 +1,133 @@
+package com.routepick.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 커넥션을 동시에 잡을 수 있는 스레드 수를 풀 크기로 제한하는 DataSource
+ * 가상 스레드 모드에서는 요청마다 스레드가 생겨 수천 개가 한꺼번에 풀을 기다릴 수 있으므로,
+ * 풀 앞에서 공정 세마포어로 줄을 세워 permit을 얻은 스레드만 Hikari/JDBC 드라이버에 들어가게 함
+ * Connector/J 8.x는 쿼리 중 소켓 I/O를 synchronized 안에서 하므로 permit을 얻은 가상 스레드는 쿼리 동안 carrier를 고정함
+ * permit 수가 carrier 수보다 크면 carrier가 모두 고정되어 다른 가상 스레드가 멈출 수 있으므로
+ * 가상 스레드 모드의 permit 수는 DataSourceAdmissionConfig에서 carrier 수 이하로 제한
+ * permit은 커넥션 close 시 반환
+ */
+public class AdmissionControlledDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final long acquireTimeoutNanos;
+    private final Timer waitTimer;
+    private final Counter rejected;
+
+    public AdmissionControlledDataSource(DataSource target, int maxConcurrent, long acquireTimeoutMillis,
+                                         MeterRegistry meterRegistry) {
+        super(target);
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.acquireTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(acquireTimeoutMillis);
+        meterRegistry.gauge("db.admission.waiting", permits, Semaphore::getQueueLength);
+        meterRegistry.gauge("db.admission.available", permits, Semaphore::availablePermits);
+        this.waitTimer = Timer.builder("db.admission.wait")
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+        this.rejected = meterRegistry.counter("db.admission.rejected");
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        return admitted(super::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        return admitted(() -> super.getConnection(username, password));
+    }
+
+    private void acquire() throws SQLException {
+        long start = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a database permit", e);
+        } finally {
+            waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        if (!acquired) {
+            rejected.increment();
+            throw new SQLTransientConnectionException("Timed out waiting for a database permit after "
+                + TimeUnit.NANOSECONDS.toMillis(acquireTimeoutNanos) + "ms");
+        }
+    }
+
+    private Connection admitted(ConnectionSupplier supplier) throws SQLException {
+        Connection connection;
+        try {
+            connection = supplier.get();
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+            new Class<?>[]{Connection.class}, new PermitReleasingHandler(connection));
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSupplier {
+        Connection get() throws SQLException;
+    }
+
+    /**
+     * close 시 한 번만 permit 반환 (나머지 호출은 그대로 위임)
+     */
+    private final class PermitReleasingHandler implements InvocationHandler {
+
+        private final Connection target;
+        private final AtomicBoolean released = new AtomicBoolean(false);
+
+        PermitReleasingHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "close":
+                    try {
+                        target.close();
+                    } finally {
+                        if (released.compareAndSet(false, true)) {
+                            permits.release();
+                        }
+                    }
+                    return null;
+                default:
+                    try {
+                        return method.invoke(target, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.routepick.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * DB 접근 앞단 동시성 제한 (가상 스레드 모드에서 기본 활성화)
+ * 기본 permit 수는 Hikari maximum-pool-size, 가상 스레드 모드에서는 carrier 스레드 수로 상한
+ * (Connector/J 8.x는 소켓 I/O를 synchronized 안에서 하므로 쿼리 중인 가상 스레드가 carrier를 고정함)
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.admission.enabled", havingValue = "true")
+public class DataSourceAdmissionConfig {
+
+    @Bean
+    public static BeanPostProcessor dataSourceAdmissionPostProcessor(Environment environment,
+                                                                     ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof AdmissionControlledDataSource) {
+                    return bean;
+                }
+                int maxConcurrent = environment.getProperty("app.datasource.admission.max-concurrent", Integer.class,
+                    environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10));
+                if (environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false)) {
+                    int carriers = carrierParallelism();
+                    if (maxConcurrent > carriers) {
+                        log.warn("DataSource '{}' admission capped from {} to {} (virtual thread carrier parallelism)",
+                            beanName, maxConcurrent, carriers);
+                        maxConcurrent = carriers;
+                    }
+                }
+                long acquireTimeoutMillis = environment.getProperty("app.datasource.admission.acquire-timeout-ms",
+                    Long.class, 30000L);
+                log.info("DataSource '{}' admission limited to {} concurrent connections", beanName, maxConcurrent);
+                return new AdmissionControlledDataSource(dataSource, maxConcurrent, acquireTimeoutMillis,
+                    meterRegistry.getObject());
+            }
+        };
+    }
+
+    // 가상 스레드 스케줄러(ForkJoinPool)의 기본 parallelism과 같은 규칙
+    static int carrierParallelism() {
+        return Integer.getInteger("jdk.virtualThreadScheduler.parallelism",
+            Runtime.getRuntime().availableProcessors());
+    }
+}
@@ -0,0 +1,66 @@
+package com.routepick.config;
+
+import io.github.bucket4j.distributed.ExpirationAfterWriteStrategy;
+import io.github.bucket4j.distributed.proxy.ProxyManager;
+import io.github.bucket4j.redis.lettuce.cas.LettuceBasedProxyManager;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.codec.ByteArrayCodec;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+
+/**
+ * bucket4j Redis 버킷 (모든 노드가 같은 버킷을 공유)
+ * bucket4j는 byte[] 코덱 연결이 필요해 Spring Data Redis 연결과 별도로 Lettuce 클라이언트를 둠
+ */
+@Configuration
+public class RateLimitConfig {
+
+    /**
+     * spring.data.redis 설정을 그대로 따름 (url, ssl, ACL 사용자/비밀번호, database, timeout, client-name)
+     */
+    @Bean(destroyMethod = "shutdown")
+    public RedisClient rateLimitRedisClient(RedisProperties redisProperties) {
+        RedisURI.Builder uri = StringUtils.hasText(redisProperties.getUrl())
+            ? RedisURI.builder(RedisURI.create(redisProperties.getUrl()))
+            : RedisURI.builder()
+                .withHost(redisProperties.getHost())
+                .withPort(redisProperties.getPort())
+                .withDatabase(redisProperties.getDatabase());
+        if (redisProperties.getSsl().isEnabled()) {
+            uri.withSsl(true);
+        }
+        if (StringUtils.hasText(redisProperties.getPassword())) {
+            if (StringUtils.hasText(redisProperties.getUsername())) {
+                uri.withAuthentication(redisProperties.getUsername(), redisProperties.getPassword().toCharArray());
+            } else {
+                uri.withPassword(redisProperties.getPassword().toCharArray());
+            }
+        }
+        if (redisProperties.getTimeout() != null) {
+            uri.withTimeout(redisProperties.getTimeout());
+        }
+        if (StringUtils.hasText(redisProperties.getClientName())) {
+            uri.withClientName(redisProperties.getClientName());
+        }
+        return RedisClient.create(uri.build());
+    }
+
+    @Bean(destroyMethod = "close")
+    public StatefulRedisConnection<byte[], byte[]> rateLimitRedisConnection(RedisClient rateLimitRedisClient) {
+        return rateLimitRedisClient.connect(ByteArrayCodec.INSTANCE);
+    }
+
+    @Bean
+    public ProxyManager<byte[]> rateLimitProxyManager(StatefulRedisConnection<byte[], byte[]> rateLimitRedisConnection) {
+        // 버킷이 가득 찰 때까지 걸리는 시간 뒤에는 키 삭제 (유휴 사용자 키가 남지 않도록)
+        return LettuceBasedProxyManager.builderFor(rateLimitRedisConnection)
+            .withExpirationStrategy(ExpirationAfterWriteStrategy.basedOnTimeForRefillingBucketUpToMax(Duration.ofMinutes(1)))
+            .build();
+    }
+}
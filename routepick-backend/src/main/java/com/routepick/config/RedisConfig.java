@@ -4,19 +4,30 @@ import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.routepick.common.redis.CodecRedisSerializer;
+import com.routepick.common.redis.RedisValueCodec;
+import com.routepick.common.redis.TimedRedisTemplate;
+import com.routepick.common.redis.TimedStringRedisTemplate;
+import com.routepick.monitoring.HotPathMetrics;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import java.util.List;
+
 @Configuration
 public class RedisConfig {
 
     @Bean
-    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory) {
-        RedisTemplate<String, Object> template = new RedisTemplate<>();
+    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory,
+                                                       List<RedisValueCodec<?>> codecs,
+                                                       HotPathMetrics hotPathMetrics) {
+        RedisTemplate<String, Object> template = new TimedRedisTemplate<>(hotPathMetrics);
         template.setConnectionFactory(connectionFactory);
 
         // JSON serializer configuration
@@ -28,7 +39,9 @@ public class RedisConfig {
             ObjectMapper.DefaultTyping.NON_FINAL
         );
 
-        GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer(objectMapper);
+        // Binary codecs for registered types, JSON for everything else (and existing entries)
+        CodecRedisSerializer serializer = new CodecRedisSerializer(codecs,
+            new GenericJackson2JsonRedisSerializer(objectMapper));
 
         // Key serializer
         template.setKeySerializer(new StringRedisSerializer());
@@ -43,4 +56,21 @@ public class RedisConfig {
 
         return template;
     }
-}
\ No newline at end of file
+
+    // 자동 구성 대신 등록해 StringRedisTemplate 호출도 hotpath redis 구간에 포함
+    @Bean
+    public StringRedisTemplate stringRedisTemplate(RedisConnectionFactory connectionFactory,
+                                                   HotPathMetrics hotPathMetrics) {
+        StringRedisTemplate template = new TimedStringRedisTemplate(hotPathMetrics);
+        template.setConnectionFactory(connectionFactory);
+        template.afterPropertiesSet();
+        return template;
+    }
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+}
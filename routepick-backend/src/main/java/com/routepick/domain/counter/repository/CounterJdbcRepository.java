@@ -0,0 +1,54 @@
+package com.routepick.domain.counter.repository;
+
+import com.routepick.service.counter.CounterType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 누적된 카운터 증감분을 한 번에 반영
+ * 여러 노드가 동시에 반영해도 교착되지 않도록 호출자는 키 오름차순으로 전달
+ */
+@Repository
+@RequiredArgsConstructor
+public class CounterJdbcRepository {
+
+    // 음수로 내려가지 않도록 0에서 멈춤 (좋아요 취소가 먼저 반영되는 경우 등)
+    private static final String UPDATE_COUNTER_TEMPLATE =
+        "UPDATE %1$s SET %3$s = GREATEST(COALESCE(%3$s, 0) + ?, 0) WHERE %2$s = ?";
+
+    private static final Map<CounterType, String> UPDATE_COUNTER = new EnumMap<>(CounterType.class);
+
+    static {
+        for (CounterType type : CounterType.values()) {
+            UPDATE_COUNTER.put(type, String.format(UPDATE_COUNTER_TEMPLATE,
+                type.getTable(), type.getKeyColumn(), type.getCounterColumn()));
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void applyDeltas(CounterType type, int[] ids, long[] deltas, int size) {
+        if (size == 0) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPDATE_COUNTER.get(type), new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setLong(1, deltas[i]);
+                ps.setInt(2, ids[i]);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return size;
+            }
+        });
+    }
+}
@@ -0,0 +1,206 @@
+package com.routepick.domain.difficulty.repository;
+
+import com.routepick.common.enums.DifficultyVote;
+import com.routepick.service.difficulty.RouteDifficulty;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * route_difficulty_votes 투표 저장과 route_difficulty_stats 집계 반영 / 재계산
+ */
+@Repository
+@RequiredArgsConstructor
+public class RouteDifficultyJdbcRepository {
+
+    private static final String SELECT_VOTE_FOR_UPDATE =
+        "SELECT difficulty_level FROM route_difficulty_votes WHERE route_id = ? AND user_id = ? FOR UPDATE";
+
+    private static final String INSERT_VOTE =
+        "INSERT INTO route_difficulty_votes (route_id, user_id, difficulty_level) VALUES (?, ?, ?)";
+
+    private static final String UPDATE_VOTE =
+        "UPDATE route_difficulty_votes SET difficulty_level = ? WHERE route_id = ? AND user_id = ?";
+
+    private static final String DELETE_VOTE =
+        "DELETE FROM route_difficulty_votes WHERE route_id = ? AND user_id = ?";
+
+    private static final String STATS_COLUMNS =
+        "route_id, vote_count, vote_sum, vote_sum_sq, easy_count, medium_count, hard_count";
+
+    private static final String APPLY_DELTA =
+        "INSERT INTO route_difficulty_stats (" + STATS_COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?) " +
+        "ON DUPLICATE KEY UPDATE vote_count = vote_count + VALUES(vote_count), " +
+        "vote_sum = vote_sum + VALUES(vote_sum), vote_sum_sq = vote_sum_sq + VALUES(vote_sum_sq), " +
+        "easy_count = easy_count + VALUES(easy_count), medium_count = medium_count + VALUES(medium_count), " +
+        "hard_count = hard_count + VALUES(hard_count)";
+
+    private static final String SELECT_ALL_STATS =
+        "SELECT " + STATS_COLUMNS + ", updated_at FROM route_difficulty_stats";
+
+    private static final String SELECT_STATS_UPDATED_SINCE =
+        SELECT_ALL_STATS + " WHERE updated_at >= ?";
+
+    private static final String SELECT_STATS_OF_ROUTES =
+        SELECT_ALL_STATS + " WHERE route_id IN (:routeIds)";
+
+    private static final String SELECT_DB_NOW = "SELECT NOW()";
+
+    private static final String SCORE_EXPRESSION = scoreExpression();
+
+    private static final String AGGREGATE_VOTES =
+        "SELECT route_id, COUNT(*), SUM(" + SCORE_EXPRESSION + "), SUM(" + SCORE_EXPRESSION + " * " + SCORE_EXPRESSION + "), " +
+        "SUM(difficulty_level = 'EASY'), SUM(difficulty_level = 'MEDIUM'), SUM(difficulty_level = 'HARD') " +
+        "FROM route_difficulty_votes";
+
+    private static final String DELETE_STATS_OF_ROUTE =
+        "DELETE FROM route_difficulty_stats WHERE route_id = ?";
+
+    private static final String DELETE_ALL_STATS =
+        "DELETE FROM route_difficulty_stats";
+
+    private static final String REBUILD_STATS_OF_ROUTE =
+        "INSERT INTO route_difficulty_stats (" + STATS_COLUMNS + ") " + AGGREGATE_VOTES +
+        " WHERE route_id = ? GROUP BY route_id";
+
+    private static final String REBUILD_ALL_STATS =
+        "INSERT INTO route_difficulty_stats (" + STATS_COLUMNS + ") " + AGGREGATE_VOTES + " GROUP BY route_id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * 투표 저장 후 이전 투표 반환 (없었으면 null)
+     * READ COMMITTED 트랜잭션 안에서 호출: 없는 행의 FOR UPDATE가 gap lock을 잡지 않아 다른 사용자의 첫 투표와 교착되지 않음
+     * 같은 사용자의 첫 투표가 동시에 들어오면 늦은 쪽 INSERT가 DuplicateKeyException (호출자가 다시 시도)
+     */
+    public DifficultyVote upsertVote(int routeId, int userId, DifficultyVote vote) {
+        DifficultyVote previous = findVoteForUpdate(routeId, userId);
+        if (previous == null) {
+            jdbcTemplate.update(INSERT_VOTE, routeId, userId, vote.name());
+        } else if (previous != vote) {
+            jdbcTemplate.update(UPDATE_VOTE, vote.name(), routeId, userId);
+        }
+        return previous;
+    }
+
+    /**
+     * 투표 삭제 후 삭제된 투표 반환 (없었으면 null, upsertVote와 같은 READ COMMITTED 트랜잭션 안에서 호출)
+     */
+    public DifficultyVote deleteVote(int routeId, int userId) {
+        DifficultyVote previous = findVoteForUpdate(routeId, userId);
+        if (previous != null) {
+            jdbcTemplate.update(DELETE_VOTE, routeId, userId);
+        }
+        return previous;
+    }
+
+    private DifficultyVote findVoteForUpdate(int routeId, int userId) {
+        List<String> levels = jdbcTemplate.queryForList(SELECT_VOTE_FOR_UPDATE, String.class, routeId, userId);
+        return levels.isEmpty() ? null : DifficultyVote.valueOf(levels.get(0));
+    }
+
+    /**
+     * 증감분 반영 (여러 노드가 동시에 반영해도 교착되지 않도록 호출자는 route_id 오름차순으로 전달)
+     */
+    public void applyDeltas(int[] routeIds, RouteDifficulty[] deltas, int size) {
+        if (size == 0) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(APPLY_DELTA, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                RouteDifficulty delta = deltas[i];
+                ps.setInt(1, routeIds[i]);
+                ps.setInt(2, delta.getVoteCount());
+                ps.setInt(3, delta.getVoteSum());
+                ps.setInt(4, delta.getVoteSumSquares());
+                ps.setInt(5, delta.getVotes(DifficultyVote.EASY));
+                ps.setInt(6, delta.getVotes(DifficultyVote.MEDIUM));
+                ps.setInt(7, delta.getVotes(DifficultyVote.HARD));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return size;
+            }
+        });
+    }
+
+    /**
+     * @return 읽은 행 중 가장 최근 updated_at (행이 없으면 null)
+     */
+    public Timestamp findAllStats(Map<Integer, RouteDifficulty> into) {
+        return readStats(into, SELECT_ALL_STATS);
+    }
+
+    public Timestamp findStatsUpdatedSince(Timestamp since, Map<Integer, RouteDifficulty> into) {
+        return readStats(into, SELECT_STATS_UPDATED_SINCE, since);
+    }
+
+    public Timestamp findStats(Collection<Integer> routeIds, Map<Integer, RouteDifficulty> into) {
+        Timestamp[] latest = new Timestamp[1];
+        if (routeIds.isEmpty()) {
+            return null;
+        }
+        namedParameterJdbcTemplate.query(SELECT_STATS_OF_ROUTES, new MapSqlParameterSource("routeIds", routeIds), rs -> {
+            latest[0] = put(rs, into, latest[0]);
+        });
+        return latest[0];
+    }
+
+    public Timestamp currentTimestamp() {
+        return jdbcTemplate.queryForObject(SELECT_DB_NOW, Timestamp.class);
+    }
+
+    /**
+     * 한 루트 집계를 투표 테이블에서 다시 계산 (트랜잭션 안에서 호출)
+     */
+    public void rebuild(int routeId) {
+        jdbcTemplate.update(DELETE_STATS_OF_ROUTE, routeId);
+        jdbcTemplate.update(REBUILD_STATS_OF_ROUTE, routeId);
+    }
+
+    /**
+     * 전체 집계를 투표 테이블에서 다시 계산 (트랜잭션 안에서 호출)
+     */
+    public int rebuildAll() {
+        jdbcTemplate.update(DELETE_ALL_STATS);
+        return jdbcTemplate.update(REBUILD_ALL_STATS);
+    }
+
+    private Timestamp readStats(Map<Integer, RouteDifficulty> into, String sql, Object... args) {
+        Timestamp[] latest = new Timestamp[1];
+        jdbcTemplate.query(sql, rs -> {
+            latest[0] = put(rs, into, latest[0]);
+        }, args);
+        return latest[0];
+    }
+
+    private static Timestamp put(ResultSet rs, Map<Integer, RouteDifficulty> into, Timestamp latest) throws SQLException {
+        into.put(rs.getInt(1), RouteDifficulty.of(rs.getInt(2), rs.getInt(3), rs.getInt(4),
+            rs.getInt(5), rs.getInt(6), rs.getInt(7)));
+        Timestamp updatedAt = rs.getTimestamp(8);
+        return updatedAt != null && (latest == null || updatedAt.after(latest)) ? updatedAt : latest;
+    }
+
+    // DifficultyVote.score와 같은 값 (CASE difficulty_level WHEN 'EASY' THEN -1 ...)
+    private static String scoreExpression() {
+        StringBuilder sql = new StringBuilder("CASE difficulty_level");
+        for (DifficultyVote vote : DifficultyVote.values()) {
+            sql.append(" WHEN '").append(vote.name()).append("' THEN ").append(vote.getScore());
+        }
+        return sql.append(" END").toString();
+    }
+}
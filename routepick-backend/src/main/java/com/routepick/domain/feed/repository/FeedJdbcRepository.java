@@ -0,0 +1,126 @@
+package com.routepick.domain.feed.repository;
+
+import com.routepick.service.feed.FeedActivityType;
+import com.routepick.service.feed.FeedItem;
+import com.routepick.util.IntArrayList;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * user_follows 조회 및 posts / user_climbs / route_scraps 최근 활동 조회 (피드 초기 적재용)
+ */
+@Repository
+@RequiredArgsConstructor
+public class FeedJdbcRepository {
+
+    private static final String SELECT_FOLLOWERS_AFTER =
+        "SELECT follow_id, follower_id FROM user_follows " +
+        "WHERE following_id = ? AND follow_id > ? ORDER BY follow_id LIMIT ?";
+
+    private static final String SELECT_FOLLOWER_COUNT =
+        "SELECT MAX(follower_count) FROM user_profile WHERE user_id = ?";
+
+    private static final String SELECT_POPULAR_FOLLOWINGS =
+        "SELECT uf.following_id FROM user_follows uf " +
+        "WHERE uf.follower_id = ? AND EXISTS (" +
+        "SELECT 1 FROM user_profile up WHERE up.user_id = uf.following_id AND up.follower_count >= ?)";
+
+    private static final String SELECT_RECENT_ACTIVITIES_OF_USER =
+        "(SELECT 'P' AS code, user_id, post_id AS activity_id, created_at FROM posts " +
+        "WHERE user_id = ? AND post_status = 'ACTIVE' ORDER BY created_at DESC LIMIT ?) " +
+        "UNION ALL " +
+        "(SELECT 'C', user_id, climb_id, created_at FROM user_climbs " +
+        "WHERE user_id = ? AND record_status = 'ACTIVE' ORDER BY created_at DESC LIMIT ?) " +
+        "UNION ALL " +
+        "(SELECT 'S', user_id, scrap_id, created_at FROM route_scraps " +
+        "WHERE user_id = ? AND scrap_status = 'ACTIVE' ORDER BY created_at DESC LIMIT ?) " +
+        "ORDER BY created_at DESC LIMIT ?";
+
+    private static final String SELECT_RECENT_ACTIVITIES_OF_FOLLOWINGS =
+        "(SELECT 'P' AS code, p.user_id, p.post_id AS activity_id, p.created_at FROM posts p " +
+        "JOIN user_follows uf ON uf.following_id = p.user_id " +
+        "WHERE uf.follower_id = ? AND p.post_status = 'ACTIVE' ORDER BY p.created_at DESC LIMIT ?) " +
+        "UNION ALL " +
+        "(SELECT 'C', c.user_id, c.climb_id, c.created_at FROM user_climbs c " +
+        "JOIN user_follows uf ON uf.following_id = c.user_id " +
+        "WHERE uf.follower_id = ? AND c.record_status = 'ACTIVE' ORDER BY c.created_at DESC LIMIT ?) " +
+        "UNION ALL " +
+        "(SELECT 'S', s.user_id, s.scrap_id, s.created_at FROM route_scraps s " +
+        "JOIN user_follows uf ON uf.following_id = s.user_id " +
+        "WHERE uf.follower_id = ? AND s.scrap_status = 'ACTIVE' ORDER BY s.created_at DESC LIMIT ?) " +
+        "ORDER BY created_at DESC LIMIT ?";
+
+    // 피드에 push된 뒤 삭제/비공개된 활동을 조회 시점에 걸러냄
+    private static final Map<FeedActivityType, String> SELECT_ACTIVE_ACTIVITY_IDS = new EnumMap<>(Map.of(
+        FeedActivityType.POST,
+        "SELECT post_id FROM posts WHERE post_id IN (:ids) AND post_status = 'ACTIVE'",
+        FeedActivityType.CLIMB,
+        "SELECT climb_id FROM user_climbs WHERE climb_id IN (:ids) AND record_status = 'ACTIVE'",
+        FeedActivityType.SCRAP,
+        "SELECT scrap_id FROM route_scraps WHERE scrap_id IN (:ids) AND scrap_status = 'ACTIVE'"));
+
+    private static final RowMapper<FeedItem> FEED_ITEM_MAPPER = (rs, rowNum) -> new FeedItem(
+        FeedActivityType.fromCode(rs.getString(1).charAt(0)),
+        rs.getInt(2),
+        rs.getInt(3),
+        rs.getTimestamp(4) != null ? rs.getTimestamp(4).getTime() : 0L);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * follow_id 기준 keyset으로 팔로워를 나누어 조회
+     * @return 마지막 follow_id (더 없으면 -1)
+     */
+    public int findFollowersAfter(int followingId, int afterFollowId, int limit, IntArrayList followerIds) {
+        int[] lastFollowId = {-1};
+        jdbcTemplate.query(SELECT_FOLLOWERS_AFTER, rs -> {
+            lastFollowId[0] = rs.getInt(1);
+            followerIds.add(rs.getInt(2));
+        }, followingId, afterFollowId, limit);
+        return lastFollowId[0];
+    }
+
+    public Integer findFollowerCount(int userId) {
+        return jdbcTemplate.queryForObject(SELECT_FOLLOWER_COUNT, Integer.class, userId);
+    }
+
+    /**
+     * 팔로우 중인 사용자 중 팔로워가 threshold 이상인 사용자 (fan-out 대신 조회 시 병합)
+     */
+    public List<Integer> findPopularFollowings(int followerId, int threshold) {
+        return jdbcTemplate.queryForList(SELECT_POPULAR_FOLLOWINGS, Integer.class, followerId, threshold);
+    }
+
+    /**
+     * 주어진 활동 id 중 아직 ACTIVE인 id
+     */
+    public Set<Integer> findActiveActivityIds(FeedActivityType type, Collection<Integer> activityIds) {
+        if (activityIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(namedParameterJdbcTemplate.queryForList(SELECT_ACTIVE_ACTIVITY_IDS.get(type),
+            new MapSqlParameterSource("ids", activityIds), Integer.class));
+    }
+
+    public List<FeedItem> findRecentActivitiesOfUser(int userId, int limit) {
+        return jdbcTemplate.query(SELECT_RECENT_ACTIVITIES_OF_USER, FEED_ITEM_MAPPER,
+            userId, limit, userId, limit, userId, limit, limit);
+    }
+
+    public List<FeedItem> findRecentActivitiesOfFollowings(int followerId, int limit) {
+        return jdbcTemplate.query(SELECT_RECENT_ACTIVITIES_OF_FOLLOWINGS, FEED_ITEM_MAPPER,
+            followerId, limit, followerId, limit, followerId, limit, limit);
+    }
+}
@@ -0,0 +1,63 @@
+package com.routepick.domain.log.repository;
+
+import com.routepick.monitoring.ApiLogEntry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * api_logs 다중 행 INSERT
+ * 오류를 숨기지 않도록 일반 INSERT 사용 (행 단위 재시도는 ApiLogWriter에서 처리)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ApiLogJdbcRepository {
+
+    private static final String INSERT_PREFIX =
+        "INSERT INTO api_logs " +
+        "(user_id, endpoint, method, request_ip, request_time, response_time, status_code, user_agent) VALUES ";
+    private static final String ROW_PLACEHOLDERS = "(?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int COLUMN_COUNT = 8;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public int insertAll(List<ApiLogEntry> entries) {
+        if (entries.isEmpty()) {
+            return 0;
+        }
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + entries.size() * (ROW_PLACEHOLDERS.length() + 2))
+            .append(INSERT_PREFIX);
+        for (int i = 0; i < entries.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(ROW_PLACEHOLDERS);
+        }
+
+        return jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(sql.toString());
+            int parameter = 1;
+            for (ApiLogEntry entry : entries) {
+                if (entry.getUserId() == null) {
+                    ps.setNull(parameter, Types.INTEGER);
+                } else {
+                    ps.setLong(parameter, entry.getUserId());
+                }
+                ps.setString(parameter + 1, entry.getEndpoint());
+                ps.setString(parameter + 2, entry.getMethod());
+                ps.setString(parameter + 3, entry.getRequestIp());
+                ps.setTimestamp(parameter + 4, new Timestamp(entry.getRequestTimeMillis()));
+                ps.setInt(parameter + 5, entry.getResponseTimeMillis());
+                ps.setInt(parameter + 6, entry.getStatusCode());
+                ps.setString(parameter + 7, entry.getUserAgent());
+                parameter += COLUMN_COUNT;
+            }
+            return ps;
+        });
+    }
+}
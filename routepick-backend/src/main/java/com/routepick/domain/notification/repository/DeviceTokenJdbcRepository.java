@@ -0,0 +1,46 @@
+package com.routepick.domain.notification.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * user_device_tokens 조회 및 무효 토큰 정리
+ */
+@Repository
+@RequiredArgsConstructor
+public class DeviceTokenJdbcRepository {
+
+    private static final String SELECT_TOKENS_OF_USERS =
+        "SELECT user_id, fcm_token FROM user_device_tokens WHERE user_id IN (:userIds)";
+
+    private static final String DELETE_TOKENS =
+        "DELETE FROM user_device_tokens WHERE fcm_token IN (:tokens)";
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public Map<Integer, List<String>> findTokensByUserIds(Collection<Integer> userIds) {
+        Map<Integer, List<String>> tokens = new HashMap<>();
+        if (userIds.isEmpty()) {
+            return tokens;
+        }
+        namedParameterJdbcTemplate.query(SELECT_TOKENS_OF_USERS, new MapSqlParameterSource("userIds", userIds), rs -> {
+            tokens.computeIfAbsent(rs.getInt(1), userId -> new ArrayList<>(2)).add(rs.getString(2));
+        });
+        return tokens;
+    }
+
+    public int deleteTokens(Collection<String> fcmTokens) {
+        if (fcmTokens.isEmpty()) {
+            return 0;
+        }
+        return namedParameterJdbcTemplate.update(DELETE_TOKENS, new MapSqlParameterSource("tokens", fcmTokens));
+    }
+}
@@ -0,0 +1,88 @@
+package com.routepick.domain.notification.repository;
+
+import com.routepick.service.notification.InboxEntry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * notifications / messages 읽지 않은 수 집계와 읽음 처리 (inbox 캐시 재구성용)
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationJdbcRepository {
+
+    private static final String COUNT_UNREAD_NOTIFICATIONS_BY_TYPE =
+        "SELECT type, COUNT(*) FROM notifications WHERE user_id = ? AND is_read = 0 GROUP BY type";
+
+    private static final String COUNT_UNREAD_MESSAGES =
+        "SELECT COUNT(*) FROM messages WHERE receiver_id = ? AND is_read = 0";
+
+    private static final String SELECT_RECENT_NOTIFICATIONS =
+        "SELECT notification_id, type, title, content, reference_id, reference_type, created_at, is_read " +
+        "FROM notifications WHERE user_id = ? ORDER BY notification_id DESC LIMIT ?";
+
+    private static final String SELECT_UNREAD_NOTIFICATION_TYPE =
+        "SELECT type FROM notifications WHERE notification_id = ? AND user_id = ? AND is_read = 0";
+
+    private static final String MARK_NOTIFICATION_READ =
+        "UPDATE notifications SET is_read = 1 WHERE notification_id = ? AND user_id = ? AND is_read = 0";
+
+    private static final String MARK_ALL_NOTIFICATIONS_READ =
+        "UPDATE notifications SET is_read = 1 WHERE user_id = ? AND is_read = 0";
+
+    private static final String MARK_MESSAGE_READ =
+        "UPDATE messages SET is_read = 1 WHERE message_id = ? AND receiver_id = ? AND is_read = 0";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Map<String, Long> countUnreadNotificationsByType(int userId) {
+        Map<String, Long> counts = new HashMap<>();
+        jdbcTemplate.query(COUNT_UNREAD_NOTIFICATIONS_BY_TYPE, rs -> {
+            counts.put(rs.getString(1), rs.getLong(2));
+        }, userId);
+        return counts;
+    }
+
+    public long countUnreadMessages(int userId) {
+        Long count = jdbcTemplate.queryForObject(COUNT_UNREAD_MESSAGES, Long.class, userId);
+        return count != null ? count : 0;
+    }
+
+    public List<InboxEntry> findRecentNotifications(int userId, int limit) {
+        return jdbcTemplate.query(SELECT_RECENT_NOTIFICATIONS, (rs, rowNum) -> new InboxEntry(
+            rs.getInt(1),
+            rs.getString(2),
+            rs.getString(3),
+            rs.getString(4),
+            (Integer) rs.getObject(5),
+            rs.getString(6),
+            rs.getTimestamp(7) != null ? rs.getTimestamp(7).getTime() : 0L,
+            rs.getBoolean(8)
+        ), userId, limit);
+    }
+
+    /**
+     * 읽지 않은 알림이면 읽음 처리하고 유형 반환 (이미 읽었거나 없으면 null)
+     */
+    public String markNotificationRead(int userId, int notificationId) {
+        List<String> types = jdbcTemplate.queryForList(SELECT_UNREAD_NOTIFICATION_TYPE, String.class,
+            notificationId, userId);
+        if (types.isEmpty()) {
+            return null;
+        }
+        return jdbcTemplate.update(MARK_NOTIFICATION_READ, notificationId, userId) > 0 ? types.get(0) : null;
+    }
+
+    public int markAllNotificationsRead(int userId) {
+        return jdbcTemplate.update(MARK_ALL_NOTIFICATIONS_READ, userId);
+    }
+
+    public boolean markMessageRead(int userId, int messageId) {
+        return jdbcTemplate.update(MARK_MESSAGE_READ, messageId, userId) > 0;
+    }
+}
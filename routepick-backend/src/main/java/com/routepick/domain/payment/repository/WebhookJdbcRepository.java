@@ -0,0 +1,187 @@
+package com.routepick.domain.payment.repository;
+
+import com.routepick.service.payment.WebhookEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * webhook_logs 적재 / 선점 / 처리 완료 및 payment_records 상태 반영
+ * 선점은 claimed_until 임대 방식이라 노드가 죽어도 임대가 끝나면 다른 노드가 다시 가져감
+ */
+@Repository
+@RequiredArgsConstructor
+public class WebhookJdbcRepository {
+
+    // (provider, provider_event_id) 유니크 키로 중복 수신 차단, 받은 노드가 바로 처리하므로 임대 상태로 적재
+    private static final String INSERT_LOG =
+        "INSERT INTO webhook_logs (provider, provider_event_id, event_type, payload, related_payment_id, claimed_until) " +
+        "VALUES (?, ?, ?, ?, ?, NOW() + INTERVAL ? SECOND)";
+
+    private static final String SELECT_CLAIMABLE =
+        "SELECT log_id, provider, event_type, related_payment_id, received_at FROM webhook_logs " +
+        "WHERE processed = 0 AND attempts < ? AND (claimed_until IS NULL OR claimed_until < NOW()) " +
+        "ORDER BY log_id LIMIT ? FOR UPDATE SKIP LOCKED";
+
+    private static final String CLAIM =
+        "UPDATE webhook_logs SET claimed_until = NOW() + INTERVAL :leaseSeconds SECOND WHERE log_id IN (:logIds)";
+
+    private static final String POSTPONE =
+        "UPDATE webhook_logs SET claimed_until = NOW() + INTERVAL :delaySeconds SECOND " +
+        "WHERE log_id IN (:logIds) AND processed = 0";
+
+    private static final String LOCK_UNPROCESSED =
+        "SELECT log_id FROM webhook_logs WHERE log_id IN (:logIds) AND processed = 0 FOR UPDATE";
+
+    private static final String SELECT_PENDING_BY_PAYMENT =
+        "SELECT related_payment_id, log_id FROM webhook_logs " +
+        "WHERE related_payment_id IN (:paymentIds) AND processed = 0 AND attempts < :maxAttempts " +
+        "AND log_id <= :maxLogId ORDER BY log_id";
+
+    private static final String UPDATE_PAYMENT_STATUS =
+        "UPDATE payment_records SET payment_status = ? WHERE payment_id = ?";
+
+    private static final String MARK_PROCESSED =
+        "UPDATE webhook_logs SET processed = 1, processed_at = NOW(), claimed_until = NULL, last_error = NULL " +
+        "WHERE log_id IN (:logIds)";
+
+    // claimed_until을 먼저 두어 증가 전 attempts로 backoff 계산 (SET은 왼쪽부터 적용)
+    private static final String RECORD_FAILURE =
+        "UPDATE webhook_logs SET claimed_until = NOW() + INTERVAL (? << LEAST(attempts, 10)) SECOND, " +
+        "attempts = attempts + 1, last_error = ? WHERE log_id = ? AND processed = 0";
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * @return 생성된 log_id (같은 provider 이벤트가 이미 있으면 DuplicateKeyException)
+     */
+    public long insert(String provider, String providerEventId, String eventType, String payload,
+                       Integer paymentId, int leaseSeconds) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(INSERT_LOG, Statement.RETURN_GENERATED_KEYS);
+            ps.setString(1, provider);
+            ps.setString(2, providerEventId);
+            ps.setString(3, eventType);
+            ps.setString(4, payload);
+            if (paymentId != null) {
+                ps.setInt(5, paymentId);
+            } else {
+                ps.setNull(5, Types.INTEGER);
+            }
+            ps.setInt(6, leaseSeconds);
+            return ps;
+        }, keyHolder);
+        return keyHolder.getKey().longValue();
+    }
+
+    /**
+     * 처리되지 않은 행을 log_id 순으로 limit개 선점 (트랜잭션 안에서 호출, 다른 노드가 잠근 행은 건너뜀)
+     */
+    public List<WebhookEvent> claim(int limit, int leaseSeconds, int maxAttempts) {
+        List<WebhookEvent> events = jdbcTemplate.query(SELECT_CLAIMABLE, (rs, rowNum) -> {
+            Timestamp receivedAt = rs.getTimestamp(5);
+            return new WebhookEvent(
+                rs.getLong(1),
+                rs.getString(2),
+                rs.getString(3),
+                (Integer) rs.getObject(4),
+                receivedAt != null ? receivedAt.getTime() : 0L);
+        }, maxAttempts, limit);
+        if (events.isEmpty()) {
+            return events;
+        }
+        List<Long> logIds = new ArrayList<>(events.size());
+        for (WebhookEvent event : events) {
+            logIds.add(event.getLogId());
+        }
+        namedParameterJdbcTemplate.update(CLAIM, new MapSqlParameterSource("logIds", logIds)
+            .addValue("leaseSeconds", leaseSeconds));
+        return events;
+    }
+
+    /**
+     * 선점을 delaySeconds 뒤에 풀리도록 조정 (0이면 다음 선점 주기에 바로 대상)
+     */
+    public int postpone(Collection<Long> logIds, long delaySeconds) {
+        if (logIds.isEmpty()) {
+            return 0;
+        }
+        return namedParameterJdbcTemplate.update(POSTPONE, new MapSqlParameterSource("logIds", logIds)
+            .addValue("delaySeconds", delaySeconds));
+    }
+
+    /**
+     * 아직 처리되지 않은 행만 잠그고 반환 (트랜잭션 안에서 호출, 중복 처리 방지)
+     */
+    public Set<Long> lockUnprocessed(Collection<Long> logIds) {
+        Set<Long> unprocessed = new HashSet<>();
+        if (logIds.isEmpty()) {
+            return unprocessed;
+        }
+        namedParameterJdbcTemplate.query(LOCK_UNPROCESSED, new MapSqlParameterSource("logIds", logIds), rs -> {
+            unprocessed.add(rs.getLong(1));
+        });
+        return unprocessed;
+    }
+
+    /**
+     * 결제별로 maxLogId 이하에서 아직 처리되지 않은 log_id 목록 (오름차순, 포기한 행은 제외)
+     */
+    public Map<Integer, List<Long>> findPendingLogIds(Collection<Integer> paymentIds, long maxLogId, int maxAttempts) {
+        Map<Integer, List<Long>> pending = new HashMap<>();
+        if (paymentIds.isEmpty()) {
+            return pending;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource("paymentIds", paymentIds)
+            .addValue("maxAttempts", maxAttempts)
+            .addValue("maxLogId", maxLogId);
+        namedParameterJdbcTemplate.query(SELECT_PENDING_BY_PAYMENT, params, rs -> {
+            pending.computeIfAbsent(rs.getInt(1), paymentId -> new ArrayList<>(2)).add(rs.getLong(2));
+        });
+        return pending;
+    }
+
+    /**
+     * @param updates {payment_status, payment_id} (목록 순서대로 실행)
+     */
+    public void updatePaymentStatuses(List<Object[]> updates) {
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_PAYMENT_STATUS, updates);
+        }
+    }
+
+    public int markProcessed(Collection<Long> logIds) {
+        if (logIds.isEmpty()) {
+            return 0;
+        }
+        return namedParameterJdbcTemplate.update(MARK_PROCESSED, new MapSqlParameterSource("logIds", logIds));
+    }
+
+    /**
+     * 시도 횟수 증가 후 retryBackoffSeconds * 2^(이전 시도 횟수) 동안 선점 유지 (그 뒤 다시 선점 대상)
+     */
+    public void recordFailure(long logId, String error, long retryBackoffSeconds) {
+        String message = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        jdbcTemplate.update(RECORD_FAILURE, retryBackoffSeconds, message, logId);
+    }
+}
@@ -0,0 +1,168 @@
+package com.routepick.domain.recommendation.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * recommendation_batch_jobs / recommendation_batch_chunks 체크포인트 관리
+ * 구간은 claimed_until 임대로 선점하므로 여러 노드가 같은 작업을 이어도 같은 구간을 동시에 처리하지 않음
+ */
+@Repository
+@RequiredArgsConstructor
+public class RecommendationBatchJdbcRepository {
+
+    private static final String SELECT_RUNNING_JOB =
+        "SELECT job_id FROM recommendation_batch_jobs WHERE job_status IN ('RUNNING', 'FAILED') " +
+        "ORDER BY job_id DESC LIMIT 1";
+
+    private static final String INSERT_JOB =
+        "INSERT INTO recommendation_batch_jobs (job_status) VALUES ('RUNNING')";
+
+    private static final String SELECT_ACTIVE_USER_IDS =
+        "SELECT user_id FROM users WHERE user_status = 'ACTIVE' ORDER BY user_id";
+
+    private static final String INSERT_CHUNK =
+        "INSERT INTO recommendation_batch_chunks (job_id, chunk_no, from_user_id, to_user_id) VALUES (?, ?, ?, ?)";
+
+    private static final String UPDATE_JOB_TOTAL =
+        "UPDATE recommendation_batch_jobs SET total_chunks = ? WHERE job_id = ?";
+
+    private static final String SELECT_CLAIMABLE_CHUNKS =
+        "SELECT chunk_no, from_user_id, to_user_id FROM recommendation_batch_chunks " +
+        "WHERE job_id = ? AND chunk_status = 'PENDING' AND (claimed_until IS NULL OR claimed_until < NOW()) " +
+        "ORDER BY chunk_no LIMIT ? FOR UPDATE SKIP LOCKED";
+
+    private static final String CLAIM_CHUNKS =
+        "UPDATE recommendation_batch_chunks SET claimed_by = :owner, claimed_until = NOW() + INTERVAL :leaseSeconds SECOND " +
+        "WHERE job_id = :jobId AND chunk_no IN (:chunkNos)";
+
+    private static final String RELEASE_CHUNK =
+        "UPDATE recommendation_batch_chunks SET claimed_by = NULL, claimed_until = NULL " +
+        "WHERE job_id = ? AND chunk_no = ? AND claimed_by = ? AND chunk_status = 'PENDING'";
+
+    private static final String COUNT_PENDING_CHUNKS =
+        "SELECT COUNT(*) FROM recommendation_batch_chunks WHERE job_id = ? AND chunk_status = 'PENDING'";
+
+    private static final String COMPLETE_CHUNK =
+        "UPDATE recommendation_batch_chunks SET chunk_status = 'COMPLETED', completed_at = CURRENT_TIMESTAMP, " +
+        "claimed_until = NULL WHERE job_id = ? AND chunk_no = ? AND claimed_by = ? AND chunk_status = 'PENDING'";
+
+    private static final String RESUME_JOB =
+        "UPDATE recommendation_batch_jobs SET job_status = 'RUNNING', finished_at = NULL WHERE job_id = ?";
+
+    private static final String UPDATE_JOB_STATUS =
+        "UPDATE recommendation_batch_jobs SET job_status = ?, finished_at = CURRENT_TIMESTAMP " +
+        "WHERE job_id = ? AND job_status <> 'COMPLETED'";
+
+    private static final String SELECT_TOTAL_CHUNKS =
+        "SELECT total_chunks FROM recommendation_batch_jobs WHERE job_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * 완료되지 않은 마지막 작업 (재시작 대상)
+     */
+    public Long findResumableJobId() {
+        List<Long> jobIds = jdbcTemplate.queryForList(SELECT_RUNNING_JOB, Long.class);
+        return jobIds.isEmpty() ? null : jobIds.get(0);
+    }
+
+    /**
+     * 작업 생성 후 활성 사용자를 chunkSize 단위 user_id 구간으로 분할해 저장 (트랜잭션 안에서 호출)
+     * 미완료 작업이 이미 있으면 uk_recommendation_batch_jobs_unfinished로 DuplicateKeyException
+     */
+    public long createJob(int chunkSize) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(INSERT_JOB, Statement.RETURN_GENERATED_KEYS);
+            return ps;
+        }, keyHolder);
+        long jobId = keyHolder.getKey().longValue();
+
+        List<Object[]> chunks = new ArrayList<>();
+        long[] range = new long[3]; // from, to, count
+        jdbcTemplate.query(SELECT_ACTIVE_USER_IDS, rs -> {
+            long userId = rs.getLong(1);
+            if (range[2] == 0) {
+                range[0] = userId;
+            }
+            range[1] = userId;
+            if (++range[2] == chunkSize) {
+                chunks.add(new Object[]{jobId, chunks.size(), range[0], range[1]});
+                range[2] = 0;
+            }
+        });
+        if (range[2] > 0) {
+            chunks.add(new Object[]{jobId, chunks.size(), range[0], range[1]});
+        }
+
+        if (!chunks.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_CHUNK, chunks);
+        }
+        jdbcTemplate.update(UPDATE_JOB_TOTAL, chunks.size(), jobId);
+        return jobId;
+    }
+
+    public void resumeJob(long jobId) {
+        jdbcTemplate.update(RESUME_JOB, jobId);
+    }
+
+    /**
+     * 임대가 없거나 끝난 미완료 구간을 limit개까지 선점 (트랜잭션 안에서 호출)
+     */
+    public List<long[]> claimChunks(long jobId, String owner, int limit, int leaseSeconds) {
+        List<long[]> chunks = jdbcTemplate.query(SELECT_CLAIMABLE_CHUNKS,
+            (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2), rs.getLong(3)}, jobId, limit);
+        if (chunks.isEmpty()) {
+            return chunks;
+        }
+        List<Long> chunkNos = new ArrayList<>(chunks.size());
+        for (long[] chunk : chunks) {
+            chunkNos.add(chunk[0]);
+        }
+        namedParameterJdbcTemplate.update(CLAIM_CHUNKS, new MapSqlParameterSource("owner", owner)
+            .addValue("leaseSeconds", leaseSeconds)
+            .addValue("jobId", jobId)
+            .addValue("chunkNos", chunkNos));
+        return chunks;
+    }
+
+    /**
+     * 실패한 구간의 선점 해제 (다음 실행에서 바로 다시 처리)
+     */
+    public void releaseChunk(long jobId, long chunkNo, String owner) {
+        jdbcTemplate.update(RELEASE_CHUNK, jobId, chunkNo, owner);
+    }
+
+    public int countPendingChunks(long jobId) {
+        Integer count = jdbcTemplate.queryForObject(COUNT_PENDING_CHUNKS, Integer.class, jobId);
+        return count == null ? 0 : count;
+    }
+
+    public int findTotalChunks(long jobId) {
+        Integer total = jdbcTemplate.queryForObject(SELECT_TOTAL_CHUNKS, Integer.class, jobId);
+        return total == null ? 0 : total;
+    }
+
+    /**
+     * @return 임대가 끝나 다른 노드가 가져갔으면 false
+     */
+    public boolean completeChunk(long jobId, long chunkNo, String owner) {
+        return jdbcTemplate.update(COMPLETE_CHUNK, jobId, chunkNo, owner) == 1;
+    }
+
+    public void finishJob(long jobId, boolean succeeded) {
+        jdbcTemplate.update(UPDATE_JOB_STATUS, succeeded ? "COMPLETED" : "FAILED", jobId);
+    }
+}
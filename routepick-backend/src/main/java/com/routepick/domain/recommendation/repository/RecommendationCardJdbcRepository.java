@@ -0,0 +1,117 @@
+package com.routepick.domain.recommendation.repository;
+
+import com.routepick.service.recommendation.RecommendationCard;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 추천 카드 적재 (v_user_recommended_routes 대체)
+ * 태그 이름은 GROUP_CONCAT / GROUP BY 대신 카드를 먼저 고른 뒤 그 루트들만 조회해 루트별로 모음
+ */
+@Repository
+@RequiredArgsConstructor
+public class RecommendationCardJdbcRepository {
+
+    private static final String SELECT_CARDS =
+        "SELECT urr.route_id, r.name, r.level_id, cl.level_name, gb.branch_name, w.wall_name, r.color, r.angle, " +
+        "urr.recommendation_score, urr.tag_match_score, urr.level_match_score " +
+        "FROM user_route_recommendations urr " +
+        "JOIN routes r ON urr.route_id = r.route_id " +
+        "JOIN climbing_levels cl ON r.level_id = cl.level_id " +
+        "JOIN gym_branches gb ON r.branch_id = gb.branch_id " +
+        "JOIN walls w ON r.wall_id = w.wall_id " +
+        "WHERE urr.user_id = ? AND urr.is_active = 1 AND r.route_status = 'ACTIVE' " +
+        "ORDER BY urr.recommendation_score DESC, urr.route_id LIMIT ?";
+
+    private static final String SELECT_TAG_NAMES =
+        "SELECT rt.route_id, t.tag_name FROM route_tags rt " +
+        "JOIN tags t ON rt.tag_id = t.tag_id " +
+        "WHERE rt.route_id IN (:routeIds) " +
+        "ORDER BY rt.route_id, t.display_order, t.tag_name";
+
+    private static final String SELECT_ROUTES_WITH_TAG =
+        "SELECT route_id FROM route_tags WHERE tag_id = ?";
+
+    private static final String SELECT_USERS_RECOMMENDED_BRANCH =
+        "SELECT DISTINCT urr.user_id FROM user_route_recommendations urr " +
+        "JOIN routes r ON urr.route_id = r.route_id WHERE r.branch_id = ?";
+
+    private static final String SELECT_USERS_RECOMMENDED_TAG =
+        "SELECT DISTINCT urr.user_id FROM user_route_recommendations urr " +
+        "JOIN route_tags rt ON urr.route_id = rt.route_id WHERE rt.tag_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * 추천 점수 상위 limit개 카드 (활성 루트만)
+     */
+    public List<RecommendationCard> findCards(long userId, int limit) {
+        List<RecommendationCard> cards = findCardsWithoutTagNames(userId, limit);
+        List<Integer> routeIds = new ArrayList<>(cards.size());
+        for (RecommendationCard card : cards) {
+            routeIds.add(card.getRouteId());
+        }
+        Map<Integer, List<String>> tagNames = findTagNames(routeIds);
+        List<RecommendationCard> result = new ArrayList<>(cards.size());
+        for (RecommendationCard card : cards) {
+            result.add(card.withTagNames(tagNames.getOrDefault(card.getRouteId(), Collections.emptyList())));
+        }
+        return result;
+    }
+
+    /**
+     * findCards와 같은 카드에서 태그 이름만 비운 것 (태그 이름은 호출자가 findTagNames나 캐시로 채움)
+     */
+    public List<RecommendationCard> findCardsWithoutTagNames(long userId, int limit) {
+        return jdbcTemplate.query(SELECT_CARDS, (rs, rowNum) -> new RecommendationCard(
+            rs.getInt(1),
+            rs.getString(2),
+            rs.getInt(3),
+            rs.getString(4),
+            rs.getString(5),
+            rs.getString(6),
+            rs.getString(7),
+            rs.getString(8),
+            Collections.emptyList(),
+            rs.getFloat(9),
+            rs.getFloat(10),
+            rs.getFloat(11)
+        ), userId, limit);
+    }
+
+    /**
+     * 루트별 태그 이름 (표시 순서, 태그 없는 루트는 결과에 없음)
+     */
+    public Map<Integer, List<String>> findTagNames(Collection<Integer> routeIds) {
+        Map<Integer, List<String>> tagNames = new HashMap<>();
+        if (routeIds.isEmpty()) {
+            return tagNames;
+        }
+        namedParameterJdbcTemplate.query(SELECT_TAG_NAMES, Map.of("routeIds", routeIds), rs -> {
+            tagNames.computeIfAbsent(rs.getInt(1), routeId -> new ArrayList<>()).add(rs.getString(2));
+        });
+        return tagNames;
+    }
+
+    public List<Long> findUserIdsRecommendedBranch(int branchId) {
+        return jdbcTemplate.queryForList(SELECT_USERS_RECOMMENDED_BRANCH, Long.class, branchId);
+    }
+
+    public List<Long> findUserIdsRecommendedTag(int tagId) {
+        return jdbcTemplate.queryForList(SELECT_USERS_RECOMMENDED_TAG, Long.class, tagId);
+    }
+
+    public List<Integer> findRouteIdsWithTag(int tagId) {
+        return jdbcTemplate.queryForList(SELECT_ROUTES_WITH_TAG, Integer.class, tagId);
+    }
+}
@@ -0,0 +1,270 @@
+package com.routepick.domain.recommendation.repository;
+
+import com.routepick.service.recommendation.RecommendationResult;
+import com.routepick.service.recommendation.UserPreference;
+import com.routepick.util.FloatArrayList;
+import com.routepick.util.IntArrayList;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * user_preferred_tags / user_profile 조회 및 user_route_recommendations 저장
+ */
+@Repository
+@RequiredArgsConstructor
+public class RecommendationJdbcRepository {
+
+    private static final String SELECT_PREFERRED_TAGS =
+        "SELECT tag_id, preference_level FROM user_preferred_tags WHERE user_id = ?";
+
+    private static final String SELECT_USER_LEVEL =
+        "SELECT MIN(level_id) FROM user_profile WHERE user_id = ?";
+
+    private static final String DELETE_USER_RECOMMENDATIONS =
+        "DELETE FROM user_route_recommendations WHERE user_id = ?";
+
+    private static final String INSERT_RECOMMENDATION =
+        "INSERT INTO user_route_recommendations " +
+        "(user_id, route_id, recommendation_score, tag_match_score, level_match_score) " +
+        "VALUES (?, ?, ?, ?, ?)";
+
+    private static final String SELECT_PREFERRED_TAGS_OF_USERS =
+        "SELECT user_id, tag_id, preference_level FROM user_preferred_tags WHERE user_id IN (:userIds)";
+
+    private static final String SELECT_LEVELS_OF_USERS =
+        "SELECT user_id, MIN(level_id) FROM user_profile " +
+        "WHERE user_id IN (:userIds) AND level_id IS NOT NULL GROUP BY user_id";
+
+    private static final String SELECT_USERS_PREFERRING_TAGS =
+        "SELECT DISTINCT user_id FROM user_preferred_tags WHERE tag_id IN (:tagIds)";
+
+    private static final String SELECT_USERS_AT_LEVEL =
+        "SELECT DISTINCT user_id FROM user_profile WHERE level_id = ? AND user_id > ? ORDER BY user_id LIMIT ?";
+
+    private static final String SELECT_USERS_RECOMMENDED_ROUTE =
+        "SELECT user_id FROM user_route_recommendations WHERE route_id = ?";
+
+    private static final String UPSERT_RECOMMENDATION =
+        "INSERT INTO user_route_recommendations " +
+        "(user_id, route_id, recommendation_score, tag_match_score, level_match_score) " +
+        "VALUES (?, ?, ?, ?, ?) " +
+        "ON DUPLICATE KEY UPDATE recommendation_score = VALUES(recommendation_score), " +
+        "tag_match_score = VALUES(tag_match_score), level_match_score = VALUES(level_match_score), " +
+        "calculated_at = CURRENT_TIMESTAMP, is_active = 1";
+
+    private static final String DELETE_USER_ROUTE_RECOMMENDATION =
+        "DELETE FROM user_route_recommendations WHERE user_id = ? AND route_id = ?";
+
+    private static final String DELETE_ROUTE_RECOMMENDATIONS =
+        "DELETE FROM user_route_recommendations WHERE route_id = ?";
+
+    private static final String DELETE_RECOMMENDATIONS_BEYOND_LIMIT =
+        "DELETE r FROM user_route_recommendations r JOIN (" +
+        "SELECT recommendation_id, ROW_NUMBER() OVER (PARTITION BY user_id " +
+        "ORDER BY recommendation_score DESC, route_id) AS rank_no " +
+        "FROM user_route_recommendations WHERE user_id IN (:userIds)) ranked " +
+        "ON ranked.recommendation_id = r.recommendation_id WHERE ranked.rank_no > :limit";
+
+    private static final String SELECT_ACTIVE_USERS_IN_RANGE =
+        "SELECT user_id FROM users WHERE user_id BETWEEN ? AND ? AND user_status = 'ACTIVE' ORDER BY user_id";
+
+    private static final String SELECT_PREFERRED_TAGS_IN_RANGE =
+        "SELECT user_id, tag_id, preference_level FROM user_preferred_tags WHERE user_id BETWEEN ? AND ?";
+
+    private static final String SELECT_LEVELS_IN_RANGE =
+        "SELECT user_id, MIN(level_id) FROM user_profile " +
+        "WHERE user_id BETWEEN ? AND ? AND level_id IS NOT NULL GROUP BY user_id";
+
+    private static final String DELETE_RECOMMENDATIONS_IN_RANGE =
+        "DELETE FROM user_route_recommendations WHERE user_id BETWEEN ? AND ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public UserPreference findUserPreference(long userId) {
+        IntArrayList tagIds = new IntArrayList();
+        FloatArrayList weights = new FloatArrayList();
+        jdbcTemplate.query(SELECT_PREFERRED_TAGS, rs -> {
+            tagIds.add(rs.getInt(1));
+            weights.add(UserPreference.preferenceWeight(rs.getString(2)));
+        }, userId);
+
+        Integer level = jdbcTemplate.queryForObject(SELECT_USER_LEVEL, Integer.class, userId);
+        int levelId = level == null ? UserPreference.NO_LEVEL : level;
+
+        return new UserPreference(userId, tagIds.toArray(), weights.toArray(), levelId);
+    }
+
+    public void replaceUserRecommendations(RecommendationResult result) {
+        jdbcTemplate.update(DELETE_USER_RECOMMENDATIONS, result.getUserId());
+        if (result.size() == 0) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_RECOMMENDATION, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setLong(1, result.getUserId());
+                ps.setInt(2, result.routeId(i));
+                ps.setDouble(3, result.score(i));
+                ps.setDouble(4, result.tagScore(i));
+                ps.setDouble(5, result.levelScore(i));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return result.size();
+            }
+        });
+    }
+
+    /**
+     * 여러 사용자의 선호 정보를 두 번의 쿼리로 조회
+     */
+    public Map<Long, UserPreference> findUserPreferences(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return new HashMap<>();
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource("userIds", userIds);
+        PreferenceRows rows = new PreferenceRows();
+        namedParameterJdbcTemplate.query(SELECT_PREFERRED_TAGS_OF_USERS, params, rows::addTag);
+        namedParameterJdbcTemplate.query(SELECT_LEVELS_OF_USERS, params, rows::addLevel);
+        return rows.build(userIds);
+    }
+
+    /**
+     * user_id 범위의 활성 사용자 선호 정보 조회 (배치용, user_id 오름차순)
+     */
+    public List<UserPreference> findUserPreferencesInRange(long fromUserId, long toUserId) {
+        List<Long> userIds = jdbcTemplate.queryForList(SELECT_ACTIVE_USERS_IN_RANGE, Long.class, fromUserId, toUserId);
+        if (userIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        PreferenceRows rows = new PreferenceRows();
+        jdbcTemplate.query(SELECT_PREFERRED_TAGS_IN_RANGE, rows::addTag, fromUserId, toUserId);
+        jdbcTemplate.query(SELECT_LEVELS_IN_RANGE, rows::addLevel, fromUserId, toUserId);
+
+        Map<Long, UserPreference> preferences = rows.build(userIds);
+        List<UserPreference> result = new ArrayList<>(userIds.size());
+        for (Long userId : userIds) {
+            result.add(preferences.get(userId));
+        }
+        return result;
+    }
+
+    /**
+     * user_id 범위의 추천을 한 번에 교체 (호출 측 트랜잭션 안에서 실행)
+     */
+    public int replaceRecommendationsInRange(long fromUserId, long toUserId, List<RecommendationResult> results) {
+        jdbcTemplate.update(DELETE_RECOMMENDATIONS_IN_RANGE, fromUserId, toUserId);
+        upsertRecommendations(results);
+        int rows = 0;
+        for (RecommendationResult result : results) {
+            rows += result.size();
+        }
+        return rows;
+    }
+
+    public List<Long> findUserIdsPreferringTags(Collection<Integer> tagIds) {
+        if (tagIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return namedParameterJdbcTemplate.queryForList(SELECT_USERS_PREFERRING_TAGS,
+            new MapSqlParameterSource("tagIds", tagIds), Long.class);
+    }
+
+    /**
+     * 해당 레벨 사용자 중 afterUserId 다음부터 user_id 순으로 limit명 (idx_user_profile_level_user 범위 스캔)
+     */
+    public List<Long> findUserIdsAtLevel(int levelId, long afterUserId, int limit) {
+        return jdbcTemplate.queryForList(SELECT_USERS_AT_LEVEL, Long.class, levelId, afterUserId, limit);
+    }
+
+    public List<Long> findUserIdsRecommendedRoute(int routeId) {
+        return jdbcTemplate.queryForList(SELECT_USERS_RECOMMENDED_ROUTE, Long.class, routeId);
+    }
+
+    public void upsertRecommendations(List<RecommendationResult> results) {
+        List<Object[]> rows = new ArrayList<>();
+        for (RecommendationResult result : results) {
+            for (int i = 0; i < result.size(); i++) {
+                rows.add(new Object[]{result.getUserId(), result.routeId(i),
+                    result.score(i), result.tagScore(i), result.levelScore(i)});
+            }
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_RECOMMENDATION, rows);
+        }
+    }
+
+    public void deleteRecommendations(int routeId, Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>(userIds.size());
+        for (Long userId : userIds) {
+            rows.add(new Object[]{userId, routeId});
+        }
+        jdbcTemplate.batchUpdate(DELETE_USER_ROUTE_RECOMMENDATION, rows);
+    }
+
+    /**
+     * 사용자별 점수 상위 limit개를 넘는 추천 행 삭제
+     */
+    public int trimRecommendations(Collection<Long> userIds, int limit) {
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource("userIds", userIds).addValue("limit", limit);
+        return namedParameterJdbcTemplate.update(DELETE_RECOMMENDATIONS_BEYOND_LIMIT, params);
+    }
+
+    public int deleteRouteRecommendations(int routeId) {
+        return jdbcTemplate.update(DELETE_ROUTE_RECOMMENDATIONS, routeId);
+    }
+
+    /**
+     * (user_id, tag_id, preference_level) / (user_id, level_id) 행을 사용자별로 모음
+     */
+    private static final class PreferenceRows {
+
+        private final Map<Long, IntArrayList> tagIds = new HashMap<>();
+        private final Map<Long, FloatArrayList> weights = new HashMap<>();
+        private final Map<Long, Integer> levels = new HashMap<>();
+
+        void addTag(ResultSet rs) throws SQLException {
+            long userId = rs.getLong(1);
+            tagIds.computeIfAbsent(userId, id -> new IntArrayList()).add(rs.getInt(2));
+            weights.computeIfAbsent(userId, id -> new FloatArrayList())
+                .add(UserPreference.preferenceWeight(rs.getString(3)));
+        }
+
+        void addLevel(ResultSet rs) throws SQLException {
+            levels.put(rs.getLong(1), rs.getInt(2));
+        }
+
+        Map<Long, UserPreference> build(Collection<Long> userIds) {
+            Map<Long, UserPreference> preferences = new HashMap<>();
+            for (Long userId : userIds) {
+                IntArrayList userTagIds = tagIds.get(userId);
+                preferences.put(userId, new UserPreference(userId,
+                    userTagIds == null ? new int[0] : userTagIds.toArray(),
+                    userTagIds == null ? new float[0] : weights.get(userId).toArray(),
+                    levels.getOrDefault(userId, UserPreference.NO_LEVEL)));
+            }
+            return preferences;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.routepick.domain.recommendation.repository;
+
+import com.routepick.service.recommendation.RouteNeighborList;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 유사 루트 계산용 사용자-루트 기록 조회와 route_neighbors 저장/조회
+ */
+@Repository
+@RequiredArgsConstructor
+public class RouteNeighborJdbcRepository {
+
+    private static final String SELECT_INTERACTIONS =
+        "SELECT user_id, route_id FROM user_climbs WHERE record_status = 'ACTIVE' " +
+        "UNION ALL " +
+        "SELECT user_id, route_id FROM route_scraps WHERE scrap_status = 'ACTIVE'";
+
+    private static final String UPSERT_NEIGHBORS =
+        "INSERT INTO route_neighbors (route_id, neighbor_count, neighbors, generation, computed_at) " +
+        "VALUES (?, ?, ?, ?, CURRENT_TIMESTAMP) " +
+        "ON DUPLICATE KEY UPDATE neighbor_count = VALUES(neighbor_count), neighbors = VALUES(neighbors), " +
+        "generation = VALUES(generation), computed_at = VALUES(computed_at)";
+
+    private static final String SELECT_NEXT_GENERATION =
+        "SELECT COALESCE(MAX(generation), 0) + 1 FROM route_neighbors";
+
+    private static final String DELETE_OTHER_GENERATIONS =
+        "DELETE FROM route_neighbors WHERE generation <> ?";
+
+    private static final String SELECT_NEIGHBORS =
+        "SELECT route_id, neighbors FROM route_neighbors WHERE route_id IN (:routeIds)";
+
+    private static final String SELECT_RECENT_ROUTES_OF_USER =
+        "SELECT route_id FROM (" +
+        "(SELECT route_id, created_at FROM user_climbs WHERE user_id = ? AND record_status = 'ACTIVE' " +
+        "ORDER BY created_at DESC LIMIT ?) " +
+        "UNION ALL " +
+        "(SELECT route_id, created_at FROM route_scraps WHERE user_id = ? AND scrap_status = 'ACTIVE' " +
+        "ORDER BY created_at DESC LIMIT ?)) recent ORDER BY created_at DESC LIMIT ?";
+
+    private static final String SELECT_RECENT_ROUTES_OF_USERS =
+        "SELECT user_id, route_id FROM (" +
+        "SELECT user_id, route_id, ROW_NUMBER() OVER (PARTITION BY user_id ORDER BY created_at DESC) AS recency FROM (" +
+        "SELECT user_id, route_id, created_at FROM user_climbs WHERE user_id IN (:userIds) AND record_status = 'ACTIVE' " +
+        "UNION ALL " +
+        "SELECT user_id, route_id, created_at FROM route_scraps WHERE user_id IN (:userIds) AND scrap_status = 'ACTIVE'" +
+        ") recent) ranked WHERE recency <= :limit";
+
+    // 만료됐거나 이 노드가 가진 임대만 가져감 (leased_by를 먼저 바꾸므로 leased_until 조건은 바뀐 값 기준)
+    private static final String ACQUIRE_LEASE =
+        "INSERT INTO job_leases (job_name, leased_by, leased_until) VALUES (?, ?, NOW() + INTERVAL ? SECOND) " +
+        "ON DUPLICATE KEY UPDATE " +
+        "leased_by = IF(leased_until <= NOW() OR leased_by = VALUES(leased_by), VALUES(leased_by), leased_by), " +
+        "leased_until = IF(leased_by = VALUES(leased_by), VALUES(leased_until), leased_until)";
+
+    private static final String RENEW_LEASE =
+        "UPDATE job_leases SET leased_until = NOW() + INTERVAL ? SECOND " +
+        "WHERE job_name = ? AND leased_by = ? AND leased_until > NOW()";
+
+    private static final String RELEASE_LEASE =
+        "UPDATE job_leases SET leased_until = NOW() WHERE job_name = ? AND leased_by = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public interface InteractionHandler {
+        void accept(int userId, int routeId);
+    }
+
+    /**
+     * 활성 완등 기록과 스크랩을 스트리밍으로 전달 (결과 전체를 메모리에 올리지 않음)
+     */
+    public void streamInteractions(InteractionHandler handler) {
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(SELECT_INTERACTIONS,
+                ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            // MySQL Connector/J 행 단위 스트리밍
+            ps.setFetchSize(Integer.MIN_VALUE);
+            return ps;
+        }, rs -> {
+            handler.accept(rs.getInt(1), rs.getInt(2));
+        });
+    }
+
+    /**
+     * 이번 재계산의 세대 번호 (저장된 세대보다 1 큼)
+     */
+    public long nextGeneration() {
+        Long generation = jdbcTemplate.queryForObject(SELECT_NEXT_GENERATION, Long.class);
+        return generation != null ? generation : 1;
+    }
+
+    /**
+     * @param rows {route_id, neighbor_count, neighbors(byte[]), generation}
+     */
+    public void upsertNeighbors(List<Object[]> rows) {
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_NEIGHBORS, rows);
+        }
+    }
+
+    /**
+     * 이번 계산에서 유사 루트가 나오지 않은 루트의 이전 결과 삭제
+     */
+    public int deleteNeighborsOfOtherGenerations(long generation) {
+        return jdbcTemplate.update(DELETE_OTHER_GENERATIONS, generation);
+    }
+
+    /**
+     * 작업 임대 획득 (다른 노드의 임대가 살아 있으면 false)
+     */
+    public boolean acquireLease(String jobName, String nodeId, int leaseSeconds) {
+        jdbcTemplate.update(ACQUIRE_LEASE, jobName, nodeId, leaseSeconds);
+        return renewLease(jobName, nodeId, leaseSeconds);
+    }
+
+    /**
+     * 임대 연장 (이미 만료됐거나 다른 노드가 가져갔으면 false, Connector/J 기본값대로 일치한 행 수 기준)
+     * 트랜잭션 안에서 호출하면 커밋까지 임대 행을 잠가 다른 노드가 그 사이 가져가지 못함
+     */
+    public boolean renewLease(String jobName, String nodeId, int leaseSeconds) {
+        return jdbcTemplate.update(RENEW_LEASE, leaseSeconds, jobName, nodeId) > 0;
+    }
+
+    public void releaseLease(String jobName, String nodeId) {
+        jdbcTemplate.update(RELEASE_LEASE, jobName, nodeId);
+    }
+
+    /**
+     * 사용자가 최근 완등/스크랩한 루트 (최신순, 중복 가능)
+     */
+    public List<Integer> findRecentRouteIds(long userId, int limit) {
+        return jdbcTemplate.queryForList(SELECT_RECENT_ROUTES_OF_USER, Integer.class, userId, limit, userId, limit, limit);
+    }
+
+    /**
+     * 여러 사용자의 최근 완등/스크랩 루트 (사용자별 최대 limit개, 중복 가능)
+     */
+    public Map<Long, List<Integer>> findRecentRouteIds(Collection<Long> userIds, int limit) {
+        Map<Long, List<Integer>> routeIds = new HashMap<>();
+        if (userIds.isEmpty()) {
+            return routeIds;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource("userIds", userIds).addValue("limit", limit);
+        namedParameterJdbcTemplate.query(SELECT_RECENT_ROUTES_OF_USERS, params, rs -> {
+            routeIds.computeIfAbsent(rs.getLong(1), userId -> new ArrayList<>()).add(rs.getInt(2));
+        });
+        return routeIds;
+    }
+
+    public Map<Integer, RouteNeighborList> findNeighbors(Collection<Integer> routeIds) {
+        Map<Integer, RouteNeighborList> neighbors = new HashMap<>();
+        if (routeIds.isEmpty()) {
+            return neighbors;
+        }
+        namedParameterJdbcTemplate.query(SELECT_NEIGHBORS, new MapSqlParameterSource("routeIds", routeIds), rs -> {
+            neighbors.put(rs.getInt(1), RouteNeighborList.decode(rs.getBytes(2)));
+        });
+        return neighbors;
+    }
+}
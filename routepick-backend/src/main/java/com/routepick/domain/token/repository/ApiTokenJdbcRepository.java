@@ -0,0 +1,68 @@
+package com.routepick.domain.token.repository;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * api_tokens 조회/기록 (token 컬럼에는 SHA-256 해시 저장)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ApiTokenJdbcRepository {
+
+    private static final String EXISTS_REVOKED_TOKEN =
+        "SELECT EXISTS(SELECT 1 FROM api_tokens WHERE token = ? AND is_revoked = 1)";
+
+    private static final String INSERT_TOKEN =
+        "INSERT INTO api_tokens (user_id, token, token_type, expires_at, is_revoked) VALUES (?, ?, ?, ?, ?)";
+
+    private static final String REVOKE_TOKEN =
+        "UPDATE api_tokens SET is_revoked = 1 WHERE token = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public boolean isRevoked(String tokenHash) {
+        Boolean revoked = jdbcTemplate.queryForObject(EXISTS_REVOKED_TOKEN, Boolean.class, tokenHash);
+        return Boolean.TRUE.equals(revoked);
+    }
+
+    /**
+     * 토큰 발급/폐기 기록을 한 번에 반영 (실패 시 묶음 전체를 재시도할 수 있도록 한 트랜잭션)
+     */
+    @Transactional
+    public void saveAll(List<TokenRecord> inserts, List<String> revokedTokenHashes) {
+        if (!inserts.isEmpty()) {
+            List<Object[]> rows = new ArrayList<>(inserts.size());
+            for (TokenRecord record : inserts) {
+                rows.add(new Object[]{record.getUserId(), record.getTokenHash(), record.getTokenType(),
+                    new Timestamp(record.getExpiresAtMillis()), record.isRevoked()});
+            }
+            jdbcTemplate.batchUpdate(INSERT_TOKEN, rows);
+        }
+        if (!revokedTokenHashes.isEmpty()) {
+            List<Object[]> rows = new ArrayList<>(revokedTokenHashes.size());
+            for (String tokenHash : revokedTokenHashes) {
+                rows.add(new Object[]{tokenHash});
+            }
+            jdbcTemplate.batchUpdate(REVOKE_TOKEN, rows);
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class TokenRecord {
+
+        private final Long userId;
+        private final String tokenHash;
+        private final String tokenType;
+        private final long expiresAtMillis;
+        private final boolean revoked;
+    }
+}
@@ -0,0 +1,21 @@
+package com.routepick.monitoring;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * api_logs 한 행
+ */
+@Getter
+@RequiredArgsConstructor
+public class ApiLogEntry {
+
+    private final Long userId;
+    private final String endpoint;
+    private final String method;
+    private final String requestIp;
+    private final long requestTimeMillis;
+    private final int responseTimeMillis;
+    private final int statusCode;
+    private final String userAgent;
+}
@@ -0,0 +1,165 @@
+package com.routepick.monitoring;
+
+import com.routepick.domain.log.repository.ApiLogJdbcRepository;
+import com.routepick.util.RingBuffer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * api_logs 비동기 기록
+ * 요청 스레드는 링 버퍼에 넣기만 하고, 전용 스레드가 batch-size 행 또는 flush-interval마다 다중 행 INSERT
+ * 버퍼가 가득 차면 DROP_OLDEST(가장 오래된 항목 버림) 또는 BLOCK(최대 block-timeout 대기 후 버림)
+ * 제약 위반(삭제된 사용자 FK 등)으로 묶음이 실패하면 행 단위로 다시 넣어 문제 행만 기록하고 버림
+ */
+@Slf4j
+@Component
+public class ApiLogWriter {
+
+    public enum OverflowPolicy {
+        DROP_OLDEST,
+        BLOCK
+    }
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final ApiLogJdbcRepository apiLogJdbcRepository;
+    private final RingBuffer<ApiLogEntry> buffer;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final OverflowPolicy overflowPolicy;
+    private final long blockTimeoutNanos;
+
+    private final Counter dropped;
+    private final Counter written;
+    private final Counter failed;
+
+    private volatile boolean running = true;
+    private Thread flusher;
+
+    public ApiLogWriter(ApiLogJdbcRepository apiLogJdbcRepository,
+                        MeterRegistry meterRegistry,
+                        @Value("${app.api-log.capacity:8192}") int capacity,
+                        @Value("${app.api-log.batch-size:500}") int batchSize,
+                        @Value("${app.api-log.flush-interval-ms:1000}") long flushIntervalMillis,
+                        @Value("${app.api-log.overflow-policy:DROP_OLDEST}") OverflowPolicy overflowPolicy,
+                        @Value("${app.api-log.block-timeout-ms:5}") long blockTimeoutMillis) {
+        this.apiLogJdbcRepository = apiLogJdbcRepository;
+        this.buffer = new RingBuffer<>(capacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        this.overflowPolicy = overflowPolicy;
+        this.blockTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(blockTimeoutMillis);
+
+        meterRegistry.gauge("api_log.queue.depth", buffer, RingBuffer::size);
+        this.dropped = meterRegistry.counter("api_log.dropped");
+        this.written = meterRegistry.counter("api_log.written");
+        this.failed = meterRegistry.counter("api_log.write.failed");
+    }
+
+    @PostConstruct
+    public void start() {
+        flusher = new Thread(this::runFlusher, "api-log-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    public void append(ApiLogEntry entry) {
+        if (buffer.offer(entry)) {
+            return;
+        }
+        if (overflowPolicy == OverflowPolicy.DROP_OLDEST) {
+            // 다른 생산자와 경쟁하므로 몇 번만 재시도
+            for (int attempt = 0; attempt < 3; attempt++) {
+                if (buffer.poll() != null) {
+                    dropped.increment();
+                }
+                if (buffer.offer(entry)) {
+                    return;
+                }
+            }
+        } else {
+            long deadline = System.nanoTime() + blockTimeoutNanos;
+            while (System.nanoTime() < deadline) {
+                LockSupport.parkNanos(BLOCK_PARK_NANOS);
+                if (buffer.offer(entry)) {
+                    return;
+                }
+            }
+        }
+        dropped.increment();
+    }
+
+    private void runFlusher() {
+        List<ApiLogEntry> batch = new ArrayList<>(batchSize);
+        long lastFlush = System.nanoTime();
+        while (running || buffer.size() > 0) {
+            ApiLogEntry entry = buffer.poll();
+            if (entry != null) {
+                batch.add(entry);
+            }
+            boolean due = System.nanoTime() - lastFlush >= flushIntervalNanos;
+            if (batch.size() >= batchSize || (due && !batch.isEmpty()) || (!running && entry == null)) {
+                flush(batch);
+                lastFlush = System.nanoTime();
+            } else if (entry == null) {
+                if (due) {
+                    lastFlush = System.nanoTime();
+                }
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+        flush(batch);
+    }
+
+    private void flush(List<ApiLogEntry> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            apiLogJdbcRepository.insertAll(batch);
+            written.increment(batch.size());
+        } catch (DataIntegrityViolationException e) {
+            log.warn("api_logs batch of {} rows violated a constraint; retrying row by row", batch.size());
+            insertEach(batch);
+        } catch (RuntimeException e) {
+            failed.increment(batch.size());
+            log.error("Failed to write {} api_logs rows", batch.size(), e);
+        } finally {
+            batch.clear();
+        }
+    }
+
+    private void insertEach(List<ApiLogEntry> batch) {
+        for (ApiLogEntry entry : batch) {
+            try {
+                apiLogJdbcRepository.insertAll(List.of(entry));
+                written.increment();
+            } catch (RuntimeException e) {
+                failed.increment();
+                log.error("Failed to write api_logs row (user={}, {} {})",
+                    entry.getUserId(), entry.getMethod(), entry.getEndpoint(), e);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (flusher != null) {
+            LockSupport.unpark(flusher);
+            flusher.join(TimeUnit.SECONDS.toMillis(10));
+        }
+    }
+}
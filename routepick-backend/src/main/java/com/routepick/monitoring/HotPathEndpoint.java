@@ -0,0 +1,79 @@
+package com.routepick.monitoring;
+
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * /actuator/hotpath: 구간별 백분위와 가장 느린 기록
+ * count/mean은 기동 이후 누적, max/백분위는 최근 window 기준
+ * DELETE로 느린 기록만 비움 (타이머는 그대로)
+ */
+@Component
+@Endpoint(id = "hotpath")
+@RequiredArgsConstructor
+public class HotPathEndpoint {
+
+    private final HotPathMetrics hotPathMetrics;
+
+    @ReadOperation
+    public Map<String, StageReport> stages() {
+        Map<String, StageReport> reports = new LinkedHashMap<>();
+        for (HotPathStage stage : HotPathStage.values()) {
+            reports.put(stage.getTag(), report(stage));
+        }
+        return reports;
+    }
+
+    /**
+     * 없는 구간이면 404
+     */
+    @ReadOperation
+    public StageReport stage(@Selector String stage) {
+        HotPathStage hotPathStage = HotPathStage.fromTag(stage);
+        return hotPathStage != null ? report(hotPathStage) : null;
+    }
+
+    @DeleteOperation
+    public void resetSamples() {
+        hotPathMetrics.resetSamples();
+    }
+
+    private StageReport report(HotPathStage stage) {
+        HistogramSnapshot snapshot = hotPathMetrics.timer(stage).takeSnapshot();
+        Map<String, Double> percentiles = new LinkedHashMap<>();
+        for (ValueAtPercentile value : snapshot.percentileValues()) {
+            percentiles.put(percentileKey(value.percentile()), value.value(TimeUnit.MILLISECONDS));
+        }
+        return new StageReport(snapshot.count(), snapshot.mean(TimeUnit.MILLISECONDS),
+            snapshot.max(TimeUnit.MILLISECONDS), percentiles, hotPathMetrics.slowest(stage));
+    }
+
+    // 0.999 -> p99.9
+    private static String percentileKey(double percentile) {
+        return "p" + BigDecimal.valueOf(percentile * 100).stripTrailingZeros().toPlainString();
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class StageReport {
+
+        private final long count;
+        private final double meanMillis;
+        private final double maxMillis;
+        private final Map<String, Double> percentilesMillis;
+        private final List<HotPathSample> slowest;
+    }
+}
@@ -0,0 +1,132 @@
+package com.routepick.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 경로 구간별 지연 기록 (hotpath.latency{stage})
+ * - 타이머 백분위는 Micrometer의 HdrHistogram 기반 클라이언트 측 계산 (최근 window 기준으로 감쇠)
+ * - 기록마다 ring buffer의 히스토그램을 모두 갱신하므로 buffer는 기본 3개 대신 2개 (window 절반마다 교체)
+ * - 구간별 가장 느린 slowest-samples건은 window마다 교체하며 직전 window까지 보관
+ * 기록 비용은 nanoTime 두 번과 타이머 기록 한 번이고, 설명 문자열은 느린 기록에만 만듦
+ */
+@Component
+public class HotPathMetrics {
+
+    private static final double[] PERCENTILES = {0.5, 0.9, 0.99, 0.999};
+    private static final HotPathStage[] STAGES = HotPathStage.values();
+
+    private final boolean enabled;
+    private final int sampleSize;
+    private final Timer[] timers = new Timer[STAGES.length];
+
+    private volatile SlowSamples[] samples;
+    private volatile SlowSamples[] previousSamples;
+
+    public HotPathMetrics(MeterRegistry meterRegistry,
+                          @Value("${app.monitoring.hot-path.enabled:true}") boolean enabled,
+                          @Value("${app.monitoring.hot-path.slowest-samples:10}") int sampleSize,
+                          @Value("${app.monitoring.hot-path.window-ms:60000}") long windowMillis) {
+        this.enabled = enabled;
+        this.sampleSize = sampleSize;
+        for (HotPathStage stage : STAGES) {
+            timers[stage.ordinal()] = Timer.builder("hotpath.latency")
+                .tag("stage", stage.getTag())
+                .publishPercentiles(PERCENTILES)
+                .distributionStatisticExpiry(Duration.ofMillis(windowMillis))
+                .distributionStatisticBufferLength(2)
+                .register(meterRegistry);
+        }
+        this.samples = newSamples();
+        this.previousSamples = newSamples();
+    }
+
+    /**
+     * 구간 시작 시각 (record에 그대로 전달)
+     */
+    public long start() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    public void record(HotPathStage stage, long start) {
+        if (enabled) {
+            record(stage, System.nanoTime() - start, 0, false);
+        }
+    }
+
+    /**
+     * 느린 기록 설명에 사용자 id 포함 (추천 계산 등)
+     */
+    public void record(HotPathStage stage, long start, long userId) {
+        if (enabled) {
+            record(stage, System.nanoTime() - start, userId, true);
+        }
+    }
+
+    private void record(HotPathStage stage, long elapsedNanos, long userId, boolean withUser) {
+        timers[stage.ordinal()].record(elapsedNanos, TimeUnit.NANOSECONDS);
+        SlowSamples slowest = samples[stage.ordinal()];
+        if (slowest.qualifies(elapsedNanos)) {
+            String detail = withUser ? describeContext() + " user=" + userId : describeContext();
+            slowest.add(elapsedNanos, System.currentTimeMillis(), detail);
+        }
+    }
+
+    public Timer timer(HotPathStage stage) {
+        return timers[stage.ordinal()];
+    }
+
+    /**
+     * 현재/직전 window의 가장 느린 기록 (느린 순)
+     */
+    public List<HotPathSample> slowest(HotPathStage stage) {
+        List<HotPathSample> merged = new ArrayList<>(sampleSize * 2);
+        samples[stage.ordinal()].drainTo(merged);
+        previousSamples[stage.ordinal()].drainTo(merged);
+        merged.sort(Comparator.comparingDouble(HotPathSample::getDurationMillis).reversed());
+        return merged.size() > sampleSize ? new ArrayList<>(merged.subList(0, sampleSize)) : merged;
+    }
+
+    @Scheduled(fixedDelayString = "${app.monitoring.hot-path.window-ms:60000}")
+    public void rotate() {
+        previousSamples = samples;
+        samples = newSamples();
+    }
+
+    public void resetSamples() {
+        previousSamples = newSamples();
+        samples = newSamples();
+    }
+
+    private SlowSamples[] newSamples() {
+        SlowSamples[] created = new SlowSamples[STAGES.length];
+        for (int i = 0; i < created.length; i++) {
+            created[i] = new SlowSamples(sampleSize);
+        }
+        return created;
+    }
+
+    // 요청 안이면 메서드/경로, 아니면 스레드 이름 (가상 스레드는 이름이 비어 있음)
+    private static String describeContext() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            HttpServletRequest request = servletAttributes.getRequest();
+            return request.getMethod() + " " + request.getRequestURI();
+        }
+        Thread thread = Thread.currentThread();
+        return thread.getName().isEmpty() ? thread.toString() : thread.getName();
+    }
+}
@@ -0,0 +1,16 @@
+package com.routepick.monitoring;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 느린 기록 한 건 (detail: 요청 메서드/경로 또는 스레드 이름)
+ */
+@Getter
+@RequiredArgsConstructor
+public class HotPathSample {
+
+    private final double durationMillis;
+    private final long recordedAtMillis;
+    private final String detail;
+}
@@ -0,0 +1,34 @@
+package com.routepick.monitoring;
+
+/**
+ * 지연 분해용 구간 (hotpath.latency 타이머의 stage 태그)
+ */
+public enum HotPathStage {
+    AUTH_VERIFY("auth.verify"),
+    JWT_PARSE("auth.jwt.parse"),
+    REDIS("redis"),
+    RECOMMENDATION_CALCULATE("recommendation.calculate"),
+    RECOMMENDATION_SCORE("recommendation.score");
+
+    private final String tag;
+
+    HotPathStage(String tag) {
+        this.tag = tag;
+    }
+
+    public String getTag() {
+        return tag;
+    }
+
+    /**
+     * 태그 값으로 조회 (없으면 null)
+     */
+    public static HotPathStage fromTag(String tag) {
+        for (HotPathStage stage : values()) {
+            if (stage.tag.equals(tag)) {
+                return stage;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,92 @@
+package com.routepick.monitoring;
+
+import java.util.List;
+
+/**
+ * 구간별 가장 느린 N건 (소요 시간 기준 최소 힙)
+ * 가득 찬 뒤에는 힙 최솟값 이하 기록을 volatile 읽기 한 번으로 버려 대부분의 기록은 락을 잡지 않음
+ */
+final class SlowSamples {
+
+    private final long[] nanos;
+    private final long[] recordedAt;
+    private final String[] details;
+    private int size;
+    // 가득 차기 전에는 모든 기록을 받음
+    private volatile long threshold = -1;
+
+    SlowSamples(int capacity) {
+        this.nanos = new long[capacity];
+        this.recordedAt = new long[capacity];
+        this.details = new String[capacity];
+    }
+
+    boolean qualifies(long elapsedNanos) {
+        return elapsedNanos > threshold;
+    }
+
+    synchronized void add(long elapsedNanos, long recordedAtMillis, String detail) {
+        if (size < nanos.length) {
+            set(size, elapsedNanos, recordedAtMillis, detail);
+            siftUp(size++);
+        } else if (elapsedNanos > nanos[0]) {
+            set(0, elapsedNanos, recordedAtMillis, detail);
+            siftDown(0);
+        } else {
+            return;
+        }
+        if (size == nanos.length) {
+            threshold = nanos[0];
+        }
+    }
+
+    synchronized void drainTo(List<HotPathSample> into) {
+        for (int i = 0; i < size; i++) {
+            into.add(new HotPathSample(nanos[i] / 1_000_000.0, recordedAt[i], details[i]));
+        }
+    }
+
+    private void set(int i, long elapsedNanos, long recordedAtMillis, String detail) {
+        nanos[i] = elapsedNanos;
+        recordedAt[i] = recordedAtMillis;
+        details[i] = detail;
+    }
+
+    private void siftUp(int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (nanos[parent] <= nanos[i]) {
+                return;
+            }
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int i) {
+        while (true) {
+            int left = 2 * i + 1;
+            if (left >= size) {
+                return;
+            }
+            int smallest = left + 1 < size && nanos[left + 1] < nanos[left] ? left + 1 : left;
+            if (nanos[i] <= nanos[smallest]) {
+                return;
+            }
+            swap(i, smallest);
+            i = smallest;
+        }
+    }
+
+    private void swap(int a, int b) {
+        long elapsed = nanos[a];
+        nanos[a] = nanos[b];
+        nanos[b] = elapsed;
+        long at = recordedAt[a];
+        recordedAt[a] = recordedAt[b];
+        recordedAt[b] = at;
+        String detail = details[a];
+        details[a] = details[b];
+        details[b] = detail;
+    }
+}
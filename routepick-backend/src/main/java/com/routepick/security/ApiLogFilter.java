@@ -0,0 +1,62 @@
+package com.routepick.security;
+
+import com.routepick.monitoring.ApiLogEntry;
+import com.routepick.monitoring.ApiLogWriter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 요청마다 api_logs 항목을 만들어 ApiLogWriter 버퍼에 추가 (DB 기록은 비동기)
+ * JwtAuthenticationFilter보다 앞에 두어 인증 처리 시간까지 포함하고, 인증된 사용자는 체인 이후 확인
+ */
+@Component
+@RequiredArgsConstructor
+public class ApiLogFilter extends OncePerRequestFilter {
+
+    private static final int MAX_ENDPOINT_LENGTH = 255;
+    private static final int MAX_METHOD_LENGTH = 10;
+    private static final int MAX_IP_LENGTH = 50;
+    // user_agent는 TEXT(65,535바이트)지만 비정상적으로 긴 헤더가 묶음 INSERT를 키우지 않도록 제한
+    private static final int MAX_USER_AGENT_LENGTH = 1024;
+
+    private final ApiLogWriter apiLogWriter;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                  HttpServletResponse response,
+                                  FilterChain filterChain) throws ServletException, IOException {
+        long requestTime = System.currentTimeMillis();
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            VerifiedToken verified = VerifiedToken.from(request);
+            apiLogWriter.append(new ApiLogEntry(
+                verified != null ? verified.getUserId() : null,
+                truncate(request.getRequestURI(), MAX_ENDPOINT_LENGTH),
+                truncate(request.getMethod(), MAX_METHOD_LENGTH),
+                truncate(request.getRemoteAddr(), MAX_IP_LENGTH),
+                requestTime,
+                (int) ((System.nanoTime() - start) / 1_000_000),
+                response.getStatus(),
+                truncate(request.getHeader("User-Agent"), MAX_USER_AGENT_LENGTH)
+            ));
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/actuator");
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value != null && value.length() > maxLength ? value.substring(0, maxLength) : value;
+    }
+}
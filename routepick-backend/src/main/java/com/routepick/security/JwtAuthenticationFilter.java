@@ -1,14 +1,14 @@
 package com.routepick.security;
 
 import com.routepick.common.Constants;
-import com.routepick.util.JwtTokenProvider;
+import com.routepick.monitoring.HotPathMetrics;
+import com.routepick.monitoring.HotPathStage;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
@@ -21,7 +21,8 @@ import java.io.IOException;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtTokenProvider jwtTokenProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final HotPathMetrics hotPathMetrics;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, 
@@ -30,9 +31,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         
         String jwt = getJwtFromRequest(request);
 
-        if (StringUtils.hasText(jwt) && jwtTokenProvider.validateToken(jwt)) {
-            Authentication authentication = jwtTokenProvider.getAuthentication(jwt);
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+        if (StringUtils.hasText(jwt)) {
+            long start = hotPathMetrics.start();
+            VerifiedToken verified = verifiedTokenCache.verify(jwt);
+            hotPathMetrics.record(HotPathStage.AUTH_VERIFY, start);
+            if (verified != null) {
+                // 컨트롤러는 토큰을 다시 파싱하지 않고 request attribute의 클레임 사용
+                request.setAttribute(VerifiedToken.REQUEST_ATTRIBUTE, verified);
+                SecurityContextHolder.getContext().setAuthentication(verified.toAuthentication());
+            }
         }
 
         filterChain.doFilter(request, response);
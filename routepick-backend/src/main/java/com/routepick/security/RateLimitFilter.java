@@ -0,0 +1,80 @@
+package com.routepick.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.routepick.common.ApiResponse;
+import com.routepick.common.Constants;
+import com.routepick.security.ratelimit.LeasedRateLimiter;
+import com.routepick.security.ratelimit.RateLimitPolicy;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 클러스터 공통 요청 제한 (JwtAuthenticationFilter 다음에 두어 인증 사용자는 userId 기준)
+ * 초과 시 429 + Retry-After
+ */
+@Slf4j
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String AUTH_PATH_PREFIX = "/api/v1/auth/";
+
+    private final LeasedRateLimiter leasedRateLimiter;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+
+    public RateLimitFilter(LeasedRateLimiter leasedRateLimiter,
+                           ObjectMapper objectMapper,
+                           @Value("${app.rate-limit.enabled:true}") boolean enabled) {
+        this.leasedRateLimiter = leasedRateLimiter;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                  HttpServletResponse response,
+                                  FilterChain filterChain) throws ServletException, IOException {
+        long retryAfterSeconds;
+        try {
+            retryAfterSeconds = acquire(request);
+        } catch (RuntimeException e) {
+            // Redis 장애로 서비스 전체를 막지 않도록 제한 없이 통과
+            log.warn("Rate limiter unavailable, allowing request: {}", e.getMessage());
+            retryAfterSeconds = 0;
+        }
+        if (retryAfterSeconds > 0) {
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(),
+                ApiResponse.error("요청이 너무 많습니다. 잠시 후 다시 시도해주세요.", Constants.ERROR_RATE_LIMIT_EXCEEDED));
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || request.getRequestURI().startsWith("/actuator");
+    }
+
+    private long acquire(HttpServletRequest request) {
+        if (request.getRequestURI().startsWith(AUTH_PATH_PREFIX)) {
+            return leasedRateLimiter.tryAcquire(RateLimitPolicy.AUTH, request.getRemoteAddr());
+        }
+        VerifiedToken verified = VerifiedToken.from(request);
+        String key = verified != null ? "user:" + verified.getUserId() : "ip:" + request.getRemoteAddr();
+        return leasedRateLimiter.tryAcquire(RateLimitPolicy.API, key);
+    }
+}
@@ -0,0 +1,46 @@
+package com.routepick.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Collections;
+
+/**
+ * 서명 검증이 끝난 access token의 클레임
+ * 요청 처리 중에는 request attribute로 공유하여 다시 파싱하지 않음
+ * 여러 요청이 캐시된 같은 객체를 공유하므로 변경 가능한 Authentication은 보관하지 않음
+ */
+@Getter
+@RequiredArgsConstructor
+public class VerifiedToken {
+
+    public static final String REQUEST_ATTRIBUTE = VerifiedToken.class.getName();
+
+    private final Long userId;
+    private final String email;
+    private final String userType;
+    private final long expiresAtMillis;
+
+    /**
+     * 요청마다 새 Authentication 생성 (setAuthenticated/eraseCredentials가 다른 요청에 번지지 않도록)
+     */
+    public Authentication toAuthentication() {
+        return new UsernamePasswordAuthenticationToken(
+            email,
+            null,
+            Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + userType))
+        );
+    }
+
+    /**
+     * JwtAuthenticationFilter가 검증한 현재 요청의 토큰 (인증되지 않은 요청이면 null)
+     */
+    public static VerifiedToken from(HttpServletRequest request) {
+        Object attribute = request.getAttribute(REQUEST_ATTRIBUTE);
+        return attribute instanceof VerifiedToken verified ? verified : null;
+    }
+}
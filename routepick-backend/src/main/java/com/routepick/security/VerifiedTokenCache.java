@@ -0,0 +1,89 @@
+package com.routepick.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.routepick.security.token.TokenRevocationStore;
+import com.routepick.util.HashUtils;
+import com.routepick.util.JwtTokenProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서명 검증된 access token 캐시 (SHA-256 해시 키, 토큰 exp 시각에 만료)
+ * 같은 토큰의 반복 요청은 JJWT 파싱/HMAC 검증 없이 처리
+ * 폐기 여부는 매 요청 TokenRevocationStore의 bloom filter로 확인 (대부분 DB/Redis 왕복 없음)
+ */
+@Slf4j
+@Component
+public class VerifiedTokenCache {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationStore tokenRevocationStore;
+    private final Cache<String, VerifiedToken> cache;
+
+    public VerifiedTokenCache(JwtTokenProvider jwtTokenProvider,
+                              TokenRevocationStore tokenRevocationStore,
+                              @Value("${app.jwt.verified-cache-size:100000}") long maximumSize) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.tokenRevocationStore = tokenRevocationStore;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(new Expiry<String, VerifiedToken>() {
+                @Override
+                public long expireAfterCreate(String key, VerifiedToken token, long currentTime) {
+                    long remainingMillis = token.getExpiresAtMillis() - System.currentTimeMillis();
+                    return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+                }
+
+                @Override
+                public long expireAfterUpdate(String key, VerifiedToken token, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+
+                @Override
+                public long expireAfterRead(String key, VerifiedToken token, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
+    }
+
+    /**
+     * 유효한 토큰이면 검증 결과, 아니면 null
+     */
+    public VerifiedToken verify(String token) {
+        String key = HashUtils.sha256Hex(token);
+        if (tokenRevocationStore.isRevoked(key)) {
+            cache.invalidate(key);
+            log.debug("Rejected revoked access token");
+            return null;
+        }
+
+        VerifiedToken cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        VerifiedToken verified = jwtTokenProvider.parseVerifiedToken(token);
+        if (verified != null) {
+            cache.put(key, verified);
+        }
+        return verified;
+    }
+
+    /**
+     * access token 폐기 (로그아웃 등)
+     */
+    public void revoke(String token) {
+        VerifiedToken verified = verify(token);
+        if (verified == null) {
+            return;
+        }
+        String key = HashUtils.sha256Hex(token);
+        tokenRevocationStore.revokeAccessToken(key, verified.getUserId(), verified.getExpiresAtMillis());
+        cache.invalidate(key);
+    }
+}
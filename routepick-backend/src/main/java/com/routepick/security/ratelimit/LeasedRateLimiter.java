@@ -0,0 +1,172 @@
+package com.routepick.security.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.EstimationProbe;
+import io.github.bucket4j.distributed.proxy.ProxyManager;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 버킷에서 토큰을 묶음으로 임대해 노드 메모리에서 나눠 쓰는 요청 제한기
+ * 대부분의 요청은 로컬 카운터 감소만으로 끝나고, 임대분을 다 쓴 경우에만 Redis 왕복
+ * - 임대 크기는 직전 lease-ttl 동안 이 노드에서 본 요청 수 (최대 lease-size),
+ *   lease-min-rate 미만인 키는 임대 없이 요청마다 한 개씩 소비
+ * - lease-ttl이 지나도록 쓰지 않은 임대분은 버킷에 돌려주어 다른 노드가 쓸 수 있게 함
+ */
+@Slf4j
+@Component
+public class LeasedRateLimiter {
+
+    private final ProxyManager<byte[]> proxyManager;
+    private final int leaseSize;
+    private final int leaseMinRate;
+    private final long leaseTtlNanos;
+    private final Cache<String, Lease> leases;
+
+    private final Counter remoteCalls;
+    private final Counter returnedTokens;
+    private final Map<RateLimitPolicy, Counter> rejected = new EnumMap<>(RateLimitPolicy.class);
+
+    public LeasedRateLimiter(ProxyManager<byte[]> proxyManager,
+                             MeterRegistry meterRegistry,
+                             @Value("${app.rate-limit.lease-size:5}") int leaseSize,
+                             @Value("${app.rate-limit.lease-ttl-ms:1000}") long leaseTtlMillis,
+                             @Value("${app.rate-limit.lease-min-rate:2}") int leaseMinRate,
+                             @Value("${app.rate-limit.local-cache-size:100000}") long localCacheSize) {
+        this.proxyManager = proxyManager;
+        this.leaseSize = leaseSize;
+        this.leaseMinRate = leaseMinRate;
+        this.leaseTtlNanos = TimeUnit.MILLISECONDS.toNanos(leaseTtlMillis);
+        this.leases = Caffeine.newBuilder()
+            .maximumSize(localCacheSize)
+            .expireAfterAccess(Duration.ofMinutes(5))
+            .build();
+
+        this.remoteCalls = meterRegistry.counter("rate_limit.remote.calls");
+        this.returnedTokens = meterRegistry.counter("rate_limit.lease.returned");
+        for (RateLimitPolicy policy : RateLimitPolicy.values()) {
+            rejected.put(policy, meterRegistry.counter("rate_limit.rejected", "policy", policy.name()));
+        }
+    }
+
+    /**
+     * @return 0이면 허용, 양수면 거부 및 다시 시도할 수 있을 때까지 남은 초 (Retry-After)
+     */
+    public long tryAcquire(RateLimitPolicy policy, String key) {
+        String bucketKey = policy.getKeyPrefix() + key;
+        Lease lease = leases.get(bucketKey, k -> new Lease(proxyManager.builder()
+            .build(k.getBytes(StandardCharsets.UTF_8), policy.getConfiguration())));
+        long retryAfterSeconds = lease.acquire(policy.isLeasable());
+        if (retryAfterSeconds > 0) {
+            rejected.get(policy).increment();
+        }
+        return retryAfterSeconds;
+    }
+
+    /**
+     * 만료된 임대분 반환 (다시 요청하지 않는 키도 lease-ttl 안에 버킷으로 돌아가도록)
+     */
+    @Scheduled(fixedDelayString = "${app.rate-limit.lease-ttl-ms:1000}")
+    public void returnExpiredLeases() {
+        long now = System.nanoTime();
+        for (Lease lease : leases.asMap().values()) {
+            try {
+                lease.returnIfExpired(now);
+            } catch (RuntimeException e) {
+                // Redis 장애 시 반환하지 못한 토큰은 버킷 리필로 회복
+                log.warn("Failed to return leased rate limit tokens: {}", e.getMessage());
+                return;
+            }
+        }
+    }
+
+    /**
+     * 버킷 하나의 로컬 임대분 (키별 락, 임대분이 남아 있으면 Redis 호출 없음)
+     */
+    private final class Lease {
+
+        private final Bucket bucket;
+        private long available;
+        private long expiresAtNanos;
+        // 거부된 뒤 재시도 가능 시각까지는 Redis를 다시 확인하지 않음
+        private long blockedUntilNanos;
+        // lease-ttl 단위 요청 수 (임대 크기 결정용)
+        private long windowStartNanos = System.nanoTime();
+        private int windowRequests;
+        private int previousWindowRequests;
+
+        Lease(Bucket bucket) {
+            this.bucket = bucket;
+        }
+
+        synchronized long acquire(boolean leasable) {
+            long now = System.nanoTime();
+            countRequest(now);
+            if (available > 0 && now - expiresAtNanos < 0) {
+                available--;
+                return 0;
+            }
+            returnIfExpired(now);
+            if (blockedUntilNanos != 0 && now - blockedUntilNanos < 0) {
+                return toRetryAfterSeconds(blockedUntilNanos - now);
+            }
+
+            remoteCalls.increment();
+            long granted = bucket.tryConsumeAsMuchAsPossible(leasable ? batchSize() : 1);
+            if (granted > 0) {
+                available = granted - 1;
+                expiresAtNanos = now + leaseTtlNanos;
+                blockedUntilNanos = 0;
+                return 0;
+            }
+            available = 0;
+            EstimationProbe probe = bucket.estimateAbilityToConsume(1);
+            long waitNanos = Math.max(probe.getNanosToWaitForRefill(), TimeUnit.MILLISECONDS.toNanos(100));
+            blockedUntilNanos = now + waitNanos;
+            return toRetryAfterSeconds(waitNanos);
+        }
+
+        synchronized void returnIfExpired(long now) {
+            if (available > 0 && now - expiresAtNanos >= 0) {
+                long unused = available;
+                available = 0;
+                remoteCalls.increment();
+                bucket.addTokens(unused);
+                returnedTokens.increment(unused);
+            }
+        }
+
+        private void countRequest(long now) {
+            long elapsed = now - windowStartNanos;
+            if (elapsed >= leaseTtlNanos) {
+                // 요청이 없던 구간이 끼어 있으면 직전 구간 요청 수는 0
+                previousWindowRequests = elapsed < 2 * leaseTtlNanos ? windowRequests : 0;
+                windowRequests = 0;
+                windowStartNanos = now;
+            }
+            windowRequests++;
+        }
+
+        // 직전 구간만큼 임대 (한 구간 안에 다 쓰일 만큼만 가져와 반환할 토큰을 줄임)
+        private int batchSize() {
+            int expected = Math.max(previousWindowRequests, windowRequests);
+            return expected < leaseMinRate ? 1 : Math.min(expected, leaseSize);
+        }
+
+        private long toRetryAfterSeconds(long nanos) {
+            return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(nanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.routepick.security.ratelimit;
+
+import com.routepick.common.Constants;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.Refill;
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * 요청 제한 정책
+ * AUTH: /api/v1/auth/** 클라이언트 IP별 분당 RATE_LIMIT_LOGIN_ATTEMPTS (무차별 대입 방지, 정확도가 중요해 1개씩 임대)
+ * API: 그 외 요청, 인증 사용자는 userId / 비인증은 IP별 분당 60, 시간당 1000
+ */
+@Getter
+public enum RateLimitPolicy {
+
+    AUTH(Constants.RATE_LIMIT_AUTH, BucketConfiguration.builder()
+        .addLimit(Bandwidth.classic(Constants.RATE_LIMIT_LOGIN_ATTEMPTS,
+            Refill.greedy(Constants.RATE_LIMIT_LOGIN_ATTEMPTS, Duration.ofMinutes(1))))
+        .build(), false),
+
+    API(Constants.RATE_LIMIT_API, BucketConfiguration.builder()
+        .addLimit(Bandwidth.classic(Constants.RATE_LIMIT_REQUESTS_PER_MINUTE,
+            Refill.greedy(Constants.RATE_LIMIT_REQUESTS_PER_MINUTE, Duration.ofMinutes(1))))
+        .addLimit(Bandwidth.classic(Constants.RATE_LIMIT_REQUESTS_PER_HOUR,
+            Refill.greedy(Constants.RATE_LIMIT_REQUESTS_PER_HOUR, Duration.ofHours(1))))
+        .build(), true);
+
+    private final String keyPrefix;
+    private final BucketConfiguration configuration;
+    // 여러 토큰을 한 번에 임대해 노드 메모리에서 나눠 쓸 수 있는지
+    private final boolean leasable;
+
+    RateLimitPolicy(String keyPrefix, BucketConfiguration configuration, boolean leasable) {
+        this.keyPrefix = keyPrefix;
+        this.configuration = configuration;
+        this.leasable = leasable;
+    }
+}
@@ -0,0 +1,84 @@
+package com.routepick.security.token;
+
+import com.routepick.domain.token.repository.ApiTokenJdbcRepository;
+import com.routepick.domain.token.repository.ApiTokenJdbcRepository.TokenRecord;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * 토큰 발급/폐기를 api_tokens에 비동기 일괄 기록 (Redis가 원본, MySQL은 감사/장애 대비 사본)
+ * 요청 스레드는 큐에 넣기만 하고 DB 커넥션을 잡지 않음
+ * DB 기록이 실패한 묶음은 큐에 되돌려 다음 주기에 재시도 (큐 용량을 넘는 만큼만 버림)
+ */
+@Slf4j
+@Component
+public class ApiTokenWriteBehind {
+
+    private static final int MAX_BATCH_SIZE = 500;
+
+    private final ApiTokenJdbcRepository apiTokenJdbcRepository;
+    private final BlockingQueue<TokenRecord> inserts;
+    private final BlockingQueue<String> revocations;
+
+    public ApiTokenWriteBehind(ApiTokenJdbcRepository apiTokenJdbcRepository,
+                               @Value("${app.jwt.write-behind-capacity:10000}") int capacity) {
+        this.apiTokenJdbcRepository = apiTokenJdbcRepository;
+        this.inserts = new ArrayBlockingQueue<>(capacity);
+        this.revocations = new ArrayBlockingQueue<>(capacity);
+    }
+
+    public void recordIssued(TokenRecord record) {
+        if (!inserts.offer(record)) {
+            log.warn("api_tokens write-behind queue is full; dropping issued token record for user {}",
+                record.getUserId());
+        }
+    }
+
+    public void recordRevoked(String tokenHash) {
+        if (!revocations.offer(tokenHash)) {
+            log.warn("api_tokens write-behind queue is full; dropping revocation record");
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.jwt.write-behind-interval-ms:1000}")
+    public void flush() {
+        while (!inserts.isEmpty() || !revocations.isEmpty()) {
+            List<TokenRecord> insertBatch = new ArrayList<>();
+            List<String> revocationBatch = new ArrayList<>();
+            inserts.drainTo(insertBatch, MAX_BATCH_SIZE);
+            revocations.drainTo(revocationBatch, MAX_BATCH_SIZE);
+            try {
+                apiTokenJdbcRepository.saveAll(insertBatch, revocationBatch);
+            } catch (RuntimeException e) {
+                int dropped = requeue(insertBatch, inserts) + requeue(revocationBatch, revocations);
+                log.error("Failed to write {} token records to api_tokens; requeued, {} dropped",
+                    insertBatch.size() + revocationBatch.size(), dropped, e);
+                return;
+            }
+        }
+    }
+
+    // 되돌리지 못한 건수 반환
+    private static <T> int requeue(List<T> batch, BlockingQueue<T> queue) {
+        int dropped = 0;
+        for (T item : batch) {
+            if (!queue.offer(item)) {
+                dropped++;
+            }
+        }
+        return dropped;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+}
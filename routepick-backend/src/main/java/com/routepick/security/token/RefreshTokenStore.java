@@ -0,0 +1,74 @@
+package com.routepick.security.token;
+
+import com.routepick.common.Constants;
+import com.routepick.domain.token.repository.ApiTokenJdbcRepository.TokenRecord;
+import com.routepick.util.HashUtils;
+import com.routepick.util.JwtTokenProvider;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * refresh token 저장소 (Redis auth:refresh:{hash} -> user_id, TTL = refresh token 만료 시간)
+ * 사용 시마다 기존 토큰을 원자적으로 삭제하고 새 토큰을 발급 (rotation)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenStore {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final ApiTokenWriteBehind apiTokenWriteBehind;
+
+    public String issue(Long userId) {
+        String refreshToken = jwtTokenProvider.generateRefreshToken(userId);
+        String tokenHash = HashUtils.sha256Hex(refreshToken);
+        long expiration = jwtTokenProvider.getRefreshTokenExpiration();
+
+        stringRedisTemplate.opsForValue().set(Constants.AUTH_REFRESH_TOKEN + tokenHash, String.valueOf(userId),
+            expiration, TimeUnit.MILLISECONDS);
+        apiTokenWriteBehind.recordIssued(new TokenRecord(userId, tokenHash, "REFRESH",
+            System.currentTimeMillis() + expiration, false));
+        return refreshToken;
+    }
+
+    /**
+     * 기존 refresh token을 소비하고 새 토큰 발급
+     * 이미 사용/폐기/만료된 토큰이면 null
+     */
+    public RefreshTokenGrant rotate(String refreshToken) {
+        if (!jwtTokenProvider.validateToken(refreshToken)) {
+            return null;
+        }
+        String tokenHash = HashUtils.sha256Hex(refreshToken);
+        String userId = stringRedisTemplate.opsForValue().getAndDelete(Constants.AUTH_REFRESH_TOKEN + tokenHash);
+        if (userId == null) {
+            log.warn("Rejected refresh token that was already used or revoked");
+            return null;
+        }
+        apiTokenWriteBehind.recordRevoked(tokenHash);
+
+        Long id = Long.valueOf(userId);
+        return new RefreshTokenGrant(id, issue(id));
+    }
+
+    public void revoke(String refreshToken) {
+        String tokenHash = HashUtils.sha256Hex(refreshToken);
+        if (Boolean.TRUE.equals(stringRedisTemplate.delete(Constants.AUTH_REFRESH_TOKEN + tokenHash))) {
+            apiTokenWriteBehind.recordRevoked(tokenHash);
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class RefreshTokenGrant {
+
+        private final Long userId;
+        private final String refreshToken;
+    }
+}
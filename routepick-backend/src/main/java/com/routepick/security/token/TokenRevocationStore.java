@@ -0,0 +1,159 @@
+package com.routepick.security.token;
+
+import com.routepick.common.Constants;
+import com.routepick.domain.token.repository.ApiTokenJdbcRepository;
+import com.routepick.domain.token.repository.ApiTokenJdbcRepository.TokenRecord;
+import com.routepick.util.BloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * access token 폐기 목록 (Redis auth:revoked:{hash}, TTL = 토큰 남은 수명)
+ * JVM 안의 bloom filter로 폐기되지 않은 토큰은 네트워크 왕복 없이 통과시키고,
+ * bloom filter가 "있을 수 있음"이라고 할 때만 Redis를 확인
+ * 다른 노드의 폐기는 pub/sub으로 bloom filter에 반영, 만료된 항목은 주기적 재구성으로 정리
+ * 최초 재구성이 실패하면 주기를 기다리지 않고 짧은 간격부터 늘려가며 재시도
+ */
+@Slf4j
+@Component
+public class TokenRevocationStore implements MessageListener {
+
+    private static final String REVOCATION_CHANNEL = "auth:revoked";
+    private static final long EXPECTED_REVOCATIONS = 100_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final long INITIAL_RETRY_DELAY_MILLIS = 1_000;
+    private static final long MAX_RETRY_DELAY_MILLIS = 60_000;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ApiTokenJdbcRepository apiTokenJdbcRepository;
+    private final ApiTokenWriteBehind apiTokenWriteBehind;
+
+    private volatile BloomFilter filter = newFilter();
+    // 재구성 중 들어온 폐기는 새 filter에도 기록
+    private volatile BloomFilter rebuilding;
+    // 최초 재구성 전에는 filter를 믿을 수 없으므로 항상 Redis 확인
+    private volatile boolean filterReady;
+    // 재구성 실패 후 다음 재시도 시각과 간격 (rebuild 안에서만 변경)
+    private long retryDelayMillis = INITIAL_RETRY_DELAY_MILLIS;
+    private long nextRetryAtMillis;
+
+    public TokenRevocationStore(StringRedisTemplate stringRedisTemplate,
+                                ApiTokenJdbcRepository apiTokenJdbcRepository,
+                                ApiTokenWriteBehind apiTokenWriteBehind,
+                                RedisMessageListenerContainer listenerContainer) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.apiTokenJdbcRepository = apiTokenJdbcRepository;
+        this.apiTokenWriteBehind = apiTokenWriteBehind;
+        listenerContainer.addMessageListener(this, new ChannelTopic(REVOCATION_CHANNEL));
+    }
+
+    /**
+     * access token 폐기 (로그아웃 등), api_tokens에는 폐기된 ACCESS 행으로 기록
+     */
+    public void revokeAccessToken(String tokenHash, Long userId, long expiresAtMillis) {
+        long ttlMillis = expiresAtMillis - System.currentTimeMillis();
+        if (ttlMillis <= 0) {
+            return;
+        }
+        stringRedisTemplate.opsForValue().set(Constants.AUTH_REVOKED_TOKEN + tokenHash, "1",
+            ttlMillis, TimeUnit.MILLISECONDS);
+        addToFilter(tokenHash);
+        stringRedisTemplate.convertAndSend(REVOCATION_CHANNEL, tokenHash);
+        apiTokenWriteBehind.recordIssued(new TokenRecord(userId, tokenHash, "ACCESS", expiresAtMillis, true));
+    }
+
+    public boolean isRevoked(String tokenHash) {
+        if (filterReady && !filter.mightContain(tokenHash)) {
+            return false;
+        }
+        try {
+            return Boolean.TRUE.equals(stringRedisTemplate.hasKey(Constants.AUTH_REVOKED_TOKEN + tokenHash));
+        } catch (RuntimeException e) {
+            // Redis 장애 시 MySQL 사본으로 확인 (write-behind 지연만큼 늦을 수 있음)
+            log.warn("Redis unavailable for revocation check, falling back to api_tokens", e);
+            return apiTokenJdbcRepository.isRevoked(tokenHash);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        addToFilter(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Redis의 폐기 키로 bloom filter 재구성 (만료된 폐기 항목 제거)
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${app.jwt.revocation-rebuild-interval-ms:3600000}")
+    public synchronized void rebuild() {
+        BloomFilter next = newFilter();
+        rebuilding = next;
+        try {
+            ScanOptions options = ScanOptions.scanOptions().match(Constants.AUTH_REVOKED_TOKEN + "*").count(1000).build();
+            int prefixLength = Constants.AUTH_REVOKED_TOKEN.length();
+            int count = stringRedisTemplate.execute((RedisCallback<Integer>) connection -> {
+                int scanned = 0;
+                try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+                    while (cursor.hasNext()) {
+                        next.add(new String(cursor.next(), StandardCharsets.UTF_8).substring(prefixLength));
+                        scanned++;
+                    }
+                }
+                return scanned;
+            });
+            filter = next;
+            filterReady = true;
+            retryDelayMillis = INITIAL_RETRY_DELAY_MILLIS;
+            log.info("Rebuilt token revocation filter with {} entries", count);
+        } catch (RuntimeException e) {
+            if (filterReady) {
+                // 이미 준비된 filter는 만료 항목이 남을 뿐이므로 다음 주기까지 유지
+                log.error("Failed to rebuild token revocation filter", e);
+            } else {
+                nextRetryAtMillis = System.currentTimeMillis() + retryDelayMillis;
+                log.error("Failed to build token revocation filter; retrying in {} ms", retryDelayMillis, e);
+                retryDelayMillis = Math.min(retryDelayMillis * 2, MAX_RETRY_DELAY_MILLIS);
+            }
+        } finally {
+            rebuilding = null;
+        }
+    }
+
+    /**
+     * 최초 재구성 전이면 재시도 (그동안 isRevoked는 매번 Redis 확인)
+     */
+    @Scheduled(fixedDelay = INITIAL_RETRY_DELAY_MILLIS)
+    public void retryRebuildUntilReady() {
+        if (filterReady) {
+            return;
+        }
+        synchronized (this) {
+            if (!filterReady && System.currentTimeMillis() >= nextRetryAtMillis) {
+                rebuild();
+            }
+        }
+    }
+
+    private void addToFilter(String tokenHash) {
+        filter.add(tokenHash);
+        BloomFilter next = rebuilding;
+        if (next != null) {
+            next.add(tokenHash);
+        }
+    }
+
+    private static BloomFilter newFilter() {
+        return new BloomFilter(EXPECTED_REVOCATIONS, FALSE_POSITIVE_RATE);
+    }
+}
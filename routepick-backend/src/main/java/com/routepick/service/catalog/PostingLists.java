@@ -0,0 +1,73 @@
+package com.routepick.service.catalog;
+
+/**
+ * 키(tag_id, level_id 등)별 루트 인덱스 목록 (CSR 형식, 불변)
+ * 키 k의 목록은 routeIndexes[offsets[k] .. offsets[k + 1]) 범위이며 오름차순 정렬
+ */
+public final class PostingLists {
+
+    private final int[] offsets;
+    private final int[] routeIndexes;
+    private final float[] weights;
+
+    private PostingLists(int[] offsets, int[] routeIndexes, float[] weights) {
+        this.offsets = offsets;
+        this.routeIndexes = routeIndexes;
+        this.weights = weights;
+    }
+
+    /**
+     * (key, routeIndex, weight) 튜플을 키별로 계수 정렬
+     * routeIndexes가 오름차순으로 주어지면 각 목록도 오름차순 유지
+     */
+    public static PostingLists build(int maxKey, int[] keys, int[] routeIndexes, float[] weights) {
+        int[] offsets = new int[maxKey + 2];
+        for (int key : keys) {
+            offsets[key + 1]++;
+        }
+        for (int k = 0; k <= maxKey; k++) {
+            offsets[k + 1] += offsets[k];
+        }
+
+        int[] cursor = new int[maxKey + 1];
+        System.arraycopy(offsets, 0, cursor, 0, maxKey + 1);
+        int[] postings = new int[keys.length];
+        float[] postingWeights = weights == null ? null : new float[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            int position = cursor[keys[i]]++;
+            postings[position] = routeIndexes[i];
+            if (postingWeights != null) {
+                postingWeights[position] = weights[i];
+            }
+        }
+        return new PostingLists(offsets, postings, postingWeights);
+    }
+
+    public int maxKey() {
+        return offsets.length - 2;
+    }
+
+    public int start(int key) {
+        return key < 0 || key > maxKey() ? 0 : offsets[key];
+    }
+
+    public int end(int key) {
+        return key < 0 || key > maxKey() ? 0 : offsets[key + 1];
+    }
+
+    public int length(int key) {
+        return end(key) - start(key);
+    }
+
+    public int routeIndex(int position) {
+        return routeIndexes[position];
+    }
+
+    public float weight(int position) {
+        return weights == null ? 1f : weights[position];
+    }
+
+    public long sizeInBytes() {
+        return 4L * offsets.length + 4L * routeIndexes.length + (weights == null ? 0 : 4L * weights.length);
+    }
+}
@@ -0,0 +1,255 @@
+package com.routepick.service.catalog;
+
+import com.routepick.common.enums.TagType;
+import com.routepick.util.IntArrayList;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 활성 루트 카탈로그 스냅샷 (불변)
+ * route_id 오름차순으로 정렬된 병렬 배열과 CSR 형식의 루트-태그 목록,
+ * 그리고 tag_id / level_id 기준 역색인
+ */
+public final class RouteCatalog {
+
+    private final int[] routeIds;
+    private final int[] levelIds;
+
+    // 루트 i의 태그는 tagIds[tagOffsets[i] .. tagOffsets[i + 1]) 범위
+    private final int[] tagOffsets;
+    private final int[] tagIds;
+    private final float[] tagRelevance;
+
+    private final int maxTagId;
+    private final float maxTagRelevance;
+
+    // tag_id -> 태그 유형 (tags 테이블 기준, 미등록 태그는 null)
+    private final TagType[] tagTypeById;
+    private final Map<TagType, int[]> tagIdsByType;
+
+    private final PostingLists tagPostings;
+    private final PostingLists levelPostings;
+
+    public RouteCatalog(int[] routeIds, int[] levelIds,
+                        int[] tagOffsets, int[] tagIds, float[] tagRelevance,
+                        TagType[] tagTypeById) {
+        if (routeIds.length != levelIds.length || tagOffsets.length != routeIds.length + 1) {
+            throw new IllegalArgumentException("Route arrays must be parallel");
+        }
+        if (tagIds.length != tagRelevance.length || tagOffsets[routeIds.length] != tagIds.length) {
+            throw new IllegalArgumentException("Route tag arrays must be parallel");
+        }
+        this.routeIds = routeIds;
+        this.levelIds = levelIds;
+        this.tagOffsets = tagOffsets;
+        this.tagIds = tagIds;
+        this.tagRelevance = tagRelevance;
+
+        int max = Math.max(tagTypeById.length - 1, 0);
+        for (int tagId : tagIds) {
+            max = Math.max(max, tagId);
+        }
+        this.maxTagId = max;
+        float maxRelevance = 0f;
+        for (float relevance : tagRelevance) {
+            maxRelevance = Math.max(maxRelevance, relevance);
+        }
+        this.maxTagRelevance = maxRelevance;
+        this.tagTypeById = Arrays.copyOf(tagTypeById, max + 1);
+        this.tagIdsByType = groupTagIdsByType(this.tagTypeById);
+
+        this.tagPostings = PostingLists.build(max, tagIds, routeIndexesOfTags(tagOffsets), tagRelevance);
+        int maxLevelId = 0;
+        for (int levelId : levelIds) {
+            maxLevelId = Math.max(maxLevelId, levelId);
+        }
+        this.levelPostings = PostingLists.build(maxLevelId, levelIds, sequence(routeIds.length), null);
+    }
+
+    public static RouteCatalog empty() {
+        return new RouteCatalog(new int[0], new int[0], new int[1], new int[0], new float[0], new TagType[0]);
+    }
+
+    public int size() {
+        return routeIds.length;
+    }
+
+    public int routeId(int index) {
+        return routeIds[index];
+    }
+
+    public int levelId(int index) {
+        return levelIds[index];
+    }
+
+    public int tagStart(int index) {
+        return tagOffsets[index];
+    }
+
+    public int tagEnd(int index) {
+        return tagOffsets[index + 1];
+    }
+
+    public int tagId(int position) {
+        return tagIds[position];
+    }
+
+    public float tagRelevance(int position) {
+        return tagRelevance[position];
+    }
+
+    public int maxTagId() {
+        return maxTagId;
+    }
+
+    /**
+     * 카탈로그 전체의 최대 relevance_score (점수 상한 계산용)
+     */
+    public float maxTagRelevance() {
+        return maxTagRelevance;
+    }
+
+    public TagType tagType(int tagId) {
+        return tagId < tagTypeById.length ? tagTypeById[tagId] : null;
+    }
+
+    public int[] tagIdsOf(TagType tagType) {
+        return tagIdsByType.getOrDefault(tagType, new int[0]).clone();
+    }
+
+    /**
+     * tag_id -> (루트 인덱스, relevance_score) 역색인
+     */
+    public PostingLists tagPostings() {
+        return tagPostings;
+    }
+
+    /**
+     * level_id -> 루트 인덱스 역색인
+     */
+    public PostingLists levelPostings() {
+        return levelPostings;
+    }
+
+    /**
+     * route_id로 인덱스 조회 (없으면 음수)
+     */
+    public int indexOf(int routeId) {
+        return Arrays.binarySearch(routeIds, routeId);
+    }
+
+    /**
+     * 루트 하나를 추가하거나 교체한 새 스냅샷 반환 (copy-on-write)
+     */
+    public RouteCatalog withRoute(int routeId, int levelId, int[] routeTagIds, float[] routeTagRelevance) {
+        int index = indexOf(routeId);
+        boolean replace = index >= 0;
+        int position = replace ? index : -index - 1;
+        int nextOld = replace ? position + 1 : position;
+
+        int routeCount = routeIds.length + (replace ? 0 : 1);
+        int tagStart = tagOffsets[position];
+        int oldTagEnd = tagOffsets[nextOld];
+        int tagDelta = routeTagIds.length - (oldTagEnd - tagStart);
+
+        int[] newRouteIds = new int[routeCount];
+        int[] newLevelIds = new int[routeCount];
+        int[] newOffsets = new int[routeCount + 1];
+        int[] newTagIds = new int[tagIds.length + tagDelta];
+        float[] newRelevance = new float[tagIds.length + tagDelta];
+
+        System.arraycopy(routeIds, 0, newRouteIds, 0, position);
+        System.arraycopy(levelIds, 0, newLevelIds, 0, position);
+        System.arraycopy(tagOffsets, 0, newOffsets, 0, position + 1);
+        System.arraycopy(tagIds, 0, newTagIds, 0, tagStart);
+        System.arraycopy(tagRelevance, 0, newRelevance, 0, tagStart);
+
+        newRouteIds[position] = routeId;
+        newLevelIds[position] = levelId;
+        System.arraycopy(routeTagIds, 0, newTagIds, tagStart, routeTagIds.length);
+        System.arraycopy(routeTagRelevance, 0, newRelevance, tagStart, routeTagIds.length);
+
+        int remaining = routeIds.length - nextOld;
+        System.arraycopy(routeIds, nextOld, newRouteIds, position + 1, remaining);
+        System.arraycopy(levelIds, nextOld, newLevelIds, position + 1, remaining);
+        for (int i = 0; i <= remaining; i++) {
+            newOffsets[position + 1 + i] = tagOffsets[nextOld + i] + tagDelta;
+        }
+        System.arraycopy(tagIds, oldTagEnd, newTagIds, tagStart + routeTagIds.length, tagIds.length - oldTagEnd);
+        System.arraycopy(tagRelevance, oldTagEnd, newRelevance, tagStart + routeTagIds.length, tagIds.length - oldTagEnd);
+
+        return new RouteCatalog(newRouteIds, newLevelIds, newOffsets, newTagIds, newRelevance, tagTypeById);
+    }
+
+    /**
+     * 루트 하나를 제외한 새 스냅샷 반환 (없으면 그대로)
+     */
+    public RouteCatalog withoutRoute(int routeId) {
+        int index = indexOf(routeId);
+        if (index < 0) {
+            return this;
+        }
+        int tagStart = tagOffsets[index];
+        int tagEnd = tagOffsets[index + 1];
+        int removedTags = tagEnd - tagStart;
+        int remaining = routeIds.length - index - 1;
+
+        int[] newRouteIds = new int[routeIds.length - 1];
+        int[] newLevelIds = new int[routeIds.length - 1];
+        int[] newOffsets = new int[routeIds.length];
+        int[] newTagIds = new int[tagIds.length - removedTags];
+        float[] newRelevance = new float[tagIds.length - removedTags];
+
+        System.arraycopy(routeIds, 0, newRouteIds, 0, index);
+        System.arraycopy(routeIds, index + 1, newRouteIds, index, remaining);
+        System.arraycopy(levelIds, 0, newLevelIds, 0, index);
+        System.arraycopy(levelIds, index + 1, newLevelIds, index, remaining);
+        System.arraycopy(tagOffsets, 0, newOffsets, 0, index + 1);
+        for (int i = 1; i <= remaining; i++) {
+            newOffsets[index + i] = tagOffsets[index + 1 + i] - removedTags;
+        }
+        System.arraycopy(tagIds, 0, newTagIds, 0, tagStart);
+        System.arraycopy(tagIds, tagEnd, newTagIds, tagStart, tagIds.length - tagEnd);
+        System.arraycopy(tagRelevance, 0, newRelevance, 0, tagStart);
+        System.arraycopy(tagRelevance, tagEnd, newRelevance, tagStart, tagIds.length - tagEnd);
+
+        return new RouteCatalog(newRouteIds, newLevelIds, newOffsets, newTagIds, newRelevance, tagTypeById);
+    }
+
+    /**
+     * 태그 유형만 교체한 새 스냅샷 반환 (tags 테이블 변경 반영)
+     */
+    public RouteCatalog withTagTypes(TagType[] newTagTypeById) {
+        return new RouteCatalog(routeIds, levelIds, tagOffsets, tagIds, tagRelevance, newTagTypeById);
+    }
+
+    private static int[] routeIndexesOfTags(int[] tagOffsets) {
+        int[] routeIndexes = new int[tagOffsets[tagOffsets.length - 1]];
+        for (int i = 0; i + 1 < tagOffsets.length; i++) {
+            Arrays.fill(routeIndexes, tagOffsets[i], tagOffsets[i + 1], i);
+        }
+        return routeIndexes;
+    }
+
+    private static int[] sequence(int length) {
+        int[] values = new int[length];
+        for (int i = 0; i < length; i++) {
+            values[i] = i;
+        }
+        return values;
+    }
+
+    private static Map<TagType, int[]> groupTagIdsByType(TagType[] tagTypeById) {
+        Map<TagType, IntArrayList> grouped = new EnumMap<>(TagType.class);
+        for (int tagId = 0; tagId < tagTypeById.length; tagId++) {
+            if (tagTypeById[tagId] != null) {
+                grouped.computeIfAbsent(tagTypeById[tagId], type -> new IntArrayList()).add(tagId);
+            }
+        }
+        Map<TagType, int[]> result = new EnumMap<>(TagType.class);
+        grouped.forEach((type, ids) -> result.put(type, ids.toArray()));
+        return result;
+    }
+}
@@ -0,0 +1,161 @@
+package com.routepick.service.catalog;
+
+import com.routepick.common.Constants;
+import com.routepick.common.enums.TagType;
+import com.routepick.util.FloatArrayList;
+import com.routepick.util.IntArrayList;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * routes / route_tags 테이블에서 RouteCatalog 스냅샷 생성
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RouteCatalogLoader {
+
+    private static final String SELECT_ACTIVE_ROUTES =
+        "SELECT route_id, level_id FROM routes WHERE route_status = ? ORDER BY route_id";
+
+    // relevance_score가 NULL인 행은 프로시저의 AVG에서도 제외되므로 로딩하지 않음
+    private static final String SELECT_ACTIVE_ROUTE_TAGS =
+        "SELECT rt.route_id, rt.tag_id, rt.relevance_score FROM route_tags rt " +
+        "JOIN routes r ON r.route_id = rt.route_id " +
+        "WHERE r.route_status = ? AND rt.relevance_score IS NOT NULL " +
+        "ORDER BY rt.route_id, rt.tag_id";
+
+    private static final String SELECT_ROUTE =
+        "SELECT level_id, route_status FROM routes WHERE route_id = ?";
+
+    private static final String SELECT_ROUTE_TAGS =
+        "SELECT tag_id, relevance_score FROM route_tags " +
+        "WHERE route_id = ? AND relevance_score IS NOT NULL ORDER BY tag_id";
+
+    private static final String SELECT_TAG_TYPES = "SELECT tag_id, tag_type FROM tags";
+
+    private static final String SELECT_DB_TIME = "SELECT CURRENT_TIMESTAMP";
+
+    // 같은 초에 바뀐 행을 놓치지 않도록 워터마크 시각도 포함 (같은 루트를 다시 읽어도 결과는 같음)
+    private static final String SELECT_ROUTES_CHANGED_SINCE =
+        "SELECT route_id FROM routes WHERE updated_at >= ? " +
+        "UNION SELECT route_id FROM route_tags WHERE updated_at >= ?";
+
+    private static final String COUNT_TAGS_CHANGED_SINCE =
+        "SELECT COUNT(*) FROM tags WHERE updated_at >= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public RouteCatalog load() {
+        long startedAt = System.currentTimeMillis();
+
+        IntArrayList routeIds = new IntArrayList(1024);
+        IntArrayList levelIds = new IntArrayList(1024);
+        jdbcTemplate.query(SELECT_ACTIVE_ROUTES, rs -> {
+            routeIds.add(rs.getInt(1));
+            levelIds.add(rs.getInt(2));
+        }, Constants.ROUTE_STATUS_ACTIVE);
+
+        int[] routes = routeIds.toArray();
+        int[] tagOffsets = new int[routes.length + 1];
+        IntArrayList tagIds = new IntArrayList(routes.length * 4);
+        FloatArrayList relevance = new FloatArrayList(routes.length * 4);
+
+        // 두 결과 모두 route_id 순이므로 커서를 함께 전진시키며 CSR 오프셋 기록
+        int[] cursor = {0};
+        jdbcTemplate.query(SELECT_ACTIVE_ROUTE_TAGS, rs -> {
+            int routeId = rs.getInt(1);
+            while (cursor[0] < routes.length && routes[cursor[0]] < routeId) {
+                tagOffsets[++cursor[0]] = tagIds.size();
+            }
+            if (cursor[0] < routes.length && routes[cursor[0]] == routeId) {
+                tagIds.add(rs.getInt(2));
+                relevance.add(rs.getFloat(3));
+            }
+        }, Constants.ROUTE_STATUS_ACTIVE);
+        while (cursor[0] < routes.length) {
+            tagOffsets[++cursor[0]] = tagIds.size();
+        }
+
+        RouteCatalog catalog = new RouteCatalog(routes, levelIds.toArray(),
+            tagOffsets, tagIds.toArray(), relevance.toArray(), loadTagTypes());
+        log.info("Route catalog loaded: {} routes, {} route tags in {}ms",
+            catalog.size(), tagIds.size(), System.currentTimeMillis() - startedAt);
+        return catalog;
+    }
+
+    /**
+     * 루트 한 건만 다시 읽어 반영한 스냅샷 반환
+     * 활성 상태가 아니거나 삭제된 루트는 스냅샷에서 제외
+     */
+    public RouteCatalog reloadRoute(RouteCatalog base, int routeId) {
+        List<Integer> levels = jdbcTemplate.query(SELECT_ROUTE,
+            (rs, rowNum) -> Constants.ROUTE_STATUS_ACTIVE.equals(rs.getString(2)) ? rs.getInt(1) : null,
+            routeId);
+        if (levels.isEmpty() || levels.get(0) == null) {
+            return base.withoutRoute(routeId);
+        }
+
+        IntArrayList tagIds = new IntArrayList();
+        FloatArrayList relevance = new FloatArrayList();
+        jdbcTemplate.query(SELECT_ROUTE_TAGS, rs -> {
+            tagIds.add(rs.getInt(1));
+            relevance.add(rs.getFloat(2));
+        }, routeId);
+        return base.withRoute(routeId, levels.get(0), tagIds.toArray(), relevance.toArray());
+    }
+
+    /**
+     * DB 기준 현재 시각 (적재 전에 읽어 두고 다음 catch-up의 기준으로 사용)
+     */
+    public long currentWatermark() {
+        Timestamp now = jdbcTemplate.queryForObject(SELECT_DB_TIME, Timestamp.class);
+        return now != null ? now.getTime() : System.currentTimeMillis();
+    }
+
+    /**
+     * 워터마크 이후 updated_at이 바뀐 루트/태그만 다시 읽어 반영
+     * 변경된 루트가 limit개를 넘으면 건별 반영보다 전체 적재가 빠르므로 null 반환
+     */
+    public RouteCatalog catchUp(RouteCatalog base, long sinceMillis, int limit) {
+        Timestamp since = new Timestamp(sinceMillis);
+        List<Integer> changedRouteIds = jdbcTemplate.queryForList(SELECT_ROUTES_CHANGED_SINCE, Integer.class,
+            since, since);
+        if (changedRouteIds.size() > limit) {
+            log.info("Route catalog catch-up skipped: {} routes changed since {}", changedRouteIds.size(), since);
+            return null;
+        }
+
+        RouteCatalog catalog = base;
+        Integer changedTags = jdbcTemplate.queryForObject(COUNT_TAGS_CHANGED_SINCE, Integer.class, since);
+        if (changedTags != null && changedTags > 0) {
+            catalog = catalog.withTagTypes(loadTagTypes());
+        } else if (changedRouteIds.isEmpty()) {
+            return catalog;
+        }
+        for (Integer routeId : changedRouteIds) {
+            catalog = reloadRoute(catalog, routeId);
+        }
+        log.info("Route catalog caught up {} routes and {} tags changed since {}",
+            changedRouteIds.size(), changedTags, since);
+        return catalog;
+    }
+
+    private TagType[] loadTagTypes() {
+        TagType[][] holder = {new TagType[64]};
+        jdbcTemplate.query(SELECT_TAG_TYPES, rs -> {
+            int tagId = rs.getInt(1);
+            if (tagId >= holder[0].length) {
+                holder[0] = Arrays.copyOf(holder[0], Math.max(tagId + 1, holder[0].length << 1));
+            }
+            holder[0][tagId] = TagType.valueOf(rs.getString(2));
+        });
+        return holder[0];
+    }
+}
@@ -0,0 +1,234 @@
+package com.routepick.service.catalog;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 현재 RouteCatalog 스냅샷 보관 및 교체
+ * 읽기는 락 없이 volatile 참조만 사용
+ * 기동 시 로컬 스냅샷 파일을 읽고 워터마크 이후 변경분만 MySQL에서 따라잡은 뒤 트래픽을 받음 (없으면 전체 적재)
+ * 주기적으로 catch-up 후 스냅샷을 다시 기록 (다른 노드에서 바뀐 루트도 이때 반영)
+ * route_tags 행 삭제는 워터마크로 보이지 않으므로 마지막 전체 적재 후 max-age가 지나면
+ * 스냅샷을 버리고, 실행 중인 노드도 sync 때 전체 적재 (catch-up과 재기록만으로는 기준 시각이 갱신되지 않음)
+ */
+@Slf4j
+@Service
+public class RouteCatalogService {
+
+    private final RouteCatalogLoader routeCatalogLoader;
+    private final RouteCatalogSnapshotStore snapshotStore;
+    private final boolean snapshotEnabled;
+    private final int catchUpLimit;
+    private final long maxAgeMillis;
+
+    private volatile RouteCatalog catalog;
+    // catalog에 반영된 DB 시각 (this 락으로 catalog와 함께 갱신)
+    private long watermarkMillis;
+    // catalog의 기준이 된 마지막 전체 적재 시각 (스냅샷 복원 시 헤더 값을 이어받음)
+    private long fullLoadedAtMillis;
+
+    private final AtomicLong snapshotReadMillis = new AtomicLong(-1);
+    private final AtomicLong catchUpMillis = new AtomicLong(-1);
+    private final AtomicLong fullLoadMillis = new AtomicLong(-1);
+
+    public RouteCatalogService(RouteCatalogLoader routeCatalogLoader,
+                               RouteCatalogSnapshotStore snapshotStore,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.catalog.snapshot.enabled:true}") boolean snapshotEnabled,
+                               @Value("${app.catalog.snapshot.catch-up-limit:200}") int catchUpLimit,
+                               @Value("${app.catalog.snapshot.max-age-hours:24}") int maxAgeHours) {
+        this(routeCatalogLoader, snapshotStore, meterRegistry, snapshotEnabled, catchUpLimit,
+            TimeUnit.HOURS.toMillis(maxAgeHours));
+    }
+
+    RouteCatalogService(RouteCatalogLoader routeCatalogLoader,
+                        RouteCatalogSnapshotStore snapshotStore,
+                        MeterRegistry meterRegistry,
+                        boolean snapshotEnabled,
+                        int catchUpLimit,
+                        long maxAgeMillis) {
+        this.routeCatalogLoader = routeCatalogLoader;
+        this.snapshotStore = snapshotStore;
+        this.snapshotEnabled = snapshotEnabled;
+        this.catchUpLimit = catchUpLimit;
+        this.maxAgeMillis = maxAgeMillis;
+
+        // 기동 단계별 소요 시간 (해당 단계를 거치지 않았으면 음수)
+        registerStartupGauge(meterRegistry, "snapshot_read", snapshotReadMillis);
+        registerStartupGauge(meterRegistry, "catch_up", catchUpMillis);
+        registerStartupGauge(meterRegistry, "full_load", fullLoadMillis);
+    }
+
+    public RouteCatalog getCatalog() {
+        RouteCatalog current = catalog;
+        if (current == null) {
+            synchronized (this) {
+                current = catalog;
+                if (current == null) {
+                    current = loadFully();
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * ApplicationReadyEvent(트래픽 수신 가능 상태) 이전에 카탈로그를 채워 둠
+     * 실패해도 기동은 계속하고 첫 getCatalog() 호출 때 다시 적재
+     */
+    @EventListener(ApplicationStartedEvent.class)
+    public synchronized void warmUp() {
+        if (catalog != null) {
+            return;
+        }
+        try {
+            RouteCatalogSnapshot snapshot = snapshotEnabled ? readSnapshot() : null;
+            if (snapshot == null) {
+                loadFully();
+            } else {
+                restore(snapshot);
+            }
+        } catch (RuntimeException e) {
+            log.error("Route catalog warm-up failed; loading lazily on first use", e);
+        }
+    }
+
+    /**
+     * 루트 한 건의 변경을 현재 스냅샷에 반영
+     */
+    public synchronized RouteCatalog refreshRoute(int routeId) {
+        RouteCatalog refreshed = routeCatalogLoader.reloadRoute(getCatalog(), routeId);
+        catalog = refreshed;
+        return refreshed;
+    }
+
+    public synchronized RouteCatalog reload() {
+        return loadFully();
+    }
+
+    @Scheduled(initialDelayString = "${app.catalog.snapshot.sync-interval-ms:300000}",
+               fixedDelayString = "${app.catalog.snapshot.sync-interval-ms:300000}")
+    public void sync() {
+        synchronized (this) {
+            if (catalog == null) {
+                return;
+            }
+            if (isExpired(fullLoadedAtMillis)) {
+                log.info("Route catalog last fully loaded at {}; reloading to drop deleted route tags", fullLoadedAtMillis);
+                loadFully();
+            } else {
+                long nextWatermark = routeCatalogLoader.currentWatermark();
+                RouteCatalog caughtUp = routeCatalogLoader.catchUp(catalog, watermarkMillis, catchUpLimit);
+                if (caughtUp == null) {
+                    loadFully();
+                } else {
+                    catalog = caughtUp;
+                    watermarkMillis = nextWatermark;
+                }
+            }
+        }
+        saveSnapshot();
+    }
+
+    @PreDestroy
+    public void saveSnapshot() {
+        if (!snapshotEnabled) {
+            return;
+        }
+        RouteCatalog current;
+        long watermark;
+        long fullLoadedAt;
+        synchronized (this) {
+            current = catalog;
+            watermark = watermarkMillis;
+            fullLoadedAt = fullLoadedAtMillis;
+        }
+        if (current == null) {
+            return;
+        }
+        try {
+            long startedAt = System.nanoTime();
+            snapshotStore.write(current, watermark, fullLoadedAt);
+            log.debug("Route catalog snapshot saved: {} routes in {}ms", current.size(), elapsedMillis(startedAt));
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to save route catalog snapshot", e);
+        }
+    }
+
+    private RouteCatalogSnapshot readSnapshot() {
+        long startedAt = System.nanoTime();
+        RouteCatalogSnapshot snapshot = snapshotStore.read();
+        snapshotReadMillis.set(elapsedMillis(startedAt));
+        if (snapshot != null && isExpired(snapshot.getFullLoadedAtMillis())) {
+            log.info("Ignoring route catalog snapshot last fully loaded at {} (older than max age)",
+                snapshot.getFullLoadedAtMillis());
+            return null;
+        }
+        return snapshot;
+    }
+
+    private void restore(RouteCatalogSnapshot snapshot) {
+        long startedAt = System.nanoTime();
+        RouteCatalog caughtUp;
+        long nextWatermark;
+        try {
+            nextWatermark = routeCatalogLoader.currentWatermark();
+            caughtUp = routeCatalogLoader.catchUp(snapshot.getCatalog(), snapshot.getWatermarkMillis(), catchUpLimit);
+        } catch (RuntimeException e) {
+            // MySQL을 쓸 수 없으면 스냅샷 그대로 서비스하고 다음 sync에서 따라잡음
+            log.warn("Route catalog catch-up failed; serving snapshot saved at {}", snapshot.getSavedAtMillis(), e);
+            catalog = snapshot.getCatalog();
+            watermarkMillis = snapshot.getWatermarkMillis();
+            fullLoadedAtMillis = snapshot.getFullLoadedAtMillis();
+            return;
+        }
+        if (caughtUp == null) {
+            loadFully();
+            return;
+        }
+        catalog = caughtUp;
+        watermarkMillis = nextWatermark;
+        fullLoadedAtMillis = snapshot.getFullLoadedAtMillis();
+        catchUpMillis.set(elapsedMillis(startedAt));
+        log.info("Route catalog restored from snapshot: {} routes, read {}ms, catch-up {}ms",
+            caughtUp.size(), snapshotReadMillis.get(), catchUpMillis.get());
+    }
+
+    // 호출자가 this 락을 잡고 있어야 함
+    private RouteCatalog loadFully() {
+        long startedAt = System.nanoTime();
+        long loadStartedAt = System.currentTimeMillis();
+        long nextWatermark = routeCatalogLoader.currentWatermark();
+        RouteCatalog loaded = routeCatalogLoader.load();
+        catalog = loaded;
+        watermarkMillis = nextWatermark;
+        fullLoadedAtMillis = loadStartedAt;
+        fullLoadMillis.compareAndSet(-1, elapsedMillis(startedAt));
+        return loaded;
+    }
+
+    private boolean isExpired(long fullLoadedAt) {
+        return System.currentTimeMillis() - fullLoadedAt > maxAgeMillis;
+    }
+
+    private static long elapsedMillis(long startedAtNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAtNanos);
+    }
+
+    private static void registerStartupGauge(MeterRegistry meterRegistry, String phase, AtomicLong millis) {
+        TimeGauge.builder("route_catalog.startup", millis, TimeUnit.MILLISECONDS, AtomicLong::get)
+            .tag("phase", phase)
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,18 @@
+package com.routepick.service.catalog;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 스냅샷 파일에서 읽은 카탈로그와 워터마크 (이 시각 이후 updated_at 변경분만 MySQL에서 따라잡으면 됨)
+ */
+@Getter
+@RequiredArgsConstructor
+public class RouteCatalogSnapshot {
+
+    private final RouteCatalog catalog;
+    private final long watermarkMillis;
+    private final long savedAtMillis;
+    // 이 카탈로그의 기준이 된 마지막 전체 적재 시각 (이후는 catch-up만 반영)
+    private final long fullLoadedAtMillis;
+}
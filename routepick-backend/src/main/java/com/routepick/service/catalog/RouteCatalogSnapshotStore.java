@@ -0,0 +1,199 @@
+package com.routepick.service.catalog;
+
+import com.routepick.common.enums.TagType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * RouteCatalog 스냅샷 파일 (노드 로컬 디스크, 열 단위 바이너리 v2, little-endian)
+ * 헤더 56바이트: magic, version, watermark, savedAt, fullLoadedAt(카탈로그가 마지막으로 전체 적재된 시각),
+ *               루트 수, 루트-태그 수, 태그 유형 배열 길이, 본문 CRC32
+ * 본문: routeIds, levelIds, tagOffsets, tagIds (int), tagRelevance (float),
+ *       tag_id별 유형 (byte, 0 = 없음, 그 외 유형 이름표 번호 + 1), 유형 이름표 (enum 순서가 바뀌어도 이름으로 복원)
+ * 읽기는 파일을 mmap 한 뒤 열마다 배열로 일괄 복사하므로 행 단위 파싱이 없음
+ * 오래된 스냅샷을 버릴지는 fullLoadedAt 기준으로 RouteCatalogService가 판단
+ */
+@Slf4j
+@Component
+public class RouteCatalogSnapshotStore {
+
+    private static final int MAGIC = 0x52504353; // "RPCS"
+    // v1 파일은 fullLoadedAt이 없어 버리고 전체 적재
+    private static final int FORMAT_VERSION = 2;
+    private static final int HEADER_SIZE = 56;
+
+    private final Path path;
+
+    public RouteCatalogSnapshotStore(@Value("${app.catalog.snapshot.path:./data/route-catalog.snap}") String path) {
+        this.path = Paths.get(path);
+    }
+
+    /**
+     * 유효한 스냅샷이 없으면 (파일 없음, 형식/체크섬 불일치) null
+     */
+    public RouteCatalogSnapshot read() {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE || size > Integer.MAX_VALUE) {
+                log.warn("Ignoring route catalog snapshot {} with unexpected size {}", path, size);
+                return null;
+            }
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            mapped.order(ByteOrder.LITTLE_ENDIAN);
+            return decode(mapped);
+        } catch (NoSuchFileException e) {
+            log.info("No route catalog snapshot at {}", path);
+            return null;
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to read route catalog snapshot {}", path, e);
+            return null;
+        }
+    }
+
+    /**
+     * 임시 파일에 쓴 뒤 원자적으로 교체 (쓰는 중 종료돼도 이전 스냅샷 유지)
+     */
+    public void write(RouteCatalog catalog, long watermarkMillis, long fullLoadedAtMillis) throws IOException {
+        ByteBuffer buffer = encode(catalog, watermarkMillis, fullLoadedAtMillis);
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static ByteBuffer encode(RouteCatalog catalog, long watermarkMillis, long fullLoadedAtMillis) {
+        int routeCount = catalog.size();
+        int tagCount = catalog.tagStart(routeCount);
+        int tagTypeCount = catalog.maxTagId() + 1;
+        TagType[] types = TagType.values();
+        int nameTableSize = 1;
+        for (TagType type : types) {
+            nameTableSize += 1 + type.name().getBytes(StandardCharsets.US_ASCII).length;
+        }
+        long bodySize = 4L * (3L * routeCount + 1) + 8L * tagCount + tagTypeCount + nameTableSize;
+
+        ByteBuffer buffer = ByteBuffer.allocate(Math.toIntExact(HEADER_SIZE + bodySize)).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.position(HEADER_SIZE);
+        for (int i = 0; i < routeCount; i++) {
+            buffer.putInt(catalog.routeId(i));
+        }
+        for (int i = 0; i < routeCount; i++) {
+            buffer.putInt(catalog.levelId(i));
+        }
+        for (int i = 0; i <= routeCount; i++) {
+            buffer.putInt(catalog.tagStart(i));
+        }
+        for (int p = 0; p < tagCount; p++) {
+            buffer.putInt(catalog.tagId(p));
+        }
+        for (int p = 0; p < tagCount; p++) {
+            buffer.putFloat(catalog.tagRelevance(p));
+        }
+        for (int tagId = 0; tagId < tagTypeCount; tagId++) {
+            TagType type = catalog.tagType(tagId);
+            buffer.put((byte) (type == null ? 0 : type.ordinal() + 1));
+        }
+        buffer.put((byte) types.length);
+        for (TagType type : types) {
+            byte[] name = type.name().getBytes(StandardCharsets.US_ASCII);
+            buffer.put((byte) name.length).put(name);
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(buffer.duplicate().position(HEADER_SIZE).limit(buffer.capacity()));
+        buffer.position(0);
+        buffer.putInt(MAGIC).putInt(FORMAT_VERSION)
+            .putLong(watermarkMillis).putLong(System.currentTimeMillis()).putLong(fullLoadedAtMillis)
+            .putInt(routeCount).putInt(tagCount).putInt(tagTypeCount)
+            .putLong(crc.getValue());
+        buffer.position(0);
+        return buffer;
+    }
+
+    private RouteCatalogSnapshot decode(ByteBuffer buffer) {
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != FORMAT_VERSION) {
+            log.warn("Ignoring route catalog snapshot {} with unknown format", path);
+            return null;
+        }
+        long watermarkMillis = buffer.getLong(8);
+        long savedAtMillis = buffer.getLong(16);
+        long fullLoadedAtMillis = buffer.getLong(24);
+        int routeCount = buffer.getInt(32);
+        int tagCount = buffer.getInt(36);
+        int tagTypeCount = buffer.getInt(40);
+        long expectedCrc = buffer.getLong(44);
+
+        CRC32 crc = new CRC32();
+        crc.update(buffer.duplicate().position(HEADER_SIZE));
+        if (crc.getValue() != expectedCrc) {
+            log.warn("Ignoring route catalog snapshot {} with checksum mismatch", path);
+            return null;
+        }
+
+        buffer.position(HEADER_SIZE);
+        int[] routeIds = readInts(buffer, routeCount);
+        int[] levelIds = readInts(buffer, routeCount);
+        int[] tagOffsets = readInts(buffer, routeCount + 1);
+        int[] tagIds = readInts(buffer, tagCount);
+        float[] tagRelevance = new float[tagCount];
+        buffer.asFloatBuffer().get(tagRelevance);
+        buffer.position(buffer.position() + 4 * tagCount);
+        byte[] typeRefs = new byte[tagTypeCount];
+        buffer.get(typeRefs);
+
+        TagType[] typeTable = new TagType[buffer.get() & 0xFF];
+        for (int i = 0; i < typeTable.length; i++) {
+            byte[] name = new byte[buffer.get() & 0xFF];
+            buffer.get(name);
+            typeTable[i] = tagTypeOrNull(new String(name, StandardCharsets.US_ASCII));
+        }
+        TagType[] tagTypeById = new TagType[tagTypeCount];
+        for (int tagId = 0; tagId < tagTypeCount; tagId++) {
+            int ref = typeRefs[tagId] & 0xFF;
+            tagTypeById[tagId] = ref == 0 ? null : typeTable[ref - 1];
+        }
+
+        RouteCatalog catalog = new RouteCatalog(routeIds, levelIds, tagOffsets, tagIds, tagRelevance, tagTypeById);
+        return new RouteCatalogSnapshot(catalog, watermarkMillis, savedAtMillis, fullLoadedAtMillis);
+    }
+
+    private static int[] readInts(ByteBuffer buffer, int count) {
+        int[] values = new int[count];
+        buffer.asIntBuffer().get(values);
+        buffer.position(buffer.position() + 4 * count);
+        return values;
+    }
+
+    // 이후 버전에서 제거된 유형은 미등록 태그로 취급 (다음 catch-up에서 tags 테이블 기준으로 갱신)
+    private static TagType tagTypeOrNull(String name) {
+        try {
+            return TagType.valueOf(name);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
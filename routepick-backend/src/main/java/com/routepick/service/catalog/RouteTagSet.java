@@ -0,0 +1,49 @@
+package com.routepick.service.catalog;
+
+/**
+ * route:tags: 캐시 값
+ * 루트 하나의 tag_id(오름차순) / relevance_score 병렬 배열
+ */
+public final class RouteTagSet {
+
+    private final int routeId;
+    private final int[] tagIds;
+    private final float[] relevance;
+
+    public RouteTagSet(int routeId, int[] tagIds, float[] relevance) {
+        if (tagIds.length != relevance.length) {
+            throw new IllegalArgumentException("Tag ids and relevance must be parallel");
+        }
+        this.routeId = routeId;
+        this.tagIds = tagIds;
+        this.relevance = relevance;
+    }
+
+    public static RouteTagSet of(RouteCatalog catalog, int index) {
+        int start = catalog.tagStart(index);
+        int size = catalog.tagEnd(index) - start;
+        int[] tagIds = new int[size];
+        float[] relevance = new float[size];
+        for (int i = 0; i < size; i++) {
+            tagIds[i] = catalog.tagId(start + i);
+            relevance[i] = catalog.tagRelevance(start + i);
+        }
+        return new RouteTagSet(catalog.routeId(index), tagIds, relevance);
+    }
+
+    public int getRouteId() {
+        return routeId;
+    }
+
+    public int size() {
+        return tagIds.length;
+    }
+
+    public int tagId(int index) {
+        return tagIds[index];
+    }
+
+    public float relevance(int index) {
+        return relevance[index];
+    }
+}
@@ -0,0 +1,55 @@
+package com.routepick.service.catalog;
+
+import com.routepick.common.redis.RedisValueCodec;
+import com.routepick.util.ByteArrayReader;
+import com.routepick.util.ByteArrayWriter;
+import org.springframework.stereotype.Component;
+
+/**
+ * RouteTagSet 바이너리 코덱 (v1)
+ * route_id, 개수, 이후 항목마다 tag_id 차분(zigzag)과 relevance_score(0.01 단위 varint)
+ */
+@Component
+public class RouteTagSetCodec implements RedisValueCodec<RouteTagSet> {
+
+    @Override
+    public Class<RouteTagSet> type() {
+        return RouteTagSet.class;
+    }
+
+    @Override
+    public int typeId() {
+        return 2;
+    }
+
+    @Override
+    public int version() {
+        return 1;
+    }
+
+    @Override
+    public void encode(RouteTagSet value, ByteArrayWriter writer) {
+        writer.writeVarInt(value.getRouteId()).writeVarInt(value.size());
+        int previousTagId = 0;
+        for (int i = 0; i < value.size(); i++) {
+            writer.writeZigZag(value.tagId(i) - previousTagId)
+                .writeVarInt(Math.round(value.relevance(i) * 100f));
+            previousTagId = value.tagId(i);
+        }
+    }
+
+    @Override
+    public RouteTagSet decode(ByteArrayReader reader, int version) {
+        int routeId = reader.readVarInt();
+        int size = reader.readVarInt();
+        int[] tagIds = new int[size];
+        float[] relevance = new float[size];
+        int tagId = 0;
+        for (int i = 0; i < size; i++) {
+            tagId += (int) reader.readZigZag();
+            tagIds[i] = tagId;
+            relevance[i] = (float) (reader.readVarInt() / 100.0);
+        }
+        return new RouteTagSet(routeId, tagIds, relevance);
+    }
+}
@@ -0,0 +1,203 @@
+package com.routepick.service.counter;
+
+import com.routepick.domain.counter.repository.CounterJdbcRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 조회수/좋아요/댓글 수/팔로워 수 증감을 메모리에 모아 주기적으로 한 번에 반영 (write-coalescing)
+ * 요청 스레드는 LongAdder에 더하기만 하므로 인기 게시글에도 행 잠금 경합이 없음
+ * 반영 전 증감분은 read 시 DB 값에 더해 보정하고, 장애 시 유실은 최대 flush-interval 동안의 증감분
+ */
+@Slf4j
+@Service
+public class CounterService {
+
+    private static final int TYPE_COUNT = CounterType.values().length;
+
+    private final CounterJdbcRepository counterJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // 쓰기는 read lock(공유)으로 현재 세대에 더하고, flush만 write lock으로 세대를 교체
+    private final ReentrantReadWriteLock generationLock = new ReentrantReadWriteLock();
+    private volatile PendingDeltas current = new PendingDeltas();
+    // DB 반영 중인 이전 세대 (반영 완료 전까지 read 보정에 포함)
+    private volatile PendingDeltas flushing;
+
+    private final Counter flushedRows;
+    private final Counter failedRows;
+
+    public CounterService(CounterJdbcRepository counterJdbcRepository,
+                          PlatformTransactionManager transactionManager,
+                          MeterRegistry meterRegistry) {
+        this.counterJdbcRepository = counterJdbcRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.flushedRows = meterRegistry.counter("counter.flush.rows");
+        this.failedRows = meterRegistry.counter("counter.flush.failed");
+        meterRegistry.gauge("counter.pending.keys", this, service -> service.current.keyCount());
+    }
+
+    public void increment(CounterType type, int id) {
+        add(type, id, 1);
+    }
+
+    public void decrement(CounterType type, int id) {
+        add(type, id, -1);
+    }
+
+    public void add(CounterType type, int id, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        ReentrantReadWriteLock.ReadLock lock = generationLock.readLock();
+        lock.lock();
+        try {
+            current.add(type, id, delta);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 증감분
+     */
+    public long pending(CounterType type, int id) {
+        PendingDeltas inFlight = flushing;
+        return current.get(type, id) + (inFlight != null ? inFlight.get(type, id) : 0);
+    }
+
+    /**
+     * DB에서 읽은 값에 미반영 증감분을 더한 값
+     */
+    public long resolve(CounterType type, int id, Integer storedValue) {
+        return Math.max((storedValue != null ? storedValue : 0) + pending(type, id), 0);
+    }
+
+    @Scheduled(fixedDelayString = "${app.counter.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        PendingDeltas drained;
+        ReentrantReadWriteLock.WriteLock lock = generationLock.writeLock();
+        lock.lock();
+        try {
+            if (current.isEmpty()) {
+                return;
+            }
+            drained = current;
+            flushing = drained;
+            current = new PendingDeltas();
+        } finally {
+            lock.unlock();
+        }
+
+        try {
+            for (CounterType type : CounterType.values()) {
+                flushType(type, drained);
+            }
+        } finally {
+            flushing = null;
+        }
+    }
+
+    private void flushType(CounterType type, PendingDeltas drained) {
+        Map<Integer, LongAdder> deltas = drained.of(type);
+        if (deltas.isEmpty()) {
+            return;
+        }
+        // 노드 간 교착을 피하려고 키 오름차순으로 반영
+        int[] ids = new int[deltas.size()];
+        int size = 0;
+        for (Map.Entry<Integer, LongAdder> entry : deltas.entrySet()) {
+            if (entry.getValue().sum() != 0) {
+                ids[size++] = entry.getKey();
+            }
+        }
+        Arrays.sort(ids, 0, size);
+        long[] values = new long[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = deltas.get(ids[i]).sum();
+        }
+
+        int rows = size;
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                counterJdbcRepository.applyDeltas(type, ids, values, rows));
+            deltas.clear();
+            flushedRows.increment(rows);
+        } catch (RuntimeException e) {
+            // 트랜잭션 단위로 롤백되므로 다음 주기에 다시 반영
+            failedRows.increment(rows);
+            log.error("Failed to flush {} {} counter deltas; requeueing", rows, type, e);
+            deltas.clear();
+            for (int i = 0; i < rows; i++) {
+                add(type, ids[i], values[i]);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    /**
+     * 한 세대의 카운터 종류별 증감분
+     */
+    private static final class PendingDeltas {
+
+        @SuppressWarnings("unchecked")
+        private final Map<Integer, LongAdder>[] deltas = new Map[TYPE_COUNT];
+
+        PendingDeltas() {
+            for (int i = 0; i < TYPE_COUNT; i++) {
+                deltas[i] = new ConcurrentHashMap<>();
+            }
+        }
+
+        void add(CounterType type, int id, long delta) {
+            Map<Integer, LongAdder> map = deltas[type.ordinal()];
+            LongAdder adder = map.get(id);
+            if (adder == null) {
+                adder = map.computeIfAbsent(id, key -> new LongAdder());
+            }
+            adder.add(delta);
+        }
+
+        long get(CounterType type, int id) {
+            LongAdder adder = deltas[type.ordinal()].get(id);
+            return adder != null ? adder.sum() : 0;
+        }
+
+        Map<Integer, LongAdder> of(CounterType type) {
+            return deltas[type.ordinal()];
+        }
+
+        boolean isEmpty() {
+            for (Map<Integer, LongAdder> map : deltas) {
+                if (!map.isEmpty()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        int keyCount() {
+            int count = 0;
+            for (Map<Integer, LongAdder> map : deltas) {
+                count += map.size();
+            }
+            return count;
+        }
+    }
+}
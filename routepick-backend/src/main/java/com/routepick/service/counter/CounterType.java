@@ -0,0 +1,23 @@
+package com.routepick.service.counter;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 비정규화 카운터 컬럼 (테이블 / 키 컬럼 / 카운터 컬럼)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum CounterType {
+
+    POST_VIEW("posts", "post_id", "view_count"),
+    POST_LIKE("posts", "post_id", "like_count"),
+    POST_COMMENT("posts", "post_id", "comment_count"),
+    COMMENT_LIKE("comments", "comment_id", "like_count"),
+    USER_FOLLOWER("user_profile", "user_id", "follower_count"),
+    USER_FOLLOWING("user_profile", "user_id", "following_count");
+
+    private final String table;
+    private final String keyColumn;
+    private final String counterColumn;
+}
@@ -0,0 +1,89 @@
+package com.routepick.service.difficulty;
+
+import com.routepick.common.enums.DifficultyVote;
+import lombok.Getter;
+
+/**
+ * 루트 하나의 체감 난이도 집계 (불변, 투표 변경분 표현에도 사용하므로 값이 음수일 수 있음)
+ * 평균/표준편차는 count, sum, sum-of-squares로 바로 계산하고 분포는 투표 값별 개수로 유지
+ */
+public final class RouteDifficulty {
+
+    public static final RouteDifficulty EMPTY = new RouteDifficulty(0, 0, 0, new int[DifficultyVote.values().length]);
+
+    @Getter
+    private final int voteCount;
+    @Getter
+    private final int voteSum;
+    @Getter
+    private final int voteSumSquares;
+    private final int[] histogram;
+
+    private RouteDifficulty(int voteCount, int voteSum, int voteSumSquares, int[] histogram) {
+        this.voteCount = voteCount;
+        this.voteSum = voteSum;
+        this.voteSumSquares = voteSumSquares;
+        this.histogram = histogram;
+    }
+
+    /**
+     * 투표 값별 개수로 생성 (counts는 DifficultyVote 순서)
+     */
+    public static RouteDifficulty of(int voteCount, int voteSum, int voteSumSquares, int... counts) {
+        int[] histogram = new int[DifficultyVote.values().length];
+        System.arraycopy(counts, 0, histogram, 0, histogram.length);
+        return new RouteDifficulty(voteCount, voteSum, voteSumSquares, histogram);
+    }
+
+    /**
+     * 투표 한 건 추가 (previous가 있으면 그 투표는 빼는 변경분)
+     */
+    public static RouteDifficulty change(DifficultyVote previous, DifficultyVote current) {
+        int[] histogram = new int[DifficultyVote.values().length];
+        int count = 0;
+        int sum = 0;
+        int sumSquares = 0;
+        if (previous != null) {
+            histogram[previous.ordinal()]--;
+            count--;
+            sum -= previous.getScore();
+            sumSquares -= previous.getScore() * previous.getScore();
+        }
+        if (current != null) {
+            histogram[current.ordinal()]++;
+            count++;
+            sum += current.getScore();
+            sumSquares += current.getScore() * current.getScore();
+        }
+        return new RouteDifficulty(count, sum, sumSquares, histogram);
+    }
+
+    public int getVotes(DifficultyVote vote) {
+        return histogram[vote.ordinal()];
+    }
+
+    /**
+     * 평균 점수 (-1 쉬움 ~ 1 어려움, 투표가 없으면 0)
+     */
+    public double getMean() {
+        return voteCount > 0 ? (double) voteSum / voteCount : 0;
+    }
+
+    /**
+     * 투표 간 의견 차이 (모표준편차)
+     */
+    public double getStdDev() {
+        if (voteCount <= 0) {
+            return 0;
+        }
+        double mean = getMean();
+        return Math.sqrt(Math.max((double) voteSumSquares / voteCount - mean * mean, 0));
+    }
+
+    /**
+     * 체감 난이도 (투표가 없으면 null)
+     */
+    public DifficultyVote getPerceived() {
+        return voteCount > 0 ? DifficultyVote.nearest(getMean()) : null;
+    }
+}
@@ -0,0 +1,195 @@
+package com.routepick.service.difficulty;
+
+import com.routepick.common.enums.DifficultyVote;
+import com.routepick.domain.difficulty.repository.RouteDifficultyJdbcRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 루트 체감 난이도 (route_difficulty_votes 집계를 메모리에서 제공)
+ * - 투표/변경/취소는 같은 트랜잭션에서 route_difficulty_stats에 해당 루트 증감분만 더함 (O(1), 커밋되면 유실 없음)
+ * - 커밋 후 이 노드는 해당 루트 행을 다시 읽고, 다른 노드 반영분은 updated_at 기준으로 주기적 재적재
+ * - 조회는 메모리 값만 읽으므로 읽기 경로에 쿼리 없음
+ * 집계가 어긋나면 rebuild로 투표 테이블에서 다시 계산
+ */
+@Slf4j
+@Service
+public class RouteDifficultyService {
+
+    // 같은 초에 갱신된 행을 놓치지 않도록 재적재 구간을 겹치게 함 (재적재는 절대값이라 중복 무해)
+    private static final long SYNC_OVERLAP_MILLIS = 2000;
+
+    // 같은 사용자의 첫 투표가 동시에 들어와 INSERT가 충돌하면 다시 시도 (두 번째는 기존 행을 잠그고 변경)
+    private static final int MAX_VOTE_ATTEMPTS = 3;
+
+    private final RouteDifficultyJdbcRepository routeDifficultyJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    // 없는 투표 행의 FOR UPDATE가 gap lock을 잡지 않도록 READ COMMITTED (다른 사용자의 첫 투표끼리 교착 방지)
+    private final TransactionTemplate voteTransactionTemplate;
+
+    // route_difficulty_stats 값
+    private final Map<Integer, RouteDifficulty> stored = new ConcurrentHashMap<>();
+
+    private volatile boolean loaded;
+    private Timestamp watermark;
+
+    private final Counter votes;
+
+    public RouteDifficultyService(RouteDifficultyJdbcRepository routeDifficultyJdbcRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  MeterRegistry meterRegistry) {
+        this.routeDifficultyJdbcRepository = routeDifficultyJdbcRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.voteTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.voteTransactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        this.votes = meterRegistry.counter("route_difficulty.votes");
+    }
+
+    /**
+     * 투표 또는 변경 (같은 값이면 변화 없음)
+     */
+    public void vote(int routeId, int userId, DifficultyVote vote) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                Boolean changed = voteTransactionTemplate.execute(status -> {
+                    DifficultyVote previous = routeDifficultyJdbcRepository.upsertVote(routeId, userId, vote);
+                    return applyChange(routeId, previous, vote);
+                });
+                afterVote(routeId, changed);
+                return;
+            } catch (DuplicateKeyException e) {
+                if (attempt == MAX_VOTE_ATTEMPTS) {
+                    throw e;
+                }
+                log.debug("Concurrent first vote on route {} by user {}, retrying", routeId, userId);
+            }
+        }
+    }
+
+    public void cancelVote(int routeId, int userId) {
+        Boolean changed = voteTransactionTemplate.execute(status -> {
+            DifficultyVote previous = routeDifficultyJdbcRepository.deleteVote(routeId, userId);
+            return applyChange(routeId, previous, null);
+        });
+        afterVote(routeId, changed);
+    }
+
+    // 투표 행을 잠근 트랜잭션 안에서 집계 행에 더함 (한 트랜잭션에 집계 행 하나라 교착 없음)
+    private boolean applyChange(int routeId, DifficultyVote previous, DifficultyVote current) {
+        if (previous == current) {
+            return false;
+        }
+        routeDifficultyJdbcRepository.applyDeltas(new int[]{routeId},
+            new RouteDifficulty[]{RouteDifficulty.change(previous, current)}, 1);
+        return true;
+    }
+
+    private void afterVote(int routeId, Boolean changed) {
+        if (!Boolean.TRUE.equals(changed)) {
+            return;
+        }
+        votes.increment();
+        if (!loaded) {
+            return;
+        }
+        try {
+            // 다른 노드 반영분까지 포함된 절대값으로 교체
+            routeDifficultyJdbcRepository.findStats(List.of(routeId), stored);
+        } catch (RuntimeException e) {
+            // 이미 커밋됐으므로 다음 sync에서 반영
+            log.warn("Failed to reload perceived difficulty of route {}", routeId, e);
+        }
+    }
+
+    public RouteDifficulty get(int routeId) {
+        ensureLoaded();
+        return stored.getOrDefault(routeId, RouteDifficulty.EMPTY);
+    }
+
+    /**
+     * 여러 루트 한 번에 (추천 카드, 목록 화면용, 투표 없는 루트는 EMPTY)
+     */
+    public Map<Integer, RouteDifficulty> getAll(Collection<Integer> routeIds) {
+        Map<Integer, RouteDifficulty> result = new HashMap<>(routeIds.size() * 2);
+        for (Integer routeId : routeIds) {
+            result.put(routeId, get(routeId));
+        }
+        return result;
+    }
+
+    /**
+     * 다른 노드가 반영한 집계 재적재
+     */
+    @Scheduled(fixedDelayString = "${app.difficulty.sync-interval-ms:10000}")
+    public synchronized void sync() {
+        if (!loaded) {
+            return;
+        }
+        Timestamp since = new Timestamp(watermark.getTime() - SYNC_OVERLAP_MILLIS);
+        Timestamp latest = routeDifficultyJdbcRepository.findStatsUpdatedSince(since, stored);
+        if (latest != null && latest.after(watermark)) {
+            watermark = latest;
+        }
+    }
+
+    /**
+     * 한 루트 집계를 투표 테이블에서 다시 계산
+     */
+    public synchronized RouteDifficulty rebuild(int routeId) {
+        transactionTemplate.executeWithoutResult(status -> routeDifficultyJdbcRepository.rebuild(routeId));
+        Map<Integer, RouteDifficulty> rebuilt = new HashMap<>();
+        routeDifficultyJdbcRepository.findStats(List.of(routeId), rebuilt);
+        RouteDifficulty difficulty = rebuilt.get(routeId);
+        if (difficulty != null) {
+            stored.put(routeId, difficulty);
+        } else {
+            stored.remove(routeId);
+        }
+        return get(routeId);
+    }
+
+    /**
+     * 전체 집계를 투표 테이블에서 다시 계산 후 재적재
+     */
+    public synchronized int rebuildAll() {
+        Integer routes = transactionTemplate.execute(status -> routeDifficultyJdbcRepository.rebuildAll());
+        loaded = false;
+        ensureLoaded();
+        log.info("Rebuilt perceived difficulty of {} routes", routes);
+        return routes != null ? routes : 0;
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        synchronized (this) {
+            if (loaded) {
+                return;
+            }
+            // 적재 전 시각부터 재적재하므로 적재 중 다른 노드가 반영한 값도 다음 sync에서 포함
+            Timestamp loadStartedAt = routeDifficultyJdbcRepository.currentTimestamp();
+            Map<Integer, RouteDifficulty> all = new HashMap<>();
+            routeDifficultyJdbcRepository.findAllStats(all);
+            stored.putAll(all);
+            stored.keySet().retainAll(all.keySet());
+            watermark = loadStartedAt;
+            loaded = true;
+            log.info("Loaded perceived difficulty of {} routes", all.size());
+        }
+    }
+}
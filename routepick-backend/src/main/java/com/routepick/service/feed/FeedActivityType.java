@@ -0,0 +1,27 @@
+package com.routepick.service.feed;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 피드 활동 종류 (Redis 멤버에는 한 글자 코드로 저장)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum FeedActivityType {
+
+    POST('P'),
+    CLIMB('C'),
+    SCRAP('S');
+
+    private final char code;
+
+    public static FeedActivityType fromCode(char code) {
+        for (FeedActivityType type : values()) {
+            if (type.code == code) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unknown feed activity code: " + code);
+    }
+}
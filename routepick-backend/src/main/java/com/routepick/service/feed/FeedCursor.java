@@ -0,0 +1,48 @@
+package com.routepick.service.feed;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 피드 커서 (마지막으로 받은 항목의 생성 시각과 member, "{ms}:{member}")
+ * 다음 페이지는 이 항목보다 피드 순서상 뒤에 있는 항목부터
+ */
+@Getter
+@RequiredArgsConstructor
+public class FeedCursor {
+
+    private final long createdAtMillis;
+    private final String member;
+
+    public static FeedCursor of(FeedItem item) {
+        return new FeedCursor(item.getCreatedAtMillis(), item.toMember());
+    }
+
+    public static FeedCursor parse(String value) {
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        int separator = value.indexOf(':');
+        if (separator <= 0) {
+            throw new IllegalArgumentException("Invalid feed cursor: " + value);
+        }
+        try {
+            return new FeedCursor(Long.parseLong(value.substring(0, separator)), value.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid feed cursor: " + value, e);
+        }
+    }
+
+    /**
+     * 피드 순서상 커서 뒤에 있는 항목인지
+     */
+    boolean isBefore(long createdAtMillis, String member) {
+        return createdAtMillis < this.createdAtMillis
+            || (createdAtMillis == this.createdAtMillis && member.compareTo(this.member) < 0);
+    }
+
+    @Override
+    public String toString() {
+        return createdAtMillis + ":" + member;
+    }
+}
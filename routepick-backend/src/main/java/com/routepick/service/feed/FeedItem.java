@@ -0,0 +1,45 @@
+package com.routepick.service.feed;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 피드 항목 (활동 id만 보관, 본문은 조회 측에서 채움)
+ * Redis sorted set에는 score = 생성 시각(ms), member = "{코드}:{actorId}:{activityId}"
+ */
+@Getter
+@EqualsAndHashCode
+@RequiredArgsConstructor
+public class FeedItem {
+
+    private final FeedActivityType type;
+    private final int actorId;
+    private final int activityId;
+    private final long createdAtMillis;
+
+    public String toMember() {
+        return type.getCode() + ":" + actorId + ":" + activityId;
+    }
+
+    public static FeedItem fromMember(String member, long createdAtMillis) {
+        int second = member.indexOf(':', 2);
+        return new FeedItem(FeedActivityType.fromCode(member.charAt(0)),
+            Integer.parseInt(member.substring(2, second)),
+            Integer.parseInt(member.substring(second + 1)),
+            createdAtMillis);
+    }
+
+    static boolean isActorMember(String member, int actorId) {
+        int second = member.indexOf(':', 2);
+        return second > 2 && member.substring(2, second).equals(Integer.toString(actorId));
+    }
+
+    /**
+     * 피드 정렬 순서 (최신순, 같은 시각이면 member 역순 - Redis ZREVRANGE와 동일)
+     */
+    int compareFeedOrder(FeedItem other) {
+        int byTime = Long.compare(other.createdAtMillis, createdAtMillis);
+        return byTime != 0 ? byTime : other.toMember().compareTo(toMember());
+    }
+}
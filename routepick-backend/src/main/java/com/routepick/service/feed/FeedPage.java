@@ -0,0 +1,17 @@
+package com.routepick.service.feed;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 피드 한 페이지 (nextCursor가 null이면 마지막 페이지)
+ */
+@Getter
+@RequiredArgsConstructor
+public class FeedPage {
+
+    private final List<FeedItem> items;
+    private final String nextCursor;
+}
@@ -0,0 +1,286 @@
+package com.routepick.service.feed;
+
+import com.routepick.common.Constants;
+import com.routepick.domain.feed.repository.FeedJdbcRepository;
+import com.routepick.util.IntArrayList;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * 팔로잉 피드 (hybrid fan-out)
+ * - 일반 사용자의 활동은 작성 시점에 팔로워별 inbox(sorted set, inbox-size개로 제한)에 push
+ * - 팔로워가 popular-threshold 이상인 사용자는 본인 outbox에만 쓰고, 조회 시 inbox와 병합 (pull)
+ *   인기 여부는 쓰기/조회 모두 user_profile.follower_count 기준 (미반영 카운터 증감분은 보지 않음)
+ * inbox/outbox가 없으면 DB에서 최근 활동으로 다시 채우며, 삭제된 활동은 조회 시 ACTIVE 여부를 확인해 걸러냄
+ */
+@Slf4j
+@Service
+public class FeedService {
+
+    // 빈 피드도 키가 남도록 넣는 표시 member (score -1이라 조회 범위 밖)
+    private static final String EMPTY_MARKER = "-";
+    private static final double EMPTY_MARKER_SCORE = -1;
+    // 같은 시각 항목이 커서 앞에 몰려 있을 때를 대비한 여유분
+    private static final int TIE_SLACK = 16;
+    // 삭제된 활동을 건너뛰며 확인하는 후보 수 (limit의 배수, 넘으면 다음 페이지로)
+    private static final int ACTIVE_CHECK_FACTOR = 2;
+
+    // 이미 있는 inbox/outbox에만 추가하고 크기 제한 (없는 키는 조회 시 DB에서 적재)
+    private static final String ADD_IF_EXISTS_SCRIPT =
+        "if redis.call('EXISTS', KEYS[1]) == 1 then " +
+        "redis.call('ZADD', KEYS[1], ARGV[1], ARGV[2]) " +
+        "redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -tonumber(ARGV[3]) - 1) " +
+        "return 1 end return 0";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final FeedJdbcRepository feedJdbcRepository;
+    private final int inboxSize;
+    private final int popularThreshold;
+    private final int fanoutBatchSize;
+    private final Duration ttl;
+
+    private final Counter fanoutRecipients;
+    private final Timer readTimer;
+
+    public FeedService(StringRedisTemplate stringRedisTemplate,
+                       FeedJdbcRepository feedJdbcRepository,
+                       MeterRegistry meterRegistry,
+                       @Value("${app.feed.inbox-size:800}") int inboxSize,
+                       @Value("${app.feed.popular-threshold:10000}") int popularThreshold,
+                       @Value("${app.feed.fanout-batch-size:1000}") int fanoutBatchSize,
+                       @Value("${app.feed.ttl-days:14}") int ttlDays) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.feedJdbcRepository = feedJdbcRepository;
+        this.inboxSize = inboxSize;
+        this.popularThreshold = popularThreshold;
+        this.fanoutBatchSize = fanoutBatchSize;
+        this.ttl = Duration.ofDays(ttlDays);
+
+        this.fanoutRecipients = meterRegistry.counter("feed.fanout.recipients");
+        this.readTimer = Timer.builder("feed.read")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(meterRegistry);
+    }
+
+    /**
+     * 새 활동을 작성자 outbox에 기록하고, 일반 사용자면 팔로워 inbox로 fan-out
+     */
+    public void publish(FeedItem item) {
+        String member = item.toMember();
+        String score = Long.toString(item.getCreatedAtMillis());
+        String size = Integer.toString(inboxSize);
+        stringRedisTemplate.execute((RedisCallback<Object>) connection -> ((StringRedisConnection) connection)
+            .eval(ADD_IF_EXISTS_SCRIPT, ReturnType.INTEGER, 1, outboxKey(item.getActorId()), score, member, size));
+        if (isPopular(item.getActorId())) {
+            return;
+        }
+
+        IntArrayList followerIds = new IntArrayList(fanoutBatchSize);
+        int afterFollowId = 0;
+        while (true) {
+            followerIds.clear();
+            afterFollowId = feedJdbcRepository.findFollowersAfter(item.getActorId(), afterFollowId,
+                fanoutBatchSize, followerIds);
+            if (followerIds.isEmpty()) {
+                break;
+            }
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection redis = (StringRedisConnection) connection;
+                for (int i = 0; i < followerIds.size(); i++) {
+                    redis.eval(ADD_IF_EXISTS_SCRIPT, ReturnType.INTEGER, 1,
+                        inboxKey(followerIds.get(i)), score, member, size);
+                }
+                return null;
+            });
+            fanoutRecipients.increment(followerIds.size());
+            if (followerIds.size() < fanoutBatchSize) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * 커서 이후 피드 한 페이지 (inbox와 팔로우 중인 인기 사용자 outbox를 병합)
+     */
+    public FeedPage getFeed(int userId, String cursorValue, int size) {
+        FeedCursor cursor = FeedCursor.parse(cursorValue);
+        int limit = Math.min(Math.max(size, 1), Constants.MAX_PAGE_SIZE);
+        return readTimer.record(() -> readPage(userId, cursor, limit));
+    }
+
+    public void onFollow(int followerId, int followingId) {
+        String inbox = inboxKey(followerId);
+        if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(inbox)) || isPopular(followingId)) {
+            return;
+        }
+        String outbox = ensureLoaded(outboxKey(followingId),
+            () -> feedJdbcRepository.findRecentActivitiesOfUser(followingId, inboxSize));
+        Set<TypedTuple<String>> activities = stringRedisTemplate.opsForZSet()
+            .rangeByScoreWithScores(outbox, 0, Double.POSITIVE_INFINITY);
+        if (activities == null || activities.isEmpty()) {
+            return;
+        }
+        stringRedisTemplate.opsForZSet().add(inbox, activities);
+        stringRedisTemplate.opsForZSet().removeRange(inbox, 0, -(inboxSize + 1L));
+    }
+
+    public void onUnfollow(int followerId, int followingId) {
+        String inbox = inboxKey(followerId);
+        Set<String> members = stringRedisTemplate.opsForZSet().range(inbox, 0, -1);
+        if (members == null || members.isEmpty()) {
+            return;
+        }
+        List<Object> removed = new ArrayList<>();
+        for (String member : members) {
+            if (FeedItem.isActorMember(member, followingId)) {
+                removed.add(member);
+            }
+        }
+        if (!removed.isEmpty()) {
+            stringRedisTemplate.opsForZSet().remove(inbox, removed.toArray());
+        }
+    }
+
+    private FeedPage readPage(int userId, FeedCursor cursor, int limit) {
+        String inbox = ensureLoaded(inboxKey(userId),
+            () -> feedJdbcRepository.findRecentActivitiesOfFollowings(userId, inboxSize));
+        // 확인할 후보 수보다 하나 더 읽어 두면, 후보 구간이 어느 출처의 읽은 범위 밖(더 오래된 항목)으로 넘어가지 않음
+        int windowSize = limit * ACTIVE_CHECK_FACTOR;
+        List<FeedItem> merged = readAfter(inbox, cursor, windowSize + 1);
+        // 한 곳이라도 windowSize + 1개를 채웠으면 읽은 범위 뒤에도 항목이 남아 있을 수 있음
+        boolean truncated = merged.size() > windowSize;
+        for (Integer popularId : feedJdbcRepository.findPopularFollowings(userId, popularThreshold)) {
+            String outbox = ensureLoaded(outboxKey(popularId),
+                () -> feedJdbcRepository.findRecentActivitiesOfUser(popularId, inboxSize));
+            List<FeedItem> outboxItems = readAfter(outbox, cursor, windowSize + 1);
+            truncated |= outboxItems.size() > windowSize;
+            merged.addAll(outboxItems);
+        }
+        merged.sort(FeedItem::compareFeedOrder);
+
+        // 인기 사용자가 되기 전 fan-out된 항목은 inbox와 outbox 양쪽에 있을 수 있음
+        List<FeedItem> candidates = new ArrayList<>(merged.size());
+        Set<String> seen = new HashSet<>();
+        for (FeedItem item : merged) {
+            if (seen.add(item.toMember())) {
+                candidates.add(item);
+            }
+        }
+        List<FeedItem> window = candidates.subList(0, Math.min(candidates.size(), windowSize));
+        Map<FeedActivityType, Set<Integer>> activeIds = findActiveIds(window);
+
+        // 커서는 마지막으로 확인한 후보 기준이라 삭제된 항목만 남은 구간도 다음 페이지에서 이어짐
+        List<FeedItem> page = new ArrayList<>(limit);
+        FeedItem lastExamined = null;
+        int examined = 0;
+        for (FeedItem item : window) {
+            if (page.size() == limit) {
+                break;
+            }
+            examined++;
+            lastExamined = item;
+            if (activeIds.get(item.getType()).contains(item.getActivityId())) {
+                page.add(item);
+            }
+        }
+        boolean hasNext = examined < candidates.size() || truncated;
+        String nextCursor = hasNext && lastExamined != null ? FeedCursor.of(lastExamined).toString() : null;
+        return new FeedPage(page, nextCursor);
+    }
+
+    private Map<FeedActivityType, Set<Integer>> findActiveIds(List<FeedItem> items) {
+        Map<FeedActivityType, List<Integer>> idsByType = new EnumMap<>(FeedActivityType.class);
+        for (FeedActivityType type : FeedActivityType.values()) {
+            idsByType.put(type, new ArrayList<>());
+        }
+        for (FeedItem item : items) {
+            idsByType.get(item.getType()).add(item.getActivityId());
+        }
+        Map<FeedActivityType, Set<Integer>> activeIds = new EnumMap<>(FeedActivityType.class);
+        for (Map.Entry<FeedActivityType, List<Integer>> entry : idsByType.entrySet()) {
+            activeIds.put(entry.getKey(), feedJdbcRepository.findActiveActivityIds(entry.getKey(), entry.getValue()));
+        }
+        return activeIds;
+    }
+
+    private List<FeedItem> readAfter(String key, FeedCursor cursor, int limit) {
+        ZSetOperations<String, String> zSet = stringRedisTemplate.opsForZSet();
+        double max = cursor != null ? cursor.getCreatedAtMillis() : Double.POSITIVE_INFINITY;
+        int count = limit + TIE_SLACK;
+        List<FeedItem> items = new ArrayList<>(limit);
+        long offset = 0;
+        while (items.size() < limit) {
+            Set<TypedTuple<String>> batch = zSet.reverseRangeByScoreWithScores(key, 0, max, offset, count);
+            if (batch == null || batch.isEmpty()) {
+                break;
+            }
+            for (TypedTuple<String> tuple : batch) {
+                long createdAt = tuple.getScore().longValue();
+                if (cursor == null || cursor.isBefore(createdAt, tuple.getValue())) {
+                    items.add(FeedItem.fromMember(tuple.getValue(), createdAt));
+                    if (items.size() == limit) {
+                        break;
+                    }
+                }
+            }
+            if (batch.size() < count) {
+                break;
+            }
+            offset += batch.size();
+        }
+        return items;
+    }
+
+    /**
+     * 키가 없으면 DB의 최근 활동으로 채우고 TTL 갱신
+     */
+    private String ensureLoaded(String key, Supplier<List<FeedItem>> loader) {
+        if (Boolean.TRUE.equals(stringRedisTemplate.expire(key, ttl))) {
+            return key;
+        }
+        List<FeedItem> items = loader.get();
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            redis.zAdd(key, EMPTY_MARKER_SCORE, EMPTY_MARKER);
+            for (FeedItem item : items) {
+                redis.zAdd(key, item.getCreatedAtMillis(), item.toMember());
+            }
+            redis.expire(key, ttl.getSeconds());
+            return null;
+        });
+        return key;
+    }
+
+    // findPopularFollowings와 같은 기준이어야 fan-out도 pull도 안 되는 활동이 생기지 않음
+    private boolean isPopular(int userId) {
+        Integer followerCount = feedJdbcRepository.findFollowerCount(userId);
+        return followerCount != null && followerCount >= popularThreshold;
+    }
+
+    private static String inboxKey(int userId) {
+        return Constants.FEED_INBOX + userId;
+    }
+
+    private static String outboxKey(int userId) {
+        return Constants.FEED_OUTBOX + userId;
+    }
+}
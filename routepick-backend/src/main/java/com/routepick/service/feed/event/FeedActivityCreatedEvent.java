@@ -0,0 +1,15 @@
+package com.routepick.service.feed.event;
+
+import com.routepick.service.feed.FeedItem;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 게시글 작성 / 완등 기록 / 루트 스크랩 (ACTIVE 상태로 생성된 경우)
+ */
+@Getter
+@RequiredArgsConstructor
+public class FeedActivityCreatedEvent {
+
+    private final FeedItem item;
+}
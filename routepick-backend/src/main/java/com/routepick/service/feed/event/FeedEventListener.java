@@ -0,0 +1,38 @@
+package com.routepick.service.feed.event;
+
+import com.routepick.service.feed.FeedService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 활동/팔로우 이벤트를 커밋 이후 비동기로 피드에 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FeedEventListener {
+
+    private final FeedService feedService;
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleFeedActivityCreated(FeedActivityCreatedEvent event) {
+        log.debug("Feed activity created: {}", event.getItem().toMember());
+        feedService.publish(event.getItem());
+    }
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleFollowChanged(FollowChangedEvent event) {
+        log.debug("Follow changed: follower={}, following={}, followed={}",
+            event.getFollowerId(), event.getFollowingId(), event.isFollowed());
+        if (event.isFollowed()) {
+            feedService.onFollow(event.getFollowerId(), event.getFollowingId());
+        } else {
+            feedService.onUnfollow(event.getFollowerId(), event.getFollowingId());
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.routepick.service.feed.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * user_follows 추가(followed = true) / 삭제
+ */
+@Getter
+@RequiredArgsConstructor
+public class FollowChangedEvent {
+
+    private final int followerId;
+    private final int followingId;
+    private final boolean followed;
+}
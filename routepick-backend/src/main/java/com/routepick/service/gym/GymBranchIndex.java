@@ -0,0 +1,217 @@
+package com.routepick.service.gym;
+
+import com.routepick.common.Constants;
+
+import java.util.Arrays;
+
+/**
+ * 활성 gym_branches 위치의 불변 격자 색인 (한국 영역 경계 상자 기준)
+ * 격자 칸별 지점 인덱스를 CSR 배열로 보관하고, 거리 계산은 haversine
+ */
+public final class GymBranchIndex {
+
+    static final double EARTH_RADIUS_METERS = 6_371_000;
+    // 위도 0.02도 ≒ 2.2km
+    static final double CELL_DEGREES = 0.02;
+
+    private static final int ROWS = cellsFor(Constants.KOREA_MAX_LATITUDE - Constants.KOREA_MIN_LATITUDE);
+    private static final int COLUMNS = cellsFor(Constants.KOREA_MAX_LONGITUDE - Constants.KOREA_MIN_LONGITUDE);
+    private static final double METERS_PER_DEGREE = Math.toRadians(1) * EARTH_RADIUS_METERS;
+    // 격자 칸 한 변의 최소 길이 (경도 방향은 최대 위도에서 가장 짧음, 대원 거리 오차 여유 1%)
+    private static final double MIN_CELL_METERS = CELL_DEGREES * METERS_PER_DEGREE
+        * Math.cos(Math.toRadians(Constants.KOREA_MAX_LATITUDE)) * 0.99;
+
+    // branch_id 오름차순 병렬 배열
+    private final int[] branchIds;
+    private final double[] latitudes;
+    private final double[] longitudes;
+
+    // 칸 c의 지점은 cellBranches[cellOffsets[c] .. cellOffsets[c + 1]) 범위
+    private final int[] cellOffsets;
+    private final int[] cellBranches;
+
+    public GymBranchIndex(int[] branchIds, double[] latitudes, double[] longitudes) {
+        if (branchIds.length != latitudes.length || branchIds.length != longitudes.length) {
+            throw new IllegalArgumentException("Branch arrays must be parallel");
+        }
+        this.branchIds = branchIds;
+        this.latitudes = latitudes;
+        this.longitudes = longitudes;
+
+        // counting sort로 칸별 묶기
+        int[] cells = new int[branchIds.length];
+        int[] offsets = new int[ROWS * COLUMNS + 1];
+        for (int i = 0; i < branchIds.length; i++) {
+            cells[i] = cellOf(latitudes[i], longitudes[i]);
+            offsets[cells[i] + 1]++;
+        }
+        for (int c = 0; c < ROWS * COLUMNS; c++) {
+            offsets[c + 1] += offsets[c];
+        }
+        int[] next = Arrays.copyOf(offsets, offsets.length - 1);
+        int[] members = new int[branchIds.length];
+        for (int i = 0; i < branchIds.length; i++) {
+            members[next[cells[i]]++] = i;
+        }
+        this.cellOffsets = offsets;
+        this.cellBranches = members;
+    }
+
+    public static GymBranchIndex empty() {
+        return new GymBranchIndex(new int[0], new double[0], new double[0]);
+    }
+
+    public static boolean contains(double latitude, double longitude) {
+        return latitude >= Constants.KOREA_MIN_LATITUDE && latitude <= Constants.KOREA_MAX_LATITUDE
+            && longitude >= Constants.KOREA_MIN_LONGITUDE && longitude <= Constants.KOREA_MAX_LONGITUDE;
+    }
+
+    public int size() {
+        return branchIds.length;
+    }
+
+    /**
+     * 반경 안의 지점을 가까운 순으로 반환
+     */
+    public NearbyBranches withinRadius(double latitude, double longitude, double radiusMeters) {
+        NearbyBranches result = new NearbyBranches(16);
+        double latDelta = Math.toDegrees(radiusMeters / EARTH_RADIUS_METERS);
+        double cosLat = Math.max(Math.cos(Math.toRadians(Math.min(Math.abs(latitude) + latDelta, 89))), 1e-6);
+        double lonDelta = latDelta / cosLat;
+
+        int minRow = rowOf(latitude - latDelta);
+        int maxRow = rowOf(latitude + latDelta);
+        int minColumn = columnOf(longitude - lonDelta);
+        int maxColumn = columnOf(longitude + lonDelta);
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int column = minColumn; column <= maxColumn; column++) {
+                int cell = row * COLUMNS + column;
+                for (int p = cellOffsets[cell], end = cellOffsets[cell + 1]; p < end; p++) {
+                    int i = cellBranches[p];
+                    double distance = haversine(latitude, longitude, latitudes[i], longitudes[i]);
+                    if (distance <= radiusMeters) {
+                        result.add(branchIds[i], distance);
+                    }
+                }
+            }
+        }
+        result.sortByDistance();
+        return result;
+    }
+
+    /**
+     * 가까운 지점 k개 (중심 칸에서 바깥 고리로 넓혀 가며, k번째 거리보다 먼 고리는 생략)
+     */
+    public NearbyBranches nearest(double latitude, double longitude, int k) {
+        NearbyBranches best = new NearbyBranches(k + 1);
+        if (k <= 0 || branchIds.length == 0) {
+            return best;
+        }
+        int centerRow = rowOf(latitude);
+        int centerColumn = columnOf(longitude);
+        int maxRing = Math.max(Math.max(centerRow, ROWS - 1 - centerRow), Math.max(centerColumn, COLUMNS - 1 - centerColumn));
+
+        for (int ring = 0; ring <= maxRing; ring++) {
+            // 고리 ring 이상의 칸은 최소 (ring - 1) * MIN_CELL_METERS 떨어져 있음 (중심점이 영역 밖이면 끝까지 탐색)
+            if (best.size() == k && contains(latitude, longitude)
+                && best.distanceMeters(k - 1) <= (ring - 1) * MIN_CELL_METERS) {
+                break;
+            }
+            for (int row = centerRow - ring; row <= centerRow + ring; row++) {
+                if (row < 0 || row >= ROWS) {
+                    continue;
+                }
+                boolean edgeRow = row == centerRow - ring || row == centerRow + ring;
+                int step = edgeRow ? 1 : Math.max(2 * ring, 1);
+                for (int column = centerColumn - ring; column <= centerColumn + ring; column += step) {
+                    if (column < 0 || column >= COLUMNS) {
+                        continue;
+                    }
+                    int cell = row * COLUMNS + column;
+                    for (int p = cellOffsets[cell], end = cellOffsets[cell + 1]; p < end; p++) {
+                        int i = cellBranches[p];
+                        best.offerNearest(branchIds[i], haversine(latitude, longitude, latitudes[i], longitudes[i]), k);
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * 지점 하나를 추가/이동한 새 색인 반환 (영역 밖 좌표면 제거)
+     */
+    public GymBranchIndex withBranch(int branchId, double latitude, double longitude) {
+        if (!contains(latitude, longitude)) {
+            return withoutBranch(branchId);
+        }
+        int index = Arrays.binarySearch(branchIds, branchId);
+        if (index >= 0) {
+            double[] newLatitudes = latitudes.clone();
+            double[] newLongitudes = longitudes.clone();
+            newLatitudes[index] = latitude;
+            newLongitudes[index] = longitude;
+            return new GymBranchIndex(branchIds, newLatitudes, newLongitudes);
+        }
+        int position = -index - 1;
+        int[] newBranchIds = new int[branchIds.length + 1];
+        double[] newLatitudes = new double[branchIds.length + 1];
+        double[] newLongitudes = new double[branchIds.length + 1];
+        System.arraycopy(branchIds, 0, newBranchIds, 0, position);
+        System.arraycopy(latitudes, 0, newLatitudes, 0, position);
+        System.arraycopy(longitudes, 0, newLongitudes, 0, position);
+        newBranchIds[position] = branchId;
+        newLatitudes[position] = latitude;
+        newLongitudes[position] = longitude;
+        int remaining = branchIds.length - position;
+        System.arraycopy(branchIds, position, newBranchIds, position + 1, remaining);
+        System.arraycopy(latitudes, position, newLatitudes, position + 1, remaining);
+        System.arraycopy(longitudes, position, newLongitudes, position + 1, remaining);
+        return new GymBranchIndex(newBranchIds, newLatitudes, newLongitudes);
+    }
+
+    public GymBranchIndex withoutBranch(int branchId) {
+        int index = Arrays.binarySearch(branchIds, branchId);
+        if (index < 0) {
+            return this;
+        }
+        int remaining = branchIds.length - index - 1;
+        int[] newBranchIds = new int[branchIds.length - 1];
+        double[] newLatitudes = new double[branchIds.length - 1];
+        double[] newLongitudes = new double[branchIds.length - 1];
+        System.arraycopy(branchIds, 0, newBranchIds, 0, index);
+        System.arraycopy(latitudes, 0, newLatitudes, 0, index);
+        System.arraycopy(longitudes, 0, newLongitudes, 0, index);
+        System.arraycopy(branchIds, index + 1, newBranchIds, index, remaining);
+        System.arraycopy(latitudes, index + 1, newLatitudes, index, remaining);
+        System.arraycopy(longitudes, index + 1, newLongitudes, index, remaining);
+        return new GymBranchIndex(newBranchIds, newLatitudes, newLongitudes);
+    }
+
+    static double haversine(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+            + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    private static int cellsFor(double degrees) {
+        return (int) Math.ceil(degrees / CELL_DEGREES) + 1;
+    }
+
+    private static int cellOf(double latitude, double longitude) {
+        return rowOf(latitude) * COLUMNS + columnOf(longitude);
+    }
+
+    // 영역 밖 좌표는 가장자리 칸으로 고정
+    private static int rowOf(double latitude) {
+        int row = (int) Math.floor((latitude - Constants.KOREA_MIN_LATITUDE) / CELL_DEGREES);
+        return Math.min(Math.max(row, 0), ROWS - 1);
+    }
+
+    private static int columnOf(double longitude) {
+        int column = (int) Math.floor((longitude - Constants.KOREA_MIN_LONGITUDE) / CELL_DEGREES);
+        return Math.min(Math.max(column, 0), COLUMNS - 1);
+    }
+}
@@ -0,0 +1,83 @@
+package com.routepick.service.gym;
+
+import com.routepick.common.Constants;
+import com.routepick.util.IntArrayList;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * gym_branches 테이블에서 GymBranchIndex 스냅샷 생성
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GymBranchIndexLoader {
+
+    private static final String SELECT_ACTIVE_BRANCHES =
+        "SELECT branch_id, latitude, longitude FROM gym_branches " +
+        "WHERE branch_status = ? AND latitude IS NOT NULL AND longitude IS NOT NULL " +
+        "ORDER BY branch_id";
+
+    private static final String SELECT_BRANCH =
+        "SELECT latitude, longitude, branch_status FROM gym_branches WHERE branch_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public GymBranchIndex load() {
+        long startedAt = System.currentTimeMillis();
+
+        IntArrayList branchIds = new IntArrayList(256);
+        double[][] coordinates = {new double[256], new double[256]};
+        int[] skipped = {0};
+        jdbcTemplate.query(SELECT_ACTIVE_BRANCHES, rs -> {
+            double latitude = rs.getDouble(2);
+            double longitude = rs.getDouble(3);
+            if (!GymBranchIndex.contains(latitude, longitude)) {
+                skipped[0]++;
+                return;
+            }
+            int n = branchIds.size();
+            if (n == coordinates[0].length) {
+                coordinates[0] = Arrays.copyOf(coordinates[0], n << 1);
+                coordinates[1] = Arrays.copyOf(coordinates[1], n << 1);
+            }
+            branchIds.add(rs.getInt(1));
+            coordinates[0][n] = latitude;
+            coordinates[1][n] = longitude;
+        }, Constants.BRANCH_STATUS_ACTIVE);
+
+        int size = branchIds.size();
+        GymBranchIndex index = new GymBranchIndex(branchIds.toArray(),
+            Arrays.copyOf(coordinates[0], size), Arrays.copyOf(coordinates[1], size));
+        if (skipped[0] > 0) {
+            log.warn("Skipped {} gym branches outside the Korea bounding box", skipped[0]);
+        }
+        log.info("Gym branch index loaded: {} branches in {}ms",
+            index.size(), System.currentTimeMillis() - startedAt);
+        return index;
+    }
+
+    /**
+     * 지점 한 건만 다시 읽어 반영한 스냅샷 반환
+     * 활성 상태가 아니거나 좌표가 없는 지점은 색인에서 제외
+     */
+    public GymBranchIndex reloadBranch(GymBranchIndex base, int branchId) {
+        List<double[]> rows = jdbcTemplate.query(SELECT_BRANCH, (rs, rowNum) -> {
+            double latitude = rs.getDouble(1);
+            boolean hasLatitude = !rs.wasNull();
+            double longitude = rs.getDouble(2);
+            boolean hasLongitude = !rs.wasNull();
+            boolean active = Constants.BRANCH_STATUS_ACTIVE.equals(rs.getString(3));
+            return active && hasLatitude && hasLongitude ? new double[] {latitude, longitude} : null;
+        }, branchId);
+        if (rows.isEmpty() || rows.get(0) == null) {
+            return base.withoutBranch(branchId);
+        }
+        return base.withBranch(branchId, rows.get(0)[0], rows.get(0)[1]);
+    }
+}
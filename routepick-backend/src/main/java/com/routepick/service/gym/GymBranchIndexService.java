@@ -0,0 +1,59 @@
+package com.routepick.service.gym;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * 현재 GymBranchIndex 스냅샷 보관 및 교체
+ * 읽기는 락 없이 volatile 참조만 사용
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GymBranchIndexService {
+
+    private final GymBranchIndexLoader gymBranchIndexLoader;
+
+    private volatile GymBranchIndex index;
+
+    public GymBranchIndex getIndex() {
+        GymBranchIndex current = index;
+        if (current == null) {
+            synchronized (this) {
+                current = index;
+                if (current == null) {
+                    current = gymBranchIndexLoader.load();
+                    index = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 반경(m) 안의 활성 지점을 가까운 순으로 조회
+     */
+    public NearbyBranches findWithinRadius(double latitude, double longitude, double radiusMeters) {
+        return getIndex().withinRadius(latitude, longitude, radiusMeters);
+    }
+
+    public NearbyBranches findNearest(double latitude, double longitude, int limit) {
+        return getIndex().nearest(latitude, longitude, limit);
+    }
+
+    /**
+     * 지점 한 건의 변경을 현재 스냅샷에 반영
+     */
+    public synchronized GymBranchIndex refreshBranch(int branchId) {
+        GymBranchIndex refreshed = gymBranchIndexLoader.reloadBranch(getIndex(), branchId);
+        index = refreshed;
+        return refreshed;
+    }
+
+    public synchronized GymBranchIndex reload() {
+        GymBranchIndex reloaded = gymBranchIndexLoader.load();
+        index = reloaded;
+        return reloaded;
+    }
+}
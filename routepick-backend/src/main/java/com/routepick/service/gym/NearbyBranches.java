@@ -0,0 +1,84 @@
+package com.routepick.service.gym;
+
+import java.util.Arrays;
+
+/**
+ * 위치 검색 결과 (branch_id / 거리(m) 병렬 배열, 가까운 순)
+ */
+public final class NearbyBranches {
+
+    private int[] branchIds;
+    private double[] distances;
+    private int size;
+
+    NearbyBranches(int initialCapacity) {
+        int capacity = Math.max(initialCapacity, 1);
+        this.branchIds = new int[capacity];
+        this.distances = new double[capacity];
+    }
+
+    void add(int branchId, double distanceMeters) {
+        if (size == branchIds.length) {
+            branchIds = Arrays.copyOf(branchIds, size << 1);
+            distances = Arrays.copyOf(distances, size << 1);
+        }
+        branchIds[size] = branchId;
+        distances[size] = distanceMeters;
+        size++;
+    }
+
+    /**
+     * 거리순 상위 k개만 유지하며 삽입 (k가 작으므로 삽입 정렬)
+     */
+    void offerNearest(int branchId, double distanceMeters, int k) {
+        if (size == k && distanceMeters >= distances[k - 1]) {
+            return;
+        }
+        if (size < k) {
+            add(branchId, distanceMeters);
+        } else {
+            branchIds[k - 1] = branchId;
+            distances[k - 1] = distanceMeters;
+        }
+        for (int i = size - 1; i > 0 && distances[i] < distances[i - 1]; i--) {
+            swap(i, i - 1);
+        }
+    }
+
+    void sortByDistance() {
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(distances[a], distances[b]));
+        int[] sortedIds = new int[branchIds.length];
+        double[] sortedDistances = new double[distances.length];
+        for (int i = 0; i < size; i++) {
+            sortedIds[i] = branchIds[order[i]];
+            sortedDistances[i] = distances[order[i]];
+        }
+        branchIds = sortedIds;
+        distances = sortedDistances;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int branchId(int index) {
+        return branchIds[index];
+    }
+
+    public double distanceMeters(int index) {
+        return distances[index];
+    }
+
+    private void swap(int a, int b) {
+        int branchId = branchIds[a];
+        branchIds[a] = branchIds[b];
+        branchIds[b] = branchId;
+        double distance = distances[a];
+        distances[a] = distances[b];
+        distances[b] = distance;
+    }
+}
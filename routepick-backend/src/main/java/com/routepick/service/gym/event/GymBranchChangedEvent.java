@@ -0,0 +1,14 @@
+package com.routepick.service.gym.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 지점 생성/좌표 수정/branch_status 변경
+ */
+@Getter
+@RequiredArgsConstructor
+public class GymBranchChangedEvent {
+
+    private final int branchId;
+}
@@ -0,0 +1,26 @@
+package com.routepick.service.gym.event;
+
+import com.routepick.service.gym.GymBranchIndexService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 지점 변경 이벤트를 커밋 이후 비동기로 위치 색인에 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GymBranchEventListener {
+
+    private final GymBranchIndexService gymBranchIndexService;
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleGymBranchChanged(GymBranchChangedEvent event) {
+        log.debug("Gym branch changed: branch={}", event.getBranchId());
+        gymBranchIndexService.refreshBranch(event.getBranchId());
+    }
+}
@@ -0,0 +1,95 @@
+package com.routepick.service.notification;
+
+import com.google.auth.oauth2.GoogleCredentials;
+import com.google.firebase.FirebaseApp;
+import com.google.firebase.FirebaseOptions;
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.MulticastMessage;
+import com.google.firebase.messaging.Notification;
+import com.google.firebase.messaging.SendResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * firebase-admin multicast 발송 (sendEachForMulticast, 최대 500 토큰)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.firebase.enabled", havingValue = "true")
+public class FirebasePushSender implements PushSender {
+
+    private static final String APP_NAME = "routepick";
+
+    private final FirebaseMessaging firebaseMessaging;
+
+    public FirebasePushSender(ResourceLoader resourceLoader,
+                              @Value("${app.firebase.config-path}") String configPath) {
+        try (InputStream credentials = resourceLoader.getResource(configPath).getInputStream()) {
+            FirebaseOptions options = FirebaseOptions.builder()
+                .setCredentials(GoogleCredentials.fromStream(credentials))
+                .build();
+            this.firebaseMessaging = FirebaseMessaging.getInstance(FirebaseApp.initializeApp(options, APP_NAME));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load Firebase credentials from " + configPath, e);
+        }
+    }
+
+    @Override
+    public MulticastResult sendMulticast(PushMessage message, List<String> tokens) {
+        MulticastMessage multicast = MulticastMessage.builder()
+            .addAllTokens(tokens)
+            .setNotification(Notification.builder()
+                .setTitle(message.getTitle())
+                .setBody(message.getBody())
+                .build())
+            .putData("type", message.getType().name())
+            .putData("referenceId", message.getReferenceId() != null ? message.getReferenceId().toString() : "")
+            .putData("referenceType", message.getReferenceType() != null ? message.getReferenceType() : "")
+            .build();
+
+        BatchResponse response;
+        try {
+            response = firebaseMessaging.sendEachForMulticast(multicast);
+        } catch (FirebaseMessagingException e) {
+            log.warn("FCM multicast failed for {} tokens: {}", tokens.size(), e.getMessagingErrorCode());
+            return MulticastResult.allRetryable(tokens);
+        }
+
+        List<String> retryable = new ArrayList<>();
+        List<String> invalid = new ArrayList<>();
+        int rejected = 0;
+        List<SendResponse> responses = response.getResponses();
+        for (int i = 0; i < responses.size(); i++) {
+            SendResponse sendResponse = responses.get(i);
+            if (sendResponse.isSuccessful()) {
+                continue;
+            }
+            MessagingErrorCode errorCode = sendResponse.getException() != null
+                ? sendResponse.getException().getMessagingErrorCode() : null;
+            if (errorCode == MessagingErrorCode.UNREGISTERED || errorCode == MessagingErrorCode.SENDER_ID_MISMATCH) {
+                // 앱 삭제/토큰 만료 또는 다른 프로젝트의 토큰이라 다시 쓸 일이 없음
+                invalid.add(tokens.get(i));
+            } else if (errorCode == MessagingErrorCode.INVALID_ARGUMENT) {
+                // 메시지 자체 오류일 수도 있으므로 토큰은 지우지 않고 재시도도 하지 않음
+                rejected++;
+                log.warn("FCM rejected push {} as INVALID_ARGUMENT: {}",
+                    message.getType(), sendResponse.getException().getMessage());
+            } else {
+                retryable.add(tokens.get(i));
+            }
+        }
+        return new MulticastResult(response.getSuccessCount(), retryable, invalid, rejected);
+    }
+}
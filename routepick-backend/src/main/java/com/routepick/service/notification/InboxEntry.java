@@ -0,0 +1,31 @@
+package com.routepick.service.notification;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 최근 알림 목록 항목 (Redis inbox:recent:{userId})
+ * 읽음 여부는 JSON 밖에서 member 앞 한 글자("0"/"1")로 관리해 Lua에서 문자열 치환만으로 갱신
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor
+public class InboxEntry {
+
+    private int notificationId;
+    private String type;
+    private String title;
+    private String content;
+    private Integer referenceId;
+    private String referenceType;
+    private long createdAtMillis;
+    @JsonIgnore
+    private boolean read;
+
+    InboxEntry withRead(boolean read) {
+        return new InboxEntry(notificationId, type, title, content, referenceId, referenceType, createdAtMillis, read);
+    }
+}
@@ -0,0 +1,258 @@
+package com.routepick.service.notification;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.routepick.common.Constants;
+import com.routepick.common.enums.NotificationType;
+import com.routepick.domain.notification.repository.NotificationJdbcRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 알림 inbox 캐시
+ * - inbox:unread:{userId} 해시: 알림 유형별 / MESSAGE 읽지 않은 수 (배지 조회는 HGETALL 한 번)
+ * - inbox:recent:{userId} sorted set: 최근 recent-size개 알림 (score = notification_id)
+ * 증감은 키가 있을 때만 Lua로 원자적으로 반영하고, 키가 없으면 조회 시 MySQL에서 다시 집계 (TTL로 오차 범위 제한)
+ * 다시 채울 때도 키가 없을 때만 원자적으로 만들어, 그 사이 다른 요청이 만든 키와 반영된 증감을 덮지 않음
+ */
+@Slf4j
+@Service
+public class InboxService {
+
+    private static final String MESSAGE_FIELD = "MESSAGE";
+    private static final String UNREAD_PREFIX = "0";
+    private static final String READ_PREFIX = "1";
+    // 알림이 없는 사용자도 키가 남도록 넣는 표시 member (score -1이라 항상 가장 오래된 항목으로 먼저 잘림)
+    private static final String EMPTY_MARKER = "-";
+
+    private static final RedisScript<Long> INCREMENT_IF_EXISTS = new DefaultRedisScript<>(
+        "if redis.call('EXISTS', KEYS[1]) == 1 then " +
+        "local v = redis.call('HINCRBY', KEYS[1], ARGV[1], ARGV[2]) " +
+        "if v < 0 then redis.call('HSET', KEYS[1], ARGV[1], 0) v = 0 end " +
+        "return v end return -1", Long.class);
+
+    private static final RedisScript<Long> ADD_RECENT_IF_EXISTS = new DefaultRedisScript<>(
+        "if redis.call('EXISTS', KEYS[1]) == 1 then " +
+        "redis.call('ZADD', KEYS[1], ARGV[1], ARGV[2]) " +
+        "redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -tonumber(ARGV[3]) - 1) " +
+        "return 1 end return 0", Long.class);
+
+    private static final RedisScript<Long> RESET_IF_EXISTS = new DefaultRedisScript<>(
+        "if redis.call('EXISTS', KEYS[1]) == 1 then " +
+        "for i = 1, #ARGV do redis.call('HSET', KEYS[1], ARGV[i], 0) end " +
+        "return 1 end return 0", Long.class);
+
+    // ARGV[1] = TTL(초), 이후 field/value 쌍
+    private static final RedisScript<Long> FILL_UNREAD_IF_ABSENT = new DefaultRedisScript<>(
+        "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end " +
+        "for i = 2, #ARGV, 2 do redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1]) end " +
+        "redis.call('EXPIRE', KEYS[1], ARGV[1]) " +
+        "return 1", Long.class);
+
+    // ARGV[1] = TTL(초), 이후 score/member 쌍
+    private static final RedisScript<Long> FILL_RECENT_IF_ABSENT = new DefaultRedisScript<>(
+        "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end " +
+        "redis.call('ZADD', KEYS[1], -1, '" + EMPTY_MARKER + "') " +
+        "for i = 2, #ARGV, 2 do redis.call('ZADD', KEYS[1], ARGV[i], ARGV[i + 1]) end " +
+        "redis.call('EXPIRE', KEYS[1], ARGV[1]) " +
+        "return 1", Long.class);
+
+    // ARGV[1] = 최소 notification_id (전체는 -inf), ARGV[2] = 최대
+    private static final RedisScript<Long> MARK_RECENT_READ = new DefaultRedisScript<>(
+        "local items = redis.call('ZRANGEBYSCORE', KEYS[1], ARGV[1], ARGV[2], 'WITHSCORES') " +
+        "local changed = 0 " +
+        "for i = 1, #items, 2 do " +
+        "if string.sub(items[i], 1, 1) == '" + UNREAD_PREFIX + "' then " +
+        "redis.call('ZREM', KEYS[1], items[i]) " +
+        "redis.call('ZADD', KEYS[1], items[i + 1], '" + READ_PREFIX + "' .. string.sub(items[i], 2)) " +
+        "changed = changed + 1 end end " +
+        "return changed", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final NotificationJdbcRepository notificationJdbcRepository;
+    private final ObjectMapper objectMapper;
+    private final int recentSize;
+    private final Duration ttl;
+
+    public InboxService(StringRedisTemplate stringRedisTemplate,
+                        NotificationJdbcRepository notificationJdbcRepository,
+                        ObjectMapper objectMapper,
+                        @Value("${app.inbox.recent-size:50}") int recentSize,
+                        @Value("${app.inbox.ttl-hours:24}") int ttlHours) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.notificationJdbcRepository = notificationJdbcRepository;
+        this.objectMapper = objectMapper;
+        this.recentSize = recentSize;
+        this.ttl = Duration.ofHours(ttlHours);
+    }
+
+    /**
+     * 알림 생성 (커밋 이후)
+     */
+    public void onNotificationCreated(InboxEntry entry, int userId) {
+        stringRedisTemplate.execute(INCREMENT_IF_EXISTS, List.of(unreadKey(userId)), entry.getType(), "1");
+        stringRedisTemplate.execute(ADD_RECENT_IF_EXISTS, List.of(recentKey(userId)),
+            Integer.toString(entry.getNotificationId()), toMember(entry), Integer.toString(recentSize));
+    }
+
+    public void onMessageReceived(int receiverId) {
+        stringRedisTemplate.execute(INCREMENT_IF_EXISTS, List.of(unreadKey(receiverId)), MESSAGE_FIELD, "1");
+    }
+
+    /**
+     * 배지용 읽지 않은 수 (캐시가 있으면 Redis 한 번, 없을 때만 MySQL 집계)
+     */
+    public UnreadCounts getUnreadCounts(int userId) {
+        String key = unreadKey(userId);
+        Map<Object, Object> cached = stringRedisTemplate.opsForHash().entries(key);
+        if (cached.isEmpty()) {
+            return reloadUnreadCounts(userId);
+        }
+        return toUnreadCounts(cached);
+    }
+
+    private static UnreadCounts toUnreadCounts(Map<Object, Object> cached) {
+        Map<NotificationType, Long> notifications = new EnumMap<>(NotificationType.class);
+        long messages = 0;
+        for (Map.Entry<Object, Object> field : cached.entrySet()) {
+            long count = Long.parseLong((String) field.getValue());
+            if (MESSAGE_FIELD.equals(field.getKey())) {
+                messages = count;
+            } else {
+                notifications.put(NotificationType.valueOf((String) field.getKey()), count);
+            }
+        }
+        return new UnreadCounts(notifications, messages);
+    }
+
+    public List<InboxEntry> getRecent(int userId) {
+        String key = recentKey(userId);
+        // 표시 member가 있을 수 있으므로 한 개 더 읽음
+        Set<String> members = stringRedisTemplate.opsForZSet().reverseRange(key, 0, recentSize);
+        if (members == null || members.isEmpty()) {
+            return reloadRecent(userId);
+        }
+        List<InboxEntry> entries = new ArrayList<>(members.size());
+        for (String member : members) {
+            if (EMPTY_MARKER.equals(member)) {
+                continue;
+            }
+            entries.add(fromMember(member));
+            if (entries.size() == recentSize) {
+                break;
+            }
+        }
+        return entries;
+    }
+
+    public void markRead(int userId, int notificationId) {
+        String type = notificationJdbcRepository.markNotificationRead(userId, notificationId);
+        if (type == null) {
+            return;
+        }
+        String id = Integer.toString(notificationId);
+        stringRedisTemplate.execute(INCREMENT_IF_EXISTS, List.of(unreadKey(userId)), type, "-1");
+        stringRedisTemplate.execute(MARK_RECENT_READ, List.of(recentKey(userId)), id, id);
+    }
+
+    /**
+     * 모두 읽음 (UPDATE 한 번 + 캐시 일괄 갱신)
+     */
+    public int markAllRead(int userId) {
+        int updated = notificationJdbcRepository.markAllNotificationsRead(userId);
+        if (updated == 0) {
+            return 0;
+        }
+        Object[] types = new Object[NotificationType.values().length];
+        for (NotificationType type : NotificationType.values()) {
+            types[type.ordinal()] = type.name();
+        }
+        stringRedisTemplate.execute(RESET_IF_EXISTS, List.of(unreadKey(userId)), types);
+        stringRedisTemplate.execute(MARK_RECENT_READ, List.of(recentKey(userId)), "-inf", "+inf");
+        return updated;
+    }
+
+    public void markMessageRead(int userId, int messageId) {
+        if (notificationJdbcRepository.markMessageRead(userId, messageId)) {
+            stringRedisTemplate.execute(INCREMENT_IF_EXISTS, List.of(unreadKey(userId)), MESSAGE_FIELD, "-1");
+        }
+    }
+
+    private UnreadCounts reloadUnreadCounts(int userId) {
+        Map<String, Long> byType = notificationJdbcRepository.countUnreadNotificationsByType(userId);
+        long messages = notificationJdbcRepository.countUnreadMessages(userId);
+
+        Map<NotificationType, Long> notifications = new EnumMap<>(NotificationType.class);
+        for (NotificationType type : NotificationType.values()) {
+            notifications.put(type, byType.getOrDefault(type.name(), 0L));
+        }
+        // 모든 필드를 채워 두어 키가 있으면 항상 완전한 값이 되도록 함
+        List<String> args = new ArrayList<>(notifications.size() * 2 + 3);
+        args.add(Long.toString(ttl.getSeconds()));
+        for (Map.Entry<NotificationType, Long> entry : notifications.entrySet()) {
+            args.add(entry.getKey().name());
+            args.add(Long.toString(entry.getValue()));
+        }
+        args.add(MESSAGE_FIELD);
+        args.add(Long.toString(messages));
+
+        String key = unreadKey(userId);
+        Long filled = stringRedisTemplate.execute(FILL_UNREAD_IF_ABSENT, List.of(key), args.toArray());
+        if (filled != null && filled == 0) {
+            // 집계하는 동안 다른 요청이 채웠으면 증감이 반영된 쪽을 사용
+            Map<Object, Object> cached = stringRedisTemplate.opsForHash().entries(key);
+            if (!cached.isEmpty()) {
+                return toUnreadCounts(cached);
+            }
+        }
+        return new UnreadCounts(notifications, messages);
+    }
+
+    private List<InboxEntry> reloadRecent(int userId) {
+        List<InboxEntry> entries = notificationJdbcRepository.findRecentNotifications(userId, recentSize);
+        List<String> args = new ArrayList<>(entries.size() * 2 + 1);
+        args.add(Long.toString(ttl.getSeconds()));
+        for (InboxEntry entry : entries) {
+            args.add(Integer.toString(entry.getNotificationId()));
+            args.add(toMember(entry));
+        }
+        stringRedisTemplate.execute(FILL_RECENT_IF_ABSENT, List.of(recentKey(userId)), args.toArray());
+        return entries;
+    }
+
+    private String toMember(InboxEntry entry) {
+        try {
+            return (entry.isRead() ? READ_PREFIX : UNREAD_PREFIX) + objectMapper.writeValueAsString(entry);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize inbox entry " + entry.getNotificationId(), e);
+        }
+    }
+
+    private InboxEntry fromMember(String member) {
+        try {
+            return objectMapper.readValue(member.substring(1), InboxEntry.class)
+                .withRead(member.startsWith(READ_PREFIX));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to deserialize inbox entry", e);
+        }
+    }
+
+    private static String unreadKey(int userId) {
+        return Constants.INBOX_UNREAD + userId;
+    }
+
+    private static String recentKey(int userId) {
+        return Constants.INBOX_RECENT + userId;
+    }
+}
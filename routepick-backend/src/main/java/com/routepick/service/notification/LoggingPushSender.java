@@ -0,0 +1,22 @@
+package com.routepick.service.notification;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * FCM 대체 구현 (app.firebase.enabled=false), 발송 내용만 로그로 남김
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.firebase.enabled", havingValue = "false", matchIfMissing = true)
+public class LoggingPushSender implements PushSender {
+
+    @Override
+    public MulticastResult sendMulticast(PushMessage message, List<String> tokens) {
+        log.info("Push [{}] '{}' to {} tokens", message.getType(), message.getTitle(), tokens.size());
+        return MulticastResult.allSucceeded(tokens.size());
+    }
+}
@@ -0,0 +1,31 @@
+package com.routepick.service.notification;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * multicast 발송 결과
+ * retryableTokens: 일시 오류(할당량 초과, 서버 오류 등)로 다시 보낼 토큰
+ * invalidTokens: 등록 해제되어(UNREGISTERED, SENDER_ID_MISMATCH) 삭제할 토큰
+ * rejectedCount: 재시도해도 실패할 오류(INVALID_ARGUMENT 등)로 버린 건수 (토큰은 유지)
+ */
+@Getter
+@RequiredArgsConstructor
+public class MulticastResult {
+
+    private final int successCount;
+    private final List<String> retryableTokens;
+    private final List<String> invalidTokens;
+    private final int rejectedCount;
+
+    public static MulticastResult allSucceeded(int count) {
+        return new MulticastResult(count, Collections.emptyList(), Collections.emptyList(), 0);
+    }
+
+    public static MulticastResult allRetryable(List<String> tokens) {
+        return new MulticastResult(0, tokens, Collections.emptyList(), 0);
+    }
+}
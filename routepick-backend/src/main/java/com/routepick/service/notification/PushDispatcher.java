@@ -0,0 +1,312 @@
+package com.routepick.service.notification;
+
+import com.routepick.common.enums.NotificationType;
+import com.routepick.domain.notification.repository.DeviceTokenJdbcRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 푸시 비동기 발송
+ * 요청 스레드는 큐에 넣기만 하고, 스케줄러가 주기적으로 모아서
+ * - 같은 사용자의 LIKE 알림은 coalesce-window 동안 모아 한 건으로 합치고
+ * - 내용이 같은 메시지(공지, 새 루트 안내 등)는 토큰을 모아 500개 단위 multicast로 발송
+ * 일시 오류 토큰은 지수 backoff로 max-attempts까지 재시도, 무효 토큰은 user_device_tokens에서 삭제
+ * 토큰 조회(DB)는 lookup-batch-size명 단위로 나눠 하고, 실패한 묶음만 같은 backoff/max-attempts로 다시 조회
+ * 큐가 가득 차면(대량 공지 등) 요청 스레드가 enqueue-timeout까지 기다리며 발송 속도에 맞춰지고, 그래도 자리가 없으면 버림
+ */
+@Slf4j
+@Component
+public class PushDispatcher {
+
+    private final PushSender pushSender;
+    private final DeviceTokenJdbcRepository deviceTokenJdbcRepository;
+    private final BlockingQueue<PushMessage> queue;
+    private final long coalesceWindowMillis;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+    private final int lookupBatchSize;
+    private final long enqueueTimeoutMillis;
+    private final ScheduledExecutorService sender;
+
+    // 스케줄러 스레드(dispatch)에서만 접근
+    private final Map<Integer, LikeBatch> pendingLikes = new HashMap<>();
+
+    private final Counter enqueued;
+    private final Counter dropped;
+    private final Counter throttled;
+    private final Counter coalesced;
+    private final Counter sentTokens;
+    private final Counter retriedTokens;
+    private final Counter failedTokens;
+    private final Timer lag;
+
+    public PushDispatcher(PushSender pushSender,
+                          DeviceTokenJdbcRepository deviceTokenJdbcRepository,
+                          MeterRegistry meterRegistry,
+                          @Value("${app.push.queue-capacity:50000}") int queueCapacity,
+                          @Value("${app.push.coalesce-window-ms:5000}") long coalesceWindowMillis,
+                          @Value("${app.push.sender-threads:4}") int senderThreads,
+                          @Value("${app.push.max-attempts:5}") int maxAttempts,
+                          @Value("${app.push.retry-backoff-ms:1000}") long retryBackoffMillis,
+                          @Value("${app.push.lookup-batch-size:1000}") int lookupBatchSize,
+                          @Value("${app.push.enqueue-timeout-ms:2000}") long enqueueTimeoutMillis) {
+        this.pushSender = pushSender;
+        this.deviceTokenJdbcRepository = deviceTokenJdbcRepository;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.coalesceWindowMillis = coalesceWindowMillis;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMillis = retryBackoffMillis;
+        this.lookupBatchSize = lookupBatchSize;
+        this.enqueueTimeoutMillis = enqueueTimeoutMillis;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.sender = Executors.newScheduledThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "push-sender-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        meterRegistry.gauge("push.queue.depth", queue, BlockingQueue::size);
+        this.enqueued = meterRegistry.counter("push.enqueued");
+        this.dropped = meterRegistry.counter("push.dropped");
+        this.throttled = meterRegistry.counter("push.enqueue.throttled");
+        this.coalesced = meterRegistry.counter("push.coalesced");
+        this.sentTokens = meterRegistry.counter("push.sent.tokens");
+        this.retriedTokens = meterRegistry.counter("push.retried.tokens");
+        this.failedTokens = meterRegistry.counter("push.failed.tokens");
+        // notifications 생성부터 발송 요청까지 지연
+        this.lag = Timer.builder("push.lag")
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+    }
+
+    /**
+     * 큐가 가득 차 있으면 dispatch가 비울 때까지 최대 enqueue-timeout 대기 (호출 스레드에 backpressure)
+     */
+    public void enqueue(PushMessage message) {
+        if (queue.offer(message)) {
+            enqueued.increment();
+            return;
+        }
+        throttled.increment();
+        boolean accepted;
+        try {
+            accepted = queue.offer(message, enqueueTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            accepted = false;
+        }
+        if (accepted) {
+            enqueued.increment();
+        } else {
+            dropped.increment();
+            log.error("Push queue stayed full for {} ms; dropping {} push for user {}",
+                enqueueTimeoutMillis, message.getType(), message.getUserId());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.push.dispatch-interval-ms:200}")
+    public synchronized void dispatch() {
+        dispatch(false);
+    }
+
+    private void dispatch(boolean flushAll) {
+        List<PushMessage> drained = new ArrayList<>();
+        queue.drainTo(drained);
+        long now = System.currentTimeMillis();
+
+        List<PushMessage> ready = new ArrayList<>(drained.size());
+        for (PushMessage message : drained) {
+            if (message.getType() == NotificationType.LIKE) {
+                pendingLikes.computeIfAbsent(message.getUserId(), userId -> new LikeBatch(now)).add(message);
+            } else {
+                ready.add(message);
+            }
+        }
+        for (Iterator<LikeBatch> it = pendingLikes.values().iterator(); it.hasNext(); ) {
+            LikeBatch batch = it.next();
+            if (flushAll || now - batch.firstQueuedAt >= coalesceWindowMillis) {
+                ready.add(batch.toMessage());
+                coalesced.increment(batch.count - 1);
+                it.remove();
+            }
+        }
+        if (!ready.isEmpty()) {
+            for (PushMessage message : ready) {
+                lag.record(Math.max(now - message.getCreatedAtMillis(), 0), TimeUnit.MILLISECONDS);
+            }
+            send(ready);
+        }
+    }
+
+    /**
+     * 수신자 lookupBatchSize명 단위로 나눠 발송 (같은 사용자의 메시지는 같은 묶음)
+     */
+    private void send(List<PushMessage> messages) {
+        Map<Integer, List<PushMessage>> byUser = new LinkedHashMap<>();
+        for (PushMessage message : messages) {
+            byUser.computeIfAbsent(message.getUserId(), userId -> new ArrayList<>()).add(message);
+        }
+        List<PushMessage> batch = new ArrayList<>();
+        int users = 0;
+        for (List<PushMessage> userMessages : byUser.values()) {
+            batch.addAll(userMessages);
+            if (++users == lookupBatchSize) {
+                send(batch, 1);
+                batch = new ArrayList<>();
+                users = 0;
+            }
+        }
+        if (!batch.isEmpty()) {
+            send(batch, 1);
+        }
+    }
+
+    /**
+     * 수신자 토큰을 조회해 multicast 발송 요청 (attempt: 토큰 조회 시도 횟수)
+     * dispatch 스레드 또는 조회 재시도 시 sender 스레드에서 호출 (pendingLikes는 건드리지 않음)
+     */
+    private void send(List<PushMessage> messages, int attempt) {
+        Set<Integer> userIds = new LinkedHashSet<>();
+        for (PushMessage message : messages) {
+            userIds.add(message.getUserId());
+        }
+        Map<Integer, List<String>> tokensByUser;
+        try {
+            tokensByUser = deviceTokenJdbcRepository.findTokensByUserIds(userIds);
+        } catch (RuntimeException e) {
+            if (attempt >= maxAttempts || sender.isShutdown()) {
+                dropped.increment(messages.size());
+                log.error("Giving up {} pushes after {} device token lookups", messages.size(), attempt, e);
+                return;
+            }
+            long delay = backoffDelay(attempt);
+            log.warn("Failed to load device tokens for {} users (attempt {}); retrying in {} ms",
+                userIds.size(), attempt, delay, e);
+            sender.schedule(() -> send(messages, attempt + 1), delay, TimeUnit.MILLISECONDS);
+            return;
+        }
+
+        // 내용이 같은 메시지는 수신자 토큰을 모아 multicast
+        Map<PushMessage.ContentKey, PushMessage> representatives = new LinkedHashMap<>();
+        Map<PushMessage.ContentKey, List<String>> tokensByContent = new HashMap<>();
+        for (PushMessage message : messages) {
+            List<String> tokens = tokensByUser.get(message.getUserId());
+            if (tokens == null) {
+                continue;
+            }
+            PushMessage.ContentKey key = message.contentKey();
+            representatives.putIfAbsent(key, message);
+            tokensByContent.computeIfAbsent(key, k -> new ArrayList<>()).addAll(tokens);
+        }
+        for (Map.Entry<PushMessage.ContentKey, PushMessage> entry : representatives.entrySet()) {
+            List<String> tokens = tokensByContent.get(entry.getKey());
+            for (int from = 0; from < tokens.size(); from += PushSender.MAX_MULTICAST_TOKENS) {
+                List<String> chunk = new ArrayList<>(
+                    tokens.subList(from, Math.min(from + PushSender.MAX_MULTICAST_TOKENS, tokens.size())));
+                if (sender.isShutdown()) {
+                    // 종료 중 실행된 조회 재시도는 남은 sender 스레드에서 바로 발송
+                    deliver(entry.getValue(), chunk, maxAttempts);
+                } else {
+                    sender.execute(() -> deliver(entry.getValue(), chunk, 1));
+                }
+            }
+        }
+    }
+
+    private void deliver(PushMessage message, List<String> tokens, int attempt) {
+        MulticastResult result;
+        try {
+            result = pushSender.sendMulticast(message, tokens);
+        } catch (RuntimeException e) {
+            log.warn("Push send failed for {} tokens (attempt {})", tokens.size(), attempt, e);
+            result = MulticastResult.allRetryable(tokens);
+        }
+        sentTokens.increment(result.getSuccessCount());
+        failedTokens.increment(result.getRejectedCount());
+
+        if (!result.getInvalidTokens().isEmpty()) {
+            try {
+                deviceTokenJdbcRepository.deleteTokens(result.getInvalidTokens());
+            } catch (RuntimeException e) {
+                log.warn("Failed to delete {} invalid device tokens", result.getInvalidTokens().size(), e);
+            }
+        }
+
+        List<String> retryable = result.getRetryableTokens();
+        if (retryable.isEmpty()) {
+            return;
+        }
+        if (attempt >= maxAttempts || sender.isShutdown()) {
+            failedTokens.increment(retryable.size());
+            log.warn("Giving up {} push tokens for {} after {} attempts", retryable.size(), message.getType(), attempt);
+            return;
+        }
+        retriedTokens.increment(retryable.size());
+        List<String> retry = new ArrayList<>(retryable);
+        sender.schedule(() -> deliver(message, retry, attempt + 1), backoffDelay(attempt), TimeUnit.MILLISECONDS);
+    }
+
+    // 지수 backoff + jitter (동시에 실패한 묶음이 한꺼번에 재시도하지 않도록)
+    private long backoffDelay(int attempt) {
+        long delay = retryBackoffMillis * (1L << Math.min(attempt - 1, 10));
+        return delay + ThreadLocalRandom.current().nextLong(delay / 2 + 1);
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() throws InterruptedException {
+        dispatch(true);
+        sender.shutdown();
+        if (!sender.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("Push sender did not finish within 10s; pending retries are dropped");
+        }
+    }
+
+    /**
+     * 한 사용자에게 모인 LIKE 알림
+     */
+    private static final class LikeBatch {
+
+        private final long firstQueuedAt;
+        private PushMessage latest;
+        private int count;
+
+        LikeBatch(long firstQueuedAt) {
+            this.firstQueuedAt = firstQueuedAt;
+        }
+
+        void add(PushMessage message) {
+            latest = message;
+            count++;
+        }
+
+        PushMessage toMessage() {
+            if (count == 1) {
+                return latest;
+            }
+            return latest.withContent("좋아요 " + count + "개", latest.getBody() + " 외 " + (count - 1) + "건");
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.routepick.service.notification;
+
+import com.routepick.common.enums.NotificationType;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 발송할 푸시 한 건 (notifications 행 기준)
+ */
+@Getter
+@RequiredArgsConstructor
+public class PushMessage {
+
+    private final int userId;
+    private final NotificationType type;
+    private final String title;
+    private final String body;
+    private final Integer referenceId;
+    private final String referenceType;
+    private final long createdAtMillis;
+
+    /**
+     * 같은 내용의 메시지를 multicast로 묶기 위한 키 (수신자 제외)
+     */
+    ContentKey contentKey() {
+        return new ContentKey(type, title, body, referenceId, referenceType);
+    }
+
+    PushMessage withContent(String title, String body) {
+        return new PushMessage(userId, type, title, body, referenceId, referenceType, createdAtMillis);
+    }
+
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    static final class ContentKey {
+
+        private final NotificationType type;
+        private final String title;
+        private final String body;
+        private final Integer referenceId;
+        private final String referenceType;
+    }
+}
@@ -0,0 +1,17 @@
+package com.routepick.service.notification;
+
+import java.util.List;
+
+/**
+ * 푸시 발송 채널 (운영은 FCM, 로컬/개발은 로그만 남기는 대체 구현)
+ */
+public interface PushSender {
+
+    // FCM multicast 한 번에 보낼 수 있는 최대 토큰 수
+    int MAX_MULTICAST_TOKENS = 500;
+
+    /**
+     * 같은 메시지를 여러 토큰에 발송 (tokens.size() <= MAX_MULTICAST_TOKENS)
+     */
+    MulticastResult sendMulticast(PushMessage message, List<String> tokens);
+}
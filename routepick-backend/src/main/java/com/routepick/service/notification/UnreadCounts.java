@@ -0,0 +1,26 @@
+package com.routepick.service.notification;
+
+import com.routepick.common.enums.NotificationType;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * 사용자별 읽지 않은 알림(유형별) / 메시지 수
+ */
+@Getter
+@RequiredArgsConstructor
+public class UnreadCounts {
+
+    private final Map<NotificationType, Long> notifications;
+    private final long messages;
+
+    public long getNotificationTotal() {
+        long total = 0;
+        for (long count : notifications.values()) {
+            total += count;
+        }
+        return total;
+    }
+}
@@ -0,0 +1,15 @@
+package com.routepick.service.notification.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * messages 행 생성 (수신자 읽지 않은 메시지 수 증가)
+ */
+@Getter
+@RequiredArgsConstructor
+public class MessageReceivedEvent {
+
+    private final int receiverId;
+    private final int messageId;
+}
@@ -0,0 +1,17 @@
+package com.routepick.service.notification.event;
+
+import com.routepick.service.notification.InboxEntry;
+import com.routepick.service.notification.PushMessage;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * notifications 행 생성 (inbox 캐시 반영 및 푸시 발송 대상)
+ */
+@Getter
+@RequiredArgsConstructor
+public class NotificationCreatedEvent {
+
+    private final InboxEntry entry;
+    private final PushMessage message;
+}
@@ -0,0 +1,41 @@
+package com.routepick.service.notification.event;
+
+import com.routepick.service.notification.InboxService;
+import com.routepick.service.notification.PushDispatcher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 알림/메시지 생성 이벤트를 커밋 이후 inbox 캐시와 푸시 큐에 반영
+ * Redis 한 번과 큐 추가뿐이라 @Async로 스레드를 넘기지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationEventListener {
+
+    private final InboxService inboxService;
+    private final PushDispatcher pushDispatcher;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleNotificationCreated(NotificationCreatedEvent event) {
+        try {
+            inboxService.onNotificationCreated(event.getEntry(), event.getMessage().getUserId());
+        } catch (RuntimeException e) {
+            // 캐시 반영 실패는 TTL 만료 후 MySQL 재집계로 복구
+            log.warn("Failed to update inbox cache for notification {}", event.getEntry().getNotificationId(), e);
+        }
+        pushDispatcher.enqueue(event.getMessage());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleMessageReceived(MessageReceivedEvent event) {
+        try {
+            inboxService.onMessageReceived(event.getReceiverId());
+        } catch (RuntimeException e) {
+            log.warn("Failed to update unread message count for user {}", event.getReceiverId(), e);
+        }
+    }
+}
@@ -0,0 +1,325 @@
+package com.routepick.service.payment;
+
+import com.routepick.common.enums.PaymentStatus;
+import com.routepick.domain.payment.repository.WebhookJdbcRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * webhook_logs 병렬 처리
+ * related_payment_id로 lane(전용 스레드 + 큐)을 나눠 같은 결제는 순서대로, 다른 결제는 동시에 처리
+ * lane은 큐에 쌓인 이벤트를 batch-size까지 모아 한 트랜잭션으로 반영 (잠금 → 결제 상태 batch UPDATE → processed 표시)
+ * 수신 노드가 바로 넣은 이벤트 외에는 poller가 claim-batch-size개씩 SKIP LOCKED로 선점 (재시도, 다른 노드가 놓친 행)
+ * 앞선 이벤트가 아직 처리되지 않은 결제는 처리를 미뤄 노드 간, 재시도 간에도 결제별 순서를 유지
+ */
+@Slf4j
+@Component
+public class WebhookDispatcher {
+
+    private static final long DEFER_SECONDS = 1;
+
+    private final WebhookJdbcRepository webhookJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Lane[] lanes;
+    private final int batchSize;
+    private final int claimBatchSize;
+    private final int leaseSeconds;
+    private final int maxAttempts;
+    private final long retryBackoffSeconds;
+
+    // lane 큐에 있거나 처리 중인 log_id (poller가 같은 행을 다시 넣지 않도록)
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    private final Counter processed;
+    private final Counter skipped;
+    private final Counter deferred;
+    private final Counter failed;
+    private final Counter rejected;
+    private final Timer lag;
+
+    private volatile boolean running = true;
+
+    public WebhookDispatcher(WebhookJdbcRepository webhookJdbcRepository,
+                             PlatformTransactionManager transactionManager,
+                             MeterRegistry meterRegistry,
+                             @Value("${app.webhook.lanes:16}") int laneCount,
+                             @Value("${app.webhook.lane-capacity:2000}") int laneCapacity,
+                             @Value("${app.webhook.batch-size:100}") int batchSize,
+                             @Value("${app.webhook.claim-batch-size:500}") int claimBatchSize,
+                             @Value("${app.webhook.lease-seconds:60}") int leaseSeconds,
+                             @Value("${app.webhook.max-attempts:10}") int maxAttempts,
+                             @Value("${app.webhook.retry-backoff-seconds:5}") long retryBackoffSeconds) {
+        this.webhookJdbcRepository = webhookJdbcRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.claimBatchSize = claimBatchSize;
+        this.leaseSeconds = leaseSeconds;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffSeconds = retryBackoffSeconds;
+        this.lanes = new Lane[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            lanes[i] = new Lane(i, laneCapacity);
+        }
+
+        meterRegistry.gauge("webhook.queue.depth", this, WebhookDispatcher::queueDepth);
+        this.processed = meterRegistry.counter("webhook.processed");
+        this.skipped = meterRegistry.counter("webhook.skipped");
+        this.deferred = meterRegistry.counter("webhook.deferred");
+        this.failed = meterRegistry.counter("webhook.failed");
+        this.rejected = meterRegistry.counter("webhook.lane.rejected");
+        // 수신부터 처리 완료까지 지연
+        this.lag = Timer.builder("webhook.lag")
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        for (Lane lane : lanes) {
+            lane.thread.start();
+        }
+    }
+
+    public int getLeaseSeconds() {
+        return leaseSeconds;
+    }
+
+    /**
+     * 결제 lane에 넣기 (lane이 가득 찼거나 종료 중이면 false, 해당 행은 poller가 다시 선점)
+     */
+    public boolean dispatch(WebhookEvent event) {
+        if (!inFlight.add(event.getLogId())) {
+            return true;
+        }
+        if (running && lanes[laneOf(event)].queue.offer(event)) {
+            return true;
+        }
+        inFlight.remove(event.getLogId());
+        rejected.increment();
+        return false;
+    }
+
+    @Scheduled(fixedDelayString = "${app.webhook.claim-interval-ms:1000}")
+    public void claimPending() {
+        if (!running || queueDepth() > (long) lanes.length * lanes[0].capacity - claimBatchSize) {
+            return;
+        }
+        List<WebhookEvent> claimed;
+        try {
+            claimed = transactionTemplate.execute(status ->
+                webhookJdbcRepository.claim(claimBatchSize, leaseSeconds, maxAttempts));
+        } catch (RuntimeException e) {
+            log.warn("Failed to claim pending webhooks", e);
+            return;
+        }
+        List<Long> overflow = new ArrayList<>();
+        for (WebhookEvent event : claimed) {
+            if (!dispatch(event)) {
+                overflow.add(event.getLogId());
+            }
+        }
+        if (!overflow.isEmpty()) {
+            webhookJdbcRepository.postpone(overflow, 0);
+        }
+    }
+
+    private void process(List<WebhookEvent> batch) {
+        batch.sort(Comparator.comparingLong(WebhookEvent::getLogId));
+        try {
+            transactionTemplate.executeWithoutResult(status -> apply(batch));
+            return;
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                fail(batch.get(0), e);
+                return;
+            }
+            log.warn("Webhook batch of {} failed; retrying one by one", batch.size(), e);
+        }
+        // 문제 있는 한 건 때문에 묶음 전체가 밀리지 않도록 건별로 다시 처리
+        for (WebhookEvent event : batch) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> apply(List.of(event)));
+            } catch (RuntimeException e) {
+                fail(event, e);
+            }
+        }
+    }
+
+    /**
+     * 트랜잭션 안에서 실행 (events는 log_id 오름차순)
+     */
+    private void apply(List<WebhookEvent> events) {
+        List<Long> logIds = new ArrayList<>(events.size());
+        for (WebhookEvent event : events) {
+            logIds.add(event.getLogId());
+        }
+        Set<Long> unprocessed = webhookJdbcRepository.lockUnprocessed(logIds);
+
+        Set<Integer> paymentIds = new HashSet<>();
+        for (WebhookEvent event : events) {
+            if (event.getPaymentId() != null && unprocessed.contains(event.getLogId())) {
+                paymentIds.add(event.getPaymentId());
+            }
+        }
+        long maxLogId = logIds.get(logIds.size() - 1);
+        Map<Integer, List<Long>> pendingByPayment =
+            webhookJdbcRepository.findPendingLogIds(paymentIds, maxLogId, maxAttempts);
+
+        Set<Long> done = new HashSet<>();
+        List<Long> postponed = new ArrayList<>();
+        List<Object[]> statusUpdates = new ArrayList<>();
+        List<WebhookEvent> applied = new ArrayList<>();
+        for (WebhookEvent event : events) {
+            if (!unprocessed.contains(event.getLogId())) {
+                // 다른 노드나 이전 시도에서 이미 처리됨
+                continue;
+            }
+            if (event.getPaymentId() != null
+                && hasEarlierPending(pendingByPayment.get(event.getPaymentId()), event.getLogId(), done)) {
+                postponed.add(event.getLogId());
+                continue;
+            }
+            PaymentStatus status = PaymentStatus.fromWebhookEventType(event.getEventType());
+            if (status != null && event.getPaymentId() != null) {
+                statusUpdates.add(new Object[]{status.name(), event.getPaymentId()});
+            }
+            done.add(event.getLogId());
+            applied.add(event);
+        }
+        webhookJdbcRepository.updatePaymentStatuses(statusUpdates);
+        webhookJdbcRepository.markProcessed(done);
+        webhookJdbcRepository.postpone(postponed, DEFER_SECONDS);
+
+        // 커밋 전이지만 카운터 오차는 롤백된 묶음 재처리분 정도
+        long now = System.currentTimeMillis();
+        for (WebhookEvent event : applied) {
+            lag.record(Math.max(now - event.getReceivedAtMillis(), 0), TimeUnit.MILLISECONDS);
+        }
+        processed.increment(applied.size());
+        skipped.increment(events.size() - applied.size() - postponed.size());
+        deferred.increment(postponed.size());
+    }
+
+    private static boolean hasEarlierPending(List<Long> pending, long logId, Set<Long> done) {
+        if (pending == null) {
+            return false;
+        }
+        for (long pendingLogId : pending) {
+            if (pendingLogId >= logId) {
+                return false;
+            }
+            if (!done.contains(pendingLogId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void fail(WebhookEvent event, RuntimeException cause) {
+        failed.increment();
+        log.warn("Webhook {} ({} {}) failed", event.getLogId(), event.getProvider(), event.getEventType(), cause);
+        try {
+            webhookJdbcRepository.recordFailure(event.getLogId(), cause.toString(), retryBackoffSeconds);
+        } catch (RuntimeException e) {
+            // 선점 임대가 끝나면 poller가 다시 가져감
+            log.error("Failed to record webhook {} failure", event.getLogId(), e);
+        }
+    }
+
+    private int laneOf(WebhookEvent event) {
+        int key = event.getPaymentId() != null ? event.getPaymentId() : Long.hashCode(event.getLogId());
+        return Math.floorMod(key, lanes.length);
+    }
+
+    private long queueDepth() {
+        long depth = 0;
+        for (Lane lane : lanes) {
+            depth += lane.queue.size();
+        }
+        return depth;
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        // 처리 중인 묶음은 끝까지 반영하고, lane은 poll 대기 시간 안에 종료
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        for (Lane lane : lanes) {
+            lane.thread.join(Math.max(TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()), 1));
+        }
+        // 남은 이벤트는 DB에 그대로 있으므로 임대만 풀어 다른 노드가 바로 가져가게 함
+        List<Long> remaining = new ArrayList<>(inFlight);
+        if (!remaining.isEmpty()) {
+            try {
+                webhookJdbcRepository.postpone(remaining, 0);
+            } catch (RuntimeException e) {
+                log.warn("Failed to release {} webhook claims on shutdown", remaining.size(), e);
+            }
+        }
+    }
+
+    /**
+     * 결제 파티션 하나 (전용 스레드가 큐를 순서대로 처리)
+     */
+    private final class Lane implements Runnable {
+
+        private final int capacity;
+        private final BlockingQueue<WebhookEvent> queue;
+        private final Thread thread;
+
+        Lane(int index, int capacity) {
+            this.capacity = capacity;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+            this.thread = new Thread(this, "webhook-lane-" + index);
+            this.thread.setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            List<WebhookEvent> batch = new ArrayList<>(batchSize);
+            while (running) {
+                try {
+                    WebhookEvent first = queue.poll(500, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                queue.drainTo(batch, batchSize - 1);
+                try {
+                    process(batch);
+                } catch (RuntimeException e) {
+                    log.error("Unexpected error in webhook lane", e);
+                } finally {
+                    for (WebhookEvent event : batch) {
+                        inFlight.remove(event.getLogId());
+                    }
+                    batch.clear();
+                }
+            }
+        }
+    }
+}
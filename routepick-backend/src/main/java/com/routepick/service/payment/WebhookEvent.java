@@ -0,0 +1,18 @@
+package com.routepick.service.payment;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 처리 대기 중인 webhook_logs 한 건 (payload는 DB에만 두고 처리에 필요한 값만 보관)
+ */
+@Getter
+@RequiredArgsConstructor
+public class WebhookEvent {
+
+    private final long logId;
+    private final String provider;
+    private final String eventType;
+    private final Integer paymentId;
+    private final long receivedAtMillis;
+}
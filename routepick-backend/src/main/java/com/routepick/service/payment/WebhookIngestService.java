@@ -0,0 +1,74 @@
+package com.routepick.service.payment;
+
+import com.routepick.domain.payment.repository.WebhookJdbcRepository;
+import com.routepick.util.HashUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 결제 웹훅 수신
+ * webhook_logs INSERT(autocommit) 한 번으로 저장이 확정되면 바로 응답하고 처리는 WebhookDispatcher lane에 넘김
+ * 같은 (provider, providerEventId)가 다시 오면 저장하지 않고 성공으로 응답 (provider 재전송 대응)
+ * 이벤트 ID를 주지 않는 provider는 event_type + payload 해시를 키로 사용 (NULL은 유니크 키에서 중복으로 걸리지 않음)
+ */
+@Slf4j
+@Service
+public class WebhookIngestService {
+
+    private static final String PAYLOAD_KEY_PREFIX = "payload:";
+
+    private final WebhookJdbcRepository webhookJdbcRepository;
+    private final WebhookDispatcher webhookDispatcher;
+
+    private final Counter accepted;
+    private final Counter duplicates;
+
+    public WebhookIngestService(WebhookJdbcRepository webhookJdbcRepository,
+                                WebhookDispatcher webhookDispatcher,
+                                MeterRegistry meterRegistry) {
+        this.webhookJdbcRepository = webhookJdbcRepository;
+        this.webhookDispatcher = webhookDispatcher;
+        this.accepted = meterRegistry.counter("webhook.received", "result", "accepted");
+        this.duplicates = meterRegistry.counter("webhook.received", "result", "duplicate");
+    }
+
+    /**
+     * @return 새로 저장했으면 true, 이미 받은 이벤트면 false (둘 다 provider에는 성공 응답)
+     */
+    public boolean receive(String provider, String providerEventId, String eventType, String payload, Integer paymentId) {
+        String eventKey = eventKey(providerEventId, eventType, payload);
+        long logId;
+        try {
+            logId = webhookJdbcRepository.insert(provider, eventKey, eventType, payload, paymentId,
+                webhookDispatcher.getLeaseSeconds());
+        } catch (DuplicateKeyException e) {
+            duplicates.increment();
+            log.debug("Duplicate webhook {} from {}", eventKey, provider);
+            return false;
+        }
+        accepted.increment();
+
+        WebhookEvent event = new WebhookEvent(logId, provider, eventType, paymentId, System.currentTimeMillis());
+        if (!webhookDispatcher.dispatch(event)) {
+            // lane이 가득 참: 선점을 바로 풀어 poller가 가져가게 함
+            try {
+                webhookJdbcRepository.postpone(List.of(logId), 0);
+            } catch (RuntimeException e) {
+                log.warn("Failed to release webhook {} claim; it will be retried after the lease", logId, e);
+            }
+        }
+        return true;
+    }
+
+    static String eventKey(String providerEventId, String eventType, String payload) {
+        if (providerEventId != null && !providerEventId.isBlank()) {
+            return providerEventId;
+        }
+        return PAYLOAD_KEY_PREFIX + HashUtils.sha256Hex(eventType + '\n' + payload);
+    }
+}
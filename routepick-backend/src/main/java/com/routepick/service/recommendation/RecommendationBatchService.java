@@ -0,0 +1,263 @@
+package com.routepick.service.recommendation;
+
+import com.routepick.domain.recommendation.repository.RecommendationBatchJdbcRepository;
+import com.routepick.domain.recommendation.repository.RecommendationJdbcRepository;
+import com.routepick.service.catalog.RouteCatalog;
+import com.routepick.service.catalog.RouteCatalogService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 전체 사용자 추천 일괄 재계산 (벽 리셋 등)
+ * 사용자 구간(chunk)을 ForkJoinPool에서 병렬 계산하고, 구간별 체크포인트로 중단 후 재개
+ * 구간은 DB에서 임대로 선점하므로 여러 노드가 같은 작업을 실행하면 남은 구간을 나눠 처리
+ */
+@Slf4j
+@Service
+public class RecommendationBatchService {
+
+    private final RouteCatalogService routeCatalogService;
+    private final RecommendationEngine recommendationEngine;
+    private final RecommendationJdbcRepository recommendationJdbcRepository;
+    private final RouteNeighborService routeNeighborService;
+    private final RecommendationBatchJdbcRepository recommendationBatchJdbcRepository;
+    private final RecommendationCache recommendationCache;
+    private final RecommendationCardService recommendationCardService;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int leaseSeconds;
+    private final int parallelism;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    // DB 커넥션 동시 사용 상한 (Hikari 풀의 절반, 나머지는 API 요청용)
+    private final Semaphore connectionPermits;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final AtomicInteger chunksTotal = new AtomicInteger();
+    private final AtomicInteger chunksCompleted = new AtomicInteger();
+    private final AtomicInteger jobFailures = new AtomicInteger();
+    private final Counter chunksFailed;
+    private final Counter usersScored;
+    private final Counter rowsWritten;
+    private final Timer chunkTimer;
+
+    public RecommendationBatchService(RouteCatalogService routeCatalogService,
+                                      RecommendationEngine recommendationEngine,
+                                      RecommendationJdbcRepository recommendationJdbcRepository,
+                                      RouteNeighborService routeNeighborService,
+                                      RecommendationBatchJdbcRepository recommendationBatchJdbcRepository,
+                                      RecommendationCache recommendationCache,
+                                      RecommendationCardService recommendationCardService,
+                                      PlatformTransactionManager transactionManager,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${app.recommendation.batch.chunk-size:500}") int chunkSize,
+                                      @Value("${app.recommendation.batch.lease-seconds:600}") int leaseSeconds,
+                                      @Value("${spring.datasource.hikari.maximum-pool-size:10}") int maximumPoolSize) {
+        this.routeCatalogService = routeCatalogService;
+        this.recommendationEngine = recommendationEngine;
+        this.recommendationJdbcRepository = recommendationJdbcRepository;
+        this.routeNeighborService = routeNeighborService;
+        this.recommendationBatchJdbcRepository = recommendationBatchJdbcRepository;
+        this.recommendationCache = recommendationCache;
+        this.recommendationCardService = recommendationCardService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.leaseSeconds = leaseSeconds;
+        this.parallelism = Runtime.getRuntime().availableProcessors();
+        this.connectionPermits = new Semaphore(Math.max(1, maximumPoolSize / 2));
+
+        meterRegistry.gauge("recommendation.batch.chunks.total", chunksTotal);
+        meterRegistry.gauge("recommendation.batch.chunks.completed", chunksCompleted);
+        meterRegistry.gauge("recommendation.batch.running", running, r -> r.get() ? 1 : 0);
+        this.chunksFailed = meterRegistry.counter("recommendation.batch.chunks.failed");
+        this.usersScored = meterRegistry.counter("recommendation.batch.users");
+        this.rowsWritten = meterRegistry.counter("recommendation.batch.rows");
+        this.chunkTimer = meterRegistry.timer("recommendation.batch.chunk.duration");
+    }
+
+    /**
+     * 미완료 작업이 있으면 남은 구간만 이어서, 없으면 새 작업 생성
+     * @return 이 노드에서 이미 실행 중이면 false
+     */
+    public boolean run() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("Recommendation batch is already running");
+            return false;
+        }
+        try {
+            long jobId = startJob();
+            int total = recommendationBatchJdbcRepository.findTotalChunks(jobId);
+            int pending = recommendationBatchJdbcRepository.countPendingChunks(jobId);
+            chunksTotal.set(total);
+            chunksCompleted.set(total - pending);
+            log.info("Recommendation batch job {}: {} of {} chunks pending", jobId, pending, total);
+
+            // 모든 구간이 같은 읽기 전용 스냅샷을 공유
+            RouteCatalog catalog = routeCatalogService.reload();
+
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            Queue<Long> failedChunks = new ConcurrentLinkedQueue<>();
+            jobFailures.set(0);
+            try {
+                List<long[]> chunks;
+                while (!(chunks = claimChunks(jobId)).isEmpty()) {
+                    pool.invoke(new ChunkTask(jobId, catalog, chunks, 0, chunks.size(), failedChunks));
+                }
+            } finally {
+                pool.shutdown();
+                // 실패 구간은 이번 실행에서 다시 잡지 않도록 끝난 뒤에 선점 해제
+                for (Long chunkNo : failedChunks) {
+                    recommendationBatchJdbcRepository.releaseChunk(jobId, chunkNo, nodeId);
+                }
+            }
+
+            if (jobFailures.get() > 0) {
+                recommendationBatchJdbcRepository.finishJob(jobId, false);
+                log.info("Recommendation batch job {} failed: {} chunks failed on this node", jobId, jobFailures.get());
+            } else if (recommendationBatchJdbcRepository.countPendingChunks(jobId) == 0) {
+                recommendationBatchJdbcRepository.finishJob(jobId, true);
+                log.info("Recommendation batch job {} completed: {} chunks", jobId, total);
+            } else {
+                log.info("Recommendation batch job {}: remaining chunks are claimed by other nodes", jobId);
+            }
+            return true;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    // 미완료 작업에 합류하거나 새로 만듦 (동시에 만들면 한 노드만 성공하고 나머지는 그 작업에 합류)
+    private long startJob() {
+        Long jobId = recommendationBatchJdbcRepository.findResumableJobId();
+        if (jobId == null) {
+            try {
+                Long created = transactionTemplate.execute(status -> recommendationBatchJdbcRepository.createJob(chunkSize));
+                log.info("Recommendation batch job {} created", created);
+                return created;
+            } catch (DuplicateKeyException e) {
+                jobId = recommendationBatchJdbcRepository.findResumableJobId();
+                if (jobId == null) {
+                    throw new IllegalStateException("Unfinished recommendation batch job disappeared", e);
+                }
+            }
+        }
+        recommendationBatchJdbcRepository.resumeJob(jobId);
+        return jobId;
+    }
+
+    private List<long[]> claimChunks(long jobId) {
+        return withConnection(() -> transactionTemplate.execute(status ->
+            recommendationBatchJdbcRepository.claimChunks(jobId, nodeId, parallelism * 2, leaseSeconds)));
+    }
+
+    private void processChunk(long jobId, RouteCatalog catalog, long[] chunk, Queue<Long> failedChunks) {
+        long chunkNo = chunk[0];
+        long fromUserId = chunk[1];
+        long toUserId = chunk[2];
+
+        try {
+            chunkTimer.record(() -> {
+                List<UserPreference> preferences = withConnection(() -> routeNeighborService.withCollaborativeScores(
+                    recommendationJdbcRepository.findUserPreferencesInRange(fromUserId, toUserId)));
+
+                List<RecommendationResult> results = new ArrayList<>(preferences.size());
+                for (UserPreference preference : preferences) {
+                    results.add(recommendationEngine.score(catalog, preference));
+                }
+
+                // 구간 교체와 체크포인트를 한 트랜잭션으로 기록 (임대가 끝나 다른 노드가 가져갔으면 롤백)
+                int rows = withConnection(() -> transactionTemplate.execute(status -> {
+                    int written = recommendationJdbcRepository.replaceRecommendationsInRange(fromUserId, toUserId, results);
+                    if (!recommendationBatchJdbcRepository.completeChunk(jobId, chunkNo, nodeId)) {
+                        throw new IllegalStateException("Lease on chunk " + chunkNo + " was taken over by another node");
+                    }
+                    return written;
+                }));
+
+                List<Long> userIds = new ArrayList<>(preferences.size());
+                for (UserPreference preference : preferences) {
+                    recommendationCache.evict(preference.getUserId());
+                    userIds.add(preference.getUserId());
+                }
+                // 카드는 구간 전체를 미리 만들지 않고 다음 조회 때 생성
+                recommendationCardService.evict(userIds);
+                usersScored.increment(preferences.size());
+                rowsWritten.increment(rows);
+                chunksCompleted.incrementAndGet();
+            });
+        } catch (RuntimeException e) {
+            chunksFailed.increment();
+            jobFailures.incrementAndGet();
+            failedChunks.add(chunkNo);
+            log.error("Recommendation batch chunk {} ({}~{}) failed", chunkNo, fromUserId, toUserId, e);
+        }
+    }
+
+    private <T> T withConnection(Supplier<T> work) {
+        try {
+            connectionPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a database permit", e);
+        }
+        try {
+            return work.get();
+        } finally {
+            connectionPermits.release();
+        }
+    }
+
+    /**
+     * 구간 목록을 반으로 나눠 가며 병렬 처리
+     */
+    private final class ChunkTask extends RecursiveAction {
+
+        private final long jobId;
+        private final RouteCatalog catalog;
+        private final List<long[]> chunks;
+        private final int from;
+        private final int to;
+        private final Queue<Long> failedChunks;
+
+        ChunkTask(long jobId, RouteCatalog catalog, List<long[]> chunks, int from, int to, Queue<Long> failedChunks) {
+            this.jobId = jobId;
+            this.catalog = catalog;
+            this.chunks = chunks;
+            this.from = from;
+            this.to = to;
+            this.failedChunks = failedChunks;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= 1) {
+                if (from < to) {
+                    processChunk(jobId, catalog, chunks.get(from), failedChunks);
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ChunkTask(jobId, catalog, chunks, from, mid, failedChunks),
+                new ChunkTask(jobId, catalog, chunks, mid, to, failedChunks));
+        }
+    }
+}
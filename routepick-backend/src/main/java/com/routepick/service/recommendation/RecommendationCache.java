@@ -0,0 +1,99 @@
+package com.routepick.service.recommendation;
+
+import com.routepick.common.Constants;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+
+/**
+ * user:recommendations:{userId} 캐시 접근
+ * 증분 갱신 시 캐시가 없으면 건드리지 않음 (다음 조회 때 DB에서 적재)
+ * 증분 갱신은 비동기 리스너에서 동시에 들어오므로 WATCH/MULTI로 읽은 값이 그대로일 때만 저장
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecommendationCache {
+
+    private static final int MAX_UPDATE_ATTEMPTS = 3;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    public RecommendationList get(long userId) {
+        Object cached = redisTemplate.opsForValue().get(key(userId));
+        return cached instanceof RecommendationList list ? list : null;
+    }
+
+    public void put(RecommendationResult result) {
+        put(RecommendationList.from(result));
+    }
+
+    public void put(RecommendationList list) {
+        redisTemplate.opsForValue().set(key(list.getUserId()), list,
+            Constants.CACHE_TTL_USER_RECOMMENDATIONS, TimeUnit.SECONDS);
+    }
+
+    public void applyScore(long userId, int routeId, double score) {
+        update(userId, cached -> cached.withScore(routeId, (float) score).limit(Constants.MAX_RECOMMENDATIONS_PER_USER));
+    }
+
+    public void remove(long userId, int routeId) {
+        update(userId, cached -> cached.without(routeId));
+    }
+
+    // 다른 갱신과 계속 겹치면 키를 지워 다음 계산 때 다시 채움 (덮어써서 갱신을 잃지 않도록)
+    private void update(long userId, UnaryOperator<RecommendationList> change) {
+        String key = key(userId);
+        for (int attempt = 0; attempt < MAX_UPDATE_ATTEMPTS; attempt++) {
+            if (Boolean.TRUE.equals(redisTemplate.execute(new CompareAndSet(key, change)))) {
+                return;
+            }
+        }
+        log.debug("Recommendation cache of user {} kept changing during update; evicting", userId);
+        evict(userId);
+    }
+
+    public void evict(long userId) {
+        redisTemplate.delete(key(userId));
+    }
+
+    private static String key(long userId) {
+        return Constants.CACHE_USER_RECOMMENDATIONS + userId;
+    }
+
+    // 저장했거나 바꿀 것이 없으면 true, 읽은 뒤 키가 바뀌어 EXEC가 취소되면 false
+    private static final class CompareAndSet implements SessionCallback<Boolean> {
+
+        private final String key;
+        private final UnaryOperator<RecommendationList> change;
+
+        CompareAndSet(String key, UnaryOperator<RecommendationList> change) {
+            this.key = key;
+            this.change = change;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <K, V> Boolean execute(RedisOperations<K, V> operations) {
+            RedisOperations<String, Object> redis = (RedisOperations<String, Object>) operations;
+            redis.watch(key);
+            Object cached = redis.opsForValue().get(key);
+            RecommendationList updated = cached instanceof RecommendationList list ? change.apply(list) : null;
+            if (updated == null || updated == cached) {
+                redis.unwatch();
+                return true;
+            }
+            redis.multi();
+            redis.opsForValue().set(key, updated, Constants.CACHE_TTL_USER_RECOMMENDATIONS, TimeUnit.SECONDS);
+            List<Object> results = redis.exec();
+            return results != null && !results.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.routepick.service.recommendation;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 홈 화면 추천 카드 (v_user_recommended_routes 한 행과 같은 내용, 태그는 목록)
+ */
+@Getter
+@RequiredArgsConstructor
+public class RecommendationCard {
+
+    private final int routeId;
+    private final String routeName;
+    private final int levelId;
+    private final String levelName;
+    private final String branchName;
+    private final String wallName;
+    private final String color;
+    private final String angle;
+    private final List<String> tagNames;
+    private final float recommendationScore;
+    private final float tagMatchScore;
+    private final float levelMatchScore;
+
+    public RecommendationCard withTagNames(List<String> tagNames) {
+        return new RecommendationCard(routeId, routeName, levelId, levelName, branchName, wallName, color, angle,
+            List.copyOf(tagNames), recommendationScore, tagMatchScore, levelMatchScore);
+    }
+}
@@ -0,0 +1,176 @@
+package com.routepick.service.recommendation;
+
+import com.routepick.common.Constants;
+import com.routepick.common.cache.CacheNamespace;
+import com.routepick.common.cache.TwoTierCache;
+import com.routepick.domain.recommendation.repository.RecommendationCardJdbcRepository;
+import com.routepick.domain.recommendation.repository.RecommendationJdbcRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 홈 화면 추천 카드 (user:recommendation_cards:{userId})
+ * 추천을 새로 계산할 때 카드까지 만들어 두고, 조회는 Redis GET 한 번
+ * 증분 갱신이나 루트/태그/지점 변경으로 내용이 바뀐 사용자는 키를 지우고 다음 조회 때 MySQL에서 다시 만듦
+ * 카드를 다시 만들 때 루트별 태그 이름은 2단계 캐시(route:tag_names:)에서 읽고 없는 루트만 MySQL에서 한 번에 조회
+ */
+@Slf4j
+@Service
+public class RecommendationCardService {
+
+    private static final int EVICT_CHUNK_SIZE = 500;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RecommendationCardJdbcRepository recommendationCardJdbcRepository;
+    private final RecommendationJdbcRepository recommendationJdbcRepository;
+    private final TwoTierCache twoTierCache;
+    private final int cardSize;
+
+    private final Timer readTimer;
+    private final Counter rebuilds;
+
+    public RecommendationCardService(RedisTemplate<String, Object> redisTemplate,
+                                     RecommendationCardJdbcRepository recommendationCardJdbcRepository,
+                                     RecommendationJdbcRepository recommendationJdbcRepository,
+                                     TwoTierCache twoTierCache,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${app.recommendation.card-size:30}") int cardSize) {
+        this.redisTemplate = redisTemplate;
+        this.recommendationCardJdbcRepository = recommendationCardJdbcRepository;
+        this.recommendationJdbcRepository = recommendationJdbcRepository;
+        this.twoTierCache = twoTierCache;
+        this.cardSize = cardSize;
+        this.readTimer = Timer.builder("recommendation.cards.read")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(meterRegistry);
+        this.rebuilds = meterRegistry.counter("recommendation.cards.rebuilds");
+    }
+
+    public List<RecommendationCard> getCards(long userId) {
+        long start = System.nanoTime();
+        try {
+            Object cached = redisTemplate.opsForValue().get(key(userId));
+            if (cached instanceof RecommendationCards cards) {
+                return cards.getCards();
+            }
+            return refresh(userId).getCards();
+        } finally {
+            readTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * MySQL에서 카드를 다시 만들어 저장 (추천 재계산 트랜잭션 안에서 호출하면 방금 쓴 행 기준)
+     */
+    public RecommendationCards refresh(long userId) {
+        RecommendationCards cards = new RecommendationCards(userId,
+            withTagNames(recommendationCardJdbcRepository.findCardsWithoutTagNames(userId, cardSize)));
+        redisTemplate.opsForValue().set(key(userId), cards,
+            Constants.CACHE_TTL_USER_RECOMMENDATION_CARDS, TimeUnit.SECONDS);
+        rebuilds.increment();
+        return cards;
+    }
+
+    private List<RecommendationCard> withTagNames(List<RecommendationCard> cards) {
+        List<String> routeIds = new ArrayList<>(cards.size());
+        for (RecommendationCard card : cards) {
+            routeIds.add(String.valueOf(card.getRouteId()));
+        }
+        Map<String, RouteTagNames> tagNames = twoTierCache.getAll(CacheNamespace.ROUTE_TAG_NAMES, routeIds,
+            RouteTagNames.class, this::loadTagNames);
+        List<RecommendationCard> result = new ArrayList<>(cards.size());
+        for (RecommendationCard card : cards) {
+            RouteTagNames names = tagNames.get(String.valueOf(card.getRouteId()));
+            result.add(card.withTagNames(names == null ? List.of() : names.getTagNames()));
+        }
+        return result;
+    }
+
+    // 태그가 없는 루트도 빈 목록으로 돌려줘 캐시에 남김
+    private Map<String, RouteTagNames> loadTagNames(List<String> routeIds) {
+        List<Integer> ids = new ArrayList<>(routeIds.size());
+        for (String routeId : routeIds) {
+            ids.add(Integer.valueOf(routeId));
+        }
+        Map<Integer, List<String>> tagNames = recommendationCardJdbcRepository.findTagNames(ids);
+        Map<String, RouteTagNames> loaded = new HashMap<>();
+        for (Integer routeId : ids) {
+            loaded.put(String.valueOf(routeId),
+                new RouteTagNames(routeId, List.copyOf(tagNames.getOrDefault(routeId, List.of()))));
+        }
+        return loaded;
+    }
+
+    public void evict(long userId) {
+        redisTemplate.delete(key(userId));
+    }
+
+    public void evict(Collection<Long> userIds) {
+        List<String> keys = new ArrayList<>(Math.min(userIds.size(), EVICT_CHUNK_SIZE));
+        for (Long userId : userIds) {
+            keys.add(key(userId));
+            if (keys.size() == EVICT_CHUNK_SIZE) {
+                redisTemplate.delete(keys);
+                keys.clear();
+            }
+        }
+        if (!keys.isEmpty()) {
+            redisTemplate.delete(keys);
+        }
+    }
+
+    /**
+     * 루트 이름/레벨/벽/태그 구성 변경
+     */
+    public void onRouteChanged(int routeId) {
+        List<Long> userIds = recommendationJdbcRepository.findUserIdsRecommendedRoute(routeId);
+        evict(userIds);
+        log.debug("Evicted recommendation cards of {} users for route {}", userIds.size(), routeId);
+    }
+
+    /**
+     * 루트의 태그 구성 변경 (루트 태그 이름 캐시도 무효화)
+     */
+    public void onRouteTagsChanged(int routeId) {
+        twoTierCache.evict(CacheNamespace.ROUTE_TAG_NAMES, String.valueOf(routeId));
+        onRouteChanged(routeId);
+    }
+
+    /**
+     * 지점 이름/상태 변경
+     */
+    public void onBranchChanged(int branchId) {
+        List<Long> userIds = recommendationCardJdbcRepository.findUserIdsRecommendedBranch(branchId);
+        evict(userIds);
+        log.debug("Evicted recommendation cards of {} users for branch {}", userIds.size(), branchId);
+    }
+
+    /**
+     * 태그 이름/표시 순서 변경
+     */
+    public void onTagChanged(int tagId) {
+        // 카드를 지우기 전에 태그 이름 캐시를 먼저 비워야 다시 만든 카드에 이전 이름이 들어가지 않음
+        for (Integer routeId : recommendationCardJdbcRepository.findRouteIdsWithTag(tagId)) {
+            twoTierCache.evict(CacheNamespace.ROUTE_TAG_NAMES, String.valueOf(routeId));
+        }
+        List<Long> userIds = recommendationCardJdbcRepository.findUserIdsRecommendedTag(tagId);
+        evict(userIds);
+        log.debug("Evicted recommendation cards of {} users for tag {}", userIds.size(), tagId);
+    }
+
+    private static String key(long userId) {
+        return Constants.CACHE_USER_RECOMMENDATION_CARDS + userId;
+    }
+}
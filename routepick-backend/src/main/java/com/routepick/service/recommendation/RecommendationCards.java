@@ -0,0 +1,18 @@
+package com.routepick.service.recommendation;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * user:recommendation_cards: 캐시 값
+ * 추천 점수 내림차순 카드 목록 (추천이 없으면 빈 목록도 그대로 캐시)
+ */
+@Getter
+@RequiredArgsConstructor
+public class RecommendationCards {
+
+    private final long userId;
+    private final List<RecommendationCard> cards;
+}
@@ -0,0 +1,122 @@
+package com.routepick.service.recommendation;
+
+import com.routepick.common.redis.RedisValueCodec;
+import com.routepick.util.ByteArrayReader;
+import com.routepick.util.ByteArrayWriter;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * RecommendationCards 바이너리 코덱 (v1)
+ * userId, 문자열 사전(지점/벽/레벨/태그 이름이 카드마다 반복되므로 한 번만 저장), 카드 수,
+ * 이후 카드마다 route_id, level_id, 문자열 사전 번호(null은 0, 그 외 번호 + 1), 태그 수와 번호, 점수 3개(0.01점 단위, zigzag)
+ */
+@Component
+public class RecommendationCardsCodec implements RedisValueCodec<RecommendationCards> {
+
+    @Override
+    public Class<RecommendationCards> type() {
+        return RecommendationCards.class;
+    }
+
+    @Override
+    public int typeId() {
+        return 3;
+    }
+
+    @Override
+    public int version() {
+        return 1;
+    }
+
+    @Override
+    public void encode(RecommendationCards value, ByteArrayWriter writer) {
+        Map<String, Integer> dictionary = new HashMap<>();
+        List<String> strings = new ArrayList<>();
+        for (RecommendationCard card : value.getCards()) {
+            intern(card.getRouteName(), dictionary, strings);
+            intern(card.getLevelName(), dictionary, strings);
+            intern(card.getBranchName(), dictionary, strings);
+            intern(card.getWallName(), dictionary, strings);
+            intern(card.getColor(), dictionary, strings);
+            intern(card.getAngle(), dictionary, strings);
+            for (String tagName : card.getTagNames()) {
+                intern(tagName, dictionary, strings);
+            }
+        }
+
+        writer.writeVarLong(value.getUserId()).writeVarInt(strings.size());
+        for (String string : strings) {
+            writer.writeString(string);
+        }
+        writer.writeVarInt(value.getCards().size());
+        for (RecommendationCard card : value.getCards()) {
+            writer.writeVarInt(card.getRouteId()).writeVarInt(card.getLevelId())
+                .writeVarInt(ref(card.getRouteName(), dictionary))
+                .writeVarInt(ref(card.getLevelName(), dictionary))
+                .writeVarInt(ref(card.getBranchName(), dictionary))
+                .writeVarInt(ref(card.getWallName(), dictionary))
+                .writeVarInt(ref(card.getColor(), dictionary))
+                .writeVarInt(ref(card.getAngle(), dictionary))
+                .writeVarInt(card.getTagNames().size());
+            for (String tagName : card.getTagNames()) {
+                writer.writeVarInt(ref(tagName, dictionary));
+            }
+            writer.writeZigZag(Math.round(card.getRecommendationScore() * 100.0))
+                .writeZigZag(Math.round(card.getTagMatchScore() * 100.0))
+                .writeZigZag(Math.round(card.getLevelMatchScore() * 100.0));
+        }
+    }
+
+    @Override
+    public RecommendationCards decode(ByteArrayReader reader, int version) {
+        long userId = reader.readVarLong();
+        String[] strings = new String[reader.readVarInt()];
+        for (int i = 0; i < strings.length; i++) {
+            strings[i] = reader.readString();
+        }
+        int size = reader.readVarInt();
+        List<RecommendationCard> cards = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            int routeId = reader.readVarInt();
+            int levelId = reader.readVarInt();
+            String routeName = string(reader, strings);
+            String levelName = string(reader, strings);
+            String branchName = string(reader, strings);
+            String wallName = string(reader, strings);
+            String color = string(reader, strings);
+            String angle = string(reader, strings);
+            String[] tagNames = new String[reader.readVarInt()];
+            for (int t = 0; t < tagNames.length; t++) {
+                tagNames[t] = string(reader, strings);
+            }
+            cards.add(new RecommendationCard(routeId, routeName, levelId, levelName, branchName, wallName,
+                color, angle, List.of(tagNames),
+                cents(reader), cents(reader), cents(reader)));
+        }
+        return new RecommendationCards(userId, cards);
+    }
+
+    private static void intern(String value, Map<String, Integer> dictionary, List<String> strings) {
+        if (value != null && dictionary.putIfAbsent(value, strings.size()) == null) {
+            strings.add(value);
+        }
+    }
+
+    private static int ref(String value, Map<String, Integer> dictionary) {
+        return value == null ? 0 : dictionary.get(value) + 1;
+    }
+
+    private static String string(ByteArrayReader reader, String[] strings) {
+        int ref = reader.readVarInt();
+        return ref == 0 ? null : strings[ref - 1];
+    }
+
+    private static float cents(ByteArrayReader reader) {
+        return (float) (reader.readZigZag() / 100.0);
+    }
+}
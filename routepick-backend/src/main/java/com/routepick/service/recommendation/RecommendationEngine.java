@@ -0,0 +1,330 @@
+package com.routepick.service.recommendation;
+
+import com.routepick.common.Constants;
+import com.routepick.monitoring.HotPathMetrics;
+import com.routepick.monitoring.HotPathStage;
+import com.routepick.service.catalog.PostingLists;
+import com.routepick.service.catalog.RouteCatalog;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * 루트 추천 점수 계산 (CalculateUserRouteRecommendations 프로시저 대체)
+ *
+ * 태그 점수 = 매칭된 태그의 (relevance_score * 선호도 가중치) 평균
+ * 레벨 점수 = 사용자 레벨과 루트 레벨 차이에 따른 점수 (레벨 미설정 시 50)
+ * 협업 점수 = 최근 완등/스크랩 루트와 함께 기록된 정도 (RouteNeighborService, 없으면 0)
+ * 최종 점수 = (태그 점수 * TAG_WEIGHT + 레벨 점수 * LEVEL_WEIGHT) * (1 - w) + 협업 점수 * w
+ * (w = app.recommendation.collaborative-weight, 0이면 프로시저와 같은 점수)
+ */
+@Component
+public class RecommendationEngine {
+
+    private static final double DEFAULT_LEVEL_SCORE = 50;
+    private static final int MAX_SCORED_LEVEL_DISTANCE = 4;
+
+    // 누적 버퍼 재사용 (점수 계산 중 추가 할당 없음)
+    // 가상 스레드는 요청마다 새 스레드라 ThreadLocal로는 재사용되지 않으므로 호출 단위로 빌려 쓰고 반납
+    // 점수 계산은 CPU 작업이라 코어 수만큼만 보관 (동시 호출이 몰려 더 만든 버퍼는 반납 시 버림)
+    private final BlockingQueue<ScoringBuffer> buffers =
+        new ArrayBlockingQueue<>(Runtime.getRuntime().availableProcessors());
+
+    private final HotPathMetrics hotPathMetrics;
+    private final double collaborativeWeight;
+
+    public RecommendationEngine(HotPathMetrics hotPathMetrics,
+                                @Value("${app.recommendation.collaborative-weight:0.2}") double collaborativeWeight) {
+        if (collaborativeWeight < 0 || collaborativeWeight > 1) {
+            throw new IllegalArgumentException("Collaborative weight must be between 0 and 1: " + collaborativeWeight);
+        }
+        this.hotPathMetrics = hotPathMetrics;
+        this.collaborativeWeight = collaborativeWeight;
+    }
+
+    /**
+     * 사용자 선호 태그의 posting list와 협업 점수가 있는 루트만 병합하여 점수 계산
+     * 둘 다 없는 루트는 레벨 점수만으로 기준을 넘는 레벨 버킷에서만 수집
+     * 상위 MAX_RECOMMENDATIONS_PER_USER개만 유지하며, 점수 상한이 힙 최솟값보다 낮으면 건너뜀
+     */
+    public RecommendationResult score(RouteCatalog catalog, UserPreference preference) {
+        long start = hotPathMetrics.start();
+        try {
+            if (!preference.hasLevel() && qualifiesOnLevelOnly(DEFAULT_LEVEL_SCORE)) {
+                return scoreFullScan(catalog, preference);
+            }
+            return scorePostings(catalog, preference);
+        } finally {
+            hotPathMetrics.record(HotPathStage.RECOMMENDATION_SCORE, start, preference.getUserId());
+        }
+    }
+
+    private RecommendationResult scorePostings(RouteCatalog catalog, UserPreference preference) {
+        ScoringBuffer buffer = borrowBuffer();
+        buffer.ensureCapacity(catalog.size());
+        TopRecommendations top = buffer.top;
+        double maxTagScore = maxTagScore(catalog, preference);
+        try {
+            addCollaborativeScores(buffer, catalog, preference);
+            PostingLists tagPostings = catalog.tagPostings();
+            for (int tagId : preference.getTagIds()) {
+                float weight = preference.weightOf(tagId);
+                if (weight <= 0f) {
+                    continue;
+                }
+                for (int p = tagPostings.start(tagId), end = tagPostings.end(tagId); p < end; p++) {
+                    buffer.accumulate(tagPostings.routeIndex(p), tagPostings.weight(p) * weight);
+                }
+            }
+
+            for (int n = 0; n < buffer.touchedCount; n++) {
+                int index = buffer.touched[n];
+                double levelScore = levelMatchScore(preference, catalog.levelId(index));
+                double collaborativeScore = buffer.collaborativeScores[index];
+                if (!top.mayAccept(upperBound(maxTagScore, levelScore, collaborativeScore))) {
+                    continue;
+                }
+                int matched = buffer.matchCounts[index];
+                double tagScore = matched == 0 ? 0 : round2(buffer.tagSums[index] / matched);
+                collect(top, catalog, index, tagScore, levelScore, collaborativeScore);
+            }
+
+            if (preference.hasLevel()) {
+                collectLevelOnly(top, buffer, catalog, preference);
+            }
+            return top.drainTo(preference.getUserId());
+        } finally {
+            releaseBuffer(buffer);
+        }
+    }
+
+    /**
+     * 태그 매칭과 협업 점수가 없는 루트를 레벨 차이가 작은 버킷부터 수집
+     * 레벨 점수는 차이에 따라 줄어들므로 기준 미달이거나 힙 최솟값 미만이 되면 이후 버킷은 모두 생략
+     */
+    private void collectLevelOnly(TopRecommendations top, ScoringBuffer buffer,
+                                  RouteCatalog catalog, UserPreference preference) {
+        PostingLists levelPostings = catalog.levelPostings();
+        int levelId = preference.getLevelId();
+        int maxDistance = Math.max(levelId, levelPostings.maxKey() - levelId);
+        for (int distance = 0; distance <= maxDistance; distance++) {
+            double levelScore = levelScoreForDistance(distance);
+            if (!qualifiesOnLevelOnly(levelScore) || !top.mayAccept(upperBound(0, levelScore, 0))) {
+                return;
+            }
+            collectLevelBucket(top, buffer, catalog, levelId - distance, levelScore);
+            if (distance > 0) {
+                collectLevelBucket(top, buffer, catalog, levelId + distance, levelScore);
+            }
+        }
+    }
+
+    private void collectLevelBucket(TopRecommendations top, ScoringBuffer buffer, RouteCatalog catalog,
+                                    int levelId, double levelScore) {
+        PostingLists levelPostings = catalog.levelPostings();
+        if (levelId < 0 || levelId > levelPostings.maxKey()) {
+            return;
+        }
+        for (int p = levelPostings.start(levelId), end = levelPostings.end(levelId); p < end; p++) {
+            int index = levelPostings.routeIndex(p);
+            if (!buffer.isTouched(index)) {
+                collect(top, catalog, index, 0, levelScore, 0);
+            }
+        }
+    }
+
+    /**
+     * 카탈로그 전체를 한 번 순회하며 MIN_RECOMMENDATION_SCORE 이상인 상위 루트만 수집
+     */
+    RecommendationResult scoreFullScan(RouteCatalog catalog, UserPreference preference) {
+        ScoringBuffer buffer = borrowBuffer();
+        buffer.ensureCapacity(catalog.size());
+        TopRecommendations top = buffer.top;
+        double maxTagScore = maxTagScore(catalog, preference);
+        try {
+            addCollaborativeScores(buffer, catalog, preference);
+            for (int i = 0; i < catalog.size(); i++) {
+                double levelScore = levelMatchScore(preference, catalog.levelId(i));
+                double collaborativeScore = buffer.collaborativeScores[i];
+                if (top.mayAccept(upperBound(maxTagScore, levelScore, collaborativeScore))) {
+                    collect(top, catalog, i, tagMatchScore(catalog, preference, i), levelScore, collaborativeScore);
+                }
+            }
+            return top.drainTo(preference.getUserId());
+        } finally {
+            releaseBuffer(buffer);
+        }
+    }
+
+    // 카탈로그에 있는 협업 점수 루트를 버퍼에 표시 (비활성화된 루트는 제외)
+    private static void addCollaborativeScores(ScoringBuffer buffer, RouteCatalog catalog, UserPreference preference) {
+        for (int i = 0; i < preference.collaborativeCount(); i++) {
+            int index = catalog.indexOf(preference.collaborativeRouteId(i));
+            if (index >= 0) {
+                buffer.setCollaborative(index, preference.collaborativeScore(i));
+            }
+        }
+    }
+
+    // 풀이 비었으면 새로 만듦 (반납 시 풀이 차 있으면 GC 대상)
+    private ScoringBuffer borrowBuffer() {
+        ScoringBuffer buffer = buffers.poll();
+        return buffer != null ? buffer : new ScoringBuffer();
+    }
+
+    private void releaseBuffer(ScoringBuffer buffer) {
+        if (buffers.remainingCapacity() > 0) {
+            buffer.reset();
+            buffers.offer(buffer);
+        }
+    }
+
+    /**
+     * 루트 한 건에 대한 점수 (기준 미달이면 빈 결과)
+     */
+    public RecommendationResult scoreRoute(RouteCatalog catalog, UserPreference preference, int index) {
+        RecommendationResult result = new RecommendationResult(preference.getUserId(), 1);
+        double tagScore = tagMatchScore(catalog, preference, index);
+        double levelScore = levelMatchScore(preference, catalog.levelId(index));
+        double score = totalScore(tagScore, levelScore, preference.collaborativeScoreOf(catalog.routeId(index)));
+        if (score >= Constants.MIN_RECOMMENDATION_SCORE) {
+            result.add(catalog.routeId(index), score, tagScore, levelScore);
+        }
+        return result;
+    }
+
+    /**
+     * 태그 매칭과 협업 점수 없이 레벨 점수만으로 기준을 넘는 최대 레벨 차이 (없으면 -1)
+     */
+    public int maxLevelOnlyDistance() {
+        if (qualifiesOnLevelOnly(levelScoreForDistance(MAX_SCORED_LEVEL_DISTANCE + 1))) {
+            return Integer.MAX_VALUE;
+        }
+        int distance = -1;
+        while (distance < MAX_SCORED_LEVEL_DISTANCE && qualifiesOnLevelOnly(levelScoreForDistance(distance + 1))) {
+            distance++;
+        }
+        return distance;
+    }
+
+    private static double tagMatchScore(RouteCatalog catalog, UserPreference preference, int index) {
+        double tagSum = 0;
+        int matched = 0;
+        for (int p = catalog.tagStart(index), end = catalog.tagEnd(index); p < end; p++) {
+            float weight = preference.weightOf(catalog.tagId(p));
+            if (weight > 0f) {
+                tagSum += catalog.tagRelevance(p) * weight;
+                matched++;
+            }
+        }
+        return matched == 0 ? 0 : round2(tagSum / matched);
+    }
+
+    private void collect(TopRecommendations top, RouteCatalog catalog, int index,
+                         double tagScore, double levelScore, double collaborativeScore) {
+        double score = totalScore(tagScore, levelScore, collaborativeScore);
+        if (score >= Constants.MIN_RECOMMENDATION_SCORE) {
+            top.offer(catalog.routeId(index), score, tagScore, levelScore);
+        }
+    }
+
+    private double totalScore(double tagScore, double levelScore, double collaborativeScore) {
+        double contentScore = tagScore * Constants.TAG_WEIGHT + levelScore * Constants.LEVEL_WEIGHT;
+        if (collaborativeWeight == 0) {
+            return round2(contentScore);
+        }
+        return round2(contentScore * (1 - collaborativeWeight) + collaborativeScore * collaborativeWeight);
+    }
+
+    // 매칭 태그 평균은 (최대 선호 가중치 * 최대 relevance)를 넘을 수 없음 (누적과 같은 float 곱)
+    private static double maxTagScore(RouteCatalog catalog, UserPreference preference) {
+        return preference.getMaxWeight() * catalog.maxTagRelevance();
+    }
+
+    private double upperBound(double maxTagScore, double levelScore, double collaborativeScore) {
+        return totalScore(maxTagScore, levelScore, collaborativeScore);
+    }
+
+    private boolean qualifiesOnLevelOnly(double levelScore) {
+        return totalScore(0, levelScore, 0) >= Constants.MIN_RECOMMENDATION_SCORE;
+    }
+
+    static double levelMatchScore(UserPreference preference, int routeLevelId) {
+        if (!preference.hasLevel()) {
+            return DEFAULT_LEVEL_SCORE;
+        }
+        return levelScoreForDistance(Math.abs(preference.getLevelId() - routeLevelId));
+    }
+
+    private static double levelScoreForDistance(int distance) {
+        return switch (distance) {
+            case 0 -> 100;
+            case 1 -> 80;
+            case 2 -> 60;
+            case 3 -> 40;
+            case 4 -> 20;
+            default -> 10;
+        };
+    }
+
+    // 프로시저의 DECIMAL(5,2) 변수와 동일하게 소수 둘째 자리로 반올림
+    static double round2(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+
+    /**
+     * 루트 인덱스별 태그 점수 합계/매칭 수/협업 점수 누적 버퍼
+     * 방문한 인덱스만 기록해 두었다가 초기화
+     */
+    private static final class ScoringBuffer {
+
+        private double[] tagSums = new double[0];
+        private int[] matchCounts = new int[0];
+        private float[] collaborativeScores = new float[0];
+        private int[] touched = new int[0];
+        private int touchedCount;
+        private final TopRecommendations top = new TopRecommendations(Constants.MAX_RECOMMENDATIONS_PER_USER);
+
+        void ensureCapacity(int routeCount) {
+            if (tagSums.length < routeCount) {
+                tagSums = new double[routeCount];
+                matchCounts = new int[routeCount];
+                collaborativeScores = new float[routeCount];
+                touched = new int[routeCount];
+            }
+        }
+
+        boolean isTouched(int index) {
+            return matchCounts[index] > 0 || collaborativeScores[index] > 0f;
+        }
+
+        void accumulate(int index, double value) {
+            if (!isTouched(index)) {
+                touched[touchedCount++] = index;
+            }
+            matchCounts[index]++;
+            tagSums[index] += value;
+        }
+
+        // 협업 점수는 0보다 큰 값만 들어옴 (UserPreference.withCollaborativeScores)
+        void setCollaborative(int index, float score) {
+            if (!isTouched(index)) {
+                touched[touchedCount++] = index;
+            }
+            collaborativeScores[index] = score;
+        }
+
+        void reset() {
+            for (int n = 0; n < touchedCount; n++) {
+                int index = touched[n];
+                tagSums[index] = 0;
+                matchCounts[index] = 0;
+                collaborativeScores[index] = 0f;
+            }
+            touchedCount = 0;
+            top.clear();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.routepick.service.recommendation;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Arrays;
+
+/**
+ * user:recommendations: 캐시 값
+ * 추천 점수 내림차순으로 정렬된 route_id / 점수 병렬 배열
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class RecommendationList {
+
+    private long userId;
+    private int[] routeIds;
+    private float[] scores;
+
+    RecommendationList(long userId, int[] routeIds, float[] scores) {
+        this.userId = userId;
+        this.routeIds = routeIds;
+        this.scores = scores;
+    }
+
+    public static RecommendationList from(RecommendationResult result) {
+        long[] keys = new long[result.size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = sortKey(result.routeId(i), (float) result.score(i));
+        }
+        return fromSortKeys(result.getUserId(), keys);
+    }
+
+    public long getUserId() {
+        return userId;
+    }
+
+    public int size() {
+        return routeIds.length;
+    }
+
+    public int routeId(int index) {
+        return routeIds[index];
+    }
+
+    public float score(int index) {
+        return scores[index];
+    }
+
+    /**
+     * 루트 점수를 추가/갱신한 새 목록 반환
+     */
+    public RecommendationList withScore(int routeId, float score) {
+        long[] keys = new long[routeIds.length + 1];
+        int size = 0;
+        for (int i = 0; i < routeIds.length; i++) {
+            if (routeIds[i] != routeId) {
+                keys[size++] = sortKey(routeIds[i], scores[i]);
+            }
+        }
+        keys[size++] = sortKey(routeId, score);
+        return fromSortKeys(userId, Arrays.copyOf(keys, size));
+    }
+
+    /**
+     * 루트를 제외한 새 목록 반환
+     */
+    public RecommendationList without(int routeId) {
+        int[] newRouteIds = new int[routeIds.length];
+        float[] newScores = new float[scores.length];
+        int size = 0;
+        for (int i = 0; i < routeIds.length; i++) {
+            if (routeIds[i] != routeId) {
+                newRouteIds[size] = routeIds[i];
+                newScores[size++] = scores[i];
+            }
+        }
+        if (size == routeIds.length) {
+            return this;
+        }
+        return new RecommendationList(userId, Arrays.copyOf(newRouteIds, size), Arrays.copyOf(newScores, size));
+    }
+
+    /**
+     * 상위 limit개만 남긴 목록 반환
+     */
+    public RecommendationList limit(int limit) {
+        if (routeIds.length <= limit) {
+            return this;
+        }
+        return new RecommendationList(userId, Arrays.copyOf(routeIds, limit), Arrays.copyOf(scores, limit));
+    }
+
+    // 점수는 0 이상이므로 float 비트 순서가 값 순서와 같음 -> (점수, route_id)를 long 하나로 정렬
+    private static long sortKey(int routeId, float score) {
+        return ((long) Float.floatToIntBits(score) << 32) | (routeId & 0xFFFFFFFFL);
+    }
+
+    private static RecommendationList fromSortKeys(long userId, long[] keys) {
+        Arrays.sort(keys);
+        int[] routeIds = new int[keys.length];
+        float[] scores = new float[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            long key = keys[keys.length - 1 - i];
+            routeIds[i] = (int) key;
+            scores[i] = Float.intBitsToFloat((int) (key >>> 32));
+        }
+        return new RecommendationList(userId, routeIds, scores);
+    }
+}
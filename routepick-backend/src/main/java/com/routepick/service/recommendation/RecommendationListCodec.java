@@ -0,0 +1,60 @@
+package com.routepick.service.recommendation;
+
+import com.routepick.common.redis.RedisValueCodec;
+import com.routepick.util.ByteArrayReader;
+import com.routepick.util.ByteArrayWriter;
+import org.springframework.stereotype.Component;
+
+/**
+ * RecommendationList 바이너리 코덱 (v1)
+ * userId, 개수, 이후 항목마다 route_id 차분(zigzag)과 점수 차분(0.01점 단위, zigzag)
+ * 점수는 DECIMAL(5,2)로 반올림된 값이므로 0.01점 정수로 손실 없이 저장
+ */
+@Component
+public class RecommendationListCodec implements RedisValueCodec<RecommendationList> {
+
+    @Override
+    public Class<RecommendationList> type() {
+        return RecommendationList.class;
+    }
+
+    @Override
+    public int typeId() {
+        return 1;
+    }
+
+    @Override
+    public int version() {
+        return 1;
+    }
+
+    @Override
+    public void encode(RecommendationList value, ByteArrayWriter writer) {
+        writer.writeVarLong(value.getUserId()).writeVarInt(value.size());
+        long previousRouteId = 0;
+        long previousCents = 0;
+        for (int i = 0; i < value.size(); i++) {
+            long cents = Math.round(value.score(i) * 100.0);
+            writer.writeZigZag(value.routeId(i) - previousRouteId).writeZigZag(previousCents - cents);
+            previousRouteId = value.routeId(i);
+            previousCents = cents;
+        }
+    }
+
+    @Override
+    public RecommendationList decode(ByteArrayReader reader, int version) {
+        long userId = reader.readVarLong();
+        int size = reader.readVarInt();
+        int[] routeIds = new int[size];
+        float[] scores = new float[size];
+        long routeId = 0;
+        long cents = 0;
+        for (int i = 0; i < size; i++) {
+            routeId += reader.readZigZag();
+            cents -= reader.readZigZag();
+            routeIds[i] = (int) routeId;
+            scores[i] = (float) (cents / 100.0);
+        }
+        return new RecommendationList(userId, routeIds, scores);
+    }
+}
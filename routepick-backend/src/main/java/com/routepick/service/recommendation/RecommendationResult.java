@@ -0,0 +1,65 @@
+package com.routepick.service.recommendation;
+
+import java.util.Arrays;
+
+/**
+ * 사용자 한 명의 추천 계산 결과
+ * user_route_recommendations 컬럼과 대응하는 병렬 배열
+ */
+public final class RecommendationResult {
+
+    private final long userId;
+    private int[] routeIds;
+    private double[] scores;
+    private double[] tagScores;
+    private double[] levelScores;
+    private int size;
+
+    public RecommendationResult(long userId, int initialCapacity) {
+        int capacity = Math.max(initialCapacity, 1);
+        this.userId = userId;
+        this.routeIds = new int[capacity];
+        this.scores = new double[capacity];
+        this.tagScores = new double[capacity];
+        this.levelScores = new double[capacity];
+    }
+
+    void add(int routeId, double score, double tagScore, double levelScore) {
+        if (size == routeIds.length) {
+            int capacity = size << 1;
+            routeIds = Arrays.copyOf(routeIds, capacity);
+            scores = Arrays.copyOf(scores, capacity);
+            tagScores = Arrays.copyOf(tagScores, capacity);
+            levelScores = Arrays.copyOf(levelScores, capacity);
+        }
+        routeIds[size] = routeId;
+        scores[size] = score;
+        tagScores[size] = tagScore;
+        levelScores[size] = levelScore;
+        size++;
+    }
+
+    public long getUserId() {
+        return userId;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int routeId(int index) {
+        return routeIds[index];
+    }
+
+    public double score(int index) {
+        return scores[index];
+    }
+
+    public double tagScore(int index) {
+        return tagScores[index];
+    }
+
+    public double levelScore(int index) {
+        return levelScores[index];
+    }
+}
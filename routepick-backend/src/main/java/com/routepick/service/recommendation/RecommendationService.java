@@ -0,0 +1,51 @@
+package com.routepick.service.recommendation;
+
+import com.routepick.domain.recommendation.repository.RecommendationJdbcRepository;
+import com.routepick.monitoring.HotPathMetrics;
+import com.routepick.monitoring.HotPathStage;
+import com.routepick.service.catalog.RouteCatalog;
+import com.routepick.service.catalog.RouteCatalogService;
+import com.routepick.service.recommendation.event.RecommendationsCalculatedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 사용자 루트 추천 갱신
+ * 메모리 카탈로그로 점수를 계산한 뒤 결과만 일괄 저장하고 홈 화면 카드까지 미리 생성
+ * 캐시/카드는 커밋 이후 갱신 (롤백된 결과가 캐시에 남지 않도록)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecommendationService {
+
+    private final RouteCatalogService routeCatalogService;
+    private final RecommendationEngine recommendationEngine;
+    private final RecommendationJdbcRepository recommendationJdbcRepository;
+    private final RouteNeighborService routeNeighborService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final HotPathMetrics hotPathMetrics;
+
+    @Transactional
+    public int calculateUserRecommendations(Long userId) {
+        long start = hotPathMetrics.start();
+        try {
+            RouteCatalog catalog = routeCatalogService.getCatalog();
+            UserPreference preference = recommendationJdbcRepository.findUserPreference(userId)
+                .withCollaborativeScores(routeNeighborService.collaborativeScores(userId));
+
+            RecommendationResult result = recommendationEngine.score(catalog, preference);
+            recommendationJdbcRepository.replaceUserRecommendations(result);
+            eventPublisher.publishEvent(new RecommendationsCalculatedEvent(result));
+
+            log.debug("Calculated {} recommendations for user {} over {} routes",
+                result.size(), userId, catalog.size());
+            return result.size();
+        } finally {
+            hotPathMetrics.record(HotPathStage.RECOMMENDATION_CALCULATE, start, userId);
+        }
+    }
+}
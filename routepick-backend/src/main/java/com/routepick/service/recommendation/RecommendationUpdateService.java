@@ -0,0 +1,220 @@
+package com.routepick.service.recommendation;
+
+import com.routepick.common.Constants;
+import com.routepick.domain.recommendation.repository.RecommendationJdbcRepository;
+import com.routepick.service.catalog.RouteCatalog;
+import com.routepick.service.catalog.RouteCatalogService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 루트/태그/선호도 변경을 델타로 반영하는 추천 증분 갱신
+ * 전체 재계산 없이 영향받는 (사용자, 루트) 행만 upsert/delete
+ */
+@Slf4j
+@Service
+public class RecommendationUpdateService {
+
+    private static final int USER_CHUNK_SIZE = 1000;
+
+    private final RouteCatalogService routeCatalogService;
+    private final RecommendationEngine recommendationEngine;
+    private final RecommendationService recommendationService;
+    private final RecommendationJdbcRepository recommendationJdbcRepository;
+    private final RouteNeighborService routeNeighborService;
+    private final RecommendationCache recommendationCache;
+    private final RecommendationCardService recommendationCardService;
+    private final TransactionTemplate transactionTemplate;
+    private final int levelOnlyMaxUsers;
+    private final Counter levelOnlyTruncated;
+
+    public RecommendationUpdateService(RouteCatalogService routeCatalogService,
+                                       RecommendationEngine recommendationEngine,
+                                       RecommendationService recommendationService,
+                                       RecommendationJdbcRepository recommendationJdbcRepository,
+                                       RouteNeighborService routeNeighborService,
+                                       RecommendationCache recommendationCache,
+                                       RecommendationCardService recommendationCardService,
+                                       PlatformTransactionManager transactionManager,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${app.recommendation.level-only-max-users:100000}") int levelOnlyMaxUsers) {
+        this.routeCatalogService = routeCatalogService;
+        this.recommendationEngine = recommendationEngine;
+        this.recommendationService = recommendationService;
+        this.recommendationJdbcRepository = recommendationJdbcRepository;
+        this.routeNeighborService = routeNeighborService;
+        this.recommendationCache = recommendationCache;
+        this.recommendationCardService = recommendationCardService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.levelOnlyMaxUsers = levelOnlyMaxUsers;
+        this.levelOnlyTruncated = meterRegistry.counter("recommendation.update.level_only.truncated");
+    }
+
+    /**
+     * route_tags 변경: 해당 태그를 선호하는 사용자만 해당 루트 점수 재계산
+     */
+    public void onRouteTagChanged(int routeId, int tagId) {
+        RouteCatalog catalog = routeCatalogService.refreshRoute(routeId);
+        if (catalog.indexOf(routeId) < 0) {
+            removeRoute(routeId);
+            return;
+        }
+        rescoreRoute(catalog, routeId, recommendationJdbcRepository.findUserIdsPreferringTags(List.of(tagId)));
+    }
+
+    /**
+     * 루트 변경: 비활성화되면 모든 추천에서 제거, 활성 루트면 후보 사용자만 재계산
+     */
+    public void onRouteChanged(int routeId) {
+        RouteCatalog catalog = routeCatalogService.refreshRoute(routeId);
+        int index = catalog.indexOf(routeId);
+        if (index < 0) {
+            removeRoute(routeId);
+            return;
+        }
+
+        Set<Long> userIds = new LinkedHashSet<>(recommendationJdbcRepository.findUserIdsRecommendedRoute(routeId));
+        List<Integer> tagIds = new ArrayList<>();
+        for (int p = catalog.tagStart(index); p < catalog.tagEnd(index); p++) {
+            tagIds.add(catalog.tagId(p));
+        }
+        userIds.addAll(recommendationJdbcRepository.findUserIdsPreferringTags(tagIds));
+        rescoreRoute(catalog, routeId, userIds);
+
+        // 태그 매칭 없이 레벨만으로 기준을 넘는 사용자
+        int distance = recommendationEngine.maxLevelOnlyDistance();
+        if (distance == Integer.MAX_VALUE) {
+            log.warn("Level-only score passes the threshold for every level; route {} needs a full refresh", routeId);
+        } else if (distance >= 0) {
+            int levelId = catalog.levelId(index);
+            rescoreLevelRange(catalog, routeId, levelId - distance, levelId + distance, userIds);
+        }
+    }
+
+    /**
+     * 선호 태그/레벨 변경: 해당 사용자만 전체 재계산
+     */
+    public void onUserPreferenceChanged(long userId) {
+        recommendationService.calculateUserRecommendations(userId);
+    }
+
+    private void rescoreRoute(RouteCatalog catalog, int routeId, Collection<Long> userIds) {
+        int index = catalog.indexOf(routeId);
+        List<Long> chunk = new ArrayList<>(USER_CHUNK_SIZE);
+        for (Long userId : userIds) {
+            chunk.add(userId);
+            if (chunk.size() == USER_CHUNK_SIZE) {
+                rescoreChunk(catalog, routeId, index, chunk);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            rescoreChunk(catalog, routeId, index, chunk);
+        }
+        log.debug("Rescored route {} for {} users", routeId, userIds.size());
+    }
+
+    /**
+     * 레벨 구간 사용자를 레벨별 user_id 순 페이지로 읽어 페이지마다 재계산 (앞에서 재계산한 사용자 제외)
+     * 한 번의 변경에서 최대 levelOnlyMaxUsers명까지만 처리하고 나머지는 다음 재계산(선호도 변경/일괄 작업)에 맡김
+     */
+    private void rescoreLevelRange(RouteCatalog catalog, int routeId, int minLevelId, int maxLevelId,
+                                   Set<Long> rescored) {
+        int index = catalog.indexOf(routeId);
+        int remaining = levelOnlyMaxUsers;
+        for (int levelId = minLevelId; levelId <= maxLevelId; levelId++) {
+            long afterUserId = 0;
+            List<Long> page;
+            do {
+                page = recommendationJdbcRepository.findUserIdsAtLevel(levelId, afterUserId, USER_CHUNK_SIZE);
+                if (page.isEmpty()) {
+                    break;
+                }
+                afterUserId = page.get(page.size() - 1);
+                List<Long> chunk = new ArrayList<>(page.size());
+                for (Long userId : page) {
+                    if (rescored.add(userId)) {
+                        chunk.add(userId);
+                    }
+                }
+                if (chunk.size() > remaining) {
+                    if (remaining > 0) {
+                        rescoreChunk(catalog, routeId, index, chunk.subList(0, remaining));
+                    }
+                    levelOnlyTruncated.increment();
+                    log.warn("Route {} level-only rescore stopped at {} users (levels {}~{})",
+                        routeId, levelOnlyMaxUsers, minLevelId, maxLevelId);
+                    return;
+                }
+                if (!chunk.isEmpty()) {
+                    rescoreChunk(catalog, routeId, index, chunk);
+                    remaining -= chunk.size();
+                }
+            } while (page.size() == USER_CHUNK_SIZE);
+        }
+        log.debug("Rescored route {} for {} level-only users", routeId, levelOnlyMaxUsers - remaining);
+    }
+
+    private void rescoreChunk(RouteCatalog catalog, int routeId, int index, List<Long> userIds) {
+        Map<Long, UserPreference> preferences = new HashMap<>(userIds.size() * 2);
+        for (UserPreference preference : routeNeighborService.withCollaborativeScores(
+                new ArrayList<>(recommendationJdbcRepository.findUserPreferences(userIds).values()))) {
+            preferences.put(preference.getUserId(), preference);
+        }
+        List<RecommendationResult> upserts = new ArrayList<>();
+        List<Long> removals = new ArrayList<>();
+
+        for (Long userId : userIds) {
+            RecommendationResult result = recommendationEngine.scoreRoute(catalog, preferences.get(userId), index);
+            if (result.size() > 0) {
+                upserts.add(result);
+            } else {
+                removals.add(userId);
+            }
+        }
+
+        List<Long> upsertedUserIds = new ArrayList<>(upserts.size());
+        for (RecommendationResult result : upserts) {
+            upsertedUserIds.add(result.getUserId());
+        }
+        // upsert/delete/trim은 한 트랜잭션으로 (중간 실패 시 일부만 반영되지 않도록), 캐시는 커밋 후 갱신
+        transactionTemplate.executeWithoutResult(status -> {
+            recommendationJdbcRepository.upsertRecommendations(upserts);
+            recommendationJdbcRepository.deleteRecommendations(routeId, removals);
+            // 새로 들어온 루트로 상위 개수를 넘긴 사용자는 최하위 행 정리
+            recommendationJdbcRepository.trimRecommendations(upsertedUserIds, Constants.MAX_RECOMMENDATIONS_PER_USER);
+        });
+
+        for (RecommendationResult result : upserts) {
+            recommendationCache.applyScore(result.getUserId(), routeId, result.score(0));
+        }
+        for (Long userId : removals) {
+            recommendationCache.remove(userId, routeId);
+        }
+        recommendationCardService.evict(upsertedUserIds);
+        recommendationCardService.evict(removals);
+    }
+
+    private void removeRoute(int routeId) {
+        List<Long> userIds = recommendationJdbcRepository.findUserIdsRecommendedRoute(routeId);
+        int deleted = recommendationJdbcRepository.deleteRouteRecommendations(routeId);
+        for (Long userId : userIds) {
+            recommendationCache.remove(userId, routeId);
+        }
+        recommendationCardService.evict(userIds);
+        log.info("Removed inactive route {} from {} recommendations", routeId, deleted);
+    }
+}
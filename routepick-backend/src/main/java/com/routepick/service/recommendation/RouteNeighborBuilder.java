@@ -0,0 +1,304 @@
+package com.routepick.service.recommendation;
+
+import com.routepick.util.IntArrayList;
+import com.routepick.util.IntIntHashMap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 같은 사용자가 완등/스크랩한 루트 쌍의 동시 출현으로 루트별 유사 루트 상위 N개 계산 (item-item collaborative filtering)
+ *
+ * 유사도 = co(i, j) / sqrt(n(i) * n(j))  (co: 두 루트를 모두 기록한 사용자 수, n: 루트를 기록한 사용자 수)
+ *
+ * (user_id, route_id) 쌍은 밀집 인덱스로 바꿔 int 배열에만 보관하고, 사용자별/루트별 CSR 배열로 정렬
+ * 루트 구간을 나눠 코어 수만큼 병렬 계산하며, 작업 스레드마다 루트 수 크기의 누적 배열 하나만 재사용
+ * 기록이 max-routes-per-user를 넘는 사용자는 균등 간격으로 표본 추출 (한 사용자가 쌍 수를 제곱으로 늘리지 않도록)
+ */
+public final class RouteNeighborBuilder {
+
+    private static final int ROUTES_PER_TASK = 64;
+
+    private final IntIntHashMap userIndexes = new IntIntHashMap(1 << 16);
+    private final IntIntHashMap routeIndexes = new IntIntHashMap(1 << 14);
+    private final IntArrayList routeIds = new IntArrayList(1 << 14);
+    private IntArrayList pairUsers = new IntArrayList(1 << 20);
+    private IntArrayList pairRoutes = new IntArrayList(1 << 20);
+
+    public void add(int userId, int routeId) {
+        int user = userIndexes.putIfAbsent(userId, userIndexes.size());
+        int route = routeIndexes.putIfAbsent(routeId, routeIds.size());
+        if (route == routeIds.size()) {
+            routeIds.add(routeId);
+        }
+        pairUsers.add(user);
+        pairRoutes.add(route);
+    }
+
+    public int interactionCount() {
+        return pairUsers.size();
+    }
+
+    public int userCount() {
+        return userIndexes.size();
+    }
+
+    public int routeCount() {
+        return routeIds.size();
+    }
+
+    /**
+     * 입력 쌍 배열은 계산 중 해제하므로 한 번만 호출
+     */
+    public Neighbors build(ForkJoinPool pool, int topN, int minSupport, int maxRoutesPerUser) {
+        int userCount = userIndexes.size();
+        int routeCount = routeIds.size();
+
+        // 사용자별 루트 목록 (중복 제거, 상한 초과 시 표본 추출)
+        int[] userOffsets = new int[userCount + 1];
+        int[] userRoutes = groupByUser(userCount, userOffsets);
+        pairUsers = null;
+        pairRoutes = null;
+        userRoutes = compactUserRoutes(userCount, userOffsets, userRoutes, maxRoutesPerUser);
+
+        // 루트별 사용자 목록 (전치)
+        int[] routeOffsets = new int[routeCount + 1];
+        int interactions = userOffsets[userCount];
+        for (int p = 0; p < interactions; p++) {
+            routeOffsets[userRoutes[p] + 1]++;
+        }
+        for (int r = 0; r < routeCount; r++) {
+            routeOffsets[r + 1] += routeOffsets[r];
+        }
+        int[] cursor = Arrays.copyOf(routeOffsets, routeCount);
+        int[] routeUsers = new int[interactions];
+        for (int u = 0; u < userCount; u++) {
+            for (int p = userOffsets[u]; p < userOffsets[u + 1]; p++) {
+                routeUsers[cursor[userRoutes[p]]++] = u;
+            }
+        }
+
+        Neighbors neighbors = new Neighbors(routeIds.toArray(), topN);
+        int[] finalUserRoutes = userRoutes;
+        AtomicInteger nextRoute = new AtomicInteger();
+        List<Future<?>> workers = new ArrayList<>(pool.getParallelism());
+        for (int w = 0; w < pool.getParallelism(); w++) {
+            workers.add(pool.submit(() -> {
+                Worker worker = new Worker(routeCount, topN);
+                int from;
+                while ((from = nextRoute.getAndAdd(ROUTES_PER_TASK)) < routeCount) {
+                    int to = Math.min(from + ROUTES_PER_TASK, routeCount);
+                    for (int route = from; route < to; route++) {
+                        worker.computeRoute(route, routeOffsets, routeUsers, userOffsets, finalUserRoutes,
+                            minSupport, neighbors);
+                    }
+                }
+            }));
+        }
+        for (Future<?> worker : workers) {
+            try {
+                worker.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while computing route neighbors", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Failed to compute route neighbors", e.getCause());
+            }
+        }
+        return neighbors;
+    }
+
+    // (user, route) 쌍을 사용자별로 계수 정렬
+    private int[] groupByUser(int userCount, int[] offsets) {
+        int pairs = pairUsers.size();
+        for (int p = 0; p < pairs; p++) {
+            offsets[pairUsers.get(p) + 1]++;
+        }
+        for (int u = 0; u < userCount; u++) {
+            offsets[u + 1] += offsets[u];
+        }
+        int[] cursor = Arrays.copyOf(offsets, userCount);
+        int[] routes = new int[pairs];
+        for (int p = 0; p < pairs; p++) {
+            routes[cursor[pairUsers.get(p)]++] = pairRoutes.get(p);
+        }
+        return routes;
+    }
+
+    // 사용자별 목록을 정렬/중복 제거하고 상한을 적용해 앞으로 당김 (offsets 갱신)
+    private static int[] compactUserRoutes(int userCount, int[] offsets, int[] routes, int maxRoutesPerUser) {
+        int write = 0;
+        int start = offsets[0];
+        for (int u = 0; u < userCount; u++) {
+            int end = offsets[u + 1];
+            Arrays.sort(routes, start, end);
+            int unique = start;
+            for (int p = start; p < end; p++) {
+                if (unique == start || routes[p] != routes[unique - 1]) {
+                    routes[unique++] = routes[p];
+                }
+            }
+            int count = unique - start;
+            offsets[u] = write;
+            if (count <= maxRoutesPerUser) {
+                System.arraycopy(routes, start, routes, write, count);
+                write += count;
+            } else {
+                for (int i = 0; i < maxRoutesPerUser; i++) {
+                    routes[write++] = routes[start + (int) ((long) i * count / maxRoutesPerUser)];
+                }
+            }
+            start = end;
+        }
+        offsets[userCount] = write;
+        return write == routes.length ? routes : Arrays.copyOf(routes, write);
+    }
+
+    /**
+     * 작업 스레드별 누적 버퍼 (방문한 루트만 기록해 두었다가 초기화)
+     */
+    private static final class Worker {
+
+        private final int[] coCounts;
+        private final int[] touched;
+        private final int[] heapRoutes;
+        private final float[] heapScores;
+
+        Worker(int routeCount, int topN) {
+            this.coCounts = new int[routeCount];
+            this.touched = new int[routeCount];
+            this.heapRoutes = new int[topN];
+            this.heapScores = new float[topN];
+        }
+
+        void computeRoute(int route, int[] routeOffsets, int[] routeUsers, int[] userOffsets, int[] userRoutes,
+                          int minSupport, Neighbors out) {
+            int degree = routeOffsets[route + 1] - routeOffsets[route];
+            if (degree < minSupport) {
+                return;
+            }
+            int touchedCount = 0;
+            for (int p = routeOffsets[route]; p < routeOffsets[route + 1]; p++) {
+                int user = routeUsers[p];
+                for (int q = userOffsets[user]; q < userOffsets[user + 1]; q++) {
+                    int other = userRoutes[q];
+                    if (other != route && coCounts[other]++ == 0) {
+                        touched[touchedCount++] = other;
+                    }
+                }
+            }
+
+            int heapSize = 0;
+            for (int n = 0; n < touchedCount; n++) {
+                int other = touched[n];
+                int coCount = coCounts[other];
+                coCounts[other] = 0;
+                if (coCount < minSupport) {
+                    continue;
+                }
+                int otherDegree = routeOffsets[other + 1] - routeOffsets[other];
+                float score = (float) (coCount / Math.sqrt((double) degree * otherDegree));
+                if (heapSize < heapRoutes.length) {
+                    heapRoutes[heapSize] = other;
+                    heapScores[heapSize] = score;
+                    siftUp(heapSize++);
+                } else if (score > heapScores[0]) {
+                    heapRoutes[0] = other;
+                    heapScores[0] = score;
+                    siftDown(0, heapSize);
+                }
+            }
+
+            // 최소 힙을 비우며 뒤에서부터 채워 점수 내림차순으로 기록
+            out.counts[route] = heapSize;
+            int base = route * out.topN;
+            for (int size = heapSize; size > 0; size--) {
+                out.neighborIndexes[base + size - 1] = heapRoutes[0];
+                out.scores[base + size - 1] = heapScores[0];
+                heapRoutes[0] = heapRoutes[size - 1];
+                heapScores[0] = heapScores[size - 1];
+                siftDown(0, size - 1);
+            }
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (heapScores[parent] <= heapScores[i]) {
+                    return;
+                }
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i, int size) {
+            while (true) {
+                int left = 2 * i + 1;
+                if (left >= size) {
+                    return;
+                }
+                int smallest = left + 1 < size && heapScores[left + 1] < heapScores[left] ? left + 1 : left;
+                if (heapScores[i] <= heapScores[smallest]) {
+                    return;
+                }
+                swap(i, smallest);
+                i = smallest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            int route = heapRoutes[a];
+            heapRoutes[a] = heapRoutes[b];
+            heapRoutes[b] = route;
+            float score = heapScores[a];
+            heapScores[a] = heapScores[b];
+            heapScores[b] = score;
+        }
+    }
+
+    /**
+     * 루트별 유사 루트 (루트 인덱스 i의 목록은 [i * topN, i * topN + count(i)) 범위, 점수 내림차순)
+     */
+    public static final class Neighbors {
+
+        private final int[] routeIds;
+        private final int topN;
+        private final int[] counts;
+        private final int[] neighborIndexes;
+        private final float[] scores;
+
+        Neighbors(int[] routeIds, int topN) {
+            this.routeIds = routeIds;
+            this.topN = topN;
+            this.counts = new int[routeIds.length];
+            this.neighborIndexes = new int[routeIds.length * topN];
+            this.scores = new float[routeIds.length * topN];
+        }
+
+        public int routeCount() {
+            return routeIds.length;
+        }
+
+        public int routeId(int index) {
+            return routeIds[index];
+        }
+
+        public int neighborCount(int index) {
+            return counts[index];
+        }
+
+        public int neighborRouteId(int index, int rank) {
+            return routeIds[neighborIndexes[index * topN + rank]];
+        }
+
+        public float score(int index, int rank) {
+            return scores[index * topN + rank];
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.routepick.service.recommendation;
+
+import com.routepick.domain.recommendation.repository.RouteNeighborJdbcRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 유사 루트 일괄 재계산 ("이 루트를 완등한 사람들이 함께 완등한 루트")
+ * user_climbs / route_scraps를 한 번 스트리밍으로 읽어 RouteNeighborBuilder로 계산한 뒤 route_neighbors를 통째로 교체
+ * 계산 중 메모리는 기록 수에 비례하는 int 배열과 작업 스레드별 루트 수 크기 배열뿐 (1천만 건 기준 수백 MB 이내)
+ * 여러 노드의 cron이 동시에 돌아도 job_leases 임대를 가진 노드만 실행하고,
+ * 쓰기/이전 세대 삭제는 임대 행을 잠근 같은 트랜잭션에서 해 임대를 잃은 노드가 새 결과를 덮거나 지우지 않음
+ */
+@Slf4j
+@Service
+public class RouteNeighborJob {
+
+    private static final String JOB_NAME = "route-neighbors";
+
+    private final RouteNeighborJdbcRepository routeNeighborJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int topN;
+    private final int minSupport;
+    private final int maxRoutesPerUser;
+    private final int writeBatchSize;
+    private final int parallelism;
+    private final int leaseSeconds;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final AtomicInteger routesWritten = new AtomicInteger();
+    private final Timer loadTimer;
+    private final Timer buildTimer;
+    private final Timer writeTimer;
+
+    public RouteNeighborJob(RouteNeighborJdbcRepository routeNeighborJdbcRepository,
+                            PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry,
+                            @Value("${app.recommendation.neighbors.top-n:50}") int topN,
+                            @Value("${app.recommendation.neighbors.min-support:2}") int minSupport,
+                            @Value("${app.recommendation.neighbors.max-routes-per-user:500}") int maxRoutesPerUser,
+                            @Value("${app.recommendation.neighbors.write-batch-size:1000}") int writeBatchSize,
+                            @Value("${app.recommendation.neighbors.parallelism:0}") int parallelism,
+                            @Value("${app.recommendation.neighbors.lease-seconds:3600}") int leaseSeconds) {
+        this.routeNeighborJdbcRepository = routeNeighborJdbcRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.topN = topN;
+        this.minSupport = minSupport;
+        this.maxRoutesPerUser = maxRoutesPerUser;
+        this.writeBatchSize = writeBatchSize;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.leaseSeconds = leaseSeconds;
+
+        meterRegistry.gauge("recommendation.neighbors.running", running, r -> r.get() ? 1 : 0);
+        meterRegistry.gauge("recommendation.neighbors.routes", routesWritten);
+        this.loadTimer = meterRegistry.timer("recommendation.neighbors.duration", "phase", "load");
+        this.buildTimer = meterRegistry.timer("recommendation.neighbors.duration", "phase", "build");
+        this.writeTimer = meterRegistry.timer("recommendation.neighbors.duration", "phase", "write");
+    }
+
+    @Scheduled(cron = "${app.recommendation.neighbors.cron:-}")
+    public void scheduledRun() {
+        run();
+    }
+
+    /**
+     * @return 이 노드나 다른 노드에서 이미 실행 중이면 false
+     */
+    public boolean run() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("Route neighbor job is already running");
+            return false;
+        }
+        try {
+            if (!routeNeighborJdbcRepository.acquireLease(JOB_NAME, nodeId, leaseSeconds)) {
+                log.info("Route neighbor job is running on another node");
+                return false;
+            }
+            try {
+                return runWithLease();
+            } finally {
+                routeNeighborJdbcRepository.releaseLease(JOB_NAME, nodeId);
+            }
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private boolean runWithLease() {
+        // 시각 비교는 DB의 초 단위 반올림에 영향받으므로 세대 번호로 이번 결과를 구분
+        long generation = routeNeighborJdbcRepository.nextGeneration();
+
+        long start = System.nanoTime();
+        RouteNeighborBuilder builder = new RouteNeighborBuilder();
+        routeNeighborJdbcRepository.streamInteractions(builder::add);
+        long loaded = System.nanoTime();
+        loadTimer.record(loaded - start, TimeUnit.NANOSECONDS);
+        log.info("Route neighbor job loaded {} interactions of {} users on {} routes",
+            builder.interactionCount(), builder.userCount(), builder.routeCount());
+
+        RouteNeighborBuilder.Neighbors neighbors;
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            neighbors = builder.build(pool, topN, minSupport, maxRoutesPerUser);
+        } finally {
+            pool.shutdown();
+        }
+        long built = System.nanoTime();
+        buildTimer.record(built - loaded, TimeUnit.NANOSECONDS);
+
+        int written = write(neighbors, generation);
+        Integer deleted = transactionTemplate.execute(status -> {
+            holdLease();
+            return routeNeighborJdbcRepository.deleteNeighborsOfOtherGenerations(generation);
+        });
+        writeTimer.record(System.nanoTime() - built, TimeUnit.NANOSECONDS);
+        routesWritten.set(written);
+        log.info("Route neighbor job wrote {} routes ({} stale removed) in {} ms",
+            written, deleted, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return true;
+    }
+
+    private int write(RouteNeighborBuilder.Neighbors neighbors, long generation) {
+        List<Object[]> rows = new ArrayList<>(writeBatchSize);
+        int written = 0;
+        for (int index = 0; index < neighbors.routeCount(); index++) {
+            int count = neighbors.neighborCount(index);
+            if (count == 0) {
+                continue;
+            }
+            int[] routeIds = new int[count];
+            float[] scores = new float[count];
+            for (int rank = 0; rank < count; rank++) {
+                routeIds[rank] = neighbors.neighborRouteId(index, rank);
+                scores[rank] = neighbors.score(index, rank);
+            }
+            rows.add(new Object[]{neighbors.routeId(index), count,
+                new RouteNeighborList(routeIds, scores).encode(), generation});
+            if (rows.size() == writeBatchSize) {
+                written += flush(rows);
+            }
+        }
+        return written + flush(rows);
+    }
+
+    private int flush(List<Object[]> rows) {
+        int size = rows.size();
+        if (size > 0) {
+            transactionTemplate.executeWithoutResult(status -> {
+                holdLease();
+                routeNeighborJdbcRepository.upsertNeighbors(rows);
+            });
+            rows.clear();
+        }
+        return size;
+    }
+
+    // 트랜잭션 안에서 임대를 연장하며 임대 행을 잠금 (계산이 임대 시간을 넘겨 다른 노드가 가져갔으면 중단)
+    private void holdLease() {
+        if (!routeNeighborJdbcRepository.renewLease(JOB_NAME, nodeId, leaseSeconds)) {
+            throw new IllegalStateException("Route neighbor job lease was taken over by another node");
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.routepick.service.recommendation;
+
+import com.routepick.util.ByteArrayReader;
+import com.routepick.util.ByteArrayWriter;
+
+/**
+ * 루트 하나의 유사 루트 목록 (유사도 내림차순, route_neighbors.neighbors 형식으로 직렬화)
+ */
+public final class RouteNeighborList {
+
+    public static final RouteNeighborList EMPTY = new RouteNeighborList(new int[0], new float[0]);
+
+    // 유사도는 0~1이므로 소수 넷째 자리까지 정수로 저장
+    private static final float SCORE_SCALE = 10000f;
+
+    private final int[] routeIds;
+    private final float[] scores;
+
+    public RouteNeighborList(int[] routeIds, float[] scores) {
+        if (routeIds.length != scores.length) {
+            throw new IllegalArgumentException("Route ids and scores must be parallel");
+        }
+        this.routeIds = routeIds;
+        this.scores = scores;
+    }
+
+    public int size() {
+        return routeIds.length;
+    }
+
+    public int routeId(int rank) {
+        return routeIds[rank];
+    }
+
+    public float score(int rank) {
+        return scores[rank];
+    }
+
+    public byte[] encode() {
+        ByteArrayWriter writer = new ByteArrayWriter(1 + routeIds.length * 6);
+        writer.writeVarInt(routeIds.length);
+        for (int i = 0; i < routeIds.length; i++) {
+            writer.writeVarInt(routeIds[i]).writeVarInt(Math.round(scores[i] * SCORE_SCALE));
+        }
+        return writer.toByteArray();
+    }
+
+    public static RouteNeighborList decode(byte[] bytes) {
+        ByteArrayReader reader = new ByteArrayReader(bytes, 0);
+        int size = reader.readVarInt();
+        int[] routeIds = new int[size];
+        float[] scores = new float[size];
+        for (int i = 0; i < size; i++) {
+            routeIds[i] = reader.readVarInt();
+            scores[i] = reader.readVarInt() / SCORE_SCALE;
+        }
+        return new RouteNeighborList(routeIds, scores);
+    }
+}
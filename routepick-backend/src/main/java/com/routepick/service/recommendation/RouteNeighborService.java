@@ -0,0 +1,95 @@
+package com.routepick.service.recommendation;
+
+import com.routepick.domain.recommendation.repository.RouteNeighborJdbcRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * route_neighbors 조회와 협업 필터링 점수
+ * 점수는 추천 태그/레벨 점수와 같은 0~100 척도로, RecommendationEngine이 collaborative-weight만큼 섞음
+ */
+@Service
+public class RouteNeighborService {
+
+    private static final double MAX_SCORE = 100;
+
+    private final RouteNeighborJdbcRepository routeNeighborJdbcRepository;
+    private final int seedSize;
+
+    public RouteNeighborService(RouteNeighborJdbcRepository routeNeighborJdbcRepository,
+                                @Value("${app.recommendation.neighbors.seed-size:50}") int seedSize) {
+        this.routeNeighborJdbcRepository = routeNeighborJdbcRepository;
+        this.seedSize = seedSize;
+    }
+
+    public RouteNeighborList getNeighbors(int routeId) {
+        return routeNeighborJdbcRepository.findNeighbors(List.of(routeId))
+            .getOrDefault(routeId, RouteNeighborList.EMPTY);
+    }
+
+    /**
+     * 사용자가 최근 완등/스크랩한 루트(seed)들의 유사 루트별 유사도 합 (가장 높은 루트를 100으로 정규화, seed 자신은 제외)
+     */
+    public Map<Integer, Double> collaborativeScores(long userId) {
+        Set<Integer> seeds = new LinkedHashSet<>(routeNeighborJdbcRepository.findRecentRouteIds(userId, seedSize));
+        if (seeds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return collaborativeScores(seeds, routeNeighborJdbcRepository.findNeighbors(seeds));
+    }
+
+    /**
+     * 선호 정보에 협업 점수를 붙임 (배치/구간 재계산용, 사용자 수와 무관하게 쿼리 두 번)
+     */
+    public List<UserPreference> withCollaborativeScores(List<UserPreference> preferences) {
+        List<Long> userIds = new ArrayList<>(preferences.size());
+        for (UserPreference preference : preferences) {
+            userIds.add(preference.getUserId());
+        }
+        Map<Long, List<Integer>> recentRouteIds = routeNeighborJdbcRepository.findRecentRouteIds(userIds, seedSize);
+        Set<Integer> allSeeds = new HashSet<>();
+        for (List<Integer> routeIds : recentRouteIds.values()) {
+            allSeeds.addAll(routeIds);
+        }
+        Map<Integer, RouteNeighborList> neighbors = routeNeighborJdbcRepository.findNeighbors(allSeeds);
+
+        List<UserPreference> result = new ArrayList<>(preferences.size());
+        for (UserPreference preference : preferences) {
+            List<Integer> routeIds = recentRouteIds.get(preference.getUserId());
+            result.add(routeIds == null ? preference
+                : preference.withCollaborativeScores(collaborativeScores(new HashSet<>(routeIds), neighbors)));
+        }
+        return result;
+    }
+
+    private static Map<Integer, Double> collaborativeScores(Set<Integer> seeds, Map<Integer, RouteNeighborList> neighborsByRoute) {
+        Map<Integer, Double> sums = new HashMap<>();
+        double max = 0;
+        for (Integer seed : seeds) {
+            RouteNeighborList neighbors = neighborsByRoute.get(seed);
+            if (neighbors == null) {
+                continue;
+            }
+            for (int rank = 0; rank < neighbors.size(); rank++) {
+                int routeId = neighbors.routeId(rank);
+                if (!seeds.contains(routeId)) {
+                    max = Math.max(max, sums.merge(routeId, (double) neighbors.score(rank), Double::sum));
+                }
+            }
+        }
+        if (max > 0) {
+            double scale = MAX_SCORE / max;
+            sums.replaceAll((routeId, sum) -> RecommendationEngine.round2(sum * scale));
+        }
+        return sums;
+    }
+}
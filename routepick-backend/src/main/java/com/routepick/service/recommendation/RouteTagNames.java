@@ -0,0 +1,18 @@
+package com.routepick.service.recommendation;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * route:tag_names: 캐시 값
+ * 루트 하나의 태그 이름 (표시 순서, 태그가 없으면 빈 목록도 그대로 캐시)
+ */
+@Getter
+@RequiredArgsConstructor
+public class RouteTagNames {
+
+    private final int routeId;
+    private final List<String> tagNames;
+}
@@ -0,0 +1,49 @@
+package com.routepick.service.recommendation;
+
+import com.routepick.common.redis.RedisValueCodec;
+import com.routepick.util.ByteArrayReader;
+import com.routepick.util.ByteArrayWriter;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * RouteTagNames 바이너리 코덱 (v1)
+ * route_id, 개수, 이후 태그 이름
+ */
+@Component
+public class RouteTagNamesCodec implements RedisValueCodec<RouteTagNames> {
+
+    @Override
+    public Class<RouteTagNames> type() {
+        return RouteTagNames.class;
+    }
+
+    @Override
+    public int typeId() {
+        return 4;
+    }
+
+    @Override
+    public int version() {
+        return 1;
+    }
+
+    @Override
+    public void encode(RouteTagNames value, ByteArrayWriter writer) {
+        writer.writeVarInt(value.getRouteId()).writeVarInt(value.getTagNames().size());
+        for (String tagName : value.getTagNames()) {
+            writer.writeString(tagName);
+        }
+    }
+
+    @Override
+    public RouteTagNames decode(ByteArrayReader reader, int version) {
+        int routeId = reader.readVarInt();
+        String[] tagNames = new String[reader.readVarInt()];
+        for (int i = 0; i < tagNames.length; i++) {
+            tagNames[i] = reader.readString();
+        }
+        return new RouteTagNames(routeId, List.of(tagNames));
+    }
+}
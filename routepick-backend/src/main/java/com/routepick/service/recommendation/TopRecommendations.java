@@ -0,0 +1,124 @@
+package com.routepick.service.recommendation;
+
+/**
+ * 점수 상위 K개 루트만 유지하는 고정 크기 최소 힙 (병렬 primitive 배열)
+ * 동점이면 route_id가 작은 루트를 우선
+ */
+final class TopRecommendations {
+
+    private final int capacity;
+    private final int[] routeIds;
+    private final double[] scores;
+    private final double[] tagScores;
+    private final double[] levelScores;
+    private int size;
+
+    TopRecommendations(int capacity) {
+        this.capacity = capacity;
+        this.routeIds = new int[capacity];
+        this.scores = new double[capacity];
+        this.tagScores = new double[capacity];
+        this.levelScores = new double[capacity];
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isFull() {
+        return size == capacity;
+    }
+
+    /**
+     * 점수 상한이 현재 최솟값보다 낮으면 계산할 필요 없음
+     */
+    boolean mayAccept(double upperBound) {
+        return size < capacity || upperBound >= scores[0];
+    }
+
+    void offer(int routeId, double score, double tagScore, double levelScore) {
+        if (size < capacity) {
+            set(size, routeId, score, tagScore, levelScore);
+            siftUp(size++);
+        } else if (worse(0, routeId, score)) {
+            set(0, routeId, score, tagScore, levelScore);
+            siftDown(0, size);
+        }
+    }
+
+    /**
+     * 점수 내림차순 결과로 변환 후 비움 (힙 정렬)
+     */
+    RecommendationResult drainTo(long userId) {
+        int count = size;
+        for (int end = size - 1; end > 0; end--) {
+            swap(0, end);
+            siftDown(0, end);
+        }
+        RecommendationResult result = new RecommendationResult(userId, count);
+        for (int i = 0; i < count; i++) {
+            result.add(routeIds[i], scores[i], tagScores[i], levelScores[i]);
+        }
+        size = 0;
+        return result;
+    }
+
+    void clear() {
+        size = 0;
+    }
+
+    private void set(int i, int routeId, double score, double tagScore, double levelScore) {
+        routeIds[i] = routeId;
+        scores[i] = score;
+        tagScores[i] = tagScore;
+        levelScores[i] = levelScore;
+    }
+
+    // 힙 원소 i가 (routeId, score)보다 순위가 낮은지
+    private boolean worse(int i, int routeId, double score) {
+        return scores[i] < score || (scores[i] == score && routeIds[i] > routeId);
+    }
+
+    private void siftUp(int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!worse(i, routeIds[parent], scores[parent])) {
+                break;
+            }
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int i, int end) {
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= end) {
+                return;
+            }
+            if (child + 1 < end && worse(child + 1, routeIds[child], scores[child])) {
+                child++;
+            }
+            if (!worse(child, routeIds[i], scores[i])) {
+                return;
+            }
+            swap(i, child);
+            i = child;
+        }
+    }
+
+    private void swap(int a, int b) {
+        int routeId = routeIds[a];
+        routeIds[a] = routeIds[b];
+        routeIds[b] = routeId;
+        double score = scores[a];
+        scores[a] = scores[b];
+        scores[b] = score;
+        double tagScore = tagScores[a];
+        tagScores[a] = tagScores[b];
+        tagScores[b] = tagScore;
+        double levelScore = levelScores[a];
+        levelScores[a] = levelScores[b];
+        levelScores[b] = levelScore;
+    }
+}
@@ -0,0 +1,141 @@
+package com.routepick.service.recommendation;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * 추천 계산용 사용자 선호 정보
+ * 선호 태그 가중치는 tag_id를 인덱스로 하는 밀집 배열로 보관
+ * 협업 필터링 점수(0~100, RouteNeighborService)는 route_id 오름차순 병렬 배열로 보관
+ */
+public final class UserPreference {
+
+    public static final int NO_LEVEL = 0;
+
+    private final long userId;
+    private final int[] tagIds;
+    private final float[] tagWeightById;
+    private final int levelId;
+    private final float maxWeight;
+    private final int[] collaborativeRouteIds;
+    private final float[] collaborativeScores;
+
+    public UserPreference(long userId, int[] tagIds, float[] weights, int levelId) {
+        if (tagIds.length != weights.length) {
+            throw new IllegalArgumentException("Tag ids and weights must be parallel");
+        }
+        int maxTagId = 0;
+        for (int tagId : tagIds) {
+            maxTagId = Math.max(maxTagId, tagId);
+        }
+        this.userId = userId;
+        this.tagIds = tagIds.clone();
+        Arrays.sort(this.tagIds);
+        this.tagWeightById = new float[maxTagId + 1];
+        float max = 0f;
+        for (int i = 0; i < tagIds.length; i++) {
+            tagWeightById[tagIds[i]] = weights[i];
+            max = Math.max(max, weights[i]);
+        }
+        this.maxWeight = max;
+        this.levelId = levelId;
+        this.collaborativeRouteIds = new int[0];
+        this.collaborativeScores = new float[0];
+    }
+
+    private UserPreference(UserPreference preference, int[] collaborativeRouteIds, float[] collaborativeScores) {
+        this.userId = preference.userId;
+        this.tagIds = preference.tagIds;
+        this.tagWeightById = preference.tagWeightById;
+        this.levelId = preference.levelId;
+        this.maxWeight = preference.maxWeight;
+        this.collaborativeRouteIds = collaborativeRouteIds;
+        this.collaborativeScores = collaborativeScores;
+    }
+
+    /**
+     * 협업 필터링 점수를 붙인 사본 (0 이하 점수는 제외)
+     */
+    public UserPreference withCollaborativeScores(Map<Integer, Double> scores) {
+        int[] routeIds = new int[scores.size()];
+        int count = 0;
+        for (Map.Entry<Integer, Double> entry : scores.entrySet()) {
+            if (entry.getValue() > 0) {
+                routeIds[count++] = entry.getKey();
+            }
+        }
+        routeIds = Arrays.copyOf(routeIds, count);
+        Arrays.sort(routeIds);
+        float[] values = new float[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = scores.get(routeIds[i]).floatValue();
+        }
+        return new UserPreference(this, routeIds, values);
+    }
+
+    /**
+     * user_preferred_tags.preference_level 가중치 (프로시저의 CASE 식과 동일)
+     */
+    public static float preferenceWeight(String preferenceLevel) {
+        if (preferenceLevel == null) {
+            return 0f;
+        }
+        return switch (preferenceLevel) {
+            case "HIGH" -> 100f;
+            case "MEDIUM" -> 70f;
+            case "LOW" -> 30f;
+            default -> 0f;
+        };
+    }
+
+    public long getUserId() {
+        return userId;
+    }
+
+    public int[] getTagIds() {
+        return tagIds;
+    }
+
+    public int getLevelId() {
+        return levelId;
+    }
+
+    public boolean hasLevel() {
+        return levelId != NO_LEVEL;
+    }
+
+    public boolean prefers(int tagId) {
+        return tagId < tagWeightById.length && tagWeightById[tagId] > 0f;
+    }
+
+    /**
+     * 선호 태그 가중치 중 최댓값 (태그 점수 상한 계산용)
+     */
+    public float getMaxWeight() {
+        return maxWeight;
+    }
+
+    public float weightOf(int tagId) {
+        return tagId < tagWeightById.length ? tagWeightById[tagId] : 0f;
+    }
+
+    public int collaborativeCount() {
+        return collaborativeRouteIds.length;
+    }
+
+    public int collaborativeRouteId(int i) {
+        return collaborativeRouteIds[i];
+    }
+
+    public float collaborativeScore(int i) {
+        return collaborativeScores[i];
+    }
+
+    /**
+     * 루트의 협업 필터링 점수 (없으면 0)
+     */
+    public float collaborativeScoreOf(int routeId) {
+        int i = Arrays.binarySearch(collaborativeRouteIds, routeId);
+        return i >= 0 ? collaborativeScores[i] : 0f;
+    }
+}
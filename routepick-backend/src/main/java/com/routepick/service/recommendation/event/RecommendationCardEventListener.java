@@ -0,0 +1,43 @@
+package com.routepick.service.recommendation.event;
+
+import com.routepick.service.gym.event.GymBranchChangedEvent;
+import com.routepick.service.recommendation.RecommendationCardService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 카드에 표시되는 루트/태그/지점 정보 변경 시 해당 루트를 추천받은 사용자의 카드 무효화 (커밋 이후)
+ * 점수 변경에 따른 무효화는 RecommendationUpdateService가 DB 반영 후 처리
+ */
+@Component
+@RequiredArgsConstructor
+public class RecommendationCardEventListener {
+
+    private final RecommendationCardService recommendationCardService;
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleRouteChanged(RouteChangedEvent event) {
+        recommendationCardService.onRouteChanged(event.getRouteId());
+    }
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleRouteTagChanged(RouteTagChangedEvent event) {
+        recommendationCardService.onRouteTagsChanged(event.getRouteId());
+    }
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleTagChanged(TagChangedEvent event) {
+        recommendationCardService.onTagChanged(event.getTagId());
+    }
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleBranchChanged(GymBranchChangedEvent event) {
+        recommendationCardService.onBranchChanged(event.getBranchId());
+    }
+}
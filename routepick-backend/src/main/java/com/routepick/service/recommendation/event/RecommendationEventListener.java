@@ -0,0 +1,53 @@
+package com.routepick.service.recommendation.event;
+
+import com.routepick.service.recommendation.RecommendationCache;
+import com.routepick.service.recommendation.RecommendationCardService;
+import com.routepick.service.recommendation.RecommendationUpdateService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 변경 이벤트를 커밋 이후 비동기로 추천 증분 갱신에 전달
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecommendationEventListener {
+
+    private final RecommendationUpdateService recommendationUpdateService;
+    private final RecommendationCache recommendationCache;
+    private final RecommendationCardService recommendationCardService;
+
+    /**
+     * 재계산 결과를 캐시와 카드에 반영 (커밋 직후 같은 스레드에서 실행해 호출자가 반환받을 때 캐시가 채워져 있음)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleRecommendationsCalculated(RecommendationsCalculatedEvent event) {
+        recommendationCache.put(event.getResult());
+        recommendationCardService.refresh(event.getResult().getUserId());
+    }
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleRouteTagChanged(RouteTagChangedEvent event) {
+        log.debug("Route tag changed: route={}, tag={}", event.getRouteId(), event.getTagId());
+        recommendationUpdateService.onRouteTagChanged(event.getRouteId(), event.getTagId());
+    }
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleRouteChanged(RouteChangedEvent event) {
+        log.debug("Route changed: route={}", event.getRouteId());
+        recommendationUpdateService.onRouteChanged(event.getRouteId());
+    }
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleUserPreferenceChanged(UserPreferenceChangedEvent event) {
+        log.debug("User preference changed: user={}", event.getUserId());
+        recommendationUpdateService.onUserPreferenceChanged(event.getUserId());
+    }
+}
@@ -0,0 +1,15 @@
+package com.routepick.service.recommendation.event;
+
+import com.routepick.service.recommendation.RecommendationResult;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사용자 추천 전체 재계산 결과가 user_route_recommendations에 저장됨
+ */
+@Getter
+@RequiredArgsConstructor
+public class RecommendationsCalculatedEvent {
+
+    private final RecommendationResult result;
+}
@@ -0,0 +1,14 @@
+package com.routepick.service.recommendation.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 루트 생성/수정/route_status 변경 (EXPIRED, REMOVED 포함)
+ */
+@Getter
+@RequiredArgsConstructor
+public class RouteChangedEvent {
+
+    private final int routeId;
+}
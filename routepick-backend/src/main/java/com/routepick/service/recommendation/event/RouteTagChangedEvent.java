@@ -0,0 +1,15 @@
+package com.routepick.service.recommendation.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * route_tags 행 추가/삭제/relevance_score 변경
+ */
+@Getter
+@RequiredArgsConstructor
+public class RouteTagChangedEvent {
+
+    private final int routeId;
+    private final int tagId;
+}
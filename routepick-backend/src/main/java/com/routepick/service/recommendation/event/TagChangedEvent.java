@@ -0,0 +1,14 @@
+package com.routepick.service.recommendation.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * tags 행 이름/표시 순서 변경
+ */
+@Getter
+@RequiredArgsConstructor
+public class TagChangedEvent {
+
+    private final int tagId;
+}
@@ -0,0 +1,14 @@
+package com.routepick.service.recommendation.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * user_preferred_tags 또는 user_profile.level_id 변경
+ */
+@Getter
+@RequiredArgsConstructor
+public class UserPreferenceChangedEvent {
+
+    private final long userId;
+}
@@ -0,0 +1,127 @@
+package com.routepick.service.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * 단일 값 검색 필드 (branch_id, level_id, angle 등)
+ * 값마다 문서 비트맵(필터용)과 문서별 값 번호(facet 집계용)를 함께 유지
+ */
+final class FacetField<K> {
+
+    private static final int NO_VALUE = -1;
+    // 문서 순회는 문서마다 값 번호를 따라가야 해서 문서 하나가 RouteBitmap.scanCost의 word 하나보다 몇 배 비쌈
+    private static final int DOC_SCAN_WEIGHT = 4;
+
+    private final Map<K, Integer> valueIds = new HashMap<>();
+    private final List<K> values = new ArrayList<>();
+    private final List<RouteBitmap> bitmaps = new ArrayList<>();
+    private int[] docValues = new int[0];
+
+    void set(int doc, K value) {
+        ensureDoc(doc);
+        int valueId = value == null ? NO_VALUE : valueIds.computeIfAbsent(value, v -> {
+            values.add(v);
+            bitmaps.add(new RouteBitmap());
+            return values.size() - 1;
+        });
+        int previous = docValues[doc];
+        if (previous == valueId) {
+            return;
+        }
+        if (previous != NO_VALUE) {
+            bitmaps.get(previous).remove(doc);
+        }
+        if (valueId != NO_VALUE) {
+            bitmaps.get(valueId).add(doc);
+        }
+        docValues[doc] = valueId;
+    }
+
+    void clear(int doc) {
+        set(doc, null);
+    }
+
+    /**
+     * 조건에 맞는 값들의 문서 합집합 (맞는 값이 없으면 빈 집합)
+     */
+    long[] union(Predicate<K> accepted, int wordCount) {
+        long[] union = new long[wordCount];
+        for (int valueId = 0; valueId < values.size(); valueId++) {
+            if (accepted.test(values.get(valueId))) {
+                bitmaps.get(valueId).orInto(union);
+            }
+        }
+        return union;
+    }
+
+    int[] newCounts() {
+        return new int[values.size()];
+    }
+
+    /**
+     * set 안의 값별 문서 수 (set은 live의 부분집합)
+     * 값 비트맵 교집합 개수, set 문서 순회, 값별 전체 개수에서 set 밖 live 문서를 빼는 방법 중 가장 싼 쪽으로 집계
+     * (결과가 거의 전체인 질의는 마지막 방법이 set 밖 몇 건만 순회)
+     */
+    void count(long[] set, int setCardinality, long[] live, int liveCardinality, int[] counts) {
+        int scanCost = 0;
+        for (RouteBitmap bitmap : bitmaps) {
+            scanCost += bitmap.scanCost();
+        }
+        long docScanCost = (long) DOC_SCAN_WEIGHT * setCardinality;
+        long complementScanCost = (long) DOC_SCAN_WEIGHT * (liveCardinality - setCardinality);
+        if (complementScanCost < docScanCost && complementScanCost < scanCost) {
+            for (int valueId = 0; valueId < counts.length; valueId++) {
+                counts[valueId] += bitmaps.get(valueId).cardinality();
+            }
+            for (int i = 0; i < set.length; i++) {
+                addCounts(i, live[i] & ~set[i], counts, -1);
+            }
+            return;
+        }
+        if (scanCost < docScanCost) {
+            for (int valueId = 0; valueId < counts.length; valueId++) {
+                counts[valueId] += bitmaps.get(valueId).intersectionCount(set);
+            }
+            return;
+        }
+        for (int i = 0; i < set.length; i++) {
+            addCounts(i, set[i], counts, 1);
+        }
+    }
+
+    Map<K, Integer> toMap(int[] counts) {
+        Map<K, Integer> result = new LinkedHashMap<>();
+        for (int valueId = 0; valueId < counts.length; valueId++) {
+            if (counts[valueId] > 0) {
+                result.put(values.get(valueId), counts[valueId]);
+            }
+        }
+        return result;
+    }
+
+    private void addCounts(int wordIndex, long word, int[] counts, int delta) {
+        while (word != 0) {
+            int doc = (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+            word &= word - 1;
+            int valueId = doc < docValues.length ? docValues[doc] : NO_VALUE;
+            if (valueId != NO_VALUE && valueId < counts.length) {
+                counts[valueId] += delta;
+            }
+        }
+    }
+
+    private void ensureDoc(int doc) {
+        if (doc >= docValues.length) {
+            int from = docValues.length;
+            docValues = Arrays.copyOf(docValues, Math.max(doc + 1, from + (from >>> 1) + 16));
+            Arrays.fill(docValues, from, docValues.length, NO_VALUE);
+        }
+    }
+}
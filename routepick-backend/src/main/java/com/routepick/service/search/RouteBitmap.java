@@ -0,0 +1,176 @@
+package com.routepick.service.search;
+
+import java.util.Arrays;
+
+/**
+ * 루트 문서 번호 집합 (Roaring 방식을 단순화한 두 가지 표현, 변경 가능)
+ * 원소가 적으면 정렬된 int 배열, 두 word에 한 개 이상으로 많아지면 long 비트 배열로 전환
+ * 질의 비용 기준 전환점 (원소 하나를 확인하는 비용이 word 하나를 AND + bitCount하는 비용의 2배 이상), 메모리는 전환 직후 최대 4배
+ * 질의는 문서 전체 크기의 long[] 작업 집합에 and/or로 합쳐서 평가
+ */
+final class RouteBitmap {
+
+    private int[] values = new int[4];
+    private int size;
+    // null이 아니면 비트 배열 표현 (values는 사용하지 않음)
+    private long[] words;
+
+    int cardinality() {
+        return size;
+    }
+
+    void add(int doc) {
+        // 앞쪽 문서 몇 개로 비트 배열이 된 뒤 먼 문서가 들어와 다시 성겨지면 int 배열로 되돌림
+        if (words != null && (doc >>> 6) >= words.length && 4 * size < wordCount(doc)) {
+            toValues();
+        }
+        if (words != null) {
+            ensureWords(doc);
+            long bit = 1L << doc;
+            if ((words[doc >>> 6] & bit) == 0) {
+                words[doc >>> 6] |= bit;
+                size++;
+            }
+            return;
+        }
+        // 적재는 문서 번호 순이므로 대부분 끝에 추가
+        int index = size > 0 && values[size - 1] < doc ? -size - 1 : Arrays.binarySearch(values, 0, size, doc);
+        if (index >= 0) {
+            return;
+        }
+        int position = -index - 1;
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size << 1);
+        }
+        System.arraycopy(values, position, values, position + 1, size - position);
+        values[position] = doc;
+        size++;
+        if (2 * size > wordCount(values[size - 1])) {
+            toWords();
+        }
+    }
+
+    void remove(int doc) {
+        if (words != null) {
+            if ((doc >>> 6) < words.length && (words[doc >>> 6] & (1L << doc)) != 0) {
+                words[doc >>> 6] &= ~(1L << doc);
+                size--;
+                // 전환 경계에서 추가/삭제가 반복될 때 매번 바꾸지 않도록 여유를 둠
+                if (4 * size < words.length) {
+                    toValues();
+                }
+            }
+            return;
+        }
+        int index = Arrays.binarySearch(values, 0, size, doc);
+        if (index >= 0) {
+            System.arraycopy(values, index + 1, values, index, size - index - 1);
+            size--;
+        }
+    }
+
+    /**
+     * target |= this
+     */
+    void orInto(long[] target) {
+        if (words != null) {
+            int n = Math.min(words.length, target.length);
+            for (int i = 0; i < n; i++) {
+                target[i] |= words[i];
+            }
+            return;
+        }
+        for (int i = 0; i < size; i++) {
+            int doc = values[i];
+            if ((doc >>> 6) < target.length) {
+                target[doc >>> 6] |= 1L << doc;
+            }
+        }
+    }
+
+    /**
+     * target &= this
+     */
+    void andInto(long[] target) {
+        if (words != null) {
+            int n = Math.min(words.length, target.length);
+            for (int i = 0; i < n; i++) {
+                target[i] &= words[i];
+            }
+            Arrays.fill(target, n, target.length, 0L);
+            return;
+        }
+        long[] kept = new long[target.length];
+        for (int i = 0; i < size; i++) {
+            int doc = values[i];
+            int word = doc >>> 6;
+            if (word < target.length) {
+                kept[word] |= target[word] & (1L << doc);
+            }
+        }
+        System.arraycopy(kept, 0, target, 0, target.length);
+    }
+
+    /**
+     * |this ∩ set|
+     */
+    int intersectionCount(long[] set) {
+        int count = 0;
+        if (words != null) {
+            int n = Math.min(words.length, set.length);
+            for (int i = 0; i < n; i++) {
+                count += Long.bitCount(words[i] & set[i]);
+            }
+            return count;
+        }
+        // 결과 밀도가 중간이면 포함 여부 분기가 예측되지 않으므로 비트를 그대로 더함 (values는 정렬되어 범위 밖이면 끝)
+        for (int i = 0; i < size; i++) {
+            int doc = values[i];
+            if ((doc >>> 6) >= set.length) {
+                break;
+            }
+            count += (int) ((set[doc >>> 6] >>> doc) & 1L);
+        }
+        return count;
+    }
+
+    /**
+     * intersectionCount 비용 (word 하나 AND + bitCount를 1로, int 배열 원소 하나 확인은 2)
+     */
+    int scanCost() {
+        return words != null ? words.length : 2 * size;
+    }
+
+    private void toWords() {
+        long[] converted = new long[wordCount(values[size - 1])];
+        for (int i = 0; i < size; i++) {
+            converted[values[i] >>> 6] |= 1L << values[i];
+        }
+        words = converted;
+        values = null;
+    }
+
+    private void toValues() {
+        int[] converted = new int[Math.max(size, 4)];
+        int n = 0;
+        for (int i = 0; i < words.length; i++) {
+            long word = words[i];
+            while (word != 0) {
+                converted[n++] = (i << 6) + Long.numberOfTrailingZeros(word);
+                word &= word - 1;
+            }
+        }
+        values = converted;
+        words = null;
+    }
+
+    private void ensureWords(int doc) {
+        if ((doc >>> 6) >= words.length) {
+            words = Arrays.copyOf(words, Math.max(wordCount(doc), words.length + (words.length >>> 1)));
+        }
+    }
+
+    static int wordCount(int maxDoc) {
+        return (maxDoc >>> 6) + 1;
+    }
+}
@@ -0,0 +1,20 @@
+package com.routepick.service.search;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 검색 색인 대상 루트 한 건 (routes + route_tags)
+ */
+@Getter
+@RequiredArgsConstructor
+public class RouteDocument {
+
+    private final int routeId;
+    private final int branchId;
+    private final int levelId;
+    private final String angle;
+    private final String color;
+    private final String status;
+    private final int[] tagIds;
+}
@@ -0,0 +1,398 @@
+package com.routepick.service.search;
+
+import com.routepick.common.enums.TagType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 루트 facet 검색 색인 (branch / level / angle / color / status / tag 값별 비트맵)
+ * 루트마다 적재 순서대로 문서 번호를 부여하고 (신규 루트는 뒤에 추가), 질의는 비트맵 AND/OR로 평가하고
+ * 같은 호출 안에서 facet 개수도 집계 (필드마다 값 비트맵 교집합 개수, 결과 문서 순회, 전체 개수에서 결과 밖 문서 빼기 중 싼 쪽)
+ * 루트 변경은 해당 문서의 비트만 갱신 (읽기/쓰기 락)
+ */
+public final class RouteSearchIndex {
+
+    private static final int BRANCH = 0;
+    private static final int LEVEL = 1;
+    private static final int ANGLE = 2;
+    private static final int COLOR = 3;
+    private static final int STATUS = 4;
+    private static final int TAG_TYPE = 5;
+
+    // 태그 집계의 문서 순회는 (문서, 태그) 쌍마다 태그 배열을 따라가 RouteBitmap.scanCost의 word 하나보다 훨씬 비쌈
+    private static final int DOC_SCAN_WEIGHT = 16;
+    private static final int[] NO_TAGS = new int[0];
+    private static final TagType[] TAG_TYPES = TagType.values();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Integer, Integer> docByRouteId = new HashMap<>();
+    private int[] routeIdByDoc = new int[1024];
+    private int docCount;
+    private long[] live = new long[RouteBitmap.wordCount(1023)];
+
+    private final FacetField<Integer> branches = new FacetField<>();
+    private final FacetField<Integer> levels = new FacetField<>();
+    private final FacetField<String> angles = new FacetField<>();
+    private final FacetField<String> colors = new FacetField<>();
+    private final FacetField<String> statuses = new FacetField<>();
+
+    private final Map<Integer, RouteBitmap> tagBitmaps = new HashMap<>();
+    private int[][] docTags = new int[1024][];
+    private int maxTagId;
+    private long tagPairs;
+    // 태그 유형별로 해당 유형 태그를 하나라도 가진 문서 (태그/태그 유형 변경 시 갱신)
+    private final RouteBitmap[] tagTypeBitmaps = new RouteBitmap[TAG_TYPES.length];
+    // tag_id -> 태그 유형 (tags 테이블 기준, 미등록 태그는 null)
+    private TagType[] tagTypeById;
+
+    public RouteSearchIndex(TagType[] tagTypeById) {
+        this.tagTypeById = tagTypeById;
+        for (int t = 0; t < tagTypeBitmaps.length; t++) {
+            tagTypeBitmaps[t] = new RouteBitmap();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docByRouteId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 루트 추가 또는 교체
+     */
+    public void upsert(RouteDocument route) {
+        lock.writeLock().lock();
+        try {
+            Integer existing = docByRouteId.get(route.getRouteId());
+            int doc = existing != null ? existing : newDoc(route.getRouteId());
+            branches.set(doc, route.getBranchId());
+            levels.set(doc, route.getLevelId());
+            angles.set(doc, route.getAngle());
+            colors.set(doc, route.getColor());
+            statuses.set(doc, route.getStatus());
+            setTags(doc, route.getTagIds());
+            live[doc >>> 6] |= 1L << doc;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 루트 삭제 (문서 번호는 재사용하지 않고 전체 재적재 때 정리)
+     */
+    public void remove(int routeId) {
+        lock.writeLock().lock();
+        try {
+            Integer doc = docByRouteId.remove(routeId);
+            if (doc == null) {
+                return;
+            }
+            branches.clear(doc);
+            levels.clear(doc);
+            angles.clear(doc);
+            colors.clear(doc);
+            statuses.clear(doc);
+            setTags(doc, NO_TAGS);
+            live[doc >>> 6] &= ~(1L << doc);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void setTagTypes(TagType[] tagTypeById) {
+        lock.writeLock().lock();
+        try {
+            this.tagTypeById = tagTypeById;
+            for (int t = 0; t < tagTypeBitmaps.length; t++) {
+                tagTypeBitmaps[t] = new RouteBitmap();
+            }
+            for (int doc : docByRouteId.values()) {
+                int mask = tagTypeMask(docTags[doc]);
+                while (mask != 0) {
+                    tagTypeBitmaps[Integer.numberOfTrailingZeros(mask)].add(doc);
+                    mask &= mask - 1;
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public RouteSearchResult search(RouteSearchQuery query) {
+        lock.readLock().lock();
+        try {
+            return searchLocked(query);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private RouteSearchResult searchLocked(RouteSearchQuery query) {
+        int wordCount = RouteBitmap.wordCount(Math.max(docCount - 1, 0));
+
+        // 태그는 모두 가진 루트만 (AND) -> facet 제외 대상이 아니므로 기본 집합에 포함
+        long[] base = Arrays.copyOf(live, wordCount);
+        for (Integer tagId : query.getTagIds()) {
+            RouteBitmap bitmap = tagBitmaps.get(tagId);
+            if (bitmap == null) {
+                Arrays.fill(base, 0L);
+                break;
+            }
+            bitmap.andInto(base);
+        }
+
+        long[][] filters = new long[TAG_TYPE + 1][];
+        if (!query.getBranchIds().isEmpty()) {
+            filters[BRANCH] = branches.union(query.getBranchIds()::contains, wordCount);
+        }
+        if (query.hasLevelRange()) {
+            filters[LEVEL] = levels.union(query::acceptsLevel, wordCount);
+        }
+        if (!query.getAngles().isEmpty()) {
+            filters[ANGLE] = angles.union(query.getAngles()::contains, wordCount);
+        }
+        if (!query.getColors().isEmpty()) {
+            filters[COLOR] = colors.union(query.getColors()::contains, wordCount);
+        }
+        if (!query.getStatuses().isEmpty()) {
+            filters[STATUS] = statuses.union(query.getStatuses()::contains, wordCount);
+        }
+        if (!query.getTagTypes().isEmpty()) {
+            filters[TAG_TYPE] = tagTypeUnion(query, wordCount);
+        }
+
+        long[] result = intersect(base, filters, -1);
+        int total = cardinality(result);
+        int liveCardinality = docByRouteId.size();
+
+        // 조건이 없는 필드는 최종 결과로, 조건을 건 필드는 자기 조건만 뺀 집합으로 집계
+        int[] branchCounts = branches.newCounts();
+        int[] levelCounts = levels.newCounts();
+        int[] angleCounts = angles.newCounts();
+        int[] colorCounts = colors.newCounts();
+        int[] statusCounts = statuses.newCounts();
+        int[] tagTypeCounts = new int[TAG_TYPES.length];
+        int[] tagCounts = new int[maxTagId + 1];
+
+        countField(branches, BRANCH, base, filters, result, total, liveCardinality, branchCounts);
+        countField(levels, LEVEL, base, filters, result, total, liveCardinality, levelCounts);
+        countField(angles, ANGLE, base, filters, result, total, liveCardinality, angleCounts);
+        countField(colors, COLOR, base, filters, result, total, liveCardinality, colorCounts);
+        countField(statuses, STATUS, base, filters, result, total, liveCardinality, statusCounts);
+        countTagTypes(filters[TAG_TYPE] == null ? result : intersect(base, filters, TAG_TYPE), tagTypeCounts);
+        countTags(result, total, liveCardinality, tagCounts);
+
+        return new RouteSearchResult(total, page(result, query.getPage(), query.getLimitedSize()),
+            branches.toMap(branchCounts), levels.toMap(levelCounts), angles.toMap(angleCounts),
+            colors.toMap(colorCounts), statuses.toMap(statusCounts),
+            toTagTypeMap(tagTypeCounts), toTagMap(tagCounts));
+    }
+
+    private <K> void countField(FacetField<K> field, int dimension, long[] base, long[][] filters,
+                                long[] result, int total, int liveCardinality, int[] counts) {
+        if (filters[dimension] == null) {
+            field.count(result, total, live, liveCardinality, counts);
+        } else {
+            long[] set = intersect(base, filters, dimension);
+            field.count(set, cardinality(set), live, liveCardinality, counts);
+        }
+    }
+
+    /**
+     * 태그별 개수 (FacetField.count와 같은 세 방법 중 싼 쪽)
+     */
+    private void countTags(long[] set, int setCardinality, int liveCardinality, int[] counts) {
+        if (liveCardinality == 0) {
+            return;
+        }
+        long docScanCost = DOC_SCAN_WEIGHT * setCardinality * tagPairs / liveCardinality;
+        long complementScanCost = DOC_SCAN_WEIGHT * (liveCardinality - setCardinality) * tagPairs / liveCardinality
+            + tagBitmaps.size();
+        long tagScanCost = tagScanCost();
+        if (complementScanCost < docScanCost && complementScanCost < tagScanCost) {
+            for (Map.Entry<Integer, RouteBitmap> entry : tagBitmaps.entrySet()) {
+                counts[entry.getKey()] += entry.getValue().cardinality();
+            }
+            for (int i = 0; i < set.length; i++) {
+                addTagCounts(i, live[i] & ~set[i], counts, -1);
+            }
+            return;
+        }
+        if (tagScanCost < docScanCost) {
+            for (Map.Entry<Integer, RouteBitmap> entry : tagBitmaps.entrySet()) {
+                counts[entry.getKey()] += entry.getValue().intersectionCount(set);
+            }
+            return;
+        }
+        for (int i = 0; i < set.length; i++) {
+            addTagCounts(i, set[i], counts, 1);
+        }
+    }
+
+    private void addTagCounts(int wordIndex, long word, int[] counts, int delta) {
+        while (word != 0) {
+            int doc = (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+            word &= word - 1;
+            for (int tagId : docTags[doc]) {
+                counts[tagId] += delta;
+            }
+        }
+    }
+
+    /**
+     * 태그 유형별 개수 (유형 태그를 하나라도 가진 루트 수)
+     */
+    private void countTagTypes(long[] set, int[] counts) {
+        for (int t = 0; t < tagTypeBitmaps.length; t++) {
+            counts[t] = tagTypeBitmaps[t].intersectionCount(set);
+        }
+    }
+
+    private long tagScanCost() {
+        long cost = 0;
+        for (RouteBitmap bitmap : tagBitmaps.values()) {
+            cost += bitmap.scanCost();
+        }
+        return cost;
+    }
+
+    private long[] tagTypeUnion(RouteSearchQuery query, int wordCount) {
+        long[] union = new long[wordCount];
+        for (TagType type : query.getTagTypes()) {
+            tagTypeBitmaps[type.ordinal()].orInto(union);
+        }
+        return union;
+    }
+
+    private static int cardinality(long[] set) {
+        int cardinality = 0;
+        for (long word : set) {
+            cardinality += Long.bitCount(word);
+        }
+        return cardinality;
+    }
+
+    private static long[] intersect(long[] base, long[][] filters, int excluded) {
+        long[] set = base.clone();
+        for (int d = 0; d < filters.length; d++) {
+            long[] filter = filters[d];
+            if (filter != null && d != excluded) {
+                for (int i = 0; i < set.length; i++) {
+                    set[i] &= filter[i];
+                }
+            }
+        }
+        return set;
+    }
+
+    // 문서 번호 내림차순 = 최근 추가된 루트 우선
+    private List<Integer> page(long[] result, int page, int size) {
+        long skip = (long) Math.max(page, 0) * size;
+        List<Integer> routeIds = new ArrayList<>(size);
+        for (int i = result.length - 1; i >= 0 && routeIds.size() < size; i--) {
+            long word = result[i];
+            int bits = Long.bitCount(word);
+            if (skip >= bits) {
+                skip -= bits;
+                continue;
+            }
+            while (word != 0 && routeIds.size() < size) {
+                int bit = 63 - Long.numberOfLeadingZeros(word);
+                word &= ~(1L << bit);
+                if (skip > 0) {
+                    skip--;
+                } else {
+                    routeIds.add(routeIdByDoc[(i << 6) + bit]);
+                }
+            }
+        }
+        return routeIds;
+    }
+
+    private static Map<TagType, Integer> toTagTypeMap(int[] counts) {
+        Map<TagType, Integer> result = new EnumMap<>(TagType.class);
+        for (TagType type : TAG_TYPES) {
+            if (counts[type.ordinal()] > 0) {
+                result.put(type, counts[type.ordinal()]);
+            }
+        }
+        return result;
+    }
+
+    private static Map<Integer, Integer> toTagMap(int[] counts) {
+        Map<Integer, Integer> result = new LinkedHashMap<>();
+        for (int tagId = 0; tagId < counts.length; tagId++) {
+            if (counts[tagId] > 0) {
+                result.put(tagId, counts[tagId]);
+            }
+        }
+        return result.isEmpty() ? Collections.emptyMap() : result;
+    }
+
+    private TagType tagType(int tagId) {
+        return tagId < tagTypeById.length ? tagTypeById[tagId] : null;
+    }
+
+    private int newDoc(int routeId) {
+        int doc = docCount++;
+        if (doc == routeIdByDoc.length) {
+            routeIdByDoc = Arrays.copyOf(routeIdByDoc, doc << 1);
+            docTags = Arrays.copyOf(docTags, doc << 1);
+        }
+        if ((doc >>> 6) >= live.length) {
+            live = Arrays.copyOf(live, live.length << 1);
+        }
+        routeIdByDoc[doc] = routeId;
+        docTags[doc] = NO_TAGS;
+        docByRouteId.put(routeId, doc);
+        return doc;
+    }
+
+    private void setTags(int doc, int[] tagIds) {
+        int[] previous = docTags[doc];
+        for (int tagId : previous) {
+            tagBitmaps.get(tagId).remove(doc);
+        }
+        for (int tagId : tagIds) {
+            tagBitmaps.computeIfAbsent(tagId, id -> new RouteBitmap()).add(doc);
+            maxTagId = Math.max(maxTagId, tagId);
+        }
+        tagPairs += tagIds.length - previous.length;
+
+        int previousMask = tagTypeMask(previous);
+        int mask = tagTypeMask(tagIds);
+        for (int t = 0; t < tagTypeBitmaps.length; t++) {
+            int bit = 1 << t;
+            if ((previousMask & bit) != 0 && (mask & bit) == 0) {
+                tagTypeBitmaps[t].remove(doc);
+            } else if ((previousMask & bit) == 0 && (mask & bit) != 0) {
+                tagTypeBitmaps[t].add(doc);
+            }
+        }
+        docTags[doc] = tagIds.length == 0 ? NO_TAGS : tagIds.clone();
+    }
+
+    private int tagTypeMask(int[] tagIds) {
+        int mask = 0;
+        for (int tagId : tagIds) {
+            TagType type = tagType(tagId);
+            if (type != null) {
+                mask |= 1 << type.ordinal();
+            }
+        }
+        return mask;
+    }
+}
@@ -0,0 +1,94 @@
+package com.routepick.service.search;
+
+import com.routepick.common.enums.TagType;
+import com.routepick.util.IntArrayList;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * routes / route_tags / tags 테이블에서 RouteSearchIndex 생성 (상태와 관계없이 모든 루트)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RouteSearchIndexLoader {
+
+    private static final String SELECT_ROUTES =
+        "SELECT route_id, branch_id, level_id, angle, color, route_status FROM routes ORDER BY route_id";
+
+    private static final String SELECT_ROUTE_TAGS =
+        "SELECT route_id, tag_id FROM route_tags ORDER BY route_id, tag_id";
+
+    private static final String SELECT_ROUTE =
+        "SELECT route_id, branch_id, level_id, angle, color, route_status FROM routes WHERE route_id = ?";
+
+    private static final String SELECT_TAGS_OF_ROUTE =
+        "SELECT tag_id FROM route_tags WHERE route_id = ? ORDER BY tag_id";
+
+    private static final String SELECT_TAG_TYPES = "SELECT tag_id, tag_type FROM tags";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public RouteSearchIndex load() {
+        long startedAt = System.currentTimeMillis();
+
+        IntArrayList tagRouteIds = new IntArrayList(4096);
+        IntArrayList tagIds = new IntArrayList(4096);
+        jdbcTemplate.query(SELECT_ROUTE_TAGS, rs -> {
+            tagRouteIds.add(rs.getInt(1));
+            tagIds.add(rs.getInt(2));
+        });
+        int[] routeOfTag = tagRouteIds.toArray();
+        int[] tags = tagIds.toArray();
+
+        RouteSearchIndex index = new RouteSearchIndex(loadTagTypes());
+        // 두 결과 모두 route_id 순이므로 커서를 함께 전진시키며 루트별 태그 범위를 잘라냄
+        int[] cursor = {0};
+        jdbcTemplate.query(SELECT_ROUTES, rs -> {
+            int routeId = rs.getInt(1);
+            while (cursor[0] < routeOfTag.length && routeOfTag[cursor[0]] < routeId) {
+                cursor[0]++;
+            }
+            int from = cursor[0];
+            while (cursor[0] < routeOfTag.length && routeOfTag[cursor[0]] == routeId) {
+                cursor[0]++;
+            }
+            index.upsert(new RouteDocument(routeId, rs.getInt(2), rs.getInt(3), rs.getString(4),
+                rs.getString(5), rs.getString(6), Arrays.copyOfRange(tags, from, cursor[0])));
+        });
+
+        log.info("Route search index loaded: {} routes, {} route tags in {}ms",
+            index.size(), tags.length, System.currentTimeMillis() - startedAt);
+        return index;
+    }
+
+    /**
+     * 루트 한 건 다시 읽기 (삭제됐으면 null)
+     */
+    public RouteDocument loadRoute(int routeId) {
+        int[] tagIds = jdbcTemplate.queryForList(SELECT_TAGS_OF_ROUTE, Integer.class, routeId).stream()
+            .mapToInt(Integer::intValue)
+            .toArray();
+        List<RouteDocument> routes = jdbcTemplate.query(SELECT_ROUTE, (rs, rowNum) -> new RouteDocument(
+            rs.getInt(1), rs.getInt(2), rs.getInt(3), rs.getString(4), rs.getString(5), rs.getString(6), tagIds
+        ), routeId);
+        return routes.isEmpty() ? null : routes.get(0);
+    }
+
+    public TagType[] loadTagTypes() {
+        TagType[][] holder = {new TagType[64]};
+        jdbcTemplate.query(SELECT_TAG_TYPES, rs -> {
+            int tagId = rs.getInt(1);
+            if (tagId >= holder[0].length) {
+                holder[0] = Arrays.copyOf(holder[0], Math.max(tagId + 1, holder[0].length << 1));
+            }
+            holder[0][tagId] = TagType.valueOf(rs.getString(2));
+        });
+        return holder[0];
+    }
+}
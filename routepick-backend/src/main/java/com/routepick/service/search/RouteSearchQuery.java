@@ -0,0 +1,62 @@
+package com.routepick.service.search;
+
+import com.routepick.common.Constants;
+import com.routepick.common.enums.TagType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 루트 검색 조건
+ * 같은 필드 안의 값은 OR, 필드끼리는 AND (태그는 지정한 태그를 모두 가진 루트)
+ */
+@Getter
+@Setter
+@Schema(description = "루트 검색 조건")
+public class RouteSearchQuery {
+
+    @Schema(description = "지점 ID (여러 개면 OR)")
+    private Set<Integer> branchIds = new HashSet<>();
+
+    @Schema(description = "최소 난이도 level_id")
+    private Integer minLevelId;
+
+    @Schema(description = "최대 난이도 level_id")
+    private Integer maxLevelId;
+
+    @Schema(description = "벽 각도 (VERTICAL, SLIGHT_OVERHANG, OVERHANG, ROOF)")
+    private Set<String> angles = new HashSet<>();
+
+    @Schema(description = "홀드 색상")
+    private Set<String> colors = new HashSet<>();
+
+    @Schema(description = "루트 상태", defaultValue = "ACTIVE")
+    private Set<String> statuses = new HashSet<>(Set.of(Constants.ROUTE_STATUS_ACTIVE));
+
+    @Schema(description = "태그 유형 (해당 유형 태그가 하나라도 있는 루트)")
+    private Set<TagType> tagTypes = new HashSet<>();
+
+    @Schema(description = "태그 ID (모두 가진 루트)")
+    private Set<Integer> tagIds = new HashSet<>();
+
+    @Schema(description = "페이지 번호 (0부터 시작)", example = "0", defaultValue = "0")
+    private int page = 0;
+
+    @Schema(description = "페이지 크기", example = "20", defaultValue = "20")
+    private int size = Constants.DEFAULT_PAGE_SIZE;
+
+    public int getLimitedSize() {
+        return Math.max(1, Math.min(size, Constants.MAX_PAGE_SIZE));
+    }
+
+    public boolean hasLevelRange() {
+        return minLevelId != null || maxLevelId != null;
+    }
+
+    public boolean acceptsLevel(int levelId) {
+        return (minLevelId == null || levelId >= minLevelId) && (maxLevelId == null || levelId <= maxLevelId);
+    }
+}
@@ -0,0 +1,27 @@
+package com.routepick.service.search;
+
+import com.routepick.common.enums.TagType;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 루트 검색 결과 (신규 루트 우선 한 페이지 + facet별 개수)
+ * 조건을 건 필드의 개수는 그 필드 조건만 뺀 결과 기준 (다른 값을 추가 선택했을 때의 개수)
+ */
+@Getter
+@RequiredArgsConstructor
+public class RouteSearchResult {
+
+    private final int total;
+    private final List<Integer> routeIds;
+    private final Map<Integer, Integer> branchCounts;
+    private final Map<Integer, Integer> levelCounts;
+    private final Map<String, Integer> angleCounts;
+    private final Map<String, Integer> colorCounts;
+    private final Map<String, Integer> statusCounts;
+    private final Map<TagType, Integer> tagTypeCounts;
+    private final Map<Integer, Integer> tagCounts;
+}
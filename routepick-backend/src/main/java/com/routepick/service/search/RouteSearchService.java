@@ -0,0 +1,134 @@
+package com.routepick.service.search;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 루트 facet 검색
+ * 색인은 처음 사용할 때 전체 적재하고, 이후 루트/태그 변경 이벤트로 해당 루트만 갱신
+ * 전체 적재 중 들어온 변경은 적재 전 데이터로 만든 새 색인에 빠져 있을 수 있으므로 교체 직후 다시 반영
+ */
+@Slf4j
+@Service
+public class RouteSearchService {
+
+    private final RouteSearchIndexLoader routeSearchIndexLoader;
+    private final Timer queryTimer;
+
+    private volatile RouteSearchIndex index;
+
+    // 전체 적재 중에만 non-null (pendingLock으로 보호)
+    private final Object pendingLock = new Object();
+    private Set<Integer> pendingRouteIds;
+    private boolean pendingTagChange;
+
+    public RouteSearchService(RouteSearchIndexLoader routeSearchIndexLoader, MeterRegistry meterRegistry) {
+        this.routeSearchIndexLoader = routeSearchIndexLoader;
+        this.queryTimer = Timer.builder("route_search.query")
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+    }
+
+    public RouteSearchResult search(RouteSearchQuery query) {
+        RouteSearchIndex current = getIndex();
+        return queryTimer.record(() -> current.search(query));
+    }
+
+    /**
+     * 루트 생성/수정/상태 변경 또는 route_tags 변경
+     */
+    public void onRouteChanged(int routeId) {
+        synchronized (pendingLock) {
+            if (pendingRouteIds != null) {
+                pendingRouteIds.add(routeId);
+            }
+        }
+        // 기록 이후에 읽으므로 교체 전 색인이면 교체 후 재반영 대상에 들어 있음
+        RouteSearchIndex current = index;
+        if (current != null) {
+            applyRouteChange(current, routeId);
+        }
+    }
+
+    /**
+     * tags 테이블 변경 (태그 유형 재적재)
+     */
+    public void onTagChanged() {
+        synchronized (pendingLock) {
+            if (pendingRouteIds != null) {
+                pendingTagChange = true;
+            }
+        }
+        RouteSearchIndex current = index;
+        if (current != null) {
+            current.setTagTypes(routeSearchIndexLoader.loadTagTypes());
+        }
+    }
+
+    public synchronized void reload() {
+        loadAndSwap();
+    }
+
+    private RouteSearchIndex getIndex() {
+        RouteSearchIndex current = index;
+        if (current == null) {
+            synchronized (this) {
+                current = index;
+                if (current == null) {
+                    current = loadAndSwap();
+                }
+            }
+        }
+        return current;
+    }
+
+    // this 잠금 안에서만 호출 (전체 적재는 한 번에 하나)
+    private RouteSearchIndex loadAndSwap() {
+        synchronized (pendingLock) {
+            pendingRouteIds = new HashSet<>();
+            pendingTagChange = false;
+        }
+        RouteSearchIndex loaded;
+        try {
+            loaded = routeSearchIndexLoader.load();
+        } catch (RuntimeException e) {
+            synchronized (pendingLock) {
+                pendingRouteIds = null;
+            }
+            throw e;
+        }
+
+        Set<Integer> replayRouteIds;
+        boolean replayTags;
+        synchronized (pendingLock) {
+            index = loaded;
+            replayRouteIds = pendingRouteIds;
+            replayTags = pendingTagChange;
+            pendingRouteIds = null;
+        }
+        if (replayTags) {
+            loaded.setTagTypes(routeSearchIndexLoader.loadTagTypes());
+        }
+        for (int routeId : replayRouteIds) {
+            applyRouteChange(loaded, routeId);
+        }
+        if (!replayRouteIds.isEmpty()) {
+            log.info("Replayed {} route changes received during search index load", replayRouteIds.size());
+        }
+        return loaded;
+    }
+
+    private void applyRouteChange(RouteSearchIndex target, int routeId) {
+        RouteDocument route = routeSearchIndexLoader.loadRoute(routeId);
+        if (route == null) {
+            target.remove(routeId);
+        } else {
+            target.upsert(route);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.routepick.service.search.event;
+
+import com.routepick.service.recommendation.event.RouteChangedEvent;
+import com.routepick.service.recommendation.event.RouteTagChangedEvent;
+import com.routepick.service.recommendation.event.TagChangedEvent;
+import com.routepick.service.search.RouteSearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 루트/태그 변경을 커밋 이후 검색 색인에 반영
+ */
+@Component
+@RequiredArgsConstructor
+public class RouteSearchEventListener {
+
+    private final RouteSearchService routeSearchService;
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleRouteChanged(RouteChangedEvent event) {
+        routeSearchService.onRouteChanged(event.getRouteId());
+    }
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleRouteTagChanged(RouteTagChangedEvent event) {
+        routeSearchService.onRouteChanged(event.getRouteId());
+    }
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleTagChanged(TagChangedEvent event) {
+        routeSearchService.onTagChanged();
+    }
+}
@@ -0,0 +1,51 @@
+package com.routepick.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * SHA-256 hex 문자열용 bloom filter (동시 추가 가능)
+ * 해시 앞 128비트를 두 개의 64비트 값으로 나눠 double hashing
+ */
+public final class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int wordCount = (int) Math.max(1, (bits + 63) >>> 6);
+        this.words = new AtomicLongArray(wordCount);
+        this.bitCount = (long) wordCount << 6;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+    }
+
+    public void add(String sha256Hex) {
+        long h1 = Long.parseUnsignedLong(sha256Hex, 0, 16, 16);
+        long h2 = Long.parseUnsignedLong(sha256Hex, 16, 32, 16);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, bitCount);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current = words.get(word);
+            while ((current & mask) == 0 && !words.compareAndSet(word, current, current | mask)) {
+                current = words.get(word);
+            }
+        }
+    }
+
+    /**
+     * false면 확실히 없음, true면 있을 수 있음
+     */
+    public boolean mightContain(String sha256Hex) {
+        long h1 = Long.parseUnsignedLong(sha256Hex, 0, 16, 16);
+        long h2 = Long.parseUnsignedLong(sha256Hex, 16, 32, 16);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, bitCount);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,55 @@
+package com.routepick.util;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * ByteArrayWriter 형식 읽기
+ */
+public final class ByteArrayReader {
+
+    private final byte[] bytes;
+    private int position;
+
+    public ByteArrayReader(byte[] bytes, int offset) {
+        this.bytes = bytes;
+        this.position = offset;
+    }
+
+    public int readByte() {
+        if (position >= bytes.length) {
+            throw new IllegalStateException("Unexpected end of data at " + position);
+        }
+        return bytes[position++] & 0xFF;
+    }
+
+    public long readVarLong() {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalStateException("Malformed varint at " + position);
+    }
+
+    public int readVarInt() {
+        return (int) readVarLong();
+    }
+
+    public long readZigZag() {
+        long value = readVarLong();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    public String readString() {
+        int length = readVarInt();
+        if (length < 0 || position + length > bytes.length) {
+            throw new IllegalStateException("Malformed string length " + length + " at " + position);
+        }
+        String value = new String(bytes, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+}
@@ -0,0 +1,62 @@
+package com.routepick.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * varint(LEB128) / zigzag 인코딩을 지원하는 가변 byte 버퍼
+ */
+public final class ByteArrayWriter {
+
+    private byte[] bytes;
+    private int size;
+
+    public ByteArrayWriter(int initialCapacity) {
+        this.bytes = new byte[Math.max(initialCapacity, 16)];
+    }
+
+    public ByteArrayWriter writeByte(int value) {
+        ensureCapacity(1);
+        bytes[size++] = (byte) value;
+        return this;
+    }
+
+    public ByteArrayWriter writeVarLong(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            bytes[size++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        bytes[size++] = (byte) value;
+        return this;
+    }
+
+    public ByteArrayWriter writeVarInt(int value) {
+        return writeVarLong(value & 0xFFFFFFFFL);
+    }
+
+    // 부호 있는 값(차분 등)은 zigzag로 작은 양수로 변환
+    public ByteArrayWriter writeZigZag(long value) {
+        return writeVarLong((value << 1) ^ (value >> 63));
+    }
+
+    // UTF-8 바이트 길이(varint) + 바이트
+    public ByteArrayWriter writeString(String value) {
+        byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(encoded.length);
+        ensureCapacity(encoded.length);
+        System.arraycopy(encoded, 0, bytes, size, encoded.length);
+        size += encoded.length;
+        return this;
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(bytes, size);
+    }
+
+    private void ensureCapacity(int extra) {
+        if (size + extra > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length << 1, size + extra));
+        }
+    }
+}
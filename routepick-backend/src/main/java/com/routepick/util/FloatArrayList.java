@@ -0,0 +1,46 @@
+package com.routepick.util;
+
+import java.util.Arrays;
+
+/**
+ * 박싱 없는 float 가변 배열
+ */
+public final class FloatArrayList {
+
+    private float[] values;
+    private int size;
+
+    public FloatArrayList() {
+        this(16);
+    }
+
+    public FloatArrayList(int initialCapacity) {
+        this.values = new float[Math.max(initialCapacity, 1)];
+    }
+
+    public void add(float value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size << 1);
+        }
+        values[size++] = value;
+    }
+
+    public float get(int index) {
+        if (index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return values[index];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public float[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+}
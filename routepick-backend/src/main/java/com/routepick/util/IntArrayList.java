@@ -0,0 +1,51 @@
+package com.routepick.util;
+
+import java.util.Arrays;
+
+/**
+ * 박싱 없는 int 가변 배열
+ * 대량 로딩 시 List<Integer> 대신 사용
+ */
+public final class IntArrayList {
+
+    private int[] values;
+    private int size;
+
+    public IntArrayList() {
+        this(16);
+    }
+
+    public IntArrayList(int initialCapacity) {
+        this.values = new int[Math.max(initialCapacity, 1)];
+    }
+
+    public void add(int value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size << 1);
+        }
+        values[size++] = value;
+    }
+
+    public int get(int index) {
+        if (index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return values[index];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public int[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+}
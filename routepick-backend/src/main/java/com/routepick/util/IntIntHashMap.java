@@ -0,0 +1,153 @@
+package com.routepick.util;
+
+import java.util.Arrays;
+
+/**
+ * 박싱 없는 int → int 해시 맵 (open addressing, linear probing)
+ * 대량 id → 밀집 인덱스 변환 등 Map<Integer, Integer> 대신 사용
+ */
+public final class IntIntHashMap {
+
+    private static final int FREE_KEY = 0;
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private int[] keys;
+    private int[] values;
+    private int mask;
+    private int size;
+    private int threshold;
+
+    // 키 0은 빈 슬롯 표시와 겹치므로 따로 보관
+    private boolean hasZeroKey;
+    private int zeroValue;
+
+    public IntIntHashMap() {
+        this(16);
+    }
+
+    public IntIntHashMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max((int) (expectedSize / LOAD_FACTOR), 2) - 1) << 1;
+        allocate(capacity);
+    }
+
+    public int get(int key, int defaultValue) {
+        if (key == FREE_KEY) {
+            return hasZeroKey ? zeroValue : defaultValue;
+        }
+        int slot = slot(key);
+        while (keys[slot] != FREE_KEY) {
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return defaultValue;
+    }
+
+    public boolean containsKey(int key) {
+        if (key == FREE_KEY) {
+            return hasZeroKey;
+        }
+        int slot = slot(key);
+        while (keys[slot] != FREE_KEY) {
+            if (keys[slot] == key) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    public void put(int key, int value) {
+        if (key == FREE_KEY) {
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                size++;
+            }
+            zeroValue = value;
+            return;
+        }
+        int slot = slot(key);
+        while (keys[slot] != FREE_KEY) {
+            if (keys[slot] == key) {
+                values[slot] = value;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size > threshold) {
+            rehash(keys.length << 1);
+        }
+    }
+
+    /**
+     * 키가 없을 때만 value 저장
+     * @return 기존 값 (없었으면 value)
+     */
+    public int putIfAbsent(int key, int value) {
+        if (key == FREE_KEY) {
+            if (!hasZeroKey) {
+                put(key, value);
+            }
+            return zeroValue;
+        }
+        int slot = slot(key);
+        while (keys[slot] != FREE_KEY) {
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size > threshold) {
+            rehash(keys.length << 1);
+        }
+        return value;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, FREE_KEY);
+        hasZeroKey = false;
+        size = 0;
+    }
+
+    private int slot(int key) {
+        int h = key * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+        threshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private void rehash(int capacity) {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            int key = oldKeys[i];
+            if (key != FREE_KEY) {
+                int slot = slot(key);
+                while (keys[slot] != FREE_KEY) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+}
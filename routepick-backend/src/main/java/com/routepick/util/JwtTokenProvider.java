@@ -1,6 +1,9 @@
 package com.routepick.util;
 
 import com.routepick.common.Constants;
+import com.routepick.monitoring.HotPathMetrics;
+import com.routepick.monitoring.HotPathStage;
+import com.routepick.security.VerifiedToken;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
@@ -13,21 +16,27 @@ import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import java.util.Collections;
 import java.util.Date;
+import java.util.UUID;
 
 @Slf4j
 @Component
 public class JwtTokenProvider {
 
     private final SecretKey key;
+    private final JwtParser parser;
     private final long accessTokenExpiration;
     private final long refreshTokenExpiration;
+    private final HotPathMetrics hotPathMetrics;
 
     public JwtTokenProvider(@Value("${app.jwt.secret}") String secret,
                           @Value("${app.jwt.access-token-expiration}") long accessTokenExpiration,
-                          @Value("${app.jwt.refresh-token-expiration}") long refreshTokenExpiration) {
+                          @Value("${app.jwt.refresh-token-expiration}") long refreshTokenExpiration,
+                          HotPathMetrics hotPathMetrics) {
         this.key = Keys.hmacShaKeyFor(secret.getBytes());
+        this.parser = Jwts.parser().verifyWith(key).build();
         this.accessTokenExpiration = accessTokenExpiration;
         this.refreshTokenExpiration = refreshTokenExpiration;
+        this.hotPathMetrics = hotPathMetrics;
     }
 
     public String generateAccessToken(Long userId, String email, String userType) {
@@ -49,7 +58,9 @@ public class JwtTokenProvider {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + refreshTokenExpiration);
 
+        // jti로 같은 초에 발급된 refresh token도 서로 구분 (rotation 시 해시 충돌 방지)
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(String.valueOf(userId))
                 .issuedAt(now)
                 .expiration(expiryDate)
@@ -57,10 +68,26 @@ public class JwtTokenProvider {
                 .compact();
     }
 
+    public long getRefreshTokenExpiration() {
+        return refreshTokenExpiration;
+    }
+
     public boolean validateToken(String token) {
+        return parseVerifiedToken(token) != null;
+    }
+
+    /**
+     * 서명/만료 검증과 클레임 추출을 한 번의 파싱으로 처리 (유효하지 않으면 null)
+     */
+    public VerifiedToken parseVerifiedToken(String token) {
         try {
-            Jwts.parser().verifyWith(key).build().parseSignedClaims(token);
-            return true;
+            Claims claims = getClaims(token);
+            return new VerifiedToken(
+                claims.get(Constants.JWT_CLAIMS_USER_ID, Long.class),
+                claims.getSubject(),
+                claims.get(Constants.JWT_CLAIMS_USER_TYPE, String.class),
+                claims.getExpiration().getTime()
+            );
         } catch (MalformedJwtException ex) {
             log.error("Invalid JWT token");
         } catch (ExpiredJwtException ex) {
@@ -69,22 +96,14 @@ public class JwtTokenProvider {
             log.error("Unsupported JWT token");
         } catch (IllegalArgumentException ex) {
             log.error("JWT claims string is empty");
+        } catch (JwtException ex) {
+            log.error("Invalid JWT signature");
         }
-        return false;
+        return null;
     }
 
     public Authentication getAuthentication(String token) {
-        Claims claims = getClaims(token);
-        String email = claims.getSubject();
-        String userType = claims.get(Constants.JWT_CLAIMS_USER_TYPE, String.class);
-        
-        SimpleGrantedAuthority authority = new SimpleGrantedAuthority("ROLE_" + userType);
-        
-        return new UsernamePasswordAuthenticationToken(
-            email, 
-            null, 
-            Collections.singletonList(authority)
-        );
+        return toAuthentication(getClaims(token));
     }
 
     public Long getUserIdFromToken(String token) {
@@ -97,11 +116,26 @@ public class JwtTokenProvider {
         return claims.getSubject();
     }
 
+    private Authentication toAuthentication(Claims claims) {
+        String email = claims.getSubject();
+        String userType = claims.get(Constants.JWT_CLAIMS_USER_TYPE, String.class);
+
+        SimpleGrantedAuthority authority = new SimpleGrantedAuthority("ROLE_" + userType);
+
+        return new UsernamePasswordAuthenticationToken(
+            email,
+            null,
+            Collections.singletonList(authority)
+        );
+    }
+
+    // 모든 파싱 경로가 거치는 곳 (서명 검증 실패로 예외가 나도 기록)
     private Claims getClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        long start = hotPathMetrics.start();
+        try {
+            return parser.parseSignedClaims(token).getPayload();
+        } finally {
+            hotPathMetrics.record(HotPathStage.JWT_PARSE, start);
+        }
     }
 }
\ No newline at end of file
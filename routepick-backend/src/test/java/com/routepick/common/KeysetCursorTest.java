@@ -0,0 +1,50 @@
+package com.routepick.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeysetCursorTest {
+
+    @Test
+    @DisplayName("정렬 값과 id가 타입 그대로 왕복")
+    void roundTrip() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 3, 1, 12, 30, 15, 123_000_000);
+        KeysetCursor decoded = KeysetCursor.decode(new KeysetCursor("createdAt", true, createdAt, 42L).encode());
+
+        assertThat(decoded.getSortProperty()).isEqualTo("createdAt");
+        assertThat(decoded.isDescending()).isTrue();
+        assertThat(decoded.getSortValue()).isEqualTo(createdAt);
+        assertThat(decoded.getId()).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("문자열 정렬 값에 구분자가 있어도 복원")
+    void stringValueWithSeparator() {
+        KeysetCursor decoded = KeysetCursor.decode(new KeysetCursor("title", false, "a|b|c", 7).encode());
+
+        assertThat(decoded.isDescending()).isFalse();
+        assertThat(decoded.getSortValue()).isEqualTo("a|b|c");
+        assertThat(decoded.getId()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("빈 커서는 첫 페이지, 손상된 커서는 거부")
+    void invalidCursor() {
+        assertThat(KeysetCursor.decode(null)).isNull();
+        assertThat(KeysetCursor.decode("")).isNull();
+        assertThatThrownBy(() -> KeysetCursor.decode("not-a-cursor"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("NULL 정렬 값으로는 커서를 만들 수 없음")
+    void nullSortValue() {
+        assertThatThrownBy(() -> new KeysetCursor("publishedAt", true, null, 1L).encode())
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
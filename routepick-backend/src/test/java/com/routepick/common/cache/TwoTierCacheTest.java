@@ -0,0 +1,132 @@
+package com.routepick.common.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Redis를 메모리 맵으로 대신해 getAll이 로컬 → Redis → loader 순으로 채우는지,
+ * 적재 중 무효화된 키를 남기지 않는지 확인
+ */
+class TwoTierCacheTest {
+
+    private static final CacheNamespace NAMESPACE = CacheNamespace.ROUTE_TAG_NAMES;
+
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, Object> valueOperations = mock(ValueOperations.class);
+
+    private final Map<String, Object> redis = new HashMap<>();
+    private final List<String> multiGetKeys = new ArrayList<>();
+    private TwoTierCache cache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.multiGet(anyCollection())).thenAnswer(invocation -> {
+            List<Object> values = new ArrayList<>();
+            for (String key : (Collection<String>) invocation.getArgument(0)) {
+                multiGetKeys.add(key);
+                values.add(redis.get(key));
+            }
+            return values;
+        });
+        when(valueOperations.setIfAbsent(anyString(), any(), anyLong(), eq(TimeUnit.SECONDS)))
+            .thenAnswer(invocation -> redis.putIfAbsent(invocation.getArgument(0), invocation.getArgument(1)) == null);
+        RedisOperations<String, Object> operations = mock(RedisOperations.class);
+        when(operations.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.executePipelined(any(SessionCallback.class))).thenAnswer(invocation -> {
+            ((SessionCallback<Object>) invocation.getArgument(0)).execute(operations);
+            return List.of();
+        });
+        cache = new TwoTierCache(redisTemplate, mock(StringRedisTemplate.class),
+            mock(RedisMessageListenerContainer.class), new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("Redis에 없는 id만 loader로 적재해 두 단계에 저장하고, 다음 조회는 로컬에서 끝남")
+    void loadsOnlyMissingIds() {
+        redis.put(NAMESPACE.key("2"), "two");
+        List<List<String>> loads = new ArrayList<>();
+
+        Map<String, String> first = cache.getAll(NAMESPACE, List.of("1", "2", "3"), String.class, ids -> {
+            loads.add(ids);
+            Map<String, String> loaded = new HashMap<>();
+            for (String id : ids) {
+                loaded.put(id, "loaded-" + id);
+            }
+            return loaded;
+        });
+
+        assertThat(first).containsExactlyInAnyOrderEntriesOf(Map.of("1", "loaded-1", "2", "two", "3", "loaded-3"));
+        assertThat(loads).containsExactly(List.of("1", "3"));
+        assertThat(redis).containsEntry(NAMESPACE.key("1"), "loaded-1").containsEntry(NAMESPACE.key("3"), "loaded-3");
+
+        multiGetKeys.clear();
+        Map<String, String> second = cache.getAll(NAMESPACE, List.of("1", "2", "3"), String.class, ids -> {
+            loads.add(ids);
+            return Map.of();
+        });
+
+        assertThat(second).isEqualTo(first);
+        assertThat(multiGetKeys).isEmpty();
+        assertThat(loads).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("loader가 돌려주지 않은 id는 결과와 캐시에 넣지 않음")
+    void skipsIdsWithoutValue() {
+        Map<String, String> result = cache.getAll(NAMESPACE, List.of("1", "2"), String.class,
+            ids -> Map.of("1", "loaded-1"));
+
+        assertThat(result).containsOnlyKeys("1");
+        assertThat(redis).containsOnlyKeys(NAMESPACE.key("1"));
+    }
+
+    @Test
+    @DisplayName("적재 중 다른 노드의 무효화가 들어온 키는 결과로만 돌려주고 어느 단계에도 저장하지 않음")
+    void invalidationDuringLoadSkipsFill() {
+        Map<String, String> result = cache.getAll(NAMESPACE, List.of("1", "2"), String.class, ids -> {
+            cache.onMessage(new DefaultMessage("cache:invalidate".getBytes(StandardCharsets.UTF_8),
+                ("other-node|" + NAMESPACE.key("1")).getBytes(StandardCharsets.UTF_8)), null);
+            return Map.of("1", "stale-1", "2", "loaded-2");
+        });
+
+        assertThat(result).containsEntry("1", "stale-1").containsEntry("2", "loaded-2");
+        assertThat(redis).containsOnlyKeys(NAMESPACE.key("2"));
+
+        List<List<String>> loads = new ArrayList<>();
+        cache.getAll(NAMESPACE, List.of("1", "2"), String.class, ids -> {
+            loads.add(ids);
+            return Map.of("1", "fresh-1");
+        });
+        assertThat(loads).containsExactly(List.of("1"));
+    }
+}
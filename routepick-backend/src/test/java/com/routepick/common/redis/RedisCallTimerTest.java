@@ -0,0 +1,49 @@
+package com.routepick.common.redis;
+
+import com.routepick.monitoring.HotPathMetrics;
+import com.routepick.monitoring.HotPathStage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RedisCallTimerTest {
+
+    private final HotPathMetrics hotPathMetrics = new HotPathMetrics(new SimpleMeterRegistry(), true, 10, 60_000);
+    private final RedisCallTimer timer = new RedisCallTimer(hotPathMetrics);
+    private final RedisCallTimer otherTemplateTimer = new RedisCallTimer(hotPathMetrics);
+
+    @Test
+    @DisplayName("파이프라인/세션 안의 중첩 호출은 바깥 호출 한 번으로 기록")
+    void nestedCallsRecordedOnce() {
+        String result = timer.time(() -> {
+            timer.time(() -> "get");
+            otherTemplateTimer.time(() -> "set");
+            return timer.time(() -> timer.time(() -> "incr"));
+        });
+
+        assertThat(result).isEqualTo("incr");
+        assertThat(recorded()).isEqualTo(1);
+
+        timer.time(() -> "next");
+        assertThat(recorded()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("예외가 나도 중첩 깊이가 복구되어 다음 호출을 기록")
+    void depthRestoredAfterFailure() {
+        assertThatThrownBy(() -> timer.time(() -> timer.time(() -> {
+            throw new IllegalStateException("connection reset");
+        }))).isInstanceOf(IllegalStateException.class);
+        assertThat(recorded()).isEqualTo(1);
+
+        timer.time(() -> "ok");
+        assertThat(recorded()).isEqualTo(2);
+    }
+
+    private long recorded() {
+        return hotPathMetrics.timer(HotPathStage.REDIS).count();
+    }
+}
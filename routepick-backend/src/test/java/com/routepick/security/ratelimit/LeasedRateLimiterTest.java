@@ -0,0 +1,99 @@
+package com.routepick.security.ratelimit;
+
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.distributed.BucketProxy;
+import io.github.bucket4j.distributed.proxy.ProxyManager;
+import io.github.bucket4j.distributed.proxy.RemoteBucketBuilder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Redis 대신 로컬 버킷에 위임하는 BucketProxy로 임대 크기와 반환 동작 확인
+ */
+class LeasedRateLimiterTest {
+
+    private static final long CAPACITY = 100;
+    private static final int LEASE_SIZE = 5;
+    private static final int LEASE_MIN_RATE = 3;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private Bucket sharedBucket;
+    private ProxyManager<byte[]> proxyManager;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        sharedBucket = Bucket.builder().addLimit(Bandwidth.simple(CAPACITY, Duration.ofHours(1))).build();
+        BucketProxy bucketProxy = mock(BucketProxy.class, delegatesTo(sharedBucket));
+        RemoteBucketBuilder<byte[]> builder = mock(RemoteBucketBuilder.class);
+        when(builder.build(any(byte[].class), any(BucketConfiguration.class))).thenReturn(bucketProxy);
+        proxyManager = mock(ProxyManager.class);
+        when(proxyManager.builder()).thenReturn(builder);
+    }
+
+    @Test
+    @DisplayName("요청이 드문 키는 임대 없이 요청마다 한 개씩 소비")
+    void lowRateKeyDoesNotLease() {
+        LeasedRateLimiter limiter = newLimiter(10_000);
+
+        limiter.tryAcquire(RateLimitPolicy.API, "user:1");
+        limiter.tryAcquire(RateLimitPolicy.API, "user:1");
+
+        assertThat(consumed()).isEqualTo(2);
+        assertThat(remoteCalls()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("요청이 잦은 키는 lease-size까지 묶어 임대해 Redis 호출을 줄임")
+    void hotKeyLeasesInBatches() {
+        LeasedRateLimiter limiter = newLimiter(10_000);
+        int requests = 20;
+
+        for (int i = 0; i < requests; i++) {
+            assertThat(limiter.tryAcquire(RateLimitPolicy.API, "user:2")).isZero();
+        }
+
+        assertThat(consumed()).isBetween((long) requests, (long) requests + LEASE_SIZE - 1);
+        assertThat(remoteCalls()).isLessThan(requests / 2.0);
+    }
+
+    @Test
+    @DisplayName("lease-ttl이 지나도록 쓰지 않은 임대분은 버킷에 반환")
+    void returnsUnusedTokensAfterExpiry() throws InterruptedException {
+        LeasedRateLimiter limiter = newLimiter(50);
+        // 1, 2번째는 한 개씩, 3번째에 3개 임대 후 4번째는 로컬에서 처리 -> 1개 남음
+        for (int i = 0; i < 4; i++) {
+            limiter.tryAcquire(RateLimitPolicy.API, "user:3");
+        }
+        assertThat(consumed()).isEqualTo(5);
+
+        Thread.sleep(80);
+        limiter.returnExpiredLeases();
+
+        assertThat(consumed()).isEqualTo(4);
+    }
+
+    private LeasedRateLimiter newLimiter(long leaseTtlMillis) {
+        return new LeasedRateLimiter(proxyManager, meterRegistry, LEASE_SIZE, leaseTtlMillis, LEASE_MIN_RATE, 1000);
+    }
+
+    private long consumed() {
+        return CAPACITY - sharedBucket.getAvailableTokens();
+    }
+
+    private double remoteCalls() {
+        return meterRegistry.counter("rate_limit.remote.calls").count();
+    }
+}
@@ -0,0 +1,56 @@
+package com.routepick.security.token;
+
+import com.routepick.domain.token.repository.ApiTokenJdbcRepository;
+import com.routepick.domain.token.repository.ApiTokenJdbcRepository.TokenRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class ApiTokenWriteBehindTest {
+
+    @Test
+    @DisplayName("DB 기록이 실패한 묶음은 다음 flush에서 다시 기록")
+    void failedBatchIsRetried() {
+        ApiTokenJdbcRepository repository = mock(ApiTokenJdbcRepository.class);
+        doThrow(new DataAccessResourceFailureException("down"))
+            .doNothing()
+            .when(repository).saveAll(anyList(), anyList());
+        ApiTokenWriteBehind writeBehind = new ApiTokenWriteBehind(repository, 10);
+        TokenRecord record = new TokenRecord(1L, "hash", "REFRESH", System.currentTimeMillis() + 60_000, false);
+
+        writeBehind.recordIssued(record);
+        writeBehind.recordRevoked("revoked");
+        writeBehind.flush();
+        writeBehind.flush();
+
+        verify(repository, times(2)).saveAll(List.of(record), List.of("revoked"));
+    }
+
+    @Test
+    @DisplayName("되돌릴 자리가 없으면 넘치는 만큼만 버림")
+    void requeueIsBounded() {
+        ApiTokenJdbcRepository repository = mock(ApiTokenJdbcRepository.class);
+        ApiTokenWriteBehind writeBehind = new ApiTokenWriteBehind(repository, 2);
+        doThrow(new DataAccessResourceFailureException("down")).when(repository).saveAll(anyList(), anyList());
+        writeBehind.recordRevoked("a");
+        writeBehind.recordRevoked("b");
+        writeBehind.flush();
+
+        // 실패한 묶음이 큐를 다시 채운 상태에서 새 기록은 버려짐
+        writeBehind.recordRevoked("c");
+        doNothing().when(repository).saveAll(anyList(), anyList());
+        writeBehind.flush();
+
+        verify(repository, times(2)).saveAll(List.of(), List.of("a", "b"));
+        verify(repository, times(2)).saveAll(anyList(), anyList());
+    }
+}
@@ -0,0 +1,192 @@
+package com.routepick.security.token;
+
+import com.routepick.common.Constants;
+import com.routepick.domain.token.repository.ApiTokenJdbcRepository;
+import com.routepick.monitoring.HotPathMetrics;
+import com.routepick.security.token.RefreshTokenStore.RefreshTokenGrant;
+import com.routepick.util.HashUtils;
+import com.routepick.util.JwtTokenProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 실제 Redis(Testcontainers)에 대한 refresh token rotation / access token 폐기 검증
+ * Docker가 없으면 건너뜀
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RedisTokenStoreTest {
+
+    private static final String SECRET = "routepick-test-secret-key-that-is-long-enough-for-hs256";
+
+    @Container
+    private static final GenericContainer<?> REDIS =
+        new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static RedisMessageListenerContainer listenerContainer;
+    private static StringRedisTemplate stringRedisTemplate;
+
+    private JwtTokenProvider jwtTokenProvider;
+    private RefreshTokenStore refreshTokenStore;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(
+            new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+
+        listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(connectionFactory);
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+    }
+
+    @AfterAll
+    static void disconnect() throws Exception {
+        listenerContainer.destroy();
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+        HotPathMetrics hotPathMetrics = new HotPathMetrics(new SimpleMeterRegistry(), false, 10, 60_000);
+        jwtTokenProvider = new JwtTokenProvider(SECRET, 60_000, 600_000, hotPathMetrics);
+        refreshTokenStore = new RefreshTokenStore(stringRedisTemplate, jwtTokenProvider, mock(ApiTokenWriteBehind.class));
+    }
+
+    @Test
+    @DisplayName("refresh token은 한 번만 rotation 가능")
+    void rotateConsumesToken() {
+        String refreshToken = refreshTokenStore.issue(1L);
+
+        RefreshTokenGrant grant = refreshTokenStore.rotate(refreshToken);
+
+        assertThat(grant).isNotNull();
+        assertThat(grant.getUserId()).isEqualTo(1L);
+        assertThat(grant.getRefreshToken()).isNotEqualTo(refreshToken);
+        assertThat(refreshTokenStore.rotate(refreshToken)).isNull();
+        assertThat(refreshTokenStore.rotate(grant.getRefreshToken())).isNotNull();
+    }
+
+    @Test
+    @DisplayName("같은 refresh token을 동시에 rotation하면 하나만 성공")
+    void concurrentRotateSucceedsOnce() throws Exception {
+        String refreshToken = refreshTokenStore.issue(2L);
+        int threads = 16;
+        CountDownLatch ready = new CountDownLatch(threads);
+        CountDownLatch go = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<RefreshTokenGrant>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit((Callable<RefreshTokenGrant>) () -> {
+                    ready.countDown();
+                    go.await();
+                    return refreshTokenStore.rotate(refreshToken);
+                }));
+            }
+            ready.await();
+            go.countDown();
+
+            int granted = 0;
+            for (Future<RefreshTokenGrant> result : results) {
+                if (result.get(10, TimeUnit.SECONDS) != null) {
+                    granted++;
+                }
+            }
+            assertThat(granted).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("폐기한 refresh token은 rotation 불가")
+    void revokedRefreshTokenIsRejected() {
+        String refreshToken = refreshTokenStore.issue(3L);
+
+        refreshTokenStore.revoke(refreshToken);
+
+        assertThat(refreshTokenStore.rotate(refreshToken)).isNull();
+    }
+
+    @Test
+    @DisplayName("access token 폐기는 토큰 남은 수명만큼만 유지되고 다른 노드에도 보임")
+    void revokedAccessTokenIsVisibleToOtherNodes() throws InterruptedException {
+        TokenRevocationStore node1 = newRevocationStore();
+        TokenRevocationStore node2 = newRevocationStore();
+        node1.rebuild();
+        node2.rebuild();
+        String tokenHash = HashUtils.sha256Hex(jwtTokenProvider.generateAccessToken(4L, "a@routepick.com", "USER"));
+
+        assertThat(node2.isRevoked(tokenHash)).isFalse();
+        node1.revokeAccessToken(tokenHash, 4L, System.currentTimeMillis() + 30_000);
+
+        assertThat(node1.isRevoked(tokenHash)).isTrue();
+        // node2의 filter에는 pub/sub으로 비동기 반영
+        assertThat(awaitRevoked(node2, tokenHash)).isTrue();
+        Long ttl = stringRedisTemplate.getExpire(Constants.AUTH_REVOKED_TOKEN + tokenHash, TimeUnit.SECONDS);
+        assertThat(ttl).isBetween(1L, 30L);
+    }
+
+    @Test
+    @DisplayName("재구성은 Redis에 남아 있는 폐기 항목을 filter에 반영")
+    void rebuildLoadsExistingRevocations() {
+        String tokenHash = HashUtils.sha256Hex(UUID.randomUUID().toString());
+        stringRedisTemplate.opsForValue().set(Constants.AUTH_REVOKED_TOKEN + tokenHash, "1", 30, TimeUnit.SECONDS);
+
+        TokenRevocationStore store = newRevocationStore();
+        store.rebuild();
+
+        assertThat(store.isRevoked(tokenHash)).isTrue();
+        assertThat(store.isRevoked(HashUtils.sha256Hex(UUID.randomUUID().toString()))).isFalse();
+    }
+
+    private static boolean awaitRevoked(TokenRevocationStore store, String tokenHash) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (System.currentTimeMillis() < deadline) {
+            if (store.isRevoked(tokenHash)) {
+                return true;
+            }
+            Thread.sleep(20);
+        }
+        return false;
+    }
+
+        private TokenRevocationStore newRevocationStore() {
+        return new TokenRevocationStore(stringRedisTemplate, mock(ApiTokenJdbcRepository.class),
+            mock(ApiTokenWriteBehind.class), listenerContainer);
+    }
+}
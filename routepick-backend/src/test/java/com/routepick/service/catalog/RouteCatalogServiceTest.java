@@ -0,0 +1,122 @@
+package com.routepick.service.catalog;
+
+import com.routepick.common.enums.TagType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 스냅샷 복원과 max-age 판단 (기준은 스냅샷을 마지막으로 쓴 시각이 아니라 마지막 전체 적재 시각)
+ */
+class RouteCatalogServiceTest {
+
+    private static final long MAX_AGE_MILLIS = 1000;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("재기동 시 스냅샷에서 복원하고 전체 적재하지 않음")
+    void restoresFromSnapshot() {
+        RouteCatalogSnapshotStore store = store();
+        CountingLoader first = new CountingLoader();
+        RouteCatalogService firstNode = service(first, store, 60_000);
+        firstNode.warmUp();
+        firstNode.saveSnapshot();
+
+        CountingLoader second = new CountingLoader();
+        RouteCatalogService restarted = service(second, store, 60_000);
+        restarted.warmUp();
+
+        assertThat(first.loads).isEqualTo(1);
+        assertThat(second.loads).isZero();
+        assertThat(second.catchUps).isEqualTo(1);
+        assertThat(restarted.getCatalog().size()).isEqualTo(3);
+        assertThat(restarted.getCatalog().tagType(2)).isEqualTo(TagType.TECHNIQUE);
+    }
+
+    @Test
+    @DisplayName("방금 다시 쓴 스냅샷이라도 마지막 전체 적재가 max-age보다 오래됐으면 버림")
+    void ignoresSnapshotWhoseFullLoadIsTooOld() throws Exception {
+        RouteCatalogSnapshotStore store = store();
+        store.write(CountingLoader.CATALOG, 0, System.currentTimeMillis() - 2 * MAX_AGE_MILLIS);
+
+        CountingLoader loader = new CountingLoader();
+        service(loader, store, MAX_AGE_MILLIS).warmUp();
+
+        assertThat(loader.loads).isEqualTo(1);
+        assertThat(loader.catchUps).isZero();
+    }
+
+    @Test
+    @DisplayName("실행 중에도 마지막 전체 적재 후 max-age가 지나면 sync가 catch-up 대신 전체 적재")
+    void syncReloadsFullyAfterMaxAge() throws Exception {
+        RouteCatalogSnapshotStore store = store();
+        store.write(CountingLoader.CATALOG, 0, System.currentTimeMillis() - MAX_AGE_MILLIS / 2);
+        CountingLoader loader = new CountingLoader();
+        RouteCatalogService service = service(loader, store, MAX_AGE_MILLIS);
+
+        service.warmUp();
+        service.sync();
+        assertThat(loader.loads).isZero();
+        assertThat(loader.catchUps).isEqualTo(2);
+
+        Thread.sleep(MAX_AGE_MILLIS);
+        service.sync();
+        assertThat(loader.loads).isEqualTo(1);
+        assertThat(loader.catchUps).isEqualTo(2);
+
+        // sync가 다시 쓴 스냅샷은 새 전체 적재 시각을 가지므로 재기동 시 복원됨
+        CountingLoader restartedLoader = new CountingLoader();
+        service(restartedLoader, store, MAX_AGE_MILLIS).warmUp();
+        assertThat(restartedLoader.loads).isZero();
+    }
+
+    private RouteCatalogSnapshotStore store() {
+        return new RouteCatalogSnapshotStore(directory.resolve("route-catalog.snap").toString());
+    }
+
+    private static RouteCatalogService service(RouteCatalogLoader loader, RouteCatalogSnapshotStore store,
+                                               long maxAgeMillis) {
+        return new RouteCatalogService(loader, store, new SimpleMeterRegistry(), true, 200, maxAgeMillis);
+    }
+
+    /**
+     * MySQL 대신 고정 카탈로그 (catch-up은 변경 없음)
+     */
+    private static class CountingLoader extends RouteCatalogLoader {
+
+        static final RouteCatalog CATALOG = new RouteCatalog(new int[]{1, 2, 3}, new int[]{4, 5, 6},
+            new int[]{0, 1, 1, 3}, new int[]{1, 1, 2}, new float[]{0.5f, 1f, 0.25f},
+            new TagType[]{null, TagType.STYLE, TagType.TECHNIQUE});
+
+        private int loads;
+        private int catchUps;
+
+        CountingLoader() {
+            super(null);
+        }
+
+        @Override
+        public RouteCatalog load() {
+            loads++;
+            return CATALOG;
+        }
+
+        @Override
+        public long currentWatermark() {
+            return System.currentTimeMillis();
+        }
+
+        @Override
+        public RouteCatalog catchUp(RouteCatalog base, long sinceMillis, int limit) {
+            catchUps++;
+            return base;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.routepick.service.catalog;
+
+import com.routepick.common.enums.TagType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 스냅샷 파일 왕복과 손상 감지
+ */
+class RouteCatalogSnapshotStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("쓴 카탈로그와 헤더 값을 그대로 읽음")
+    void roundTrip() throws Exception {
+        RouteCatalog catalog = catalog(new Random(42), 5000);
+        RouteCatalogSnapshotStore store = new RouteCatalogSnapshotStore(directory.resolve("catalog.snap").toString());
+
+        store.write(catalog, 1_700_000_000_000L, 1_699_000_000_000L);
+        RouteCatalogSnapshot snapshot = store.read();
+
+        assertThat(snapshot.getWatermarkMillis()).isEqualTo(1_700_000_000_000L);
+        assertThat(snapshot.getFullLoadedAtMillis()).isEqualTo(1_699_000_000_000L);
+        RouteCatalog read = snapshot.getCatalog();
+        assertThat(read.size()).isEqualTo(catalog.size());
+        for (int i = 0; i < catalog.size(); i++) {
+            assertThat(read.routeId(i)).isEqualTo(catalog.routeId(i));
+            assertThat(read.levelId(i)).isEqualTo(catalog.levelId(i));
+            assertThat(read.tagStart(i)).isEqualTo(catalog.tagStart(i));
+        }
+        for (int p = 0; p < catalog.tagStart(catalog.size()); p++) {
+            assertThat(read.tagId(p)).isEqualTo(catalog.tagId(p));
+            assertThat(read.tagRelevance(p)).isEqualTo(catalog.tagRelevance(p));
+        }
+        for (int tagId = 0; tagId <= catalog.maxTagId(); tagId++) {
+            assertThat(read.tagType(tagId)).isEqualTo(catalog.tagType(tagId));
+        }
+    }
+
+    @Test
+    @DisplayName("본문이 손상되거나 파일이 없으면 null")
+    void corruptedOrMissing() throws Exception {
+        Path path = directory.resolve("catalog.snap");
+        RouteCatalogSnapshotStore store = new RouteCatalogSnapshotStore(path.toString());
+        assertThat(store.read()).isNull();
+
+        store.write(catalog(new Random(1), 100), 0, 0);
+        byte[] bytes = Files.readAllBytes(path);
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(path, bytes);
+
+        assertThat(store.read()).isNull();
+    }
+
+    // 루트당 태그 0~5개, 일부 태그는 유형 없음
+    static RouteCatalog catalog(Random random, int routeCount) {
+        int tagCount = 300;
+        int[] routeIds = new int[routeCount];
+        int[] levelIds = new int[routeCount];
+        int[] tagOffsets = new int[routeCount + 1];
+        int[] tagIds = new int[routeCount * 5];
+        float[] relevance = new float[routeCount * 5];
+        int position = 0;
+        for (int i = 0; i < routeCount; i++) {
+            routeIds[i] = 1 + i * 2;
+            levelIds[i] = 1 + random.nextInt(20);
+            tagOffsets[i] = position;
+            int first = 1 + random.nextInt(tagCount);
+            for (int t = 0, tags = random.nextInt(6); t < tags; t++) {
+                tagIds[position] = 1 + (first + t * 11) % tagCount;
+                relevance[position] = random.nextFloat();
+                position++;
+            }
+        }
+        tagOffsets[routeCount] = position;
+        TagType[] tagTypes = new TagType[tagCount + 1];
+        for (int tagId = 1; tagId <= tagCount; tagId++) {
+            tagTypes[tagId] = tagId % 10 == 0 ? null : TagType.values()[tagId % TagType.values().length];
+        }
+        return new RouteCatalog(routeIds, levelIds, tagOffsets,
+            Arrays.copyOf(tagIds, position), Arrays.copyOf(relevance, position), tagTypes);
+    }
+}
@@ -0,0 +1,140 @@
+package com.routepick.service.counter;
+
+import com.routepick.domain.counter.repository.CounterJdbcRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 요청 스레드의 증감과 주기적 flush가 겹쳐도 증감분이 유실/중복되지 않는지 확인
+ */
+class CounterServiceConcurrencyTest {
+
+    private static final int WRITERS = 8;
+    private static final int INCREMENTS_PER_WRITER = 20_000;
+    private static final int HOT_IDS = 5;
+
+    @Test
+    @DisplayName("flush와 동시에 증가해도 모든 증감분이 정확히 한 번 반영")
+    void concurrentIncrementsAreFlushedExactlyOnce() throws Exception {
+        RecordingRepository repository = new RecordingRepository(0);
+        CounterService counterService = newCounterService(repository);
+
+        runWritersWhileFlushing(counterService);
+        counterService.flush();
+
+        long expectedPerId = (long) WRITERS * INCREMENTS_PER_WRITER / HOT_IDS;
+        for (int id = 1; id <= HOT_IDS; id++) {
+            assertThat(repository.stored(CounterType.POST_LIKE, id)).isEqualTo(expectedPerId);
+            assertThat(counterService.pending(CounterType.POST_LIKE, id)).isZero();
+        }
+        assertThat(repository.unsortedBatches.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("반영이 실패한 증감분은 다음 flush에 다시 반영")
+    void failedFlushesAreRequeued() throws Exception {
+        RecordingRepository repository = new RecordingRepository(20);
+        CounterService counterService = newCounterService(repository);
+
+        runWritersWhileFlushing(counterService);
+        while (repository.failuresLeft.get() > 0) {
+            counterService.flush();
+        }
+        counterService.flush();
+
+        long expectedPerId = (long) WRITERS * INCREMENTS_PER_WRITER / HOT_IDS;
+        for (int id = 1; id <= HOT_IDS; id++) {
+            assertThat(repository.stored(CounterType.POST_LIKE, id)).isEqualTo(expectedPerId);
+            assertThat(counterService.pending(CounterType.POST_LIKE, id)).isZero();
+            assertThat(counterService.resolve(CounterType.POST_LIKE, id, (int) repository.stored(CounterType.POST_LIKE, id)))
+                .isEqualTo(expectedPerId);
+        }
+    }
+
+    private static CounterService newCounterService(CounterJdbcRepository repository) {
+        return new CounterService(repository, mock(PlatformTransactionManager.class), new SimpleMeterRegistry());
+    }
+
+    private static void runWritersWhileFlushing(CounterService counterService) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        try {
+            Future<?> flusher = executor.submit(() -> {
+                start.await();
+                while (writing.get()) {
+                    counterService.flush();
+                }
+                return null;
+            });
+            List<Future<?>> writers = new ArrayList<>();
+            for (int w = 0; w < WRITERS; w++) {
+                writers.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < INCREMENTS_PER_WRITER; i++) {
+                        counterService.increment(CounterType.POST_LIKE, i % HOT_IDS + 1);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> writer : writers) {
+                writer.get(30, TimeUnit.SECONDS);
+            }
+            writing.set(false);
+            flusher.get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 반영된 증감분을 메모리에 누적 (처음 failures번은 실패)
+     */
+    private static final class RecordingRepository extends CounterJdbcRepository {
+
+        private final Map<String, Long> stored = new ConcurrentHashMap<>();
+        private final AtomicInteger failuresLeft;
+        private final AtomicInteger unsortedBatches = new AtomicInteger();
+
+        RecordingRepository(int failures) {
+            super(null);
+            this.failuresLeft = new AtomicInteger(failures);
+        }
+
+        @Override
+        public void applyDeltas(CounterType type, int[] ids, long[] deltas, int size) {
+            if (failuresLeft.getAndUpdate(left -> Math.max(left - 1, 0)) > 0) {
+                throw new DataAccessResourceFailureException("simulated failure");
+            }
+            for (int i = 0; i < size; i++) {
+                if (i > 0 && ids[i - 1] >= ids[i]) {
+                    unsortedBatches.incrementAndGet();
+                }
+                stored.merge(type + ":" + ids[i], deltas[i], Long::sum);
+            }
+        }
+
+        long stored(CounterType type, int id) {
+            return stored.getOrDefault(type + ":" + id, 0L);
+        }
+    }
+}
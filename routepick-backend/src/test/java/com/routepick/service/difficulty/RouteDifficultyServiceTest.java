@@ -0,0 +1,200 @@
+package com.routepick.service.difficulty;
+
+import com.routepick.common.enums.DifficultyVote;
+import com.routepick.domain.difficulty.repository.RouteDifficultyJdbcRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 투표/변경/취소를 메모리 저장소에 반영했을 때 집계가 투표 테이블을 다시 센 값과 같은지 확인
+ */
+class RouteDifficultyServiceTest {
+
+    private final InMemoryRouteDifficultyRepository repository = new InMemoryRouteDifficultyRepository();
+    private final RouteDifficultyService service = new RouteDifficultyService(repository,
+        mock(PlatformTransactionManager.class), new SimpleMeterRegistry());
+
+    @Test
+    @DisplayName("투표, 변경, 같은 값 재투표, 취소 순서대로 집계가 바뀜")
+    void voteChangeAndCancel() {
+        service.vote(1, 10, DifficultyVote.EASY);
+        service.vote(1, 11, DifficultyVote.HARD);
+        service.vote(1, 12, DifficultyVote.HARD);
+        assertThat(service.get(1).getVoteCount()).isEqualTo(3);
+        assertThat(service.get(1).getPerceived()).isEqualTo(DifficultyVote.MEDIUM);
+
+        service.vote(1, 10, DifficultyVote.HARD);
+        assertThat(service.get(1).getVoteCount()).isEqualTo(3);
+        assertThat(service.get(1).getVotes(DifficultyVote.EASY)).isZero();
+        assertThat(service.get(1).getPerceived()).isEqualTo(DifficultyVote.HARD);
+
+        int applied = repository.applied;
+        service.vote(1, 10, DifficultyVote.HARD);
+        assertThat(repository.applied).isEqualTo(applied);
+
+        service.cancelVote(1, 10);
+        service.cancelVote(1, 10);
+        assertThat(service.get(1).getVoteCount()).isEqualTo(2);
+        assertThat(service.get(1).getVotes(DifficultyVote.HARD)).isEqualTo(2);
+        assertThat(service.get(2)).isSameAs(RouteDifficulty.EMPTY);
+    }
+
+    @Test
+    @DisplayName("무작위 투표/취소 후 집계가 투표를 다시 센 값과 같음")
+    void matchesRecount() {
+        Random random = new Random(42);
+        for (int i = 0; i < 2000; i++) {
+            int routeId = 1 + random.nextInt(5);
+            int userId = 1 + random.nextInt(20);
+            if (random.nextInt(4) == 0) {
+                service.cancelVote(routeId, userId);
+            } else {
+                service.vote(routeId, userId, DifficultyVote.values()[random.nextInt(DifficultyVote.values().length)]);
+            }
+        }
+
+        for (int routeId = 1; routeId <= 5; routeId++) {
+            assertSameAggregate(service.get(routeId), repository.recount(routeId));
+        }
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 첫 투표가 동시에 INSERT되어 충돌하면 다시 시도해 한 표로 반영")
+    void retriesConcurrentFirstVote() {
+        repository.concurrentInserts = 1;
+
+        service.vote(1, 10, DifficultyVote.HARD);
+
+        assertThat(service.get(1).getVoteCount()).isEqualTo(1);
+        assertThat(service.get(1).getVotes(DifficultyVote.HARD)).isEqualTo(1);
+        assertSameAggregate(service.get(1), repository.recount(1));
+    }
+
+    @Test
+    @DisplayName("충돌이 계속되면 시도 횟수를 넘긴 뒤 예외를 그대로 던짐")
+    void givesUpAfterMaxAttempts() {
+        repository.concurrentInserts = Integer.MAX_VALUE;
+
+        assertThatThrownBy(() -> service.vote(1, 10, DifficultyVote.HARD))
+            .isInstanceOf(DuplicateKeyException.class);
+        assertThat(service.get(1).getVoteCount()).isZero();
+    }
+
+    private static void assertSameAggregate(RouteDifficulty actual, RouteDifficulty expected) {
+        assertThat(actual.getVoteCount()).isEqualTo(expected.getVoteCount());
+        assertThat(actual.getVoteSum()).isEqualTo(expected.getVoteSum());
+        assertThat(actual.getVoteSumSquares()).isEqualTo(expected.getVoteSumSquares());
+        for (DifficultyVote vote : DifficultyVote.values()) {
+            assertThat(actual.getVotes(vote)).isEqualTo(expected.getVotes(vote));
+        }
+    }
+
+    /**
+     * route_difficulty_votes / route_difficulty_stats 대신 메모리 맵
+     * concurrentInserts만큼 첫 투표 INSERT 직전에 다른 트랜잭션이 먼저 커밋한 것처럼 DuplicateKeyException
+     */
+    private static class InMemoryRouteDifficultyRepository extends RouteDifficultyJdbcRepository {
+
+        private final Map<Long, DifficultyVote> votes = new HashMap<>();
+        private final Map<Integer, RouteDifficulty> stats = new HashMap<>();
+        private int concurrentInserts;
+        private int applied;
+
+        InMemoryRouteDifficultyRepository() {
+            super(null, null);
+        }
+
+        @Override
+        public DifficultyVote upsertVote(int routeId, int userId, DifficultyVote vote) {
+            DifficultyVote previous = votes.get(key(routeId, userId));
+            if (previous == null && concurrentInserts > 0) {
+                concurrentInserts--;
+                throw new DuplicateKeyException("Duplicate entry for uk_route_difficulty_votes");
+            }
+            votes.put(key(routeId, userId), vote);
+            return previous;
+        }
+
+        @Override
+        public DifficultyVote deleteVote(int routeId, int userId) {
+            return votes.remove(key(routeId, userId));
+        }
+
+        @Override
+        public void applyDeltas(int[] routeIds, RouteDifficulty[] deltas, int size) {
+            for (int i = 0; i < size; i++) {
+                RouteDifficulty current = stats.getOrDefault(routeIds[i], RouteDifficulty.EMPTY);
+                RouteDifficulty delta = deltas[i];
+                stats.put(routeIds[i], RouteDifficulty.of(current.getVoteCount() + delta.getVoteCount(),
+                    current.getVoteSum() + delta.getVoteSum(),
+                    current.getVoteSumSquares() + delta.getVoteSumSquares(),
+                    current.getVotes(DifficultyVote.EASY) + delta.getVotes(DifficultyVote.EASY),
+                    current.getVotes(DifficultyVote.MEDIUM) + delta.getVotes(DifficultyVote.MEDIUM),
+                    current.getVotes(DifficultyVote.HARD) + delta.getVotes(DifficultyVote.HARD)));
+                applied++;
+            }
+        }
+
+        @Override
+        public Timestamp findAllStats(Map<Integer, RouteDifficulty> into) {
+            into.putAll(stats);
+            return null;
+        }
+
+        @Override
+        public Timestamp findStatsUpdatedSince(Timestamp since, Map<Integer, RouteDifficulty> into) {
+            return findAllStats(into);
+        }
+
+        @Override
+        public Timestamp findStats(Collection<Integer> routeIds, Map<Integer, RouteDifficulty> into) {
+            for (Integer routeId : routeIds) {
+                RouteDifficulty difficulty = stats.get(routeId);
+                if (difficulty != null) {
+                    into.put(routeId, difficulty);
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public Timestamp currentTimestamp() {
+            return new Timestamp(System.currentTimeMillis());
+        }
+
+        RouteDifficulty recount(int routeId) {
+            int count = 0;
+            int sum = 0;
+            int sumSquares = 0;
+            int[] counts = new int[DifficultyVote.values().length];
+            for (Map.Entry<Long, DifficultyVote> entry : votes.entrySet()) {
+                if ((int) (entry.getKey() >> 32) != routeId) {
+                    continue;
+                }
+                DifficultyVote vote = entry.getValue();
+                count++;
+                sum += vote.getScore();
+                sumSquares += vote.getScore() * vote.getScore();
+                counts[vote.ordinal()]++;
+            }
+            return RouteDifficulty.of(count, sum, sumSquares, counts);
+        }
+
+        private static long key(int routeId, int userId) {
+            return ((long) routeId << 32) | userId;
+        }
+    }
+}
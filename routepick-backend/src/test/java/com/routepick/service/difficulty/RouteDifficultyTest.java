@@ -0,0 +1,63 @@
+package com.routepick.service.difficulty;
+
+import com.routepick.common.enums.DifficultyVote;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 투표 변경분과 집계값 계산
+ */
+class RouteDifficultyTest {
+
+    @Test
+    @DisplayName("첫 투표는 해당 값 한 표를 더하는 변경분")
+    void newVote() {
+        RouteDifficulty change = RouteDifficulty.change(null, DifficultyVote.HARD);
+
+        assertThat(change.getVoteCount()).isEqualTo(1);
+        assertThat(change.getVoteSum()).isEqualTo(1);
+        assertThat(change.getVoteSumSquares()).isEqualTo(1);
+        assertThat(change.getVotes(DifficultyVote.HARD)).isEqualTo(1);
+        assertThat(change.getVotes(DifficultyVote.EASY)).isZero();
+    }
+
+    @Test
+    @DisplayName("투표 변경은 개수는 그대로 두고 이전 값을 빼고 새 값을 더함")
+    void changedVote() {
+        RouteDifficulty change = RouteDifficulty.change(DifficultyVote.EASY, DifficultyVote.HARD);
+
+        assertThat(change.getVoteCount()).isZero();
+        assertThat(change.getVoteSum()).isEqualTo(2);
+        assertThat(change.getVoteSumSquares()).isZero();
+        assertThat(change.getVotes(DifficultyVote.EASY)).isEqualTo(-1);
+        assertThat(change.getVotes(DifficultyVote.HARD)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("투표 취소는 이전 값 한 표를 빼는 변경분")
+    void cancelledVote() {
+        RouteDifficulty change = RouteDifficulty.change(DifficultyVote.EASY, null);
+
+        assertThat(change.getVoteCount()).isEqualTo(-1);
+        assertThat(change.getVoteSum()).isEqualTo(1);
+        assertThat(change.getVoteSumSquares()).isEqualTo(-1);
+        assertThat(change.getVotes(DifficultyVote.EASY)).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("평균, 모표준편차, 체감 난이도")
+    void aggregates() {
+        // EASY 1, MEDIUM 1, HARD 2 -> 점수 -1, 0, 1, 1
+        RouteDifficulty difficulty = RouteDifficulty.of(4, 1, 3, 1, 1, 2);
+
+        assertThat(difficulty.getMean()).isEqualTo(0.25);
+        assertThat(difficulty.getStdDev()).isCloseTo(Math.sqrt(3.0 / 4 - 0.0625), within(1e-9));
+        assertThat(difficulty.getPerceived()).isEqualTo(DifficultyVote.MEDIUM);
+        assertThat(RouteDifficulty.EMPTY.getMean()).isZero();
+        assertThat(RouteDifficulty.EMPTY.getStdDev()).isZero();
+        assertThat(RouteDifficulty.EMPTY.getPerceived()).isNull();
+    }
+}
@@ -0,0 +1,192 @@
+package com.routepick.service.feed;
+
+import com.routepick.common.Constants;
+import com.routepick.domain.feed.repository.FeedJdbcRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * inbox/outbox를 메모리 sorted set으로 대신해 페이지를 끝까지 넘겼을 때
+ * 삭제되지 않은 항목이 빠지거나 중복되지 않고 피드 순서대로 나오는지 확인
+ */
+class FeedServiceTest {
+
+    private static final int USER_ID = 1;
+    private static final int POPULAR_THRESHOLD = 10_000;
+
+    private final StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+    private final FeedJdbcRepository feedJdbcRepository = mock(FeedJdbcRepository.class);
+    @SuppressWarnings("unchecked")
+    private final ZSetOperations<String, String> zSetOperations = mock(ZSetOperations.class);
+
+    private final Map<String, List<FeedItem>> sortedSets = new HashMap<>();
+    private final Set<String> deleted = new HashSet<>();
+    private final List<Integer> popularFollowings = new ArrayList<>();
+    private FeedService feedService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        when(stringRedisTemplate.expire(anyString(), any(Duration.class))).thenReturn(true);
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.reverseRangeByScoreWithScores(anyString(), anyDouble(), anyDouble(), anyLong(), anyLong()))
+            .thenAnswer(invocation -> reverseRange(invocation.getArgument(0), invocation.getArgument(2),
+                invocation.getArgument(3), invocation.getArgument(4)));
+        when(feedJdbcRepository.findPopularFollowings(eq(USER_ID), anyInt())).thenReturn(popularFollowings);
+        when(feedJdbcRepository.findActiveActivityIds(any(FeedActivityType.class), any(Collection.class)))
+            .thenAnswer(invocation -> {
+                FeedActivityType type = invocation.getArgument(0);
+                Set<Integer> active = new HashSet<>();
+                for (Integer activityId : (Collection<Integer>) invocation.getArgument(1)) {
+                    if (!deleted.contains(type.getCode() + ":" + activityId)) {
+                        active.add(activityId);
+                    }
+                }
+                return active;
+            });
+        feedService = new FeedService(stringRedisTemplate, feedJdbcRepository, new SimpleMeterRegistry(),
+            800, POPULAR_THRESHOLD, 1000, 14);
+    }
+
+    @Test
+    @DisplayName("페이지 맨 앞 항목들이 삭제되어도 다음 페이지 커서가 inbox의 남은 항목을 건너뛰지 않음")
+    void deletedItemsAtTopOfPage() {
+        // inbox: 100~95, 인기 사용자 outbox: 50~45, inbox의 가장 최근 두 건은 삭제됨
+        for (int i = 0; i < 6; i++) {
+            add(inbox(), new FeedItem(FeedActivityType.POST, 2, 100 + i, 100 - i));
+            add(outbox(3), new FeedItem(FeedActivityType.POST, 3, 200 + i, 50 - i));
+        }
+        popularFollowings.add(3);
+        deleted.add("P:100");
+        deleted.add("P:101");
+
+        FeedPage first = feedService.getFeed(USER_ID, null, 2);
+
+        assertThat(first.getItems()).extracting(FeedItem::getActivityId).containsExactly(102, 103);
+        assertThat(readAll(2)).extracting(FeedItem::getActivityId)
+            .containsExactly(102, 103, 104, 105, 200, 201, 202, 203, 204, 205);
+    }
+
+    @Test
+    @DisplayName("무작위 inbox/outbox와 삭제 항목을 끝까지 넘긴 결과가 전체 병합 결과와 같음")
+    void pagesMatchFullMerge() {
+        Random random = new Random(42);
+        for (int round = 0; round < 200; round++) {
+            sortedSets.clear();
+            deleted.clear();
+            popularFollowings.clear();
+
+            int popularCount = random.nextInt(3);
+            for (int p = 0; p < popularCount; p++) {
+                popularFollowings.add(100 + p);
+            }
+            int activityId = 0;
+            int itemCount = random.nextInt(60);
+            for (int i = 0; i < itemCount; i++) {
+                int source = random.nextInt(popularCount + 1);
+                int actorId = source == 0 ? 2 + random.nextInt(5) : popularFollowings.get(source - 1);
+                // 같은 시각 항목도 섞음
+                FeedItem item = new FeedItem(FeedActivityType.values()[random.nextInt(FeedActivityType.values().length)],
+                    actorId, ++activityId, 1000 + random.nextInt(40));
+                add(source == 0 ? inbox() : outbox(actorId), item);
+                // 인기 사용자가 되기 전 fan-out된 항목은 inbox에도 있음
+                if (source > 0 && random.nextInt(4) == 0) {
+                    add(inbox(), item);
+                }
+                if (random.nextInt(3) == 0) {
+                    deleted.add(item.getType().getCode() + ":" + item.getActivityId());
+                }
+            }
+
+            assertThat(readAll(1 + random.nextInt(5))).isEqualTo(expectedFeed());
+        }
+    }
+
+    private List<FeedItem> readAll(int size) {
+        List<FeedItem> items = new ArrayList<>();
+        String cursor = null;
+        for (int pages = 0; pages < 1000; pages++) {
+            FeedPage page = feedService.getFeed(USER_ID, cursor, size);
+            items.addAll(page.getItems());
+            cursor = page.getNextCursor();
+            if (cursor == null) {
+                return items;
+            }
+        }
+        throw new AssertionError("feed did not end");
+    }
+
+    private List<FeedItem> expectedFeed() {
+        Set<String> seen = new HashSet<>();
+        List<FeedItem> all = new ArrayList<>();
+        for (List<FeedItem> items : sortedSets.values()) {
+            for (FeedItem item : items) {
+                if (!deleted.contains(item.getType().getCode() + ":" + item.getActivityId()) && seen.add(item.toMember())) {
+                    all.add(item);
+                }
+            }
+        }
+        all.sort(FeedItem::compareFeedOrder);
+        return all;
+    }
+
+    private void add(String key, FeedItem item) {
+        sortedSets.computeIfAbsent(key, k -> new ArrayList<>()).add(item);
+    }
+
+    // ZREVRANGEBYSCORE key max 0 WITHSCORES LIMIT offset count
+    private Set<TypedTuple<String>> reverseRange(String key, double max, long offset, long count) {
+        List<FeedItem> items = new ArrayList<>(sortedSets.getOrDefault(key, List.of()));
+        items.sort(FeedItem::compareFeedOrder);
+        Set<TypedTuple<String>> result = new LinkedHashSet<>();
+        long skipped = 0;
+        for (FeedItem item : items) {
+            if (item.getCreatedAtMillis() > max) {
+                continue;
+            }
+            if (skipped++ < offset) {
+                continue;
+            }
+            if (result.size() == count) {
+                break;
+            }
+            result.add(new DefaultTypedTuple<>(item.toMember(), (double) item.getCreatedAtMillis()));
+        }
+        return result;
+    }
+
+    private static String inbox() {
+        return Constants.FEED_INBOX + USER_ID;
+    }
+
+    private static String outbox(int userId) {
+        return Constants.FEED_OUTBOX + userId;
+    }
+}
@@ -0,0 +1,244 @@
+package com.routepick.service.notification;
+
+import com.routepick.common.enums.NotificationType;
+import com.routepick.domain.notification.repository.DeviceTokenJdbcRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * FCM 대신 응답을 지정할 수 있는 PushSender로 묶음/재시도/토큰 정리 동작 확인
+ * 종료 중에는 발송 재시도를 하지 않으므로 재시도 검증은 발송 횟수를 기다린 뒤 shutdown
+ */
+class PushDispatcherTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final DeviceTokenJdbcRepository deviceTokenJdbcRepository = mock(DeviceTokenJdbcRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private StandInPushSender pushSender;
+
+    @BeforeEach
+    void setUp() {
+        pushSender = new StandInPushSender();
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 LIKE 알림은 한 건으로 합쳐 발송")
+    void coalescesLikes() throws Exception {
+        givenTokens(Map.of(1, List.of("t1")));
+        PushDispatcher dispatcher = newDispatcher();
+
+        for (int i = 0; i < 3; i++) {
+            dispatcher.enqueue(message(1, NotificationType.LIKE, "좋아요", "a님이 좋아합니다"));
+        }
+        dispatcher.shutdown();
+
+        assertThat(pushSender.calls).hasSize(1);
+        assertThat(pushSender.calls.get(0).message.getTitle()).isEqualTo("좋아요 3개");
+        assertThat(pushSender.calls.get(0).message.getBody()).isEqualTo("a님이 좋아합니다 외 2건");
+    }
+
+    @Test
+    @DisplayName("내용이 같은 메시지는 수신자 토큰을 모아 multicast 한 번으로 발송")
+    void groupsSameContent() throws Exception {
+        givenTokens(Map.of(1, List.of("t1"), 2, List.of("t2", "t3"), 3, List.of("t4")));
+        PushDispatcher dispatcher = newDispatcher();
+
+        for (int userId = 1; userId <= 3; userId++) {
+            dispatcher.enqueue(message(userId, NotificationType.SYSTEM, "점검 안내", "오늘 밤 점검"));
+        }
+        dispatcher.dispatch();
+        dispatcher.shutdown();
+
+        assertThat(pushSender.calls).hasSize(1);
+        assertThat(pushSender.calls.get(0).tokens).containsExactlyInAnyOrder("t1", "t2", "t3", "t4");
+    }
+
+    @Test
+    @DisplayName("일시 오류 토큰만 재시도하고, UNREGISTERED 토큰만 삭제")
+    void retriesTransientAndDeletesUnregistered() throws Exception {
+        givenTokens(Map.of(1, List.of("ok", "transient", "unregistered", "bad-argument")));
+        pushSender.respond = tokens -> {
+            if (tokens.size() == 1) {
+                return MulticastResult.allSucceeded(1);
+            }
+            return new MulticastResult(1, List.of("transient"), List.of("unregistered"), 1);
+        };
+        PushDispatcher dispatcher = newDispatcher();
+
+        dispatcher.enqueue(message(1, NotificationType.COMMENT, "댓글", "새 댓글"));
+        dispatcher.dispatch();
+        awaitCalls(2);
+        dispatcher.shutdown();
+
+        assertThat(pushSender.calls).hasSize(2);
+        assertThat(pushSender.calls.get(1).tokens).containsExactly("transient");
+        verify(deviceTokenJdbcRepository).deleteTokens(List.of("unregistered"));
+    }
+
+    @Test
+    @DisplayName("계속 실패하는 토큰은 max-attempts에서 포기")
+    void givesUpAfterMaxAttempts() throws Exception {
+        givenTokens(Map.of(1, List.of("down")));
+        pushSender.respond = MulticastResult::allRetryable;
+        PushDispatcher dispatcher = newDispatcher();
+
+        dispatcher.enqueue(message(1, NotificationType.FOLLOW, "팔로우", "새 팔로워"));
+        dispatcher.dispatch();
+        awaitCalls(MAX_ATTEMPTS);
+        dispatcher.shutdown();
+
+        assertThat(pushSender.calls).hasSize(MAX_ATTEMPTS);
+        verify(deviceTokenJdbcRepository, never()).deleteTokens(anyCollection());
+    }
+
+    @Test
+    @DisplayName("토큰 조회가 실패하면 backoff 후 다시 조회해 발송")
+    void retriesTokenLookup() throws Exception {
+        when(deviceTokenJdbcRepository.findTokensByUserIds(anyCollection()))
+            .thenThrow(new DataAccessResourceFailureException("down"))
+            .thenReturn(Map.of(1, List.of("t1")));
+        PushDispatcher dispatcher = newDispatcher();
+
+        dispatcher.enqueue(message(1, NotificationType.CLIMB, "완등", "축하합니다"));
+        dispatcher.dispatch();
+        dispatcher.shutdown();
+
+        verify(deviceTokenJdbcRepository, times(2)).findTokensByUserIds(anyCollection());
+        assertThat(pushSender.calls).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("토큰은 lookup-batch-size명 단위로 나눠 조회하고, 같은 사용자의 메시지는 같은 묶음으로 조회")
+    void chunksTokenLookup() throws Exception {
+        List<Collection<Integer>> lookups = Collections.synchronizedList(new ArrayList<>());
+        when(deviceTokenJdbcRepository.findTokensByUserIds(anyCollection())).thenAnswer(invocation -> {
+            Collection<Integer> userIds = invocation.getArgument(0);
+            lookups.add(List.copyOf(userIds));
+            Map<Integer, List<String>> tokens = new HashMap<>();
+            for (Integer userId : userIds) {
+                tokens.put(userId, List.of("t" + userId));
+            }
+            return tokens;
+        });
+        PushDispatcher dispatcher = new PushDispatcher(pushSender, deviceTokenJdbcRepository, meterRegistry,
+            100, 0, 2, MAX_ATTEMPTS, 1, 2, 0);
+
+        for (int userId = 1; userId <= 5; userId++) {
+            dispatcher.enqueue(message(userId, NotificationType.SYSTEM, "공지", "새 기능 안내"));
+        }
+        dispatcher.enqueue(message(1, NotificationType.COMMENT, "댓글", "새 댓글"));
+        dispatcher.dispatch();
+        dispatcher.shutdown();
+
+        assertThat(lookups).containsExactly(List.of(1, 2), List.of(3, 4), List.of(5));
+        List<String> delivered = new ArrayList<>();
+        for (Call call : pushSender.calls) {
+            delivered.addAll(call.tokens);
+        }
+        assertThat(delivered).containsExactlyInAnyOrder("t1", "t2", "t3", "t4", "t5", "t1");
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 enqueue가 dispatch로 자리가 날 때까지 기다리고, 시간 안에 자리가 없으면 버림")
+    void waitsForRoomWhenQueueIsFull() throws Exception {
+        givenTokens(Map.of(1, List.of("t1"), 2, List.of("t2"), 3, List.of("t3")));
+        PushDispatcher dispatcher = new PushDispatcher(pushSender, deviceTokenJdbcRepository, meterRegistry,
+            1, 0, 2, MAX_ATTEMPTS, 1, 1000, 5_000);
+
+        dispatcher.enqueue(message(1, NotificationType.FOLLOW, "팔로우", "새 팔로워"));
+        Thread drainer = new Thread(() -> {
+            sleep(100);
+            dispatcher.dispatch();
+        });
+        drainer.start();
+        dispatcher.enqueue(message(2, NotificationType.FOLLOW, "팔로우", "새 팔로워"));
+        drainer.join();
+        dispatcher.shutdown();
+
+        assertThat(pushSender.calls).extracting(call -> call.tokens).containsExactlyInAnyOrder(List.of("t1"), List.of("t2"));
+        assertThat(meterRegistry.counter("push.enqueue.throttled").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("push.dropped").count()).isZero();
+
+        PushDispatcher full = new PushDispatcher(pushSender, deviceTokenJdbcRepository, meterRegistry,
+            1, 0, 2, MAX_ATTEMPTS, 1, 1000, 50);
+        full.enqueue(message(3, NotificationType.FOLLOW, "팔로우", "새 팔로워"));
+        full.enqueue(message(3, NotificationType.FOLLOW, "팔로우", "또 다른 팔로워"));
+        full.shutdown();
+
+        assertThat(meterRegistry.counter("push.dropped").count()).isEqualTo(1);
+    }
+
+    private PushDispatcher newDispatcher() {
+        return new PushDispatcher(pushSender, deviceTokenJdbcRepository, meterRegistry,
+            100, 0, 2, MAX_ATTEMPTS, 1, 1000, 0);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void awaitCalls(int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (pushSender.calls.size() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private void givenTokens(Map<Integer, List<String>> tokens) {
+        when(deviceTokenJdbcRepository.findTokensByUserIds(anyCollection())).thenReturn(new HashMap<>(tokens));
+    }
+
+    private static PushMessage message(int userId, NotificationType type, String title, String body) {
+        return new PushMessage(userId, type, title, body, null, null, System.currentTimeMillis());
+    }
+
+    /**
+     * FCM 대역: 받은 요청을 기록하고 respond로 정한 결과를 돌려줌 (기본은 모두 성공)
+     */
+    private static final class StandInPushSender implements PushSender {
+
+        private final List<Call> calls = Collections.synchronizedList(new ArrayList<>());
+        private volatile Function<List<String>, MulticastResult> respond = tokens -> MulticastResult.allSucceeded(tokens.size());
+
+        @Override
+        public MulticastResult sendMulticast(PushMessage message, List<String> tokens) {
+            calls.add(new Call(message, List.copyOf(tokens)));
+            return respond.apply(tokens);
+        }
+    }
+
+    private static final class Call {
+
+        private final PushMessage message;
+        private final List<String> tokens;
+
+        Call(PushMessage message, List<String> tokens) {
+            this.message = message;
+            this.tokens = tokens;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.routepick.service.payment;
+
+import com.routepick.domain.payment.repository.WebhookJdbcRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * webhook_logs 유니크 키를 메모리 집합으로 대신해 이벤트 ID가 없는 재전송도 중복으로 걸러지는지 확인
+ */
+class WebhookIngestServiceTest {
+
+    private static final String PROVIDER = "toss";
+
+    private final WebhookJdbcRepository webhookJdbcRepository = mock(WebhookJdbcRepository.class);
+    private final WebhookDispatcher webhookDispatcher = mock(WebhookDispatcher.class);
+    private final Set<String> storedKeys = new HashSet<>();
+    private final List<String> insertedEventIds = new ArrayList<>();
+    private WebhookIngestService webhookIngestService;
+
+    @BeforeEach
+    void setUp() {
+        when(webhookDispatcher.dispatch(any())).thenReturn(true);
+        when(webhookJdbcRepository.insert(anyString(), any(), anyString(), anyString(), any(), anyInt()))
+            .thenAnswer(invocation -> {
+                String providerEventId = invocation.getArgument(1);
+                insertedEventIds.add(providerEventId);
+                if (!storedKeys.add(invocation.getArgument(0) + "|" + providerEventId)) {
+                    throw new DuplicateKeyException("uk_webhook_logs_provider_event");
+                }
+                return (long) storedKeys.size();
+            });
+        webhookIngestService = new WebhookIngestService(webhookJdbcRepository, webhookDispatcher,
+            new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("이벤트 ID가 있으면 그대로 키로 써서 재전송을 중복으로 처리")
+    void usesProviderEventId() {
+        assertThat(webhookIngestService.receive(PROVIDER, "evt-1", "PAYMENT_DONE", "{\"a\":1}", 1)).isTrue();
+        assertThat(webhookIngestService.receive(PROVIDER, "evt-1", "PAYMENT_DONE", "{\"a\":1}", 1)).isFalse();
+
+        assertThat(insertedEventIds).containsOnly("evt-1");
+    }
+
+    @Test
+    @DisplayName("이벤트 ID가 없거나 비어 있으면 event_type + payload 해시를 키로 써서 같은 내용의 재전송만 중복으로 처리")
+    void derivesKeyWithoutProviderEventId() {
+        assertThat(webhookIngestService.receive(PROVIDER, null, "PAYMENT_DONE", "{\"a\":1}", 1)).isTrue();
+        assertThat(webhookIngestService.receive(PROVIDER, " ", "PAYMENT_DONE", "{\"a\":1}", 1)).isFalse();
+        assertThat(webhookIngestService.receive(PROVIDER, null, "PAYMENT_DONE", "{\"a\":2}", 1)).isTrue();
+        assertThat(webhookIngestService.receive(PROVIDER, null, "PAYMENT_CANCELED", "{\"a\":1}", 1)).isTrue();
+
+        assertThat(insertedEventIds).doesNotContainNull()
+            .allSatisfy(eventId -> assertThat(eventId).startsWith("payload:").hasSizeLessThanOrEqualTo(100));
+    }
+}
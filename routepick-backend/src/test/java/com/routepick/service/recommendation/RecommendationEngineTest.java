@@ -0,0 +1,162 @@
+package com.routepick.service.recommendation;
+
+import com.routepick.common.Constants;
+import com.routepick.common.enums.TagType;
+import com.routepick.monitoring.HotPathMetrics;
+import com.routepick.service.catalog.RouteCatalog;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * posting list 병합/상한 가지치기 결과가 루트마다 점수를 따로 계산한 상위 K개와 같은지 확인
+ * relevance는 0.25 단위라 float 곱과 합계가 정확해 계산 순서가 달라도 점수가 같음
+ */
+class RecommendationEngineTest {
+
+    private static final int ROUTES = 2000;
+    private static final int TAGS = 40;
+    private static final int LEVELS = 20;
+
+    @Test
+    @DisplayName("협업 점수가 섞여도 상위 추천이 루트별 계산 결과와 같음")
+    void matchesEveryRouteWithCollaborativeScores() {
+        assertMatchesEveryRoute(0.2);
+    }
+
+    @Test
+    @DisplayName("협업 가중치 0이면 태그/레벨만으로 계산한 결과와 같음")
+    void matchesEveryRouteWithoutCollaborativeWeight() {
+        assertMatchesEveryRoute(0);
+    }
+
+    @Test
+    @DisplayName("협업 점수가 높은 루트는 태그가 맞지 않아도 추천됨")
+    void collaborativeScoreRecommendsUntaggedRoute() {
+        RouteCatalog catalog = catalog(new Random(1));
+        RecommendationEngine engine = engine(0.2);
+        // 선호 태그와 레벨이 없어 레벨 기본 점수만으로는 어떤 루트도 기준 미달
+        UserPreference preference = new UserPreference(1, new int[0], new float[0], UserPreference.NO_LEVEL);
+        int routeId = catalog.routeId(catalog.size() / 2);
+        assertThat(engine.score(catalog, preference).size()).isZero();
+        assertThat(routeIds(engine.score(catalog, preference))).doesNotContain(routeId);
+
+        RecommendationResult result = engine.score(catalog,
+            preference.withCollaborativeScores(Map.of(routeId, 100.0)));
+        assertThat(routeIds(result)).contains(routeId);
+    }
+
+    private static void assertMatchesEveryRoute(double collaborativeWeight) {
+        Random random = new Random(42);
+        RouteCatalog catalog = catalog(random);
+        RecommendationEngine engine = engine(collaborativeWeight);
+        for (int round = 0; round < 200; round++) {
+            UserPreference preference = user(random, round + 1);
+            RecommendationResult expected = scoreEveryRoute(engine, catalog, preference);
+
+            assertSameResult(engine.score(catalog, preference), expected);
+            assertSameResult(engine.scoreFullScan(catalog, preference), expected);
+        }
+    }
+
+    private static RecommendationEngine engine(double collaborativeWeight) {
+        return new RecommendationEngine(new HotPathMetrics(new SimpleMeterRegistry(), false, 10, 60_000),
+            collaborativeWeight);
+    }
+
+    // 점수 내림차순, 동점이면 route_id 오름차순 상위 MAX_RECOMMENDATIONS_PER_USER개
+    private static RecommendationResult scoreEveryRoute(RecommendationEngine engine, RouteCatalog catalog,
+                                                        UserPreference preference) {
+        List<RecommendationResult> qualified = new ArrayList<>();
+        for (int index = 0; index < catalog.size(); index++) {
+            RecommendationResult single = engine.scoreRoute(catalog, preference, index);
+            if (single.size() > 0) {
+                qualified.add(single);
+            }
+        }
+        qualified.sort((a, b) -> a.score(0) != b.score(0)
+            ? Double.compare(b.score(0), a.score(0))
+            : Integer.compare(a.routeId(0), b.routeId(0)));
+        RecommendationResult result = new RecommendationResult(preference.getUserId(), Constants.MAX_RECOMMENDATIONS_PER_USER);
+        for (int i = 0; i < Math.min(qualified.size(), Constants.MAX_RECOMMENDATIONS_PER_USER); i++) {
+            RecommendationResult single = qualified.get(i);
+            result.add(single.routeId(0), single.score(0), single.tagScore(0), single.levelScore(0));
+        }
+        return result;
+    }
+
+    private static void assertSameResult(RecommendationResult actual, RecommendationResult expected) {
+        assertThat(actual.size()).isEqualTo(expected.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(actual.routeId(i)).isEqualTo(expected.routeId(i));
+            assertThat(actual.score(i)).isEqualTo(expected.score(i));
+            assertThat(actual.tagScore(i)).isEqualTo(expected.tagScore(i));
+            assertThat(actual.levelScore(i)).isEqualTo(expected.levelScore(i));
+        }
+    }
+
+    private static List<Integer> routeIds(RecommendationResult result) {
+        List<Integer> routeIds = new ArrayList<>(result.size());
+        for (int i = 0; i < result.size(); i++) {
+            routeIds.add(result.routeId(i));
+        }
+        return routeIds;
+    }
+
+    // 루트당 태그 0~4개, route_id는 비연속
+    private static RouteCatalog catalog(Random random) {
+        int[] routeIds = new int[ROUTES];
+        int[] levelIds = new int[ROUTES];
+        int[] tagOffsets = new int[ROUTES + 1];
+        int[] tagIds = new int[ROUTES * 4];
+        float[] relevance = new float[ROUTES * 4];
+        int position = 0;
+        for (int i = 0; i < ROUTES; i++) {
+            routeIds[i] = 1 + i * 3;
+            levelIds[i] = 1 + random.nextInt(LEVELS);
+            tagOffsets[i] = position;
+            int first = 1 + random.nextInt(TAGS);
+            for (int t = 0, tags = random.nextInt(5); t < tags; t++) {
+                tagIds[position] = 1 + (first + t * 7) % TAGS;
+                relevance[position] = (1 + random.nextInt(4)) * 0.25f;
+                position++;
+            }
+        }
+        tagOffsets[ROUTES] = position;
+        TagType[] tagTypes = new TagType[TAGS + 1];
+        for (int tagId = 1; tagId <= TAGS; tagId++) {
+            tagTypes[tagId] = TagType.values()[tagId % TagType.values().length];
+        }
+        return new RouteCatalog(routeIds, levelIds, tagOffsets,
+            Arrays.copyOf(tagIds, position), Arrays.copyOf(relevance, position), tagTypes);
+    }
+
+    // 선호 태그 0~5개, 5명 중 1명은 레벨 미설정, 협업 점수 루트 0~300개 (카탈로그에 없는 루트 포함)
+    private static UserPreference user(Random random, long userId) {
+        // user_preferred_tags는 (user_id, tag_id)가 유일
+        int tags = random.nextInt(6);
+        int[] tagIds = new int[tags];
+        float[] weights = new float[tags];
+        String[] levels = {"HIGH", "MEDIUM", "LOW"};
+        int first = random.nextInt(TAGS);
+        for (int t = 0; t < tags; t++) {
+            tagIds[t] = 1 + (first + t * 3) % TAGS;
+            weights[t] = UserPreference.preferenceWeight(levels[random.nextInt(levels.length)]);
+        }
+        int levelId = random.nextInt(5) == 0 ? UserPreference.NO_LEVEL : 1 + random.nextInt(LEVELS);
+        Map<Integer, Double> collaborativeScores = new HashMap<>();
+        for (int i = 0, count = random.nextInt(301); i < count; i++) {
+            collaborativeScores.put(1 + random.nextInt(ROUTES * 3), random.nextInt(10_001) / 100.0);
+        }
+        return new UserPreference(userId, tagIds, weights, levelId).withCollaborativeScores(collaborativeScores);
+    }
+}
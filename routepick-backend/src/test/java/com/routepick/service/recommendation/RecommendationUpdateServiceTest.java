@@ -0,0 +1,129 @@
+package com.routepick.service.recommendation;
+
+import com.routepick.common.enums.TagType;
+import com.routepick.domain.recommendation.repository.RecommendationJdbcRepository;
+import com.routepick.service.catalog.RouteCatalog;
+import com.routepick.service.catalog.RouteCatalogService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 루트 변경 시 레벨만으로 기준을 넘는 사용자를 페이지로 나눠 빠짐없이 한 번씩 재계산하는지,
+ * 상한을 넘으면 그 수에서 멈추는지 확인
+ */
+class RecommendationUpdateServiceTest {
+
+    private static final int ROUTE_ID = 7;
+    private static final int ROUTE_LEVEL = 5;
+
+    private final RouteCatalogService routeCatalogService = mock(RouteCatalogService.class);
+    private final RecommendationEngine recommendationEngine = mock(RecommendationEngine.class);
+    private final RecommendationJdbcRepository recommendationJdbcRepository = mock(RecommendationJdbcRepository.class);
+    private final RouteNeighborService routeNeighborService = mock(RouteNeighborService.class);
+
+    private final Map<Integer, TreeSet<Long>> usersByLevel = new HashMap<>();
+    private final List<List<Long>> rescoredChunks = new ArrayList<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        RouteCatalog catalog = new RouteCatalog(new int[]{ROUTE_ID}, new int[]{ROUTE_LEVEL},
+            new int[]{0, 1}, new int[]{3}, new float[]{1f}, new TagType[]{null, null, null, TagType.values()[0]});
+        when(routeCatalogService.refreshRoute(ROUTE_ID)).thenReturn(catalog);
+        when(recommendationEngine.maxLevelOnlyDistance()).thenReturn(1);
+        when(recommendationEngine.scoreRoute(eq(catalog), any(), anyInt()))
+            .thenAnswer(invocation -> new RecommendationResult(0, 0));
+        when(routeNeighborService.withCollaborativeScores(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        when(recommendationJdbcRepository.findUserIdsRecommendedRoute(ROUTE_ID)).thenReturn(List.of(1L));
+        when(recommendationJdbcRepository.findUserIdsPreferringTags(anyCollection())).thenReturn(List.of(5L));
+        when(recommendationJdbcRepository.findUserIdsAtLevel(anyInt(), anyLong(), anyInt())).thenAnswer(invocation -> {
+            TreeSet<Long> users = usersByLevel.getOrDefault((Integer) invocation.getArgument(0), new TreeSet<>());
+            List<Long> page = new ArrayList<>();
+            for (Long userId : users.tailSet(invocation.getArgument(1), false)) {
+                if (page.size() == (Integer) invocation.getArgument(2)) {
+                    break;
+                }
+                page.add(userId);
+            }
+            return page;
+        });
+        when(recommendationJdbcRepository.findUserPreferences(anyCollection())).thenAnswer(invocation -> {
+            rescoredChunks.add(new ArrayList<>((Collection<Long>) invocation.getArgument(0)));
+            return new HashMap<>();
+        });
+    }
+
+    @Test
+    @DisplayName("레벨 구간 사용자를 1000명 이하 페이지로 모두 한 번씩 재계산 (태그/기존 추천으로 재계산한 사용자 제외)")
+    void rescoresLevelRangeInPages() {
+        addUsers(ROUTE_LEVEL - 1, 1, 1500);
+        addUsers(ROUTE_LEVEL, 1000, 2600);
+        addUsers(ROUTE_LEVEL + 2, 5000, 5100);
+
+        service(100_000).onRouteChanged(ROUTE_ID);
+
+        List<Long> rescored = new ArrayList<>();
+        for (List<Long> chunk : rescoredChunks) {
+            assertThat(chunk).hasSizeLessThanOrEqualTo(1000);
+            rescored.addAll(chunk);
+        }
+        Set<Long> expected = new HashSet<>();
+        for (long userId = 1; userId <= 2600; userId++) {
+            expected.add(userId);
+        }
+        assertThat(rescored).doesNotHaveDuplicates().containsExactlyInAnyOrderElementsOf(expected);
+        assertThat(meterRegistry.counter("recommendation.update.level_only.truncated").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("레벨만으로 재계산할 사용자가 상한을 넘으면 상한까지만 재계산하고 카운터 증가")
+    void stopsAtLevelOnlyLimit() {
+        addUsers(ROUTE_LEVEL, 1, 3000);
+
+        service(1200).onRouteChanged(ROUTE_ID);
+
+        List<Long> rescored = new ArrayList<>();
+        rescoredChunks.forEach(rescored::addAll);
+        // 기존 추천 1, 선호 태그 5 + 레벨만 1200명
+        assertThat(rescored).doesNotHaveDuplicates().hasSize(2 + 1200);
+        assertThat(meterRegistry.counter("recommendation.update.level_only.truncated").count()).isEqualTo(1);
+    }
+
+    private RecommendationUpdateService service(int levelOnlyMaxUsers) {
+        return new RecommendationUpdateService(routeCatalogService, recommendationEngine,
+            mock(RecommendationService.class), recommendationJdbcRepository, routeNeighborService,
+            mock(RecommendationCache.class), mock(RecommendationCardService.class),
+            mock(PlatformTransactionManager.class), meterRegistry, levelOnlyMaxUsers);
+    }
+
+    private void addUsers(int levelId, long fromUserId, long toUserId) {
+        TreeSet<Long> users = usersByLevel.computeIfAbsent(levelId, level -> new TreeSet<>());
+        for (long userId = fromUserId; userId <= toUserId; userId++) {
+            users.add(userId);
+        }
+    }
+}
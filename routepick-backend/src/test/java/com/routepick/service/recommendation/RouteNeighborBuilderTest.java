@@ -0,0 +1,160 @@
+package com.routepick.service.recommendation;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 병렬 CSR 계산 결과가 루트 쌍마다 공동 사용자를 직접 센 유사도 상위 N개와 같은지 확인
+ * 동점은 어느 루트가 남아도 되므로 순위별 점수와, 남은 루트 각각의 점수를 비교
+ */
+class RouteNeighborBuilderTest {
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    @DisplayName("무작위 기록의 유사 루트가 직접 센 결과와 같음 (중복 기록, 표본 추출 포함)")
+    void matchesBruteForce() {
+        Random random = new Random(42);
+        for (int round = 0; round < 30; round++) {
+            int users = 1 + random.nextInt(300);
+            int routes = 1 + random.nextInt(200);
+            int topN = 1 + random.nextInt(20);
+            int minSupport = 1 + random.nextInt(3);
+            int maxRoutesPerUser = 1 + random.nextInt(40);
+
+            RouteNeighborBuilder builder = new RouteNeighborBuilder();
+            List<int[]> interactions = new ArrayList<>();
+            for (int i = 0, count = random.nextInt(5000); i < count; i++) {
+                // 인기 루트/활동 많은 사용자가 몰리도록 치우친 분포, route_id는 비연속
+                int userId = 1 + (int) (users * Math.pow(random.nextDouble(), 2));
+                int routeId = 10 + 7 * (int) (routes * Math.pow(random.nextDouble(), 2));
+                builder.add(userId, routeId);
+                interactions.add(new int[]{userId, routeId});
+            }
+
+            RouteNeighborBuilder.Neighbors neighbors = builder.build(pool, topN, minSupport, maxRoutesPerUser);
+            assertMatches(neighbors, bruteForce(interactions, minSupport, maxRoutesPerUser), topN);
+        }
+    }
+
+    @Test
+    @DisplayName("공동 사용자 수가 min-support 미만인 쌍은 제외")
+    void minSupport() {
+        RouteNeighborBuilder builder = new RouteNeighborBuilder();
+        // 1,2는 사용자 세 명이 함께, 1,3은 한 명만 함께 기록
+        for (int userId = 1; userId <= 3; userId++) {
+            builder.add(userId, 1);
+            builder.add(userId, 2);
+        }
+        builder.add(3, 3);
+        builder.add(4, 3);
+
+        RouteNeighborBuilder.Neighbors neighbors = builder.build(pool, 10, 2, 500);
+
+        int route1 = indexOf(neighbors, 1);
+        assertThat(neighbors.neighborCount(route1)).isEqualTo(1);
+        assertThat(neighbors.neighborRouteId(route1, 0)).isEqualTo(2);
+        assertThat(neighbors.score(route1, 0)).isEqualTo(1f);
+        assertThat(neighbors.neighborCount(indexOf(neighbors, 3))).isZero();
+    }
+
+    private static void assertMatches(RouteNeighborBuilder.Neighbors neighbors,
+                                      Map<Integer, Map<Integer, Float>> expected, int topN) {
+        assertThat(neighbors.routeCount()).isEqualTo(expected.size());
+        for (int index = 0; index < neighbors.routeCount(); index++) {
+            Map<Integer, Float> scores = expected.get(neighbors.routeId(index));
+            List<Float> ranked = new ArrayList<>(scores.values());
+            ranked.sort((a, b) -> Float.compare(b, a));
+            int count = Math.min(topN, ranked.size());
+
+            assertThat(neighbors.neighborCount(index)).isEqualTo(count);
+            for (int rank = 0; rank < count; rank++) {
+                int neighborRouteId = neighbors.neighborRouteId(index, rank);
+                assertThat(neighbors.score(index, rank)).isEqualTo(ranked.get(rank));
+                assertThat(scores.get(neighborRouteId)).isEqualTo(neighbors.score(index, rank));
+            }
+        }
+    }
+
+    // 루트 쌍마다 공동 사용자 수를 직접 셈 (표본 추출은 builder와 같이 최초 등장 순서 인덱스 기준 균등 간격)
+    private static Map<Integer, Map<Integer, Float>> bruteForce(List<int[]> interactions, int minSupport,
+                                                               int maxRoutesPerUser) {
+        Map<Integer, Integer> routeIndexes = new LinkedHashMap<>();
+        Map<Integer, TreeSet<Integer>> userRoutes = new HashMap<>();
+        for (int[] interaction : interactions) {
+            int index = routeIndexes.computeIfAbsent(interaction[1], routeId -> routeIndexes.size());
+            userRoutes.computeIfAbsent(interaction[0], userId -> new TreeSet<>()).add(index);
+        }
+        List<Integer> routeIds = new ArrayList<>(routeIndexes.keySet());
+
+        Map<Integer, List<Integer>> routeUsers = new HashMap<>();
+        Map<Integer, List<Integer>> sampledUserRoutes = new HashMap<>();
+        for (Map.Entry<Integer, TreeSet<Integer>> entry : userRoutes.entrySet()) {
+            List<Integer> routes = new ArrayList<>(entry.getValue());
+            List<Integer> sampled = routes;
+            if (routes.size() > maxRoutesPerUser) {
+                sampled = new ArrayList<>(maxRoutesPerUser);
+                for (int i = 0; i < maxRoutesPerUser; i++) {
+                    sampled.add(routes.get((int) ((long) i * routes.size() / maxRoutesPerUser)));
+                }
+            }
+            sampledUserRoutes.put(entry.getKey(), sampled);
+            for (int route : sampled) {
+                routeUsers.computeIfAbsent(route, r -> new ArrayList<>()).add(entry.getKey());
+            }
+        }
+
+        Map<Integer, Map<Integer, Float>> result = new HashMap<>();
+        for (int route = 0; route < routeIds.size(); route++) {
+            Map<Integer, Float> scores = new HashMap<>();
+            result.put(routeIds.get(route), scores);
+            List<Integer> users = routeUsers.getOrDefault(route, List.of());
+            if (users.size() < minSupport) {
+                continue;
+            }
+            for (int other = 0; other < routeIds.size(); other++) {
+                List<Integer> otherUsers = routeUsers.getOrDefault(other, List.of());
+                if (other == route || otherUsers.isEmpty()) {
+                    continue;
+                }
+                int coCount = 0;
+                for (int user : users) {
+                    if (sampledUserRoutes.get(user).contains(other)) {
+                        coCount++;
+                    }
+                }
+                if (coCount >= minSupport) {
+                    scores.put(routeIds.get(other),
+                        (float) (coCount / Math.sqrt((double) users.size() * otherUsers.size())));
+                }
+            }
+        }
+        return result;
+    }
+
+    private static int indexOf(RouteNeighborBuilder.Neighbors neighbors, int routeId) {
+        for (int index = 0; index < neighbors.routeCount(); index++) {
+            if (neighbors.routeId(index) == routeId) {
+                return index;
+            }
+        }
+        throw new AssertionError("route " + routeId + " not found");
+    }
+}
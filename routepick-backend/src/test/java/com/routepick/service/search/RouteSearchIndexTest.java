@@ -0,0 +1,181 @@
+package com.routepick.service.search;
+
+import com.routepick.common.enums.TagType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 색인 결과와 facet 개수를 문서 전체를 훑는 계산과 비교
+ * 지점/드문 태그는 성긴 int 배열, 레벨/인기 태그는 비트 배열이 되는 크기로 만들고
+ * 결과가 거의 전체인 질의를 섞어 두 표현과 세 가지 집계 방법을 모두 거침
+ */
+class RouteSearchIndexTest {
+
+    private static final int ROUTES = 10_000;
+    private static final int BRANCHES = 200;
+    private static final int LEVELS = 20;
+    private static final int TAGS = 300;
+    private static final int POPULAR_TAGS = 10;
+    private static final String[] ANGLES = {"VERTICAL", "SLIGHT_OVERHANG", "OVERHANG", "ROOF"};
+    private static final String[] COLORS = {"red", "blue", "green", "black"};
+
+    private final Random random = new Random(42);
+    private final TagType[] tagTypeById = new TagType[TAGS + 1];
+    private final Map<Integer, RouteDocument> routes = new HashMap<>();
+
+    @Test
+    @DisplayName("변경/삭제가 섞인 색인의 결과와 facet 개수가 전체 계산과 같음")
+    void matchesBruteForce() {
+        for (int tagId = 1; tagId <= TAGS; tagId++) {
+            tagTypeById[tagId] = TagType.values()[tagId % TagType.values().length];
+        }
+        RouteSearchIndex index = new RouteSearchIndex(tagTypeById);
+        for (int routeId = 1; routeId <= ROUTES; routeId++) {
+            upsert(index, routeId);
+        }
+
+        for (int round = 0; round < 100; round++) {
+            RouteSearchQuery query = randomQuery(round);
+            assertMatches(index.search(query), query);
+
+            for (int i = 0; i < 50; i++) {
+                int routeId = 1 + random.nextInt(ROUTES + 100);
+                if (random.nextInt(5) == 0) {
+                    index.remove(routeId);
+                    routes.remove(routeId);
+                } else {
+                    upsert(index, routeId);
+                }
+            }
+        }
+    }
+
+    private void upsert(RouteSearchIndex index, int routeId) {
+        Set<Integer> tags = new HashSet<>();
+        int tagCount = random.nextInt(5);
+        while (tags.size() < tagCount) {
+            tags.add(1 + random.nextInt(random.nextBoolean() ? POPULAR_TAGS : TAGS));
+        }
+        RouteDocument route = new RouteDocument(routeId, 1 + random.nextInt(BRANCHES), 1 + random.nextInt(LEVELS),
+            ANGLES[random.nextInt(ANGLES.length)], COLORS[random.nextInt(COLORS.length)],
+            randomStatus(), tags.stream().mapToInt(Integer::intValue).toArray());
+        index.upsert(route);
+        routes.put(routeId, route);
+    }
+
+    // REMOVED는 드물게 두어 REMOVED만 뺀 질의의 결과가 거의 전체가 되도록 함
+    private String randomStatus() {
+        if (random.nextInt(30) == 0) {
+            return "REMOVED";
+        }
+        return random.nextInt(4) == 0 ? "EXPIRED" : "ACTIVE";
+    }
+
+    // 조건이 없거나 상태만 건 질의(결과가 거의 전체)도 섞음
+    private RouteSearchQuery randomQuery(int round) {
+        RouteSearchQuery query = new RouteSearchQuery();
+        if (round % 10 == 0) {
+            query.getStatuses().clear();
+            return query;
+        }
+        if (round % 10 == 1) {
+            return query;
+        }
+        if (round % 10 == 2) {
+            query.getStatuses().add("EXPIRED");
+            return query;
+        }
+        if (random.nextBoolean()) {
+            query.getBranchIds().add(1 + random.nextInt(BRANCHES));
+        }
+        if (random.nextBoolean()) {
+            query.setMinLevelId(1 + random.nextInt(LEVELS));
+            query.setMaxLevelId(query.getMinLevelId() + random.nextInt(5));
+        }
+        if (random.nextInt(3) == 0) {
+            query.getAngles().add(ANGLES[random.nextInt(ANGLES.length)]);
+        }
+        if (random.nextInt(3) == 0) {
+            query.getColors().add(COLORS[random.nextInt(COLORS.length)]);
+        }
+        if (random.nextInt(3) == 0) {
+            query.getTagTypes().add(TagType.values()[random.nextInt(TagType.values().length)]);
+        }
+        if (random.nextInt(4) == 0) {
+            query.getTagIds().add(1 + random.nextInt(TAGS));
+        }
+        return query;
+    }
+
+    private void assertMatches(RouteSearchResult result, RouteSearchQuery query) {
+        List<RouteDocument> matched = filter(query, null);
+        assertThat(result.getTotal()).isEqualTo(matched.size());
+        assertThat(result.getBranchCounts()).isEqualTo(count(filter(query, "branch"), RouteDocument::getBranchId));
+        assertThat(result.getLevelCounts()).isEqualTo(count(filter(query, "level"), RouteDocument::getLevelId));
+        assertThat(result.getAngleCounts()).isEqualTo(count(filter(query, "angle"), RouteDocument::getAngle));
+        assertThat(result.getColorCounts()).isEqualTo(count(filter(query, "color"), RouteDocument::getColor));
+        assertThat(result.getStatusCounts()).isEqualTo(count(filter(query, "status"), RouteDocument::getStatus));
+
+        Map<TagType, Integer> tagTypeCounts = new HashMap<>();
+        for (RouteDocument route : filter(query, "tagType")) {
+            Arrays.stream(route.getTagIds()).mapToObj(tagId -> tagTypeById[tagId]).distinct()
+                .forEach(type -> tagTypeCounts.merge(type, 1, Integer::sum));
+        }
+        assertThat(result.getTagTypeCounts()).isEqualTo(tagTypeCounts);
+
+        Map<Integer, Integer> tagCounts = new HashMap<>();
+        for (RouteDocument route : matched) {
+            for (int tagId : route.getTagIds()) {
+                tagCounts.merge(tagId, 1, Integer::sum);
+            }
+        }
+        assertThat(result.getTagCounts()).isEqualTo(tagCounts);
+    }
+
+    // excluded 필드 조건만 빼고 적용 (태그 조건은 항상 적용)
+    private List<RouteDocument> filter(RouteSearchQuery query, String excluded) {
+        List<Predicate<RouteDocument>> conditions = new ArrayList<>();
+        conditions.add(route -> Arrays.stream(route.getTagIds()).boxed().toList().containsAll(query.getTagIds()));
+        if (!"branch".equals(excluded) && !query.getBranchIds().isEmpty()) {
+            conditions.add(route -> query.getBranchIds().contains(route.getBranchId()));
+        }
+        if (!"level".equals(excluded) && query.hasLevelRange()) {
+            conditions.add(route -> query.acceptsLevel(route.getLevelId()));
+        }
+        if (!"angle".equals(excluded) && !query.getAngles().isEmpty()) {
+            conditions.add(route -> query.getAngles().contains(route.getAngle()));
+        }
+        if (!"color".equals(excluded) && !query.getColors().isEmpty()) {
+            conditions.add(route -> query.getColors().contains(route.getColor()));
+        }
+        if (!"status".equals(excluded) && !query.getStatuses().isEmpty()) {
+            conditions.add(route -> query.getStatuses().contains(route.getStatus()));
+        }
+        if (!"tagType".equals(excluded) && !query.getTagTypes().isEmpty()) {
+            conditions.add(route -> Arrays.stream(route.getTagIds())
+                .anyMatch(tagId -> query.getTagTypes().contains(tagTypeById[tagId])));
+        }
+        return routes.values().stream().filter(route -> conditions.stream().allMatch(c -> c.test(route))).toList();
+    }
+
+    private static <K> Map<K, Integer> count(List<RouteDocument> routes, Function<RouteDocument, K> field) {
+        Map<K, Integer> counts = new HashMap<>();
+        for (RouteDocument route : routes) {
+            counts.merge(field.apply(route), 1, Integer::sum);
+        }
+        return counts;
+    }
+}